@@ -0,0 +1,77 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+import com.la3ypotato.toolrenter.calendar.HolidayCalendar;
+import com.la3ypotato.toolrenter.pricing.BulkPricer;
+import com.la3ypotato.toolrenter.pricing.BulkPricingResult;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.pricing.RentalRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This benchmark measures the time to price a batch of requests with the BulkPricer on fork-join pools of increasing
+ * parallelism. On a machine with at least as many cores as the largest pool, the time should fall close to linearly
+ * with the parallelism; beyond the number of cores it should stay flat. The quote cache is off so every request is
+ * priced.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkPricerBenchmark {
+    private static final String[] TOOL_CODES = {"LADW", "CHNS", "JAKR", "JAKD"};
+    private static final LocalDate FIRST_CHECKOUT = LocalDate.of(2015, 1, 1);
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int parallelism;
+
+    @Param({"100000"})
+    public int requestCount;
+
+    private ForkJoinPool pool;
+    private BulkPricer bulkPricer;
+    private RentalRequest[] requests;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+        PricingEngine engine = new PricingEngine(PricingEngine.getInstance().getCatalog(),
+                                                 HolidayCalendar.getInstance(), 0);
+        bulkPricer = new BulkPricer(engine, pool);
+        requests = new RentalRequest[requestCount];
+        for (int i = 0; i < requestCount; i++) {
+            requests[i] = new RentalRequest(TOOL_CODES[i % TOOL_CODES.length], 1 + i % 30, i % 101,
+                                            FIRST_CHECKOUT.plusDays(i % 3650));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public BulkPricingResult[] price() {
+        return bulkPricer.price(requests);
+    }
+}
@@ -0,0 +1,48 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+/**
+ * This class generates synthetic tool catalogs for the benchmarks. The tools cycle through the profiles of the four
+ * tools that ship in tools.csv so the pricing mix matches production.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public final class CatalogGenerator {
+    private static final String[] PROFILES = {
+            "Chainsaw,Stihl,1.49,Yes,No,Yes",
+            "Ladder,Werner,1.99,Yes,Yes,No",
+            "Jackhammer,DeWalt,2.99,Yes,No,No",
+            "Jackhammer,Ridgid,2.99,Yes,No,No"
+    };
+
+    // Static helper class.
+    private CatalogGenerator() {
+
+    }
+
+    /**
+     * This method builds a catalog in the tools.csv format with the passed number of uniquely coded tools.
+     *
+     * @param catalogSize - number of tools in the catalog.
+     * @return - the catalog CSV text.
+     */
+    public static String generateCsv(int catalogSize) {
+        StringBuilder sb = new StringBuilder(catalogSize * 40);
+        for (int i = 0; i < catalogSize; i++) {
+            sb.append(toolCode(i)).append(',').append(PROFILES[i % PROFILES.length]).append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * This method returns the tool code used for the nth generated tool.
+     *
+     * @param index - index of the tool.
+     * @return - the tool code.
+     */
+    public static String toolCode(int index) {
+        return "T" + Integer.toString(index, 36).toUpperCase();
+    }
+}
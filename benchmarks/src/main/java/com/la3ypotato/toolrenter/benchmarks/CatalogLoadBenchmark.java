@@ -0,0 +1,92 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+import com.la3ypotato.toolrenter.tool.CatalogLoadResult;
+import com.la3ypotato.toolrenter.tool.CatalogSnapshot;
+import com.la3ypotato.toolrenter.tool.MappedCatalogLoader;
+import com.la3ypotato.toolrenter.tool.Tool;
+import com.la3ypotato.toolrenter.tool.Tools;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This benchmark measures loading tool catalogs of increasing size from CSV, both through the line-by-line stream
+ * loader and through the memory-mapped loader on one thread and in parallel, and loading the same catalog from a
+ * binary snapshot.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogLoadBenchmark {
+    @Param({"4", "1000", "100000"})
+    public int catalogSize;
+
+    private byte[] catalogCsv;
+    private Path catalogFile;
+    private Path snapshotFile;
+    private MappedCatalogLoader sequentialLoader;
+    private MappedCatalogLoader parallelLoader;
+
+    @Setup
+    public void setUp() throws IOException {
+        catalogCsv = CatalogGenerator.generateCsv(catalogSize).getBytes(StandardCharsets.UTF_8);
+        catalogFile = Files.createTempFile("toolrenter-catalog", ".csv");
+        Files.write(catalogFile, catalogCsv);
+        snapshotFile = Files.createTempFile("toolrenter-catalog", ".snapshot");
+        CatalogSnapshot.write(new MappedCatalogLoader().load(catalogFile).getTools(), snapshotFile);
+        sequentialLoader = new MappedCatalogLoader();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        parallelLoader = new MappedCatalogLoader(pool, pool.getParallelism());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(catalogFile);
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    @Benchmark
+    public Map<String, Tool> loadTools() {
+        return Tools.getInstance().loadTools(new ByteArrayInputStream(catalogCsv));
+    }
+
+    @Benchmark
+    public CatalogLoadResult loadMapped() throws IOException {
+        return sequentialLoader.load(catalogFile);
+    }
+
+    @Benchmark
+    public CatalogLoadResult loadMappedParallel() throws IOException {
+        return parallelLoader.load(catalogFile);
+    }
+
+    @Benchmark
+    public Map<String, Tool> loadSnapshot() throws IOException {
+        return CatalogSnapshot.read(snapshotFile);
+    }
+}
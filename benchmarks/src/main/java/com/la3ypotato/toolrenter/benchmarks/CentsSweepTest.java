@@ -0,0 +1,85 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+import com.la3ypotato.toolrenter.calendar.HolidayCalendar;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.pricing.Quote;
+import com.la3ypotato.toolrenter.tool.Tool;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Collections;
+
+/**
+ * This sweep compares the whole cent charge calculations of the PricingEngine with the original BigDecimal
+ * calculations for every daily charge from 0.00 to 25.00, a set of rates with three and four decimal places and rates
+ * that still need BigDecimal, across many rental lengths and every discount percent. It prices about 5.6 million
+ * quotes, so the unit tests only cover a representative grid of the same rates.
+ *
+ * Usage: CentsSweepTest
+ *
+ * Every mismatch is printed, and the sweep fails with an exception if there were any.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class CentsSweepTest {
+    private static final LocalDate CHECKOUT_DATE = LocalDate.of(2015, 7, 2);
+    private static final int MAX_CENTS = 2500;
+    private static final int[] RENTAL_DAYS = {1, 2, 3, 4, 5, 6, 7, 9, 10, 11, 13, 17, 20, 23, 29, 30, 31, 45, 99,
+                                              365, 1000, 3650};
+    private static final double[] ODD_RATES = {0.001, 0.005, 0.125, 0.3333, 1.005, 1.115, 2.675, 3.335, 9.9999,
+                                               1234.5678, 1e-7, 0.123456, 2.0000001, 1e12, 9.75e9};
+
+    public static void main(String[] args) {
+        PricingEngine engine = new PricingEngine(Collections.<String, Tool>emptyMap(), HolidayCalendar.getInstance());
+        long start = System.nanoTime();
+        long quotes = 0;
+        long mismatches = 0;
+        for (int days : RENTAL_DAYS) {
+            for (int cents = 0; cents <= MAX_CENTS; cents++) {
+                mismatches += sweep(engine, cents / 100.0, days);
+                quotes += 101;
+            }
+            for (double rate : ODD_RATES) {
+                mismatches += sweep(engine, rate, days);
+                quotes += 101;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.println(String.format("%,d quotes compared in %,d ms, %,d mismatches", quotes, elapsed / 1_000_000,
+                                         mismatches));
+        if (mismatches > 0) {
+            throw new IllegalStateException(mismatches + " quotes do not match the BigDecimal calculations");
+        }
+    }
+
+    private static int sweep(PricingEngine engine, double dailyCharge, int rentalDays) {
+        Tool tool = new Tool("TEST", "Test", "Test", dailyCharge, true, true, true);
+        double preDiscount = round(BigDecimal.valueOf(rentalDays).multiply(BigDecimal.valueOf(dailyCharge)));
+        int mismatches = 0;
+        for (int discount = 0; discount <= 100; discount++) {
+            double discountAmount = discount == 0 ? 0 :
+                    round(BigDecimal.valueOf(preDiscount).multiply(BigDecimal.valueOf(discount * 0.01)));
+            double finalCharge = round(BigDecimal.valueOf(preDiscount).subtract(BigDecimal.valueOf(discountAmount)));
+
+            Quote quote = engine.quote(tool, rentalDays, discount, CHECKOUT_DATE);
+            if (Double.doubleToLongBits(preDiscount) != Double.doubleToLongBits(quote.getPreDiscountCharge()) ||
+                Double.doubleToLongBits(discountAmount) != Double.doubleToLongBits(quote.getDiscountAmount()) ||
+                Double.doubleToLongBits(finalCharge) != Double.doubleToLongBits(quote.getFinalCharge())) {
+                System.out.println(String.format("%s x %d days at %d%%: expected %s/%s/%s but was %s/%s/%s",
+                                                 dailyCharge, rentalDays, discount, preDiscount, discountAmount,
+                                                 finalCharge, quote.getPreDiscountCharge(), quote.getDiscountAmount(),
+                                                 quote.getFinalCharge()));
+                mismatches++;
+            }
+        }
+
+        return mismatches;
+    }
+
+    private static double round(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).doubleValue();
+    }
+}
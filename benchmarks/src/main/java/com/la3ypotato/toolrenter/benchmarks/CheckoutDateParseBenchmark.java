@@ -0,0 +1,48 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+import com.la3ypotato.toolrenter.rentalagreement.RentalAgreement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This benchmark measures parsing the checkout date entered by the clerk.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckoutDateParseBenchmark {
+    @Param({"7/2/2015", "12/31/2099"})
+    public String checkoutDate;
+
+    private RentalAgreement rentalAgreement;
+
+    @Setup
+    public void setUp() {
+        rentalAgreement = new RentalAgreement();
+    }
+
+    @Benchmark
+    public LocalDate setCheckoutDate() {
+        rentalAgreement.setCheckoutDate(checkoutDate);
+        return rentalAgreement.getCheckoutDate();
+    }
+}
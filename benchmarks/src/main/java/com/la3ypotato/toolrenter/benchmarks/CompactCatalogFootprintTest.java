@@ -0,0 +1,110 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+import com.la3ypotato.toolrenter.tool.CompactToolCatalog;
+import com.la3ypotato.toolrenter.tool.MappedCatalogLoader;
+import com.la3ypotato.toolrenter.tool.Tool;
+import com.la3ypotato.toolrenter.tool.ToolCatalog;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * This load test measures the heap held per tool by a catalog of generated tools, once as a Map of Tool objects the way
+ * the CSV loaders build it and once as a CompactToolCatalog built from that Map, and then the average time of a lower
+ * case tool code lookup in each. The compact catalog is timed both finding the tool, which returns its cached Tool or
+ * builds one from its arrays, and finding only its ID.
+ *
+ * Usage: CompactCatalogFootprintTest [catalog size]
+ *
+ * Run with a heap large enough for both catalogs at once (ex: -Xmx2g for 2,000,000 tools).
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class CompactCatalogFootprintTest {
+    private static final int DEFAULT_SIZE = 2_000_000;
+    private static final int LOOKUPS = 5_000_000;
+
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        Path catalogFile = Files.createTempFile("toolrenter-catalog", ".csv");
+        try {
+            Files.write(catalogFile, CatalogGenerator.generateCsv(size).getBytes(StandardCharsets.UTF_8));
+            long empty = usedHeap();
+            Map<String, Tool> tools = new MappedCatalogLoader().load(catalogFile).getTools();
+            ToolCatalog mapCatalog = new ToolCatalog(tools, 1, "map");
+            tools = null;
+            long mapBytes = usedHeap() - empty;
+
+            CompactToolCatalog compactTools = CompactToolCatalog.of(mapCatalog.getTools());
+            ToolCatalog compactCatalog = new ToolCatalog(compactTools, 2, "compact");
+            long compactBytes = usedHeap() - empty - mapBytes;
+
+            String[] codes = new String[1024];
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = CatalogGenerator.toolCode((int) ((long) i * size / codes.length)).toLowerCase();
+            }
+            System.out.println(String.format("%10s %14s %14s %16s", "layout", "heap (MB)", "bytes/tool",
+                                             "lookup (ns)"));
+            print("map", mapBytes, size, lookupNanos(mapCatalog, codes));
+            print("compact", compactBytes, size, lookupNanos(compactCatalog, codes));
+            print("compact id", compactBytes, size, indexOfNanos(compactTools, codes));
+            System.out.println(String.format("%d distinct types and brands", compactTools.getDistinctStringCount()));
+        } finally {
+            Files.deleteIfExists(catalogFile);
+        }
+    }
+
+    private static long lookupNanos(ToolCatalog catalog, String[] codes) {
+        long found = 0;
+        // Warm up before timing.
+        for (int i = 0; i < LOOKUPS; i++) {
+            found += catalog.findTool(codes[i & (codes.length - 1)]) != null ? 1 : 0;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            found += catalog.findTool(codes[i & (codes.length - 1)]) != null ? 1 : 0;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (found != 2L * LOOKUPS) {
+            throw new IllegalStateException("Only " + found + " of " + 2L * LOOKUPS + " lookups found their tool");
+        }
+
+        return elapsed / LOOKUPS;
+    }
+
+    private static long indexOfNanos(CompactToolCatalog compactTools, String[] codes) {
+        long found = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            found += compactTools.indexOf(codes[i & (codes.length - 1)]) >= 0 ? 1 : 0;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            found += compactTools.indexOf(codes[i & (codes.length - 1)]) >= 0 ? 1 : 0;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (found != 2L * LOOKUPS) {
+            throw new IllegalStateException("Only " + found + " of " + 2L * LOOKUPS + " lookups found their tool");
+        }
+
+        return elapsed / LOOKUPS;
+    }
+
+    private static void print(String layout, long bytes, int size, long lookupNanos) {
+        System.out.println(String.format("%10s %14.1f %14.1f %16d", layout, bytes / 1048576.0, bytes / (double) size,
+                                         lookupNanos));
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
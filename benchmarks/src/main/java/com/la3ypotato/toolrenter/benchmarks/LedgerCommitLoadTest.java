@@ -0,0 +1,75 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+import com.la3ypotato.toolrenter.ledger.RentalLedger;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.pricing.Quote;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This load test measures durable commits per second to the rental ledger as the number of committing threads grows.
+ * With one thread every commit pays for its own force to disk; with more threads the forces are shared by group
+ * commit, and the commits per force column shows how many each covered.
+ *
+ * Usage: LedgerCommitLoadTest [seconds per run] [journal directory]
+ *
+ * The journal is written to a new temporary directory unless one is given, and is deleted after each run.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class LedgerCommitLoadTest {
+    private static final int DEFAULT_SECONDS = 5;
+    private static final int[] THREAD_COUNTS = {1, 4, 16, 64, 256};
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SECONDS;
+        Path directory = args.length > 1 ? Paths.get(args[1]) : Files.createTempDirectory("toolrenter-ledger");
+        final Quote quote = PricingEngine.getInstance().quote("CHNS", 5, 10, LocalDate.of(2015, 7, 2));
+
+        System.out.println(String.format("%8s %14s %18s", "threads", "commits/sec", "commits per force"));
+        for (int threads : THREAD_COUNTS) {
+            Path journal = directory.resolve("load-" + threads + ".journal");
+            Files.deleteIfExists(journal);
+            final RentalLedger ledger = RentalLedger.open(journal);
+            final long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+            final AtomicLong errors = new AtomicLong();
+            final CountDownLatch done = new CountDownLatch(threads);
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            while (System.nanoTime() < deadline) {
+                                ledger.commit(quote);
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        } finally {
+                            done.countDown();
+                        }
+                    }
+                }, "ledger-client-" + t);
+                thread.setDaemon(true);
+                thread.start();
+            }
+            done.await();
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+            long commits = ledger.getCommittedCount();
+            long syncs = Math.max(1, ledger.getSyncCount());
+            ledger.close();
+            Files.deleteIfExists(journal);
+            System.out.println(String.format("%8d %14d %18.1f%s", threads, Math.round(commits / elapsedSeconds),
+                                             commits / (double) syncs,
+                                             errors.get() == 0 ? "" : "  (" + errors.get() + " errors)"));
+        }
+    }
+}
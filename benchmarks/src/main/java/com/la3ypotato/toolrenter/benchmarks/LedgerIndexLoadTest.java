@@ -0,0 +1,140 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+import com.la3ypotato.toolrenter.ledger.LedgerIndex;
+import com.la3ypotato.toolrenter.ledger.RentalLedger;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.pricing.Quote;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This load test grows an indexed rental ledger in steps and, after each step, measures the average latency of each
+ * index query. The store is modeled as renting a fixed number of tools per day, so a longer ledger is a longer
+ * history rather than busier days, and each query returns about as many rentals at every size; the latencies should
+ * stay flat as the ledger grows. The first rental of the history is a ladder rented for 50,000,000 days, which must
+ * not slow down the open rental queries.
+ *
+ * Usage: LedgerIndexLoadTest [ledger sizes, comma separated] [directory]
+ *
+ * The ledger and its index are written to a new temporary directory unless one is given, and are deleted at the end.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class LedgerIndexLoadTest {
+    private static final String DEFAULT_SIZES = "100000,1000000,10000000";
+    private static final String[] TOOL_CODES = {"LADW", "CHNS", "JAKR", "JAKD"};
+    private static final int RENTALS_PER_DAY = 200;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int QUERIES = 2_000;
+    private static final LocalDate FIRST_CHECKOUT = LocalDate.of(1900, 1, 1);
+    private static final int LONG_RENTAL_DAYS = 50_000_000;
+
+    public static void main(String[] args) throws IOException {
+        String[] sizes = (args.length > 0 ? args[0] : DEFAULT_SIZES).split(",");
+        Path directory = args.length > 1 ? Paths.get(args[1]) : Files.createTempDirectory("toolrenter-index");
+        PricingEngine pricingEngine = PricingEngine.getInstance();
+        System.out.println(String.format("%12s %14s %14s %16s %16s", "rows", "appends/sec", "due on (us)",
+                                         "week out (us)", "open tool (us)"));
+        try (RentalLedger ledger = RentalLedger.open(directory.resolve("rentals.journal"))) {
+            LedgerIndex index = ledger.openIndex(directory.resolve("index"));
+            ledger.commit(pricingEngine.quote("LADW", LONG_RENTAL_DAYS, 10, FIRST_CHECKOUT));
+            long rows = 0;
+            for (String size : sizes) {
+                long target = Long.parseLong(size.trim());
+                long start = System.nanoTime();
+                long appended = target - rows;
+                List<Quote> batch = new ArrayList<>(BATCH_SIZE);
+                while (rows < target) {
+                    batch.clear();
+                    for (int i = 0; i < BATCH_SIZE && rows < target; i++, rows++) {
+                        batch.add(rentalAt(pricingEngine, rows));
+                    }
+                    ledger.commitAll(batch);
+                }
+                double appendSeconds = (System.nanoTime() - start) / 1e9;
+                long days = rows / RENTALS_PER_DAY;
+                System.out.println(String.format("%12d %14d %14.1f %16.1f %16.1f", rows,
+                                                 Math.round(appended / appendSeconds), timeQueries(index, days, 0),
+                                                 timeQueries(index, days, 1), timeQueries(index, days, 2)));
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    /**
+     * This method builds the rental at a position in the modeled history. Rentals are spread over the tools and
+     * rental lengths, and each day has the same number of rentals.
+     *
+     * @param pricingEngine - the pricing engine.
+     * @param row - the position of the rental.
+     * @return - the rental.
+     */
+    private static Quote rentalAt(PricingEngine pricingEngine, long row) {
+        return pricingEngine.quote(TOOL_CODES[(int) (row % TOOL_CODES.length)], 1 + (int) (row / TOOL_CODES.length % 7),
+                                   10, FIRST_CHECKOUT.plusDays(row / RENTALS_PER_DAY));
+    }
+
+    /**
+     * This method runs one kind of query on random dates within the history and measures its average latency.
+     *
+     * @param index - the index.
+     * @param days - the number of days in the history.
+     * @param kind - 0 for due on a date, 1 for checked out within a week, 2 for open rentals of a tool on a date.
+     * @return - the average latency in microseconds.
+     */
+    private static double timeQueries(LedgerIndex index, long days, int kind) {
+        Random random = new Random(days * 31 + kind);
+        long found = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            LocalDate date = FIRST_CHECKOUT.plusDays((long) (random.nextDouble() * days));
+            if (kind == 0) {
+                found += index.findDueOn(date).size();
+            } else if (kind == 1) {
+                found += index.findCheckedOutBetween(date, date.plusDays(6)).size();
+            } else {
+                found += index.findOpenRentals(TOOL_CODES[i % TOOL_CODES.length], date).size();
+            }
+        }
+        if (found == 0) {
+            throw new IllegalStateException("Queries found no rentals.");
+        }
+
+        return (System.nanoTime() - start) / 1e3 / QUERIES;
+    }
+
+    /**
+     * This method deletes a directory and everything in it.
+     *
+     * @param directory - the directory.
+     * @throws IOException - thrown if a file cannot be deleted.
+     */
+    private static void delete(Path directory) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path visited, IOException e) throws IOException {
+                Files.delete(visited);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+import com.la3ypotato.toolrenter.calendar.HolidayCalendar;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.pricing.Quote;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This benchmark measures quoting the handful of rentals a counter re-quotes all day, with and without a quote cache.
+ * The rentals cycle through every tool and a few rental lengths, so with a cache every quote after the first round is
+ * a hit.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuoteCacheBenchmark {
+    private static final String[] TOOL_CODES = {"LADW", "CHNS", "JAKR", "JAKD"};
+    private static final LocalDate CHECKOUT_DATE = LocalDate.of(2020, 7, 2);
+
+    @Param({"0", "1000"})
+    public int quoteCacheSize;
+
+    @Param({"5", "365"})
+    public int rentalDays;
+
+    private PricingEngine engine;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        PricingEngine defaultEngine = PricingEngine.getInstance();
+        engine = new PricingEngine(defaultEngine.getCatalog(), HolidayCalendar.getInstance(), quoteCacheSize);
+    }
+
+    @Benchmark
+    public Quote quote() {
+        int rental = next++ & 15;
+        return engine.quote(TOOL_CODES[rental & 3], rentalDays + (rental >> 2), 10, CHECKOUT_DATE);
+    }
+}
@@ -0,0 +1,163 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+import com.la3ypotato.toolrenter.http.QuoteServer;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This load test drives the HTTP quote service with a fixed number of concurrent clients and reports the throughput
+ * and the p50, p99 and p99.9 request latencies. Each client sends its next request as soon as the previous one is
+ * answered, so the concurrency is the number of requests in flight.
+ *
+ * Usage: QuoteServiceLoadTest [concurrency] [seconds] [base url]
+ *
+ * Without a base url an in-process server is started on a free loopback port.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class QuoteServiceLoadTest {
+    private static final int DEFAULT_CONCURRENCY = 1000;
+    private static final int DEFAULT_SECONDS = 20;
+    private static final int WARMUP_SECONDS = 5;
+    // Latencies are kept per client, so each client has room for this many samples.
+    private static final int MAX_SAMPLES_PER_CLIENT = 1 << 12;
+    private static final String[] TOOL_CODES = {"CHNS", "LADW", "JAKD", "JAKR"};
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CONCURRENCY;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS;
+        QuoteServer server = null;
+        String baseUrl;
+        if (args.length > 2) {
+            baseUrl = args[2];
+        } else {
+            server = new QuoteServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                                     PricingEngine.getInstance());
+            server.start();
+            baseUrl = "http://127.0.0.1:" + server.getPort();
+            System.out.println("In-process server on " + baseUrl +
+                               (server.isUsingVirtualThreads() ? " (virtual threads)" : " (platform threads)"));
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        URI[] uris = new URI[TOOL_CODES.length * 30];
+        for (int i = 0; i < uris.length; i++) {
+            uris[i] = URI.create(baseUrl + QuoteServer.QUOTE_PATH + "?toolCode=" + TOOL_CODES[i % TOOL_CODES.length] +
+                                 "&rentalDays=" + (1 + i % 30) + "&discount=" + (i % 25) + "&checkoutDate=7/2/2015");
+        }
+
+        System.out.println("Warming up for " + WARMUP_SECONDS + "s at " + concurrency + " concurrent clients");
+        run(client, uris, concurrency, WARMUP_SECONDS);
+        System.out.println("Measuring for " + seconds + "s at " + concurrency + " concurrent clients");
+        Result result = run(client, uris, concurrency, seconds);
+        long[] latencies = result.latencies;
+        Arrays.sort(latencies);
+        System.out.println("Requests: " + latencies.length + ", Errors: " + result.errors);
+        System.out.println("Throughput: " + Math.round(latencies.length / (double) seconds) + " requests/sec");
+        System.out.println("p50: " + micros(percentile(latencies, 0.50)) + " us");
+        System.out.println("p99: " + micros(percentile(latencies, 0.99)) + " us");
+        System.out.println("p99.9: " + micros(percentile(latencies, 0.999)) + " us");
+        System.out.println("max: " + micros(latencies.length == 0 ? 0 : latencies[latencies.length - 1]) + " us");
+
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Runs the clients for the passed number of seconds and collects every request latency in nanoseconds.
+     */
+    private static Result run(final HttpClient client, final URI[] uris, int concurrency, int seconds)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        final long[][] samples = new long[concurrency][MAX_SAMPLES_PER_CLIENT];
+        final int[] sampleCounts = new int[concurrency];
+        final AtomicLong errors = new AtomicLong();
+        final CountDownLatch done = new CountDownLatch(concurrency);
+        for (int c = 0; c < concurrency; c++) {
+            final int clientIndex = c;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    int request = clientIndex;
+                    try {
+                        while (System.nanoTime() < deadline && sampleCounts[clientIndex] < MAX_SAMPLES_PER_CLIENT) {
+                            HttpRequest httpRequest = HttpRequest.newBuilder(uris[request++ % uris.length]).GET().build();
+                            long start = System.nanoTime();
+                            try {
+                                HttpResponse<String> response =
+                                        client.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+                                if (response.statusCode() != 200) {
+                                    errors.incrementAndGet();
+                                    continue;
+                                }
+                            } catch (IOException e) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                            samples[clientIndex][sampleCounts[clientIndex]++] = System.nanoTime() - start;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }, "load-client-" + c);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        int total = 0;
+        for (int count : sampleCounts) {
+            total += count;
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (int c = 0; c < concurrency; c++) {
+            System.arraycopy(samples[c], 0, latencies, offset, sampleCounts[c]);
+            offset += sampleCounts[c];
+        }
+
+        return new Result(latencies, errors.get());
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))];
+    }
+
+    private static long micros(long nanos) {
+        return nanos / 1000;
+    }
+
+    /**
+     * The latencies and error count of a run.
+     */
+    private static class Result {
+        private final long[] latencies;
+        private final long errors;
+
+        private Result(long[] latencies, long errors) {
+            this.latencies = latencies;
+            this.errors = errors;
+        }
+    }
+}
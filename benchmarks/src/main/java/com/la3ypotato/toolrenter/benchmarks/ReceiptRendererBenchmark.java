@@ -0,0 +1,54 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.pricing.Quote;
+import com.la3ypotato.toolrenter.receipt.ReceiptFormat;
+import com.la3ypotato.toolrenter.receipt.ReceiptRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This benchmark measures rendering receipts in each format into a reused buffer, the way bulk output is written.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReceiptRendererBenchmark {
+    @Param({"TEXT", "CSV", "JSON"})
+    public ReceiptFormat format;
+
+    private ReceiptRenderer renderer;
+    private Quote quote;
+    private final StringBuilder buffer = new StringBuilder(512);
+
+    @Setup
+    public void setUp() {
+        renderer = new ReceiptRenderer(format);
+        quote = PricingEngine.getInstance().quote("LADW", 30, 10, LocalDate.of(2015, 7, 2));
+    }
+
+    @Benchmark
+    public int renderToBuffer() {
+        buffer.setLength(0);
+        return renderer.render(quote, buffer).length();
+    }
+}
@@ -0,0 +1,62 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+import com.la3ypotato.toolrenter.rentalagreement.RentalAgreement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This benchmark measures finalizing and rendering a rental agreement for each tool profile across rental lengths from
+ * a single day up to ten years.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RentalAgreementBenchmark {
+    // CHNS charges holidays, LADW charges weekends, JAKD charges weekdays only.
+    @Param({"CHNS", "LADW", "JAKD"})
+    public String toolCode;
+
+    @Param({"1", "7", "30", "365", "3650"})
+    public String rentalDays;
+
+    private RentalAgreement rentalAgreement;
+
+    @Setup
+    public void setUp() {
+        rentalAgreement = new RentalAgreement();
+        rentalAgreement.setTargetTool(toolCode);
+        rentalAgreement.setRentalDays(rentalDays);
+        rentalAgreement.setDiscount("10");
+        rentalAgreement.setCheckoutDate("7/2/2015");
+        rentalAgreement.finalizeRentalAgreement();
+    }
+
+    @Benchmark
+    public double finalizeRentalAgreement() {
+        rentalAgreement.finalizeRentalAgreement();
+        return rentalAgreement.getFinalCharge();
+    }
+
+    @Benchmark
+    public String renderRentalAgreement() {
+        return rentalAgreement.toString();
+    }
+}
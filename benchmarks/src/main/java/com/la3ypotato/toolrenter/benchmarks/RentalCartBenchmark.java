@@ -0,0 +1,72 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+import com.la3ypotato.toolrenter.calendar.HolidayCalendar;
+import com.la3ypotato.toolrenter.pricing.CartQuote;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.tool.Tool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This benchmark measures pricing every bundled tool for the same rental, once as separate quotes that each work out
+ * the rental period and once as a cart that works it out a single time. The quote cache is off so both price every
+ * line.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RentalCartBenchmark {
+    private static final String[] TOOL_CODES = {"LADW", "CHNS", "JAKR", "JAKD"};
+    private static final LocalDate CHECKOUT_DATE = LocalDate.of(2020, 7, 2);
+
+    @Param({"5", "365"})
+    public int rentalDays;
+
+    private PricingEngine engine;
+    private List<Tool> tools;
+
+    @Setup
+    public void setUp() {
+        engine = new PricingEngine(PricingEngine.getInstance().getCatalog(), HolidayCalendar.getInstance(), 0);
+        tools = new ArrayList<>();
+        for (String toolCode : TOOL_CODES) {
+            tools.add(engine.findTool(toolCode));
+        }
+    }
+
+    @Benchmark
+    public long separateQuotes() {
+        long finalCents = 0;
+        for (Tool tool : tools) {
+            finalCents += engine.quote(tool, rentalDays, 10, CHECKOUT_DATE).getFinalCents();
+        }
+
+        return finalCents;
+    }
+
+    @Benchmark
+    public CartQuote cart() {
+        return engine.quoteCart(tools, rentalDays, 10, CHECKOUT_DATE);
+    }
+}
@@ -0,0 +1,62 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+import com.la3ypotato.toolrenter.rentalagreement.RentalAgreement;
+import com.la3ypotato.toolrenter.rentalagreement.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This benchmark measures validating the text fields of a batch record, once through the setters that throw on
+ * invalid input and once through validateRequest, which returns the errors. The bad record has an invalid value in
+ * every field.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RentalValidationBenchmark {
+    @Param({"good", "bad"})
+    public String record;
+
+    private String[] fields;
+    private RentalAgreement rentalAgreement;
+
+    @Setup
+    public void setUp() {
+        fields = record.equals("good") ? new String[] {"LADW", "3", "10", "7/2/2020"}
+                                       : new String[] {"XXXX", "three", "101", "7/2/20"};
+        rentalAgreement = new RentalAgreement();
+    }
+
+    @Benchmark
+    public String setRequest() {
+        try {
+            rentalAgreement.setRequest(fields[0], fields[1], fields[2], fields[3]);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public ValidationResult validateRequest() {
+        return rentalAgreement.validateRequest(fields[0], fields[1], fields[2], fields[3]);
+    }
+}
@@ -0,0 +1,104 @@
+package com.la3ypotato.toolrenter.benchmarks;
+
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.terminal.TerminalClient;
+import com.la3ypotato.toolrenter.terminal.TerminalServer;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+/**
+ * This load test holds a large number of open terminal connections and sends a pipelined burst of requests on every
+ * one of them per round, then reads every response. It reports the request throughput and how long the slowest round
+ * took, which is the time the last terminal waited for its burst to be answered.
+ *
+ * Usage: TerminalLoadTest [connections] [burst] [rounds] [host port]
+ *
+ * Without a host and port an in-process server is started on a free loopback port. Each in-process connection uses two
+ * file descriptors, so the open file limit has to allow twice the number of connections.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class TerminalLoadTest {
+    private static final int DEFAULT_CONNECTIONS = 5000;
+    private static final int DEFAULT_BURST = 16;
+    private static final int DEFAULT_ROUNDS = 20;
+    private static final String[] TOOL_CODES = {"CHNS", "LADW", "JAKD", "JAKR"};
+
+    public static void main(String[] args) throws IOException {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CONNECTIONS;
+        int burst = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_BURST;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ROUNDS;
+        TerminalServer server = null;
+        InetSocketAddress address;
+        if (args.length > 4) {
+            address = new InetSocketAddress(args[3], Integer.parseInt(args[4]));
+        } else {
+            server = new TerminalServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                                        PricingEngine.getInstance(), Runtime.getRuntime().availableProcessors());
+            server.start();
+            address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+        }
+
+        String[] requests = new String[burst];
+        for (int i = 0; i < burst; i++) {
+            requests[i] = TOOL_CODES[i % TOOL_CODES.length] + " " + (1 + i % 30) + " " + (i % 25) + " 7/2/2015";
+        }
+        TerminalClient[] clients = new TerminalClient[connections];
+        for (int c = 0; c < connections; c++) {
+            clients[c] = new TerminalClient(address);
+        }
+        System.out.println("Connected " + connections + " terminals" +
+                           (server == null ? "" : " (" + server.getConnectionCount() + " on the server)"));
+
+        // The first round warms up the server and is not measured.
+        runRound(clients, requests);
+        long errors = 0;
+        long slowestRound = 0;
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            long roundStart = System.nanoTime();
+            errors += runRound(clients, requests);
+            slowestRound = Math.max(slowestRound, System.nanoTime() - roundStart);
+        }
+        long elapsed = System.nanoTime() - start;
+        long total = (long) connections * burst * rounds;
+        System.out.println("Requests: " + total + ", Errors: " + errors);
+        System.out.println("Throughput: " + Math.round(total / (elapsed / 1e9)) + " requests/sec");
+        System.out.println("Slowest round: " + slowestRound / 1_000_000 + " ms");
+
+        for (TerminalClient client : clients) {
+            client.close();
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    /**
+     * Sends the burst on every connection, then reads every response.
+     *
+     * @return - the number of error responses.
+     */
+    private static long runRound(TerminalClient[] clients, String[] requests) throws IOException {
+        for (TerminalClient client : clients) {
+            for (String request : requests) {
+                client.send(request);
+            }
+            client.flush();
+        }
+        long errors = 0;
+        for (TerminalClient client : clients) {
+            for (int i = 0; i < requests.length; i++) {
+                if (!client.receive().startsWith(TerminalServer.OK_PREFIX)) {
+                    errors++;
+                }
+            }
+        }
+
+        return errors;
+    }
+}
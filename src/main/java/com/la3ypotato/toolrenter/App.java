@@ -1,20 +1,89 @@
 package com.la3ypotato.toolrenter;
 
+import com.la3ypotato.toolrenter.batch.BatchSummary;
 import com.la3ypotato.toolrenter.console.Console;
+import com.la3ypotato.toolrenter.console.ScriptedConsole;
+import com.la3ypotato.toolrenter.receipt.ReceiptFormat;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * This class serves as a starting point for the application. When the
  * main method is invoked, the console when started will begin the application
  * loop.
  *
+ * Usage: App [--script [file|-] [--format text|csv|json]]
+ *
+ * With --script the console keystrokes are read from the file (or standard
+ * input) without drawing any screens, and only the agreements and errors are
+ * written out.
+ *
  * @author Logan Stanfield
  * @version 1.0
  * @since 02/23/2022
  */
 public class App {
+    // Constants
+    private static final String SCRIPT_OPTION = "--script";
+    private static final String FORMAT_OPTION = "--format";
+    private static final String STANDARD_STREAM = "-";
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    private static final String USAGE_MSG = "Usage: App [--script [file|-] [--format text|csv|json]]";
+
     // Application entry-point.
     public static void main( String[] args ) {
-        Console console = new Console();
-        // Start the tool renter app loop.
-        console.startConsole();
+        if (args.length == 0) {
+            Console console = new Console();
+            // Start the tool renter app loop.
+            console.startConsole();
+            return;
+        }
+
+        String scriptFile = STANDARD_STREAM;
+        ReceiptFormat format = ReceiptFormat.TEXT;
+        try {
+            if (!args[0].equals(SCRIPT_OPTION)) {
+                throw new IllegalArgumentException("Unknown option: " + args[0]);
+            }
+            for (int i = 1; i < args.length; i++) {
+                if (args[i].equals(FORMAT_OPTION) && i + 1 < args.length) {
+                    format = ReceiptFormat.valueOf(args[++i].toUpperCase());
+                } else if (i == 1 && !args[i].startsWith("--")) {
+                    scriptFile = args[i];
+                } else {
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE_MSG);
+            System.exit(1);
+        }
+
+        InputStream script = System.in;
+        try {
+            if (!scriptFile.equals(STANDARD_STREAM)) {
+                script = new FileInputStream(scriptFile);
+            }
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(script, StandardCharsets.UTF_8),
+                                                        IO_BUFFER_SIZE)) {
+                Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8),
+                                                IO_BUFFER_SIZE);
+                Writer errors = new OutputStreamWriter(System.err, StandardCharsets.UTF_8);
+                BatchSummary summary = new ScriptedConsole(format).run(in, out, errors);
+                System.err.println(summary);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
     }
 }
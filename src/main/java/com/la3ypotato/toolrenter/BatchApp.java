@@ -0,0 +1,104 @@
+package com.la3ypotato.toolrenter;
+
+import com.la3ypotato.toolrenter.batch.BatchFormat;
+import com.la3ypotato.toolrenter.batch.BatchPricer;
+import com.la3ypotato.toolrenter.batch.BatchSummary;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class serves as the starting point for headless batch pricing. Rental requests are streamed from the input file
+ * and the finalized agreements are streamed to the output file, so the run uses bounded memory regardless of the size
+ * of the input.
+ *
+ * Usage: BatchApp <input|-> <output|-> [--format csv|ndjson] [--errors <file>]
+ *
+ * A '-' reads from standard input or writes to standard output. The format defaults to the extension of the input file.
+ * Validation errors are written to standard error unless an errors file is given.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class BatchApp {
+    // Constants
+    private static final String STANDARD_STREAM = "-";
+    private static final String FORMAT_OPTION = "--format";
+    private static final String ERRORS_OPTION = "--errors";
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    private static final String USAGE_MSG = "Usage: BatchApp <input|-> <output|-> [--format csv|ndjson] " +
+                                            "[--errors <file>]";
+
+    // Application entry-point.
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println(USAGE_MSG);
+            System.exit(1);
+        }
+        String inputFile = args[0];
+        String outputFile = args[1];
+        String errorsFile = null;
+        BatchFormat format = BatchFormat.fromFileName(inputFile);
+        try {
+            for (int i = 2; i < args.length; i++) {
+                if (args[i].equals(FORMAT_OPTION) && i + 1 < args.length) {
+                    format = BatchFormat.valueOf(args[++i].toUpperCase());
+                } else if (args[i].equals(ERRORS_OPTION) && i + 1 < args.length) {
+                    errorsFile = args[++i];
+                } else {
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE_MSG);
+            System.exit(1);
+        }
+
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(openInput(inputFile),
+                     StandardCharsets.UTF_8), IO_BUFFER_SIZE);
+             Writer out = openOutput(outputFile);
+             Writer errors = errorsFile == null ? new OutputStreamWriter(System.err, StandardCharsets.UTF_8)
+                                                : openOutput(errorsFile)) {
+            BatchPricer batchPricer = new BatchPricer(format, System.err);
+            BatchSummary summary = batchPricer.price(in, out, errors);
+            System.err.println(summary);
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * This method opens the passed input file, or standard input for '-'.
+     *
+     * @param fileName - the input file name.
+     * @return - the opened input stream.
+     * @throws IOException - thrown if the file cannot be opened.
+     */
+    private static InputStream openInput(String fileName) throws IOException {
+        return fileName.equals(STANDARD_STREAM) ? System.in : new FileInputStream(fileName);
+    }
+
+    /**
+     * This method opens a buffered writer over the passed output file, or standard output for '-'.
+     *
+     * @param fileName - the output file name.
+     * @return - the opened writer.
+     * @throws IOException - thrown if the file cannot be opened.
+     */
+    private static Writer openOutput(String fileName) throws IOException {
+        OutputStream out = fileName.equals(STANDARD_STREAM) ? System.out : new FileOutputStream(fileName);
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), IO_BUFFER_SIZE);
+    }
+}
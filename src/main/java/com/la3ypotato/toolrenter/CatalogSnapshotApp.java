@@ -0,0 +1,53 @@
+package com.la3ypotato.toolrenter;
+
+import com.la3ypotato.toolrenter.tool.CatalogLoadError;
+import com.la3ypotato.toolrenter.tool.CatalogLoadResult;
+import com.la3ypotato.toolrenter.tool.CatalogSnapshot;
+import com.la3ypotato.toolrenter.tool.MappedCatalogLoader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class writes a binary catalog snapshot from a CSV catalog file. The snapshot can then be loaded at startup with
+ * the toolrenter.catalog.snapshot system property.
+ *
+ * Usage: CatalogSnapshotApp <catalog.csv> <snapshot>
+ *
+ * The snapshot is not written if any line of the CSV catalog is malformed.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class CatalogSnapshotApp {
+    // Constants
+    private static final String USAGE_MSG = "Usage: CatalogSnapshotApp <catalog.csv> <snapshot>";
+
+    // Application entry-point.
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(USAGE_MSG);
+            System.exit(1);
+        }
+        Path catalogFile = Paths.get(args[0]);
+        Path snapshotFile = Paths.get(args[1]);
+        try {
+            ForkJoinPool pool = ForkJoinPool.commonPool();
+            CatalogLoadResult result = new MappedCatalogLoader(pool, pool.getParallelism()).load(catalogFile);
+            if (!result.getErrors().isEmpty()) {
+                for (CatalogLoadError error : result.getErrors()) {
+                    System.err.println(error);
+                }
+                System.exit(1);
+            }
+            CatalogSnapshot.write(result.getTools(), snapshotFile);
+            System.err.println("Wrote " + result.getTools().size() + " tools to " + snapshotFile);
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.la3ypotato.toolrenter;
+
+import com.la3ypotato.toolrenter.http.QuoteServer;
+import com.la3ypotato.toolrenter.inventory.ToolInventory;
+import com.la3ypotato.toolrenter.ledger.LedgerEntry;
+import com.la3ypotato.toolrenter.ledger.RentalLedger;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Paths;
+import java.util.function.Consumer;
+
+/**
+ * This class serves as the starting point for the HTTP quote service. The service runs until the JVM is stopped.
+ *
+ * Usage: HttpApp [port] [units]
+ *
+ * The port defaults to 8080. When a unit count is given, every tool in the catalog is stocked with that many units and
+ * each checkout reserves one of them; otherwise checkouts do not track inventory.
+ *
+ * When the toolrenter.ledger.file system property names a journal file, every checkout is committed to that rental
+ * ledger. At startup the ledger is replayed, so the units of rentals committed before a restart stay reserved.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class HttpApp {
+    // Constants
+    private static final int DEFAULT_PORT = 8080;
+    private static final int SHUTDOWN_DELAY_SECONDS = 5;
+    public static final String LEDGER_FILE_PROPERTY = "toolrenter.ledger.file";
+    private static final String USAGE_MSG = "Usage: HttpApp [port] [units]";
+
+    // Application entry-point.
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        int units = 0;
+        if (args.length > 2) {
+            System.err.println(USAGE_MSG);
+            System.exit(1);
+        }
+        try {
+            if (args.length > 0) {
+                port = Integer.parseInt(args[0]);
+            }
+            if (args.length > 1) {
+                units = Integer.parseInt(args[1]);
+            }
+        } catch (NumberFormatException e) {
+            System.err.println("Unable to parse argument: " + e.getMessage());
+            System.err.println(USAGE_MSG);
+            System.exit(1);
+        }
+
+        ToolInventory inventory = null;
+        if (units > 0) {
+            inventory = new ToolInventory();
+            for (String toolCode : PricingEngine.getInstance().getAvailableTools().keySet()) {
+                inventory.addTool(toolCode, units);
+            }
+        }
+
+        try {
+            RentalLedger ledger = null;
+            String ledgerFile = System.getProperty(LEDGER_FILE_PROPERTY);
+            if (ledgerFile != null && !ledgerFile.isEmpty()) {
+                ledger = RentalLedger.open(Paths.get(ledgerFile), reservingReplay(inventory));
+                System.err.println("Recovered " + ledger.getCommittedCount() + " rentals from " + ledgerFile);
+            }
+            final RentalLedger openedLedger = ledger;
+            final QuoteServer server = new QuoteServer(new InetSocketAddress(port), PricingEngine.getInstance(),
+                                                       inventory, ledger);
+            Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    server.stop(SHUTDOWN_DELAY_SECONDS);
+                    if (openedLedger != null) {
+                        try {
+                            openedLedger.close();
+                        } catch (IOException e) {
+                            e.printStackTrace();
+                        }
+                    }
+                }
+            }));
+            server.start();
+            System.err.println("Serving quotes on port " + server.getPort() +
+                               (server.isUsingVirtualThreads() ? " (virtual threads)" : " (platform threads)"));
+        } catch (IOException | IllegalArgumentException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * This method creates the ledger replay that reserves the units of recovered rentals again.
+     *
+     * @param inventory - the inventory to reserve units in, or null if inventory is not tracked.
+     * @return - the replay, or null if there is nothing to replay into.
+     */
+    private static Consumer<LedgerEntry> reservingReplay(final ToolInventory inventory) {
+        if (inventory == null) {
+            return null;
+        }
+
+        return new Consumer<LedgerEntry>() {
+            @Override
+            public void accept(LedgerEntry entry) {
+                try {
+                    inventory.reserve(entry.getToolCode(), entry.getCheckoutDate(), entry.getDueDate());
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    // The tool is no longer stocked, or has fewer units than before the restart.
+                    System.err.println("Unable to reserve recovered rental " + entry + ": " + e.getMessage());
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.la3ypotato.toolrenter;
+
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.terminal.TerminalServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * This class serves as the starting point for the store terminal line protocol server. The server runs until the JVM
+ * is stopped.
+ *
+ * Usage: TerminalApp [port] [workers]
+ *
+ * The port defaults to 9090 and the number of selector threads defaults to the number of processors.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class TerminalApp {
+    // Constants
+    private static final int DEFAULT_PORT = 9090;
+    private static final String USAGE_MSG = "Usage: TerminalApp [port] [workers]";
+
+    // Application entry-point.
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        int workers = Runtime.getRuntime().availableProcessors();
+        if (args.length > 2) {
+            System.err.println(USAGE_MSG);
+            System.exit(1);
+        }
+        try {
+            if (args.length > 0) {
+                port = Integer.parseInt(args[0]);
+            }
+            if (args.length > 1) {
+                workers = Integer.parseInt(args[1]);
+            }
+        } catch (NumberFormatException e) {
+            System.err.println("Unable to parse argument: " + e.getMessage());
+            System.err.println(USAGE_MSG);
+            System.exit(1);
+        }
+
+        try {
+            final TerminalServer server = new TerminalServer(new InetSocketAddress(port), PricingEngine.getInstance(),
+                                                             workers);
+            Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    server.stop();
+                }
+            }));
+            server.start();
+            System.err.println("Serving terminals on port " + server.getPort() + " with " + workers + " workers");
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.la3ypotato.toolrenter.batch;
+
+/**
+ * This enum lists the record formats supported by the batch pricer. The same format is used for the input requests
+ * and the output agreements.
+ *
+ * CSV - one request per line: toolCode,rentalDays,discount,checkoutDate
+ * NDJSON - one JSON object per line: {"toolCode":"CHNS","rentalDays":5,"discount":10,"checkoutDate":"7/2/2015"}
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public enum BatchFormat {
+    CSV,
+    NDJSON;
+
+    /**
+     * This method picks the format based on the extension of the passed file name. Files ending in .ndjson, .jsonl or
+     * .json are treated as NDJSON and everything else as CSV.
+     *
+     * @param fileName - name of the input file.
+     * @return - the format matching the file extension.
+     */
+    public static BatchFormat fromFileName(String fileName) {
+        String lowerName = fileName.toLowerCase();
+        if (lowerName.endsWith(".ndjson") || lowerName.endsWith(".jsonl") || lowerName.endsWith(".json")) {
+            return NDJSON;
+        }
+
+        return CSV;
+    }
+}
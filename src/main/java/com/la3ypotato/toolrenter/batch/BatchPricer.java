@@ -0,0 +1,173 @@
+package com.la3ypotato.toolrenter.batch;
+
+import com.la3ypotato.toolrenter.receipt.ReceiptFormat;
+import com.la3ypotato.toolrenter.receipt.ReceiptRenderer;
+import com.la3ypotato.toolrenter.rentalagreement.RentalAgreement;
+import com.la3ypotato.toolrenter.rentalagreement.ValidationResult;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * This class prices a stream of rental requests without holding more than one record in memory at a time. Each input
+ * line is validated and priced through a RentalAgreement and the finalized agreement is written to the output as soon
+ * as it is calculated. Invalid records are written to the error output with their line number and every invalid field,
+ * and the run continues.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class BatchPricer {
+    // Constants
+    private static final String FILE_DELIMITER = ",";
+    private static final int EXPECTED_REQUEST_ARGS = 4;
+    // Default number of records between progress reports.
+    private static final long PROGRESS_INTERVAL = 1000000;
+    // NDJSON field names for the requests.
+    private static final String TOOL_CODE_FIELD = "toolCode";
+    private static final String RENTAL_DAYS_FIELD = "rentalDays";
+    private static final String DISCOUNT_FIELD = "discount";
+    private static final String CHECKOUT_DATE_FIELD = "checkoutDate";
+    // Class properties
+    private final BatchFormat format;
+    private final PrintStream progress;
+    private final long progressInterval;
+    private final ReceiptRenderer renderer;
+    private final StringBuilder recordBuffer = new StringBuilder(256);
+
+    /**
+     * Creates a batch pricer for the passed record format.
+     *
+     * @param format - the format of the input requests and output agreements.
+     * @param progress - stream that progress reports are printed to, or null to disable progress reports.
+     */
+    public BatchPricer(BatchFormat format, PrintStream progress) {
+        this(format, progress, PROGRESS_INTERVAL);
+    }
+
+    /**
+     * Creates a batch pricer for the passed record format that reports progress every progressInterval records.
+     *
+     * @param format - the format of the input requests and output agreements.
+     * @param progress - stream that progress reports are printed to, or null to disable progress reports.
+     * @param progressInterval - number of records between progress reports.
+     */
+    BatchPricer(BatchFormat format, PrintStream progress, long progressInterval) {
+        this.format = format;
+        this.progress = progress;
+        this.progressInterval = progressInterval;
+        this.renderer = new ReceiptRenderer(format == BatchFormat.CSV ? ReceiptFormat.CSV : ReceiptFormat.JSON);
+    }
+
+    /**
+     * This method reads every request from the passed reader, prices it, and writes the agreement to the output. The
+     * writers are flushed but not closed once the input is exhausted. The errors are also flushed before each progress
+     * report, so they stay in order when both are written to standard error.
+     *
+     * @param in - the request input.
+     * @param out - the agreement output.
+     * @param errors - the output for records that failed validation.
+     * @return - the summary of the run.
+     * @throws IOException - thrown if reading the input or writing the output fails.
+     */
+    public BatchSummary price(BufferedReader in, Writer out, Writer errors) throws IOException {
+        long startNanos = System.nanoTime();
+        long lineNumber = 0;
+        long priced = 0;
+        long failed = 0;
+        if (format == BatchFormat.CSV) {
+            out.write(ReceiptRenderer.CSV_HEADER);
+            out.write('\n');
+        }
+
+        String line;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty() || (lineNumber == 1 && isCsvHeader(line))) {
+                continue;
+            }
+            try {
+                RentalAgreement rentalAgreement = new RentalAgreement();
+                ValidationResult result = parseRequest(line, rentalAgreement);
+                if (result.isValid()) {
+                    rentalAgreement.finalizeRentalAgreement();
+                    writeAgreement(rentalAgreement, out);
+                    priced++;
+                } else {
+                    failed++;
+                    errors.write("line " + lineNumber + ": " + result.getMessage() + "\n");
+                }
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                // Malformed lines, and charges too large to calculate, are still reported by exceptions.
+                failed++;
+                errors.write("line " + lineNumber + ": " + e.getMessage() + "\n");
+            }
+            if (progress != null && (priced + failed) % progressInterval == 0) {
+                errors.flush();
+                progress.println(new BatchSummary(priced, failed, System.nanoTime() - startNanos));
+            }
+        }
+        out.flush();
+        errors.flush();
+
+        return new BatchSummary(priced, failed, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * This method checks if the passed line is the optional CSV header row.
+     *
+     * @param line - the first line of the input.
+     * @return - true if the line is a CSV header.
+     */
+    private boolean isCsvHeader(String line) {
+        return format == BatchFormat.CSV && line.trim().toLowerCase().startsWith(TOOL_CODE_FIELD.toLowerCase());
+    }
+
+    /**
+     * This method parses a single request line and validates every field through RentalAgreement.validateRequest, which
+     * reports invalid fields without throwing. Bad records are common in imports, so only a malformed line costs an
+     * exception.
+     *
+     * @param line - the request line.
+     * @param rentalAgreement - the rental agreement the request is set on.
+     * @return - the result holding an error for each invalid field.
+     * @throws IllegalArgumentException - thrown if the line is malformed.
+     */
+    private ValidationResult parseRequest(String line, RentalAgreement rentalAgreement)
+            throws IllegalArgumentException {
+        if (format == BatchFormat.CSV) {
+            String[] requestInfo = line.split(FILE_DELIMITER, -1);
+            if (requestInfo.length != EXPECTED_REQUEST_ARGS) {
+                throw new IllegalArgumentException("Expected " + EXPECTED_REQUEST_ARGS + " fields but received " +
+                                                   requestInfo.length);
+            }
+
+            return rentalAgreement.validateRequest(requestInfo[0].trim(), requestInfo[1].trim(),
+                                                   requestInfo[2].trim(), requestInfo[3].trim());
+        }
+        // Missing fields are reported by validateRequest, and a missing discount is treated as no discount.
+        Map<String, String> fields = FlatJson.parseObject(line);
+
+        return rentalAgreement.validateRequest(fields.get(TOOL_CODE_FIELD), fields.get(RENTAL_DAYS_FIELD),
+                                               fields.get(DISCOUNT_FIELD), fields.get(CHECKOUT_DATE_FIELD));
+    }
+
+    /**
+     * This method writes a finalized agreement to the output in the configured format. The record is rendered into a
+     * reusable buffer so only the buffer contents are handed to the writer.
+     *
+     * @param rentalAgreement - the finalized agreement.
+     * @param out - the agreement output.
+     * @throws IOException - thrown if writing fails.
+     */
+    private void writeAgreement(RentalAgreement rentalAgreement, Writer out) throws IOException {
+        StringBuilder sb = recordBuffer;
+        sb.setLength(0);
+        renderer.render(rentalAgreement.getQuote(), sb).append('\n');
+        out.append(sb);
+    }
+}
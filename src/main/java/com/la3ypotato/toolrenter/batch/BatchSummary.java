@@ -0,0 +1,80 @@
+package com.la3ypotato.toolrenter.batch;
+
+/**
+ * This class holds the counts and timing of a batch pricing run.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class BatchSummary {
+    // Class properties
+    private final long pricedRecords;
+    private final long failedRecords;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a summary of a batch pricing run.
+     *
+     * @param pricedRecords - number of records that were priced.
+     * @param failedRecords - number of records that failed validation.
+     * @param elapsedNanos - time spent on the run in nanoseconds.
+     */
+    public BatchSummary(long pricedRecords, long failedRecords, long elapsedNanos) {
+        this.pricedRecords = pricedRecords;
+        this.failedRecords = failedRecords;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Getter for pricedRecords.
+     *
+     * @return - number of records that were priced.
+     */
+    public long getPricedRecords() {
+        return pricedRecords;
+    }
+
+    /**
+     * Getter for failedRecords.
+     *
+     * @return - number of records that failed validation.
+     */
+    public long getFailedRecords() {
+        return failedRecords;
+    }
+
+    /**
+     * Getter for elapsedNanos.
+     *
+     * @return - time spent on the run in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * This method calculates the throughput of the run across both priced and failed records.
+     *
+     * @return - records processed per second.
+     */
+    public double getRecordsPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+
+        return (pricedRecords + failedRecords) * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * This method returns a printable one line summary of the run.
+     *
+     * @return - String with the counts, elapsed time and throughput.
+     */
+    public String toString() {
+        return "Priced: " + pricedRecords +
+               ", Failed: " + failedRecords +
+               ", Elapsed: " + (elapsedNanos / 1_000_000) + " ms" +
+               ", Throughput: " + Math.round(getRecordsPerSecond()) + " records/sec";
+    }
+}
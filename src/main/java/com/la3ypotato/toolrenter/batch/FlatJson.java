@@ -0,0 +1,184 @@
+package com.la3ypotato.toolrenter.batch;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class provides just enough JSON support to read rental requests from batch NDJSON files and HTTP request
+ * bodies: parsing a single flat object whose values are strings, numbers, booleans or null. Nested objects and arrays
+ * are not supported as rental requests never contain them. Output records are written by the ReceiptRenderer.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public final class FlatJson {
+
+    // Static helper class.
+    private FlatJson() {
+
+    }
+
+    /**
+     * This method parses a flat JSON object into a Map of field names to the text of their values. String values are
+     * unescaped and all other values are returned as written (ex: 5, true). Null values are not added to the Map.
+     *
+     * @param json - the JSON object text.
+     * @return - the object fields.
+     * @throws IllegalArgumentException - thrown if the text is not a flat JSON object.
+     */
+    public static Map<String, String> parseObject(String json) throws IllegalArgumentException {
+        Map<String, String> fields = new HashMap<>();
+        int[] pos = {skipWhitespace(json, 0)};
+        expect(json, pos, '{');
+        if (peek(json, pos) == '}') {
+            return fields;
+        }
+        while (true) {
+            String name = readString(json, pos);
+            expect(json, pos, ':');
+            String value;
+            if (peek(json, pos) == '"') {
+                value = readString(json, pos);
+            } else {
+                value = readLiteral(json, pos);
+            }
+            if (!value.equals("null")) {
+                fields.put(name, value);
+            }
+            char next = peek(json, pos);
+            pos[0]++;
+            if (next == '}') {
+                break;
+            } else if (next != ',') {
+                throw new IllegalArgumentException("Expected ',' or '}' at position " + (pos[0] - 1));
+            }
+        }
+        if (skipWhitespace(json, pos[0]) != json.length()) {
+            throw new IllegalArgumentException("Unexpected text after JSON object");
+        }
+
+        return fields;
+    }
+
+    /**
+     * This method finds the next non-whitespace character at or after the passed index.
+     *
+     * @param json - the JSON text.
+     * @param index - the index to start from.
+     * @return - the index of the next non-whitespace character, or the text length if there is none.
+     */
+    private static int skipWhitespace(String json, int index) {
+        while (index < json.length() && Character.isWhitespace(json.charAt(index))) {
+            index++;
+        }
+
+        return index;
+    }
+
+    /**
+     * This method skips whitespace and returns the next character without consuming it.
+     *
+     * @param json - the JSON text.
+     * @param pos - single element array holding the current position.
+     * @return - the next character.
+     */
+    private static char peek(String json, int[] pos) {
+        pos[0] = skipWhitespace(json, pos[0]);
+        if (pos[0] >= json.length()) {
+            throw new IllegalArgumentException("Unexpected end of JSON object");
+        }
+
+        return json.charAt(pos[0]);
+    }
+
+    /**
+     * This method consumes the next character and verifies it is the expected one.
+     *
+     * @param json - the JSON text.
+     * @param pos - single element array holding the current position.
+     * @param expected - the expected character.
+     */
+    private static void expect(String json, int[] pos, char expected) {
+        if (peek(json, pos) != expected) {
+            throw new IllegalArgumentException("Expected '" + expected + "' at position " + pos[0]);
+        }
+        pos[0]++;
+    }
+
+    /**
+     * This method reads a quoted JSON string at the current position and unescapes it.
+     *
+     * @param json - the JSON text.
+     * @param pos - single element array holding the current position.
+     * @return - the unescaped string.
+     */
+    private static String readString(String json, int[] pos) {
+        expect(json, pos, '"');
+        StringBuilder sb = new StringBuilder();
+        int i = pos[0];
+        while (i < json.length()) {
+            char c = json.charAt(i++);
+            if (c == '"') {
+                pos[0] = i;
+                return sb.toString();
+            } else if (c != '\\') {
+                sb.append(c);
+            } else if (i < json.length()) {
+                char escaped = json.charAt(i++);
+                switch (escaped) {
+                    case 'n':
+                        sb.append('\n');
+                        break;
+                    case 'r':
+                        sb.append('\r');
+                        break;
+                    case 't':
+                        sb.append('\t');
+                        break;
+                    case 'b':
+                        sb.append('\b');
+                        break;
+                    case 'f':
+                        sb.append('\f');
+                        break;
+                    case 'u':
+                        if (i + 4 > json.length()) {
+                            throw new IllegalArgumentException("Incomplete unicode escape in JSON string");
+                        }
+                        sb.append((char) Integer.parseInt(json.substring(i, i + 4), 16));
+                        i += 4;
+                        break;
+                    default:
+                        sb.append(escaped);
+                }
+            }
+        }
+
+        throw new IllegalArgumentException("Unterminated JSON string");
+    }
+
+    /**
+     * This method reads an unquoted JSON value (number, boolean or null) at the current position.
+     *
+     * @param json - the JSON text.
+     * @param pos - single element array holding the current position.
+     * @return - the literal text.
+     */
+    private static String readLiteral(String json, int[] pos) {
+        int start = pos[0];
+        int i = start;
+        while (i < json.length()) {
+            char c = json.charAt(i);
+            if (c == ',' || c == '}' || Character.isWhitespace(c)) {
+                break;
+            }
+            i++;
+        }
+        if (i == start) {
+            throw new IllegalArgumentException("Missing JSON value at position " + start);
+        }
+        pos[0] = i;
+        return json.substring(start, i);
+    }
+}
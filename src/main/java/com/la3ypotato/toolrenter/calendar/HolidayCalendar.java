@@ -0,0 +1,279 @@
+package com.la3ypotato.toolrenter.calendar;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class answers holiday questions for a set of observance rules. Each calendar year is compiled once into a
+ * bitmap with one bit per day of the year, so counting the holidays in a date range is a handful of popcounts rather
+ * than a scan over a list of dates.
+ *
+ * The Gregorian calendar repeats every 400 years: the cycle is a whole number of weeks, so each year has the same leap
+ * day and weekdays as the year 400 before it, and so do its holidays. Only the 400 years of one cycle are compiled,
+ * when the calendar is created, and every other year is answered from the matching year of the cycle. Ranges that
+ * span whole cycles are counted one cycle at a time, so even the longest rental costs no more than a few hundred
+ * years of popcounts.
+ *
+ * The default calendar is loaded from the holidays.csv resource. Regional calendars can be created from another
+ * resource or from an explicit list of rules. Calendars are safe to share between threads.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class HolidayCalendar {
+    // Resource file containing the default observed holidays.
+    public static final String DEFAULT_RESOURCE_FILE = "/holidays.csv";
+    // Years in one cycle of the Gregorian calendar, and the first year of the cycle that is compiled.
+    private static final int CYCLE_YEARS = 400;
+    private static final int CYCLE_START_YEAR = 2000;
+    // 366 days fit in six 64-bit words.
+    private static final int WORDS_PER_YEAR = 6;
+    // Class properties
+    private final List<HolidayRule> rules;
+    // Indexed by the year's position within the cycle. Never modified once the calendar is created.
+    private final HolidayYear[] compiledYears = new HolidayYear[CYCLE_YEARS];
+    private final int cycleHolidays;
+    private final int cycleWeekdayHolidays;
+
+    /**
+     * Lazily creates the default calendar the first time it is requested. The JVM guarantees the holder class is
+     * initialized exactly once, so no locking is required on the read path.
+     */
+    private static class DefaultCalendarHolder {
+        private static final HolidayCalendar INSTANCE = fromResource(DEFAULT_RESOURCE_FILE);
+    }
+
+    /**
+     * Creates a calendar for the passed rules.
+     *
+     * @param rules - the holiday observance rules for this calendar.
+     */
+    public HolidayCalendar(List<HolidayRule> rules) {
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+        int holidays = 0;
+        int weekdayHolidays = 0;
+        for (int i = 0; i < CYCLE_YEARS; i++) {
+            compiledYears[i] = compileYear(CYCLE_START_YEAR + i);
+            holidays += compiledYears[i].holidayCount;
+            weekdayHolidays += compiledYears[i].weekdayHolidayCount;
+        }
+        this.cycleHolidays = holidays;
+        this.cycleWeekdayHolidays = weekdayHolidays;
+    }
+
+    /**
+     * This method returns the default holiday calendar loaded from the holidays.csv resource.
+     *
+     * @return - the default HolidayCalendar instance.
+     */
+    public static HolidayCalendar getInstance() {
+        return DefaultCalendarHolder.INSTANCE;
+    }
+
+    /**
+     * This method loads a calendar from a classpath resource where each line of the resource is a holiday rule. See
+     * HolidayRule.parse for the expected line format. Blank lines are ignored.
+     *
+     * @param resourceFile - classpath location of the holiday rules (ex: /holidays.csv).
+     * @return - the loaded calendar.
+     * @throws IllegalArgumentException - thrown if the resource is missing or contains a malformed rule.
+     */
+    public static HolidayCalendar fromResource(String resourceFile) throws IllegalArgumentException {
+        InputStream in = HolidayCalendar.class.getResourceAsStream(resourceFile);
+        if (in == null) {
+            throw new IllegalArgumentException("Holiday resource file not found: " + resourceFile);
+        }
+        List<HolidayRule> rules = new ArrayList<>();
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    rules.add(HolidayRule.parse(line));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read holiday resource file: " + resourceFile, e);
+        }
+
+        return new HolidayCalendar(rules);
+    }
+
+    /**
+     * This method checks if the passed date is an observed holiday.
+     *
+     * @param date - the date to check.
+     * @return - true if the date is an observed holiday.
+     */
+    public boolean isHoliday(LocalDate date) {
+        long[] bits = getHolidayYear(date.getYear()).holidays;
+        int dayIndex = date.getDayOfYear() - 1;
+        return (bits[dayIndex >>> 6] & (1L << dayIndex)) != 0;
+    }
+
+    /**
+     * This method counts the observed holidays within the inclusive range of passed dates.
+     *
+     * @param from - the first date of the range (inclusive).
+     * @param to - the last date of the range (inclusive).
+     * @return - the number of observed holidays in the range, or zero if the range is empty.
+     * @throws ArithmeticException - thrown if the count does not fit in an int.
+     */
+    public int countHolidays(LocalDate from, LocalDate to) {
+        return countInRange(from, to, false);
+    }
+
+    /**
+     * This method counts the observed holidays within the inclusive range of passed dates that fall on a weekday
+     * (Monday through Friday).
+     *
+     * @param from - the first date of the range (inclusive).
+     * @param to - the last date of the range (inclusive).
+     * @return - the number of weekday holidays in the range, or zero if the range is empty.
+     * @throws ArithmeticException - thrown if the count does not fit in an int.
+     */
+    public int countWeekdayHolidays(LocalDate from, LocalDate to) {
+        return countInRange(from, to, true);
+    }
+
+    /**
+     * Getter for rules.
+     *
+     * @return - an unmodifiable list of the rules for this calendar.
+     */
+    public List<HolidayRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * This method counts the holidays of the partial first and last years of the passed range from their bitmaps, and
+     * the holidays of the whole years between them from the per-year and per-cycle totals.
+     *
+     * @param from - the first date of the range (inclusive).
+     * @param to - the last date of the range (inclusive).
+     * @param weekdaysOnly - whether only weekday holidays should be counted.
+     * @return - the number of holidays in the range.
+     * @throws ArithmeticException - thrown if the count does not fit in an int.
+     */
+    private int countInRange(LocalDate from, LocalDate to, boolean weekdaysOnly) throws ArithmeticException {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("The passed date range cannot contain a null date!");
+        }
+        int fromYear = from.getYear();
+        int toYear = to.getYear();
+        if (fromYear > toYear) {
+            return 0;
+        }
+        HolidayYear first = getHolidayYear(fromYear);
+        long[] firstBits = weekdaysOnly ? first.weekdayHolidays : first.holidays;
+        if (fromYear == toYear) {
+            return countBits(firstBits, from.getDayOfYear() - 1, to.getDayOfYear() - 1);
+        }
+        HolidayYear last = getHolidayYear(toYear);
+        long count = countBits(firstBits, from.getDayOfYear() - 1, first.daysInYear - 1) +
+                     countBits(weekdaysOnly ? last.weekdayHolidays : last.holidays, 0, to.getDayOfYear() - 1);
+        // The whole years between the first and last year.
+        long wholeYears = (long) toYear - fromYear - 1;
+        count += wholeYears / CYCLE_YEARS * (weekdaysOnly ? cycleWeekdayHolidays : cycleHolidays);
+        for (int i = 0; i < wholeYears % CYCLE_YEARS; i++) {
+            HolidayYear holidayYear = getHolidayYear(fromYear + 1 + i);
+            count += weekdaysOnly ? holidayYear.weekdayHolidayCount : holidayYear.holidayCount;
+        }
+
+        return Math.toIntExact(count);
+    }
+
+    /**
+     * This method counts the set bits of the bitmap between the passed bit indexes.
+     *
+     * @param bits - the bitmap.
+     * @param firstIndex - the first bit index (inclusive).
+     * @param lastIndex - the last bit index (inclusive).
+     * @return - the number of set bits in the range.
+     */
+    private static int countBits(long[] bits, int firstIndex, int lastIndex) {
+        if (lastIndex < firstIndex) {
+            return 0;
+        }
+        int firstWord = firstIndex >>> 6;
+        int lastWord = lastIndex >>> 6;
+        // Shifting by the bit index only uses the low six bits, so these masks select the bits within each word.
+        long firstMask = -1L << firstIndex;
+        long lastMask = -1L >>> (63 - (lastIndex & 63));
+        if (firstWord == lastWord) {
+            return Long.bitCount(bits[firstWord] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(bits[firstWord] & firstMask);
+        for (int word = firstWord + 1; word < lastWord; word++) {
+            count += Long.bitCount(bits[word]);
+        }
+        count += Long.bitCount(bits[lastWord] & lastMask);
+        return count;
+    }
+
+    /**
+     * This method returns the compiled bitmap for the passed year, which is the bitmap of the year in the same position
+     * of the 400 year cycle.
+     *
+     * @param year - the calendar year.
+     * @return - the compiled holidays for the year.
+     */
+    private HolidayYear getHolidayYear(int year) {
+        return compiledYears[Math.floorMod(year - CYCLE_START_YEAR, CYCLE_YEARS)];
+    }
+
+    /**
+     * This method compiles the observed holidays for the passed year into bitmaps. The rules for the neighboring years
+     * are also evaluated because an observance shift can move a holiday across the new year. Only the years of the
+     * compiled cycle are passed, so the neighboring years are always within the range LocalDate supports.
+     *
+     * @param year - the calendar year.
+     * @return - the compiled holidays for the year.
+     */
+    private HolidayYear compileYear(int year) {
+        HolidayYear holidayYear = new HolidayYear(LocalDate.of(year, 1, 1).lengthOfYear());
+        for (HolidayRule rule : rules) {
+            for (int ruleYear = year - 1; ruleYear <= year + 1; ruleYear++) {
+                LocalDate observed = rule.getObservedDate(ruleYear);
+                if (observed != null && observed.getYear() == year) {
+                    int dayIndex = observed.getDayOfYear() - 1;
+                    holidayYear.holidays[dayIndex >>> 6] |= 1L << dayIndex;
+                    DayOfWeek dayOfWeek = observed.getDayOfWeek();
+                    if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY) {
+                        holidayYear.weekdayHolidays[dayIndex >>> 6] |= 1L << dayIndex;
+                    }
+                }
+            }
+        }
+        for (int word = 0; word < WORDS_PER_YEAR; word++) {
+            holidayYear.holidayCount += Long.bitCount(holidayYear.holidays[word]);
+            holidayYear.weekdayHolidayCount += Long.bitCount(holidayYear.weekdayHolidays[word]);
+        }
+
+        return holidayYear;
+    }
+
+    /**
+     * The compiled holidays for a single calendar year. Bit n of each bitmap represents day n + 1 of the year. The
+     * bitmaps and counts are never modified once the calendar has been created.
+     */
+    private static class HolidayYear {
+        private final int daysInYear;
+        private final long[] holidays = new long[WORDS_PER_YEAR];
+        private final long[] weekdayHolidays = new long[WORDS_PER_YEAR];
+        private int holidayCount;
+        private int weekdayHolidayCount;
+
+        private HolidayYear(int daysInYear) {
+            this.daysInYear = daysInYear;
+        }
+    }
+}
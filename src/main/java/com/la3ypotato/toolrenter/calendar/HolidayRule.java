@@ -0,0 +1,204 @@
+package com.la3ypotato.toolrenter.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+
+/**
+ * This class describes how a single holiday is observed in a given year. A rule is either a fixed calendar date (ex:
+ * July 4th) or the nth occurrence of a day of the week within a month (ex: the first Monday of September). Fixed date
+ * rules can optionally be shifted off of the weekend based on the observance setting.
+ *
+ * Rules are immutable and are safe to share between threads.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class HolidayRule {
+    /**
+     * The supported ways of placing a holiday within a year.
+     */
+    public enum Type {
+        // A fixed month and day of the month.
+        FIXED,
+        // The nth day of the week within the month. A negative ordinal counts from the end of the month.
+        NTH_WEEKDAY
+    }
+
+    /**
+     * The supported shifts applied when a holiday lands on a weekend.
+     */
+    public enum Observance {
+        // The holiday is observed on the calendar date.
+        NONE,
+        // Saturday holidays are observed on Friday and Sunday holidays are observed on Monday.
+        NEAREST_WEEKDAY,
+        // Saturday and Sunday holidays are both observed on the following Monday.
+        NEXT_WEEKDAY
+    }
+
+    // Expected number of fields for a rule line in the resource file.
+    private static final int EXPECTED_RULE_ARGS = 6;
+    private static final String FILE_DELIMITER = ",";
+    // Class properties.
+    private final String name;
+    private final Type type;
+    private final int month;
+    private final int dayOrOrdinal;
+    private final DayOfWeek dayOfWeek;
+    private final Observance observance;
+
+    /**
+     * Creates a holiday rule.
+     *
+     * @param name - display name for the holiday (ex: Labor Day).
+     * @param type - how the holiday is placed within the year.
+     * @param month - month of the year (1-12).
+     * @param dayOrOrdinal - day of the month for FIXED rules, or the occurrence of the day of the week for NTH_WEEKDAY
+     *                       rules (1 = first, -1 = last).
+     * @param dayOfWeek - the day of the week for NTH_WEEKDAY rules. Ignored for FIXED rules.
+     * @param observance - the weekend shift to apply to the holiday.
+     * @throws IllegalArgumentException - thrown if the rule is incomplete or out of range.
+     */
+    public HolidayRule(String name, Type type, int month, int dayOrOrdinal, DayOfWeek dayOfWeek, Observance observance)
+            throws IllegalArgumentException {
+        if (type == null || observance == null) {
+            throw new IllegalArgumentException("Holiday rule type and observance cannot be null!");
+        } else if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Holiday rule month must be within [1,12]!");
+        } else if (type == Type.FIXED && (dayOrOrdinal < 1 || dayOrOrdinal > 31)) {
+            throw new IllegalArgumentException("Fixed holiday rule day must be within [1,31]!");
+        } else if (type == Type.NTH_WEEKDAY && (dayOrOrdinal == 0 || dayOrOrdinal < -5 || dayOrOrdinal > 5)) {
+            throw new IllegalArgumentException("Nth weekday holiday rule ordinal must be within [-5,5] and not 0!");
+        } else if (type == Type.NTH_WEEKDAY && dayOfWeek == null) {
+            throw new IllegalArgumentException("Nth weekday holiday rule requires a day of the week!");
+        }
+        this.name = name;
+        this.type = type;
+        this.month = month;
+        this.dayOrOrdinal = dayOrOrdinal;
+        this.dayOfWeek = dayOfWeek;
+        this.observance = observance;
+    }
+
+    /**
+     * This method parses a holiday rule from a line of the holiday resource file. The fields are expected in the
+     * following order:
+     *
+     * 0 - name
+     * 1 - type (FIXED or NTH_WEEKDAY)
+     * 2 - month
+     * 3 - day of the month (FIXED) or ordinal (NTH_WEEKDAY)
+     * 4 - day of the week (NTH_WEEKDAY only, may be empty otherwise)
+     * 5 - observance (NONE, NEAREST_WEEKDAY or NEXT_WEEKDAY)
+     *
+     * @param line - a single line from the holiday resource file.
+     * @return - the parsed holiday rule.
+     * @throws IllegalArgumentException - thrown if the line is malformed.
+     */
+    public static HolidayRule parse(String line) throws IllegalArgumentException {
+        String[] ruleInfo = line.split(FILE_DELIMITER, -1);
+        if (ruleInfo.length != EXPECTED_RULE_ARGS) {
+            throw new IllegalArgumentException("Incorrect number of holiday rule parameters!\n" +
+                                               "Expected: " + EXPECTED_RULE_ARGS + "\n" +
+                                               "Received: " + ruleInfo.length + "\n" +
+                                               "Problematic holiday line: " + Arrays.toString(ruleInfo));
+        }
+        try {
+            String name = ruleInfo[0].trim();
+            Type type = Type.valueOf(ruleInfo[1].trim().toUpperCase());
+            int month = Integer.parseInt(ruleInfo[2].trim());
+            int dayOrOrdinal = Integer.parseInt(ruleInfo[3].trim());
+            String dayOfWeekStr = ruleInfo[4].trim();
+            DayOfWeek dayOfWeek = dayOfWeekStr.isEmpty() ? null : DayOfWeek.valueOf(dayOfWeekStr.toUpperCase());
+            Observance observance = Observance.valueOf(ruleInfo[5].trim().toUpperCase());
+            return new HolidayRule(name, type, month, dayOrOrdinal, dayOfWeek, observance);
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is also an IllegalArgumentException.
+            throw new IllegalArgumentException("Unable to parse holiday line: " + line, e);
+        }
+    }
+
+    /**
+     * This method finds the date the holiday is observed on for the passed year. Note, an observance shift can move
+     * the holiday into the previous or next calendar year (ex: a Saturday January 1st observed on December 31st).
+     *
+     * @param year - The calendar year to search for the holiday.
+     * @return - LocalDate object containing the observed holiday, or null if the rule does not occur in that year (ex:
+     *           a fifth Monday the month does not have).
+     */
+    public LocalDate getObservedDate(int year) {
+        LocalDate date;
+        if (type == Type.FIXED) {
+            LocalDate firstOfMonth = LocalDate.of(year, month, 1);
+            if (dayOrOrdinal > firstOfMonth.lengthOfMonth()) {
+                return null;
+            }
+            date = firstOfMonth.withDayOfMonth(dayOrOrdinal);
+        } else {
+            LocalDate firstOfMonth = LocalDate.of(year, month, 1);
+            date = firstOfMonth.with(TemporalAdjusters.dayOfWeekInMonth(dayOrOrdinal, dayOfWeek));
+            if (date.getMonthValue() != month) {
+                return null;
+            }
+        }
+
+        return applyObservance(date);
+    }
+
+    /**
+     * This method shifts the passed holiday off of the weekend based on the observance setting for the rule.
+     *
+     * @param date - the calendar date of the holiday.
+     * @return - the observed date of the holiday.
+     */
+    private LocalDate applyObservance(LocalDate date) {
+        DayOfWeek holidayDayOfWeek = date.getDayOfWeek();
+        if (observance == Observance.NEAREST_WEEKDAY) {
+            // If the holiday falls on a Saturday, set the day back to Friday. If it falls on a Sunday, set the day
+            // forward to Monday.
+            if (holidayDayOfWeek == DayOfWeek.SATURDAY) {
+                return date.minusDays(1);
+            } else if (holidayDayOfWeek == DayOfWeek.SUNDAY) {
+                return date.plusDays(1);
+            }
+        } else if (observance == Observance.NEXT_WEEKDAY) {
+            if (holidayDayOfWeek == DayOfWeek.SATURDAY) {
+                return date.plusDays(2);
+            } else if (holidayDayOfWeek == DayOfWeek.SUNDAY) {
+                return date.plusDays(1);
+            }
+        }
+
+        return date;
+    }
+
+    /**
+     * Getter for name.
+     *
+     * @return - the display name of the holiday.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Getter for type.
+     *
+     * @return - how the holiday is placed within the year.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Getter for observance.
+     *
+     * @return - the weekend shift applied to the holiday.
+     */
+    public Observance getObservance() {
+        return observance;
+    }
+}
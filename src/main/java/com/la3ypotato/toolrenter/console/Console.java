@@ -52,10 +52,23 @@ public class Console {
     // Class properties
     private boolean consoleExited = true;
     private String errorMsg = "";
+    // A single Scanner is shared by every menu, so input buffered by one menu is not lost to the next.
+    private final Scanner scanner = new Scanner(System.in);
+    // Screens are composed in memory and written to the terminal once per frame.
+    private final ScreenRenderer screen;
 
-    // Empty default constructor.
+    // Default constructor, drawing on standard output.
     public Console() {
+        this(new ScreenRenderer());
+    }
 
+    /**
+     * Console constructor that draws its screens with the passed renderer.
+     *
+     * @param screen - the renderer screens are drawn with.
+     */
+    public Console(ScreenRenderer screen) {
+        this.screen = screen;
     }
 
     /**
@@ -64,11 +77,11 @@ public class Console {
      * @see <a href="https://patorjk.com/software/taag/#p=display&f=Small%20Slant&t=ToolRenter">patorjk.com</a>
      */
     private void printMenuHeader() {
-        System.out.println(WELCOME_MSG);
-        System.out.println(" ______          _____           __");
-        System.out.println("/_  __/__  ___  / / _ \\___ ___  / /____ ____");
-        System.out.println(" / / / _ \\/ _ \\/ / , _/ -_) _ \\/ __/ -_) __/");
-        System.out.println("/_/  \\___/\\___/_/_/|_|\\__/_//_/\\__/\\__/_/\n");
+        screen.println(WELCOME_MSG);
+        screen.println(" ______          _____           __");
+        screen.println("/_  __/__  ___  / / _ \\___ ___  / /____ ____");
+        screen.println(" / / / _ \\/ _ \\/ / , _/ -_) _ \\/ __/ -_) __/");
+        screen.println("/_/  \\___/\\___/_/_/|_|\\__/_//_/\\__/\\__/_/\n");
     }
 
     /**
@@ -77,29 +90,32 @@ public class Console {
      * @see <a href="https://patorjk.com/software/taag/#p=display&f=Small%20Slant&t=ToolRenter">patorjk.com</a>
      */
     private void printCheckoutMenuHeader() {
-        System.out.println(" ______          _____           __");
-        System.out.println("/_  __/__  ___  / / _ \\___ ___  / /____ ____");
-        System.out.println(" / / / _ \\/ _ \\/ / , _/ -_) _ \\/ __/ -_) __/");
-        System.out.println("/_/__\\___/\\___/_/_/|_|\\__/_//_/\\__/\\__/_/");
-        System.out.println(" / ___/ /  ___ ____/ /_____  __ __/ /_");
-        System.out.println("/ /__/ _ \\/ -_) __/  '_/ _ \\/ // / __/");
-        System.out.println("\\___/_//_/\\__/\\__/_/\\_\\\\___/\\_,_/\\__/\n");
+        screen.println(" ______          _____           __");
+        screen.println("/_  __/__  ___  / / _ \\___ ___  / /____ ____");
+        screen.println(" / / / _ \\/ _ \\/ / , _/ -_) _ \\/ __/ -_) __/");
+        screen.println("/_/__\\___/\\___/_/_/|_|\\__/_//_/\\__/\\__/_/");
+        screen.println(" / ___/ /  ___ ____/ /_____  __ __/ /_");
+        screen.println("/ /__/ _ \\/ -_) __/  '_/ _ \\/ // / __/");
+        screen.println("\\___/_//_/\\__/\\__/_/\\_\\\\___/\\_,_/\\__/\n");
     }
 
     /**
-     * This method clears the console using commands depending on the host OS.
+     * This method starts a new screen. The clear is composed with the rest of the screen and written when the screen
+     * is flushed, so there is no flicker and no process is started to clear the terminal.
      */
     private void clearConsole() {
-        try {
-            final String os = System.getProperty("os.name");
-            if (os.contains("Windows")) {
-                new ProcessBuilder("cmd", "/c", "cls").inheritIO().start().waitFor();
-            } else {
-                new ProcessBuilder("clear").inheritIO().start().waitFor();
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        screen.clear();
+    }
+
+    /**
+     * This method writes the composed screen to the terminal and waits for the next line of input.
+     *
+     * @return - the line of input.
+     * @throws NoSuchElementException - thrown if the input has ended.
+     */
+    private String nextLine() throws NoSuchElementException {
+        screen.flush();
+        return scanner.nextLine();
     }
 
     /**
@@ -110,13 +126,13 @@ public class Console {
     private void showMainMenu() {
         printMenuHeader();
         if (!errorMsg.equals("")) {
-            System.out.println("!! " + errorMsg + " !!\n");
+            screen.println("!! " + errorMsg + " !!\n");
             errorMsg = "";
         }
         // Displaying menu options and guidance.
-        System.out.println(MENU_GUIDANCE_MSG + "\n");
-        System.out.println(MENU_OPTION_1_TEXT);
-        System.out.println(MENU_OPTION_2_TEXT);
+        screen.println(MENU_GUIDANCE_MSG + "\n");
+        screen.println(MENU_OPTION_1_TEXT);
+        screen.println(MENU_OPTION_2_TEXT);
     }
 
     /**
@@ -125,7 +141,7 @@ public class Console {
      */
     private void showCheckoutMenu() {
         printCheckoutMenuHeader();
-        System.out.println(CHECKOUT_MENU_GUIDANCE_MSG + "\n");
+        screen.println(CHECKOUT_MENU_GUIDANCE_MSG + "\n");
     }
 
     /**
@@ -134,7 +150,7 @@ public class Console {
      */
     private void showRentalAgreementPage() {
         printCheckoutMenuHeader();
-        System.out.println(RENTAL_AGREEMENT_GUIDANCE_MSG + "\n");
+        screen.println(RENTAL_AGREEMENT_GUIDANCE_MSG + "\n");
     }
 
     /**
@@ -144,12 +160,11 @@ public class Console {
      * for input from the user.
      */
     private void startMainMenu() {
-        Scanner scanner = new Scanner(System.in);
         try {
             while (!isConsoleExited()) {
                 clearConsole();
                 showMainMenu();
-                String line = scanner.nextLine();
+                String line = nextLine();
                 handleMenuInput(line);
             }
         } catch (IllegalStateException | NoSuchElementException e) {
@@ -162,7 +177,6 @@ public class Console {
      * If any of the provided input is invalid, based on the handling the user will be sent back to the main menu.
      */
     private void startCheckoutMenu() {
-        Scanner scanner = new Scanner(System.in);
         clearConsole();
         showCheckoutMenu();
         RentalAgreement rentalAgreement = new RentalAgreement();
@@ -171,9 +185,9 @@ public class Console {
             // Loop through all of the available checkout prompts.
             for (int i = 0; i < checkoutPrompts.length; i++) {
                 String prompt = checkoutPrompts[i];
-                System.out.println(prompt);
-                String line = scanner.nextLine();
-                System.out.println();
+                screen.println(prompt);
+                String line = nextLine();
+                screen.println();
                 // Validate the input against the rental agreement acceptance
                 // criteria.
                 handleCheckoutMenuInput(i, line, rentalAgreement);
@@ -213,14 +227,13 @@ public class Console {
         clearConsole();
         showRentalAgreementPage();
         String displayText = rentalAgreement.toString();
-        System.out.println(displayText);
+        screen.println(displayText);
 
         try {
-            System.out.println("\n" + RENTAL_AGREEMENT_CONTINUE);
-            Scanner scanner = new Scanner(System.in);
+            screen.println("\n" + RENTAL_AGREEMENT_CONTINUE);
             // Accept any character to proceed.
-            scanner.nextLine();
-            System.out.println();
+            nextLine();
+            screen.println();
         } catch (IllegalStateException | NoSuchElementException e) {
             exitConsole();
             return;
@@ -251,7 +264,7 @@ public class Console {
 
     /**
      * This method handles the user input and checks if the input is valid based on the current rental agreement. The
-     * RentalAgreement object has setters that will validate the user input string and throw an IllegalArgumentException
+     * RentalAgreement object has trySet methods that will validate the user input string and return a ValidationError
      * if the input is invalid. Currently there are only four checkout menu options available.
      *
      * @param option - selected checkout menu option.
@@ -261,16 +274,12 @@ public class Console {
     private void handleCheckoutMenuInput(int option, String userInput, RentalAgreement currRentalAgreement) {
         switch(option) {
             case CHECKOUT_OPTION_1:
-                try {
-                    currRentalAgreement.setTargetTool(userInput);
-                } catch (IllegalArgumentException e) {
+                if (currRentalAgreement.trySetTargetTool(userInput) != null) {
                     errorMsg = INVALID_TOOL_CODE;
                 }
                 break;
             case CHECKOUT_OPTION_2:
-                try {
-                    currRentalAgreement.setRentalDays(userInput);
-                } catch (IllegalArgumentException e) {
+                if (currRentalAgreement.trySetRentalDays(userInput) != null) {
                     errorMsg = INVALID_RENTAL_DAY;
                 }
                 break;
@@ -278,16 +287,12 @@ public class Console {
                 // If the user doesn't key anything, assume the value is zero. No need to force the user to enter 0
                 // each time.
                 userInput = userInput.isEmpty() ? "0" : userInput;
-                try {
-                    currRentalAgreement.setDiscount(userInput);
-                } catch (IllegalArgumentException e) {
+                if (currRentalAgreement.trySetDiscount(userInput) != null) {
                     errorMsg = INVALID_DISCOUNT;
                 }
                 break;
             case CHECKOUT_OPTION_4:
-                try {
-                    currRentalAgreement.setCheckoutDate(userInput);
-                } catch (IllegalArgumentException e) {
+                if (currRentalAgreement.trySetCheckoutDate(userInput) != null) {
                     errorMsg = INVALID_DATE;
                 }
                 break;
@@ -301,7 +306,8 @@ public class Console {
      */
     public void exitConsole() {
         consoleExited = true;
-        System.out.println("\n" + EXIT_MSG);
+        screen.println("\n" + EXIT_MSG);
+        screen.flush();
     }
 
     /**
@@ -0,0 +1,125 @@
+package com.la3ypotato.toolrenter.console;
+
+import java.io.PrintStream;
+
+/**
+ * This class composes console screens in memory and writes each one to the terminal in a single write. Clearing the
+ * screen is done with ANSI escape sequences (cursor home, then erase display) that are written in the same buffer as
+ * the screen itself, so the terminal never shows a blank or half drawn frame and no process is started to clear it.
+ *
+ * Dumb terminals, redirected output and consoles that do not understand escape sequences get the same screens
+ * without the escape sequences, separated by a blank line. ANSI output can be forced on or off with the
+ * toolrenter.console.ansi system property.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class ScreenRenderer {
+    // System property that forces ANSI output on (true) or off (false).
+    public static final String ANSI_PROPERTY = "toolrenter.console.ansi";
+    // Cursor home followed by erase display.
+    static final String ANSI_CLEAR_SCREEN = "\u001b[H\u001b[2J";
+    private static final int INITIAL_FRAME_SIZE = 2048;
+    // Class properties
+    private final PrintStream out;
+    private final boolean ansi;
+    private final StringBuilder frame = new StringBuilder(INITIAL_FRAME_SIZE);
+    private boolean anythingWritten;
+
+    /**
+     * Creates a renderer for standard output, using ANSI escape sequences if the terminal supports them.
+     */
+    public ScreenRenderer() {
+        this(System.out, isAnsiTerminal());
+    }
+
+    /**
+     * Creates a renderer for the passed stream.
+     *
+     * @param out - the stream frames are written to.
+     * @param ansi - whether to clear the screen with ANSI escape sequences.
+     */
+    public ScreenRenderer(PrintStream out, boolean ansi) {
+        this.out = out;
+        this.ansi = ansi;
+    }
+
+    /**
+     * This method starts a new screen. The clear is buffered with the rest of the screen and reaches the terminal on
+     * the next flush.
+     */
+    public void clear() {
+        frame.setLength(0);
+        if (ansi) {
+            frame.append(ANSI_CLEAR_SCREEN);
+        } else if (anythingWritten) {
+            frame.append('\n');
+        }
+    }
+
+    /**
+     * This method appends a line to the current screen.
+     *
+     * @param line - the line text.
+     * @return - this renderer.
+     */
+    public ScreenRenderer println(String line) {
+        frame.append(line).append('\n');
+        return this;
+    }
+
+    /**
+     * This method appends an empty line to the current screen.
+     *
+     * @return - this renderer.
+     */
+    public ScreenRenderer println() {
+        frame.append('\n');
+        return this;
+    }
+
+    /**
+     * This method writes everything composed since the last flush in one write.
+     */
+    public void flush() {
+        if (frame.length() > 0) {
+            out.print(frame);
+            frame.setLength(0);
+            anythingWritten = true;
+        }
+        out.flush();
+    }
+
+    /**
+     * Getter for whether ANSI escape sequences are used.
+     *
+     * @return - true if screens are cleared with ANSI escape sequences.
+     */
+    public boolean isAnsi() {
+        return ansi;
+    }
+
+    /**
+     * This method decides whether standard output is a terminal that understands ANSI escape sequences. The system
+     * property takes precedence. Otherwise a terminal must be attached, and TERM must name a terminal other than
+     * "dumb" (or, on Windows, the console must be a terminal known to support them).
+     *
+     * @return - true if ANSI escape sequences should be used.
+     */
+    static boolean isAnsiTerminal() {
+        String forced = System.getProperty(ANSI_PROPERTY);
+        if (forced != null) {
+            return Boolean.parseBoolean(forced);
+        }
+        if (System.console() == null) {
+            return false;
+        }
+        String term = System.getenv("TERM");
+        if (term != null) {
+            return !term.isEmpty() && !term.equals("dumb");
+        }
+        // Windows Terminal and ConEmu set these rather than TERM.
+        return System.getenv("WT_SESSION") != null || "ON".equalsIgnoreCase(System.getenv("ConEmuANSI"));
+    }
+}
@@ -0,0 +1,163 @@
+package com.la3ypotato.toolrenter.console;
+
+import com.la3ypotato.toolrenter.batch.BatchSummary;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.receipt.ReceiptFormat;
+import com.la3ypotato.toolrenter.receipt.ReceiptRenderer;
+import com.la3ypotato.toolrenter.rentalagreement.RentalAgreement;
+import com.la3ypotato.toolrenter.rentalagreement.ValidationError;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * This class runs the console without a person at the keyboard. It reads the same keystrokes the interactive Console
+ * does, one answer per line, so a script that drives the console can be piped in unchanged:
+ *
+ *   1            (check out a tool)
+ *   CHNS         (tool code)
+ *   5            (rental days)
+ *   10           (discount percent, an empty line is no discount)
+ *   7/2/2015     (checkout date)
+ *                (any line to continue after the agreement)
+ *   2            (exit)
+ *
+ * As in the interactive console, an invalid answer abandons the checkout and the next line is read as a menu option.
+ * Nothing is printed but the agreements, in the requested format, and the errors, each with the line number of the
+ * answer that failed. The console screens are never drawn, so no process is started to clear them.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class ScriptedConsole {
+    // Menu options, the same as the interactive console.
+    private static final String CHECKOUT_OPTION = "1";
+    private static final String EXIT_OPTION = "2";
+    // States of the keystroke reader.
+    private static final int MAIN_MENU = -1;
+    // One state per checkout prompt: tool code, rental days, discount and checkout date.
+    private static final int CONTINUE_PROMPT = 4;
+    // Class properties
+    private final PricingEngine pricingEngine;
+    private final ReceiptRenderer renderer;
+
+    /**
+     * Creates a scripted console that prices with the shared engine.
+     *
+     * @param format - the layout agreements are written in.
+     */
+    public ScriptedConsole(ReceiptFormat format) {
+        this(PricingEngine.getInstance(), format);
+    }
+
+    /**
+     * Creates a scripted console that prices with the passed engine.
+     *
+     * @param pricingEngine - the engine rentals are priced with.
+     * @param format - the layout agreements are written in.
+     */
+    public ScriptedConsole(PricingEngine pricingEngine, ReceiptFormat format) {
+        this.pricingEngine = pricingEngine;
+        this.renderer = new ReceiptRenderer(format);
+    }
+
+    /**
+     * This method reads keystrokes until the exit option or the end of the input, writing every completed agreement to
+     * the output and every invalid answer to the error output. The writers are flushed but not closed.
+     *
+     * @param in - the keystroke input, one answer per line.
+     * @param out - the agreement output.
+     * @param errors - the output for invalid answers.
+     * @return - the summary of the run, counting completed checkouts as priced and abandoned ones as failed.
+     * @throws IOException - thrown if reading the input or writing the output fails.
+     */
+    public BatchSummary run(BufferedReader in, Writer out, Writer errors) throws IOException {
+        long startNanos = System.nanoTime();
+        long lineNumber = 0;
+        long priced = 0;
+        long failed = 0;
+        boolean firstAgreement = true;
+        StringBuilder sb = new StringBuilder(512);
+        RentalAgreement rentalAgreement = new RentalAgreement(pricingEngine);
+        if (renderer.getFormat() == ReceiptFormat.CSV) {
+            out.write(ReceiptRenderer.CSV_HEADER);
+            out.write('\n');
+        }
+
+        int state = MAIN_MENU;
+        String line;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            if (state == MAIN_MENU) {
+                if (line.equals(CHECKOUT_OPTION)) {
+                    state = 0;
+                } else if (line.equals(EXIT_OPTION)) {
+                    break;
+                } else {
+                    errors.write("line " + lineNumber + ": Invalid menu option: " + line + "\n");
+                }
+            } else if (state == CONTINUE_PROMPT) {
+                // Any line continues to the next transaction, the same as pressing enter.
+                state = MAIN_MENU;
+            } else {
+                ValidationError error = setField(rentalAgreement, state, line);
+                if (error != null) {
+                    errors.write("line " + lineNumber + ": " + error + "\n");
+                    failed++;
+                    state = MAIN_MENU;
+                } else if (++state == CONTINUE_PROMPT) {
+                    try {
+                        rentalAgreement.finalizeRentalAgreement();
+                        sb.setLength(0);
+                        if (renderer.getFormat() == ReceiptFormat.TEXT && !firstAgreement) {
+                            // Blank line between agreements, which otherwise span several lines each.
+                            sb.append('\n');
+                        }
+                        renderer.render(rentalAgreement.getQuote(), sb).append('\n');
+                        out.append(sb);
+                        firstAgreement = false;
+                        priced++;
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        // Only pricing can still fail here, ex: a charge too large to calculate.
+                        errors.write("line " + lineNumber + ": " + e.getMessage() + "\n");
+                        failed++;
+                        state = MAIN_MENU;
+                    }
+                }
+            }
+        }
+        if (state >= 0 && state < CONTINUE_PROMPT) {
+            // The input ended part of the way through a checkout.
+            errors.write("line " + lineNumber + ": Input ended before the checkout was complete\n");
+            failed++;
+        }
+        out.flush();
+        errors.flush();
+
+        return new BatchSummary(priced, failed, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * This method validates one checkout answer through the RentalAgreement trySet methods.
+     *
+     * @param rentalAgreement - the rental agreement being drafted.
+     * @param field - the index of the checkout prompt being answered.
+     * @param answer - the answer line.
+     * @return - the error if the answer is invalid, or null if it was accepted.
+     */
+    private static ValidationError setField(RentalAgreement rentalAgreement, int field, String answer) {
+        switch (field) {
+            case 0:
+                return rentalAgreement.trySetTargetTool(answer);
+            case 1:
+                return rentalAgreement.trySetRentalDays(answer);
+            case 2:
+                // Like the interactive console, an empty discount is treated as no discount.
+                return rentalAgreement.trySetDiscount(answer.isEmpty() ? "0" : answer);
+            default:
+                return rentalAgreement.trySetCheckoutDate(answer);
+        }
+    }
+}
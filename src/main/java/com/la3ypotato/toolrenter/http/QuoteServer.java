@@ -0,0 +1,415 @@
+package com.la3ypotato.toolrenter.http;
+
+import com.la3ypotato.toolrenter.batch.FlatJson;
+import com.la3ypotato.toolrenter.inventory.Reservation;
+import com.la3ypotato.toolrenter.inventory.ToolInventory;
+import com.la3ypotato.toolrenter.ledger.RentalLedger;
+import com.la3ypotato.toolrenter.metrics.RentalMetrics;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.receipt.ReceiptFormat;
+import com.la3ypotato.toolrenter.receipt.ReceiptRenderer;
+import com.la3ypotato.toolrenter.rentalagreement.RentalAgreement;
+import com.la3ypotato.toolrenter.rentalagreement.ValidationResult;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class serves rental quotes and checkouts over HTTP using the HTTP server built into the JDK. Each request is
+ * validated and priced through a RentalAgreement, the same as the console and batch front ends.
+ *
+ * GET or POST /quote prices a rental and returns it as a JSON object. POST /checkout finalizes a rental and returns the
+ * printed rental agreement. The four rental inputs (toolCode, rentalDays, discount and checkoutDate) are read from the
+ * query string, or from a flat JSON object in the body of a POST. Invalid requests are answered with a 400 and a JSON
+ * error naming the field that failed. When the server is given an inventory, a checkout also reserves a unit of the
+ * tool, and is answered with a 409 if no unit is free for the rental days. When the server is given a ledger, a checkout
+ * is only answered once the rental has been committed to it. GET /metrics returns the rental metrics as text.
+ *
+ * Every request runs on its own thread. On a JVM with virtual threads (Java 21+) each request gets a virtual thread so
+ * thousands of terminals can be served at once; on older JVMs a cached pool of platform threads is used instead.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class QuoteServer {
+    // Endpoint paths.
+    public static final String QUOTE_PATH = "/quote";
+    public static final String CHECKOUT_PATH = "/checkout";
+    public static final String METRICS_PATH = "/metrics";
+    // Field names of the rental inputs.
+    private static final String TOOL_CODE_FIELD = "toolCode";
+    private static final String RENTAL_DAYS_FIELD = "rentalDays";
+    private static final String DISCOUNT_FIELD = "discount";
+    private static final String CHECKOUT_DATE_FIELD = "checkoutDate";
+    // Requests are small, so anything larger than this is rejected rather than read.
+    private static final int MAX_BODY_BYTES = 8192;
+    private static final int BACKLOG = 1024;
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String TEXT_CONTENT_TYPE = "text/plain; charset=utf-8";
+    // Class properties
+    private final PricingEngine pricingEngine;
+    private final ToolInventory inventory;
+    private final RentalLedger ledger;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final ReceiptRenderer jsonRenderer = new ReceiptRenderer(ReceiptFormat.JSON);
+    private final ReceiptRenderer textRenderer = new ReceiptRenderer(ReceiptFormat.TEXT);
+
+    /**
+     * Creates a server bound to the passed address. The server does not accept requests until it is started.
+     *
+     * @param address - the address to listen on. Port 0 picks a free port.
+     * @param pricingEngine - the engine rentals are priced with.
+     * @throws IOException - thrown if the address cannot be bound.
+     */
+    public QuoteServer(InetSocketAddress address, PricingEngine pricingEngine) throws IOException {
+        this(address, pricingEngine, null);
+    }
+
+    /**
+     * Creates a server bound to the passed address that reserves a unit from the passed inventory on every checkout.
+     *
+     * @param address - the address to listen on. Port 0 picks a free port.
+     * @param pricingEngine - the engine rentals are priced with.
+     * @param inventory - the units available for rent, or null to check out without reserving units.
+     * @throws IOException - thrown if the address cannot be bound.
+     */
+    public QuoteServer(InetSocketAddress address, PricingEngine pricingEngine, ToolInventory inventory)
+            throws IOException {
+        this(address, pricingEngine, inventory, null);
+    }
+
+    /**
+     * Creates a server bound to the passed address that reserves a unit from the passed inventory and commits the
+     * rental to the passed ledger on every checkout.
+     *
+     * @param address - the address to listen on. Port 0 picks a free port.
+     * @param pricingEngine - the engine rentals are priced with.
+     * @param inventory - the units available for rent, or null to check out without reserving units.
+     * @param ledger - the ledger checkouts are committed to, or null to check out without recording rentals.
+     * @throws IOException - thrown if the address cannot be bound.
+     */
+    public QuoteServer(InetSocketAddress address, PricingEngine pricingEngine, ToolInventory inventory,
+                       RentalLedger ledger) throws IOException {
+        this.pricingEngine = pricingEngine;
+        this.inventory = inventory;
+        this.ledger = ledger;
+        ExecutorService virtualExecutor = newVirtualThreadExecutor();
+        this.virtualThreads = virtualExecutor != null;
+        this.executor = virtualThreads ? virtualExecutor : newPlatformThreadExecutor();
+        this.server = HttpServer.create(address, BACKLOG);
+        server.setExecutor(executor);
+        server.createContext(QUOTE_PATH, new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                handleRental(exchange, false);
+            }
+        });
+        server.createContext(CHECKOUT_PATH, new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                handleRental(exchange, true);
+            }
+        });
+        server.createContext(METRICS_PATH, new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                handleMetrics(exchange);
+            }
+        });
+    }
+
+    /**
+     * This method starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * This method stops accepting requests, waits up to the passed number of seconds for in-flight requests to finish,
+     * and then stops the request threads.
+     *
+     * @param delaySeconds - the maximum number of seconds to wait for in-flight requests.
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(delaySeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Getter for the bound port.
+     *
+     * @return - the port the server is listening on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * This method reports whether requests run on virtual threads.
+     *
+     * @return - true if each request runs on a virtual thread, false if platform threads are used.
+     */
+    public boolean isUsingVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * This method prices the rental described by the request and writes the response. Quotes are answered with the
+     * JSON record and checkouts with the printed rental agreement.
+     *
+     * @param exchange - the HTTP request and response.
+     * @param checkout - whether the request is a checkout rather than a quote.
+     * @throws IOException - thrown if the request cannot be read or the response cannot be written.
+     */
+    private void handleRental(HttpExchange exchange, boolean checkout) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("POST") && (checkout || !method.equals("GET"))) {
+                exchange.getResponseHeaders().set("Allow", checkout ? "POST" : "GET, POST");
+                sendError(exchange, 405, "Method not allowed: " + method);
+                return;
+            }
+            RentalAgreement rentalAgreement;
+            try {
+                Map<String, String> fields = readFields(exchange);
+                rentalAgreement = new RentalAgreement(pricingEngine);
+                // Every invalid or missing field is reported at once, without throwing.
+                ValidationResult result = rentalAgreement.validateRequest(fields.get(TOOL_CODE_FIELD),
+                                                                          fields.get(RENTAL_DAYS_FIELD),
+                                                                          fields.get(DISCOUNT_FIELD),
+                                                                          fields.get(CHECKOUT_DATE_FIELD));
+                if (!result.isValid()) {
+                    sendError(exchange, 400, result.getMessage());
+                    return;
+                }
+                rentalAgreement.finalizeRentalAgreement();
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                sendError(exchange, 400, e.getMessage());
+                return;
+            }
+
+            Reservation reservation = null;
+            if (checkout && inventory != null) {
+                try {
+                    reservation = inventory.reserve(rentalAgreement.getQuote());
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    sendError(exchange, 409, e.getMessage());
+                    return;
+                }
+            }
+            if (checkout && ledger != null) {
+                try {
+                    ledger.commit(rentalAgreement.getQuote());
+                } catch (IOException | RuntimeException e) {
+                    // The rental was not recorded, so the unit it holds is given back.
+                    if (reservation != null) {
+                        inventory.release(reservation);
+                    }
+                    sendError(exchange, 500, "Rental could not be recorded: " + e.getMessage());
+                    return;
+                }
+            }
+
+            StringBuilder sb = new StringBuilder(512);
+            if (checkout) {
+                textRenderer.render(rentalAgreement.getQuote(), sb).append('\n');
+                send(exchange, 200, TEXT_CONTENT_TYPE, sb);
+            } else {
+                jsonRenderer.render(rentalAgreement.getQuote(), sb);
+                send(exchange, 200, JSON_CONTENT_TYPE, sb);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * This method writes the rental metrics as text.
+     *
+     * @param exchange - the HTTP request and response.
+     * @throws IOException - thrown if the response cannot be written.
+     */
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                sendError(exchange, 405, "Method not allowed: " + exchange.getRequestMethod());
+                return;
+            }
+            send(exchange, 200, TEXT_CONTENT_TYPE, RentalMetrics.getInstance().writeTo(new StringBuilder(1024)));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * This method reads the rental inputs from the request. The query string is always read, and a POST body, if
+     * present, is read as a flat JSON object whose fields take precedence.
+     *
+     * @param exchange - the HTTP request.
+     * @return - the request fields.
+     * @throws IOException - thrown if the body cannot be read.
+     * @throws IllegalArgumentException - thrown if the query string or body is malformed.
+     */
+    private Map<String, String> readFields(HttpExchange exchange) throws IOException, IllegalArgumentException {
+        Map<String, String> fields = parseQuery(exchange.getRequestURI().getRawQuery());
+        if (exchange.getRequestMethod().equals("POST")) {
+            String body = readBody(exchange.getRequestBody());
+            if (!body.trim().isEmpty()) {
+                fields.putAll(FlatJson.parseObject(body));
+            }
+        }
+
+        return fields;
+    }
+
+    /**
+     * This method parses a URL encoded query string.
+     *
+     * @param rawQuery - the raw query string, or null if there is none.
+     * @return - the query parameters.
+     * @throws IllegalArgumentException - thrown if a parameter is not correctly encoded.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) throws IllegalArgumentException {
+        Map<String, String> fields = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return fields;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            if (parameter.isEmpty()) {
+                continue;
+            }
+            int equals = parameter.indexOf('=');
+            String name = equals < 0 ? parameter : parameter.substring(0, equals);
+            String value = equals < 0 ? "" : parameter.substring(equals + 1);
+            fields.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                       URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+
+        return fields;
+    }
+
+    /**
+     * This method reads the request body as UTF-8.
+     *
+     * @param in - the request body.
+     * @return - the body text.
+     * @throws IOException - thrown if the body cannot be read.
+     * @throws IllegalArgumentException - thrown if the body is too large.
+     */
+    private static String readBody(InputStream in) throws IOException, IllegalArgumentException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            body.write(buffer, 0, read);
+            if (body.size() > MAX_BODY_BYTES) {
+                throw new IllegalArgumentException("Request body is larger than " + MAX_BODY_BYTES + " bytes");
+            }
+        }
+
+        return body.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * This method writes an error response as a JSON object with an error field.
+     *
+     * @param exchange - the HTTP response.
+     * @param status - the HTTP status code.
+     * @param message - the error message.
+     * @throws IOException - thrown if the response cannot be written.
+     */
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder sb = new StringBuilder("{\"error\":\"");
+        String text = message == null ? "" : message;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(' ');
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append("\"}");
+        send(exchange, status, JSON_CONTENT_TYPE, sb);
+    }
+
+    /**
+     * This method writes a complete response.
+     *
+     * @param exchange - the HTTP response.
+     * @param status - the HTTP status code.
+     * @param contentType - the content type of the body.
+     * @param body - the response body.
+     * @throws IOException - thrown if the response cannot be written.
+     */
+    private static void send(HttpExchange exchange, int status, String contentType, CharSequence body)
+            throws IOException {
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * This method creates an executor that starts a new virtual thread for each task. Virtual threads were added in
+     * Java 21, so the factory method is looked up at runtime to keep the application running on older JVMs.
+     *
+     * @return - the virtual thread executor, or null if this JVM does not support virtual threads.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * This method creates a cached pool of daemon platform threads, used when virtual threads are not available.
+     *
+     * @return - the platform thread executor.
+     */
+    private static ExecutorService newPlatformThreadExecutor() {
+        final AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newCachedThreadPool(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, "quote-http-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+}
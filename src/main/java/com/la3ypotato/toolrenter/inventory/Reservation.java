@@ -0,0 +1,75 @@
+package com.la3ypotato.toolrenter.inventory;
+
+import java.time.LocalDate;
+
+/**
+ * A reservation holds one unit of a tool from its checkout date until its due date. The unit is out from the checkout
+ * date and is back on the due date, so it can be rented again starting on the due date.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class Reservation {
+    // Class properties
+    private final String toolCode;
+    private final int unit;
+    private final LocalDate checkoutDate;
+    private final LocalDate dueDate;
+
+    /**
+     * Creates a reservation.
+     *
+     * @param toolCode - the tool code of the reserved tool.
+     * @param unit - the index of the reserved unit.
+     * @param checkoutDate - the first day the unit is out.
+     * @param dueDate - the day the unit is back.
+     */
+    Reservation(String toolCode, int unit, LocalDate checkoutDate, LocalDate dueDate) {
+        this.toolCode = toolCode;
+        this.unit = unit;
+        this.checkoutDate = checkoutDate;
+        this.dueDate = dueDate;
+    }
+
+    /**
+     * Getter for toolCode.
+     *
+     * @return - the tool code of the reserved tool.
+     */
+    public String getToolCode() {
+        return toolCode;
+    }
+
+    /**
+     * Getter for unit.
+     *
+     * @return - the index of the reserved unit, starting at 0.
+     */
+    public int getUnit() {
+        return unit;
+    }
+
+    /**
+     * Getter for checkoutDate.
+     *
+     * @return - the first day the unit is out.
+     */
+    public LocalDate getCheckoutDate() {
+        return checkoutDate;
+    }
+
+    /**
+     * Getter for dueDate.
+     *
+     * @return - the day the unit is back.
+     */
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    @Override
+    public String toString() {
+        return toolCode + " unit " + (unit + 1) + " from " + checkoutDate + " to " + dueDate;
+    }
+}
@@ -0,0 +1,269 @@
+package com.la3ypotato.toolrenter.inventory;
+
+import com.la3ypotato.toolrenter.pricing.Quote;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * This class tracks the individual units of each tool and the days each unit is rented out, so that a unit is never
+ * rented to two customers for overlapping days.
+ *
+ * The bookings of a unit are kept as an immutable, sorted array of [checkout day, due day) pairs (as epoch days). A
+ * reservation reads a unit's array, checks the requested days are free, and publishes a copy with the new booking using
+ * a single compare-and-set. If another clerk booked the same unit in between, the compare-and-set fails and the check
+ * is repeated against the new bookings, so no locks are held and a double booking is impossible. Every tool code has
+ * its own units, so checkouts of different tools never touch the same memory.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class ToolInventory {
+    private static final long[] NO_BOOKINGS = new long[0];
+    // Class properties
+    private final ConcurrentMap<String, AtomicReferenceArray<long[]>> unitsByToolCode = new ConcurrentHashMap<>();
+
+    // Empty default constructor.
+    public ToolInventory() {
+
+    }
+
+    /**
+     * Creates an inventory holding the passed number of units of each tool.
+     *
+     * @param unitCounts - Map of tool codes to the number of units in stock.
+     * @throws IllegalArgumentException - thrown if a unit count is less than 1.
+     */
+    public ToolInventory(Map<String, Integer> unitCounts) throws IllegalArgumentException {
+        for (Map.Entry<String, Integer> unitCount : unitCounts.entrySet()) {
+            addTool(unitCount.getKey(), unitCount.getValue());
+        }
+    }
+
+    /**
+     * This method stocks a tool with the passed number of units, none of which are rented.
+     *
+     * @param toolCode - the tool code.
+     * @param units - the number of units in stock.
+     * @throws IllegalArgumentException - thrown if the unit count is less than 1 or the tool is already stocked.
+     */
+    public void addTool(String toolCode, int units) throws IllegalArgumentException {
+        if (units < 1) {
+            throw new IllegalArgumentException("Unit count for " + toolCode + " must be greater than 0.");
+        }
+        AtomicReferenceArray<long[]> bookings = new AtomicReferenceArray<>(units);
+        for (int unit = 0; unit < units; unit++) {
+            bookings.set(unit, NO_BOOKINGS);
+        }
+        if (unitsByToolCode.putIfAbsent(toolCode.toUpperCase(), bookings) != null) {
+            throw new IllegalArgumentException("Tool is already stocked: " + toolCode);
+        }
+    }
+
+    /**
+     * This method reserves a unit for a priced rental, from its checkout date until its due date.
+     *
+     * @param quote - the priced rental.
+     * @return - the reservation.
+     * @throws IllegalArgumentException - thrown if the tool is not stocked.
+     * @throws IllegalStateException - thrown if every unit is rented on at least one of the days.
+     */
+    public Reservation reserve(Quote quote) throws IllegalArgumentException, IllegalStateException {
+        return reserve(quote.getTool().getToolCode(), quote.getCheckoutDate(), quote.getDueDate());
+    }
+
+    /**
+     * This method reserves the first unit of the tool that is free from the checkout date until the due date.
+     *
+     * @param toolCode - the tool code.
+     * @param checkoutDate - the first day the unit is out.
+     * @param dueDate - the day the unit is back.
+     * @return - the reservation.
+     * @throws IllegalArgumentException - thrown if the tool is not stocked, or the due date is not after the checkout
+     * date.
+     * @throws IllegalStateException - thrown if every unit is rented on at least one of the days.
+     */
+    public Reservation reserve(String toolCode, LocalDate checkoutDate, LocalDate dueDate)
+            throws IllegalArgumentException, IllegalStateException {
+        AtomicReferenceArray<long[]> units = findUnits(toolCode);
+        long start = checkoutDate.toEpochDay();
+        long end = dueDate.toEpochDay();
+        if (end <= start) {
+            throw new IllegalArgumentException("Due date must be after the checkout date.");
+        }
+        for (int unit = 0; unit < units.length(); unit++) {
+            while (true) {
+                long[] bookings = units.get(unit);
+                int index = insertionIndex(bookings, start, end);
+                if (index < 0) {
+                    // This unit is rented on one of the days; try the next one.
+                    break;
+                }
+                long[] updated = new long[bookings.length + 2];
+                System.arraycopy(bookings, 0, updated, 0, index);
+                updated[index] = start;
+                updated[index + 1] = end;
+                System.arraycopy(bookings, index, updated, index + 2, bookings.length - index);
+                if (units.compareAndSet(unit, bookings, updated)) {
+                    return new Reservation(toolCode.toUpperCase(), unit, checkoutDate, dueDate);
+                }
+                // Another reservation changed this unit first; check again against its bookings.
+            }
+        }
+
+        throw new IllegalStateException("No " + toolCode.toUpperCase() + " units are available from " + checkoutDate +
+                                        " to " + dueDate);
+    }
+
+    /**
+     * This method releases a reservation, so its unit can be rented on those days again.
+     *
+     * @param reservation - the reservation to release.
+     * @return - true if the reservation was released, false if it had already been released.
+     * @throws IllegalArgumentException - thrown if the tool is not stocked.
+     */
+    public boolean release(Reservation reservation) throws IllegalArgumentException {
+        AtomicReferenceArray<long[]> units = findUnits(reservation.getToolCode());
+        long start = reservation.getCheckoutDate().toEpochDay();
+        long end = reservation.getDueDate().toEpochDay();
+        int unit = reservation.getUnit();
+        while (true) {
+            long[] bookings = units.get(unit);
+            int index = find(bookings, start);
+            if (index < 0 || bookings[index + 1] != end) {
+                return false;
+            }
+            long[] updated = bookings.length == 2 ? NO_BOOKINGS : new long[bookings.length - 2];
+            System.arraycopy(bookings, 0, updated, 0, index);
+            System.arraycopy(bookings, index + 2, updated, index, bookings.length - index - 2);
+            if (units.compareAndSet(unit, bookings, updated)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * This method counts the units of a tool that are free for every day from the checkout date until the due date.
+     *
+     * @param toolCode - the tool code.
+     * @param checkoutDate - the first day.
+     * @param dueDate - the day after the last day.
+     * @return - the number of free units.
+     * @throws IllegalArgumentException - thrown if the tool is not stocked.
+     */
+    public int getAvailableUnits(String toolCode, LocalDate checkoutDate, LocalDate dueDate)
+            throws IllegalArgumentException {
+        AtomicReferenceArray<long[]> units = findUnits(toolCode);
+        long start = checkoutDate.toEpochDay();
+        long end = dueDate.toEpochDay();
+        int available = 0;
+        for (int unit = 0; unit < units.length(); unit++) {
+            if (insertionIndex(units.get(unit), start, end) >= 0) {
+                available++;
+            }
+        }
+
+        return available;
+    }
+
+    /**
+     * This method returns the number of units of a tool in stock, rented or not.
+     *
+     * @param toolCode - the tool code.
+     * @return - the number of units.
+     * @throws IllegalArgumentException - thrown if the tool is not stocked.
+     */
+    public int getUnitCount(String toolCode) throws IllegalArgumentException {
+        return findUnits(toolCode).length();
+    }
+
+    /**
+     * This method returns the bookings of one unit, for auditing.
+     *
+     * @param toolCode - the tool code.
+     * @param unit - the index of the unit.
+     * @return - a copy of the unit's [checkout day, due day) pairs, as epoch days, sorted by checkout day.
+     * @throws IllegalArgumentException - thrown if the tool is not stocked.
+     */
+    public long[] getBookings(String toolCode, int unit) throws IllegalArgumentException {
+        long[] bookings = findUnits(toolCode).get(unit);
+        return Arrays.copyOf(bookings, bookings.length);
+    }
+
+    /**
+     * This method looks up the units of a tool.
+     *
+     * @param toolCode - the tool code.
+     * @return - the bookings of each unit.
+     * @throws IllegalArgumentException - thrown if the tool is not stocked.
+     */
+    private AtomicReferenceArray<long[]> findUnits(String toolCode) throws IllegalArgumentException {
+        AtomicReferenceArray<long[]> units = toolCode == null ? null : unitsByToolCode.get(toolCode.toUpperCase());
+        if (units == null) {
+            throw new IllegalArgumentException("Tool is not stocked: " + toolCode);
+        }
+
+        return units;
+    }
+
+    /**
+     * This method finds where a booking would go in a unit's sorted bookings, if it overlaps none of them.
+     *
+     * @param bookings - the unit's [checkout day, due day) pairs, sorted by checkout day.
+     * @param start - the checkout day of the new booking.
+     * @param end - the due day of the new booking.
+     * @return - the array index to insert the new booking at, or -1 if it overlaps an existing booking.
+     */
+    private static int insertionIndex(long[] bookings, long start, long end) {
+        // Binary search over the pairs for the first booking that starts at or after the new one.
+        int low = 0;
+        int high = bookings.length / 2;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bookings[mid * 2] < start) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int index = low * 2;
+        // Only the bookings on either side can overlap, since bookings on a unit never overlap each other.
+        if (index > 0 && bookings[index - 1] > start) {
+            return -1;
+        } else if (index < bookings.length && bookings[index] < end) {
+            return -1;
+        }
+
+        return index;
+    }
+
+    /**
+     * This method finds the booking that starts on the passed day.
+     *
+     * @param bookings - the unit's [checkout day, due day) pairs, sorted by checkout day.
+     * @param start - the checkout day.
+     * @return - the array index of the booking, or -1 if there is none.
+     */
+    private static int find(long[] bookings, long start) {
+        int low = 0;
+        int high = bookings.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midStart = bookings[mid * 2];
+            if (midStart < start) {
+                low = mid + 1;
+            } else if (midStart > start) {
+                high = mid - 1;
+            } else {
+                return mid * 2;
+            }
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,45 @@
+package com.la3ypotato.toolrenter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This Java Flight Recorder event times loading tools from a CSV stream, a catalog file or a binary snapshot.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+@Name("com.la3ypotato.toolrenter.CatalogLoad")
+@Label("Catalog Load")
+@Description("Loading the tools available for rent")
+@Category({"Tool Renter", "Catalog"})
+public class CatalogLoadEvent extends Event {
+    // Class properties
+    @Label("Source")
+    private String source;
+    @Label("Tools")
+    private int tools;
+    @Label("Rejected Lines")
+    private long rejectedLines;
+
+    /**
+     * This method ends the event and commits it if it is being recorded.
+     *
+     * @param source - where the tools were loaded from (ex: /tools.csv).
+     * @param tools - the number of tools loaded.
+     * @param rejectedLines - the number of malformed lines that were skipped.
+     */
+    public void complete(String source, int tools, long rejectedLines) {
+        end();
+        if (shouldCommit()) {
+            this.source = source;
+            this.tools = tools;
+            this.rejectedLines = rejectedLines;
+            commit();
+        }
+    }
+}
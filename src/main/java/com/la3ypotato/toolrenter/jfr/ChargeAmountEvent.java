@@ -0,0 +1,55 @@
+package com.la3ypotato.toolrenter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This Java Flight Recorder event times calculating the pre-discount charge, discount amount and final charge of a
+ * rental. The exact field tells whether the whole cent calculation was used or the charge was large enough to fall back
+ * to BigDecimal.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+@Name("com.la3ypotato.toolrenter.ChargeAmount")
+@Label("Charge Amount")
+@Description("Calculating the pre-discount charge, discount amount and final charge of a rental")
+@Category({"Tool Renter", "Pricing"})
+public class ChargeAmountEvent extends Event {
+    // Class properties
+    @Label("Tool Code")
+    private String toolCode;
+    @Label("Charge Days")
+    private int chargeDays;
+    @Label("Discount Percent")
+    private int discount;
+    @Label("Final Cents")
+    private long finalCents;
+    @Label("Whole Cent Calculation")
+    private boolean exact;
+
+    /**
+     * This method ends the event and commits it if it is being recorded.
+     *
+     * @param toolCode - the tool being rented.
+     * @param chargeDays - the number of charge days.
+     * @param discount - the discount percent.
+     * @param finalCents - the final charge in cents.
+     * @param exact - whether the charge was calculated in whole cents rather than with BigDecimal.
+     */
+    public void complete(String toolCode, int chargeDays, int discount, long finalCents, boolean exact) {
+        end();
+        if (shouldCommit()) {
+            this.toolCode = toolCode;
+            this.chargeDays = chargeDays;
+            this.discount = discount;
+            this.finalCents = finalCents;
+            this.exact = exact;
+            commit();
+        }
+    }
+}
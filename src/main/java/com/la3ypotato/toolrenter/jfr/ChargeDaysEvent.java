@@ -0,0 +1,45 @@
+package com.la3ypotato.toolrenter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This Java Flight Recorder event times counting the charge days of a rental.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+@Name("com.la3ypotato.toolrenter.ChargeDays")
+@Label("Charge Days")
+@Description("Counting the weekdays, weekend days and holidays charged for a rental")
+@Category({"Tool Renter", "Pricing"})
+public class ChargeDaysEvent extends Event {
+    // Class properties
+    @Label("Tool Code")
+    private String toolCode;
+    @Label("Rental Days")
+    private int rentalDays;
+    @Label("Charge Days")
+    private int chargeDays;
+
+    /**
+     * This method ends the event and commits it if it is being recorded.
+     *
+     * @param toolCode - the tool being rented.
+     * @param rentalDays - the number of rental days.
+     * @param chargeDays - the number of charge days counted.
+     */
+    public void complete(String toolCode, int rentalDays, int chargeDays) {
+        end();
+        if (shouldCommit()) {
+            this.toolCode = toolCode;
+            this.rentalDays = rentalDays;
+            this.chargeDays = chargeDays;
+            commit();
+        }
+    }
+}
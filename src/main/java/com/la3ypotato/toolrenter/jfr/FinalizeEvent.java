@@ -0,0 +1,50 @@
+package com.la3ypotato.toolrenter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This Java Flight Recorder event times finalizing a rental agreement, which includes the ChargeDays and ChargeAmount
+ * events of the quote unless it was served from the quote cache.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+@Name("com.la3ypotato.toolrenter.Finalize")
+@Label("Finalize Rental Agreement")
+@Description("Pricing a complete rental agreement")
+@Category({"Tool Renter", "Rental Agreement"})
+public class FinalizeEvent extends Event {
+    // Class properties
+    @Label("Tool Code")
+    private String toolCode;
+    @Label("Rental Days")
+    private int rentalDays;
+    @Label("Charge Days")
+    private int chargeDays;
+    @Label("Final Cents")
+    private long finalCents;
+
+    /**
+     * This method ends the event and commits it if it is being recorded.
+     *
+     * @param toolCode - the tool being rented.
+     * @param rentalDays - the number of rental days.
+     * @param chargeDays - the number of charge days.
+     * @param finalCents - the final charge in cents.
+     */
+    public void complete(String toolCode, int rentalDays, int chargeDays, long finalCents) {
+        end();
+        if (shouldCommit()) {
+            this.toolCode = toolCode;
+            this.rentalDays = rentalDays;
+            this.chargeDays = chargeDays;
+            this.finalCents = finalCents;
+            commit();
+        }
+    }
+}
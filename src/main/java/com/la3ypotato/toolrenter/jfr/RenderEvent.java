@@ -0,0 +1,49 @@
+package com.la3ypotato.toolrenter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This Java Flight Recorder event times rendering a finalized rental agreement as text.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+@Name("com.la3ypotato.toolrenter.Render")
+@Label("Render Rental Agreement")
+@Description("Rendering a rental agreement as printable text")
+@Category({"Tool Renter", "Rental Agreement"})
+public class RenderEvent extends Event {
+    // Class properties
+    @Label("Tool Code")
+    private String toolCode;
+    @Label("Rental Days")
+    private int rentalDays;
+    @Label("Charge Days")
+    private int chargeDays;
+    @Label("Characters")
+    private int characters;
+
+    /**
+     * This method ends the event and commits it if it is being recorded.
+     *
+     * @param toolCode - the tool being rented.
+     * @param rentalDays - the number of rental days.
+     * @param chargeDays - the number of charge days.
+     * @param characters - the length of the rendered text.
+     */
+    public void complete(String toolCode, int rentalDays, int chargeDays, int characters) {
+        end();
+        if (shouldCommit()) {
+            this.toolCode = toolCode;
+            this.rentalDays = rentalDays;
+            this.chargeDays = chargeDays;
+            this.characters = characters;
+            commit();
+        }
+    }
+}
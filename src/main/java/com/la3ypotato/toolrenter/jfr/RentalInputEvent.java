@@ -0,0 +1,46 @@
+package com.la3ypotato.toolrenter.jfr;
+
+import com.la3ypotato.toolrenter.metrics.ValidationField;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This Java Flight Recorder event times the parsing and validation of one rental input by a RentalAgreement setter.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+@Name("com.la3ypotato.toolrenter.RentalInput")
+@Label("Rental Input")
+@Description("Parsing and validation of a rental agreement input")
+@Category({"Tool Renter", "Rental Agreement"})
+public class RentalInputEvent extends Event {
+    // Class properties
+    @Label("Field")
+    private String field;
+    @Label("Input")
+    private String input;
+    @Label("Accepted")
+    private boolean accepted;
+
+    /**
+     * This method ends the event and commits it if it is being recorded.
+     *
+     * @param field - the input that was set.
+     * @param input - the text that was parsed.
+     * @param accepted - whether the input passed validation.
+     */
+    public void complete(ValidationField field, String input, boolean accepted) {
+        end();
+        if (shouldCommit()) {
+            this.field = field.getFieldName();
+            this.input = input;
+            this.accepted = accepted;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.la3ypotato.toolrenter.ledger;
+
+import com.la3ypotato.toolrenter.pricing.Quote;
+
+import java.time.LocalDate;
+
+/**
+ * A ledger entry is one finalized rental as it was committed to the ledger. It holds the rental inputs and the
+ * calculated charges, but not the tool's description, which can change in the catalog after the rental.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class LedgerEntry {
+    // Class properties
+    private final long sequence;
+    private final String toolCode;
+    private final int rentalDays;
+    private final int discount;
+    private final LocalDate checkoutDate;
+    private final LocalDate dueDate;
+    private final int chargeDays;
+    private final long preDiscountCents;
+    private final long discountCents;
+    private final long finalCents;
+
+    /**
+     * Creates a ledger entry for a finalized rental.
+     *
+     * @param sequence - the position of the entry in the ledger, starting at 1.
+     * @param quote - the finalized rental.
+     */
+    LedgerEntry(long sequence, Quote quote) {
+        this(sequence, quote.getTool().getToolCode(), quote.getRentalDays(), quote.getDiscount(),
+             quote.getCheckoutDate(), quote.getDueDate(), quote.getChargeDays(), quote.getPreDiscountCents(),
+             quote.getDiscountCents(), quote.getFinalCents());
+    }
+
+    /**
+     * Creates a ledger entry from its recorded values.
+     *
+     * @param sequence - the position of the entry in the ledger, starting at 1.
+     * @param toolCode - the tool code of the rented tool.
+     * @param rentalDays - number of rental days.
+     * @param discount - discount percent.
+     * @param checkoutDate - checkout date.
+     * @param dueDate - due date.
+     * @param chargeDays - number of charge days.
+     * @param preDiscountCents - charge before the discount in cents.
+     * @param discountCents - discount amount in cents.
+     * @param finalCents - final charge in cents.
+     */
+    LedgerEntry(long sequence, String toolCode, int rentalDays, int discount, LocalDate checkoutDate,
+                LocalDate dueDate, int chargeDays, long preDiscountCents, long discountCents, long finalCents) {
+        this.sequence = sequence;
+        this.toolCode = toolCode;
+        this.rentalDays = rentalDays;
+        this.discount = discount;
+        this.checkoutDate = checkoutDate;
+        this.dueDate = dueDate;
+        this.chargeDays = chargeDays;
+        this.preDiscountCents = preDiscountCents;
+        this.discountCents = discountCents;
+        this.finalCents = finalCents;
+    }
+
+    /**
+     * Getter for sequence.
+     *
+     * @return - the position of the entry in the ledger, starting at 1.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Getter for toolCode.
+     *
+     * @return - the tool code of the rented tool.
+     */
+    public String getToolCode() {
+        return toolCode;
+    }
+
+    /**
+     * Getter for rentalDays.
+     *
+     * @return - number of rental days.
+     */
+    public int getRentalDays() {
+        return rentalDays;
+    }
+
+    /**
+     * Getter for discount.
+     *
+     * @return - discount percent.
+     */
+    public int getDiscount() {
+        return discount;
+    }
+
+    /**
+     * Getter for checkoutDate.
+     *
+     * @return - checkout date.
+     */
+    public LocalDate getCheckoutDate() {
+        return checkoutDate;
+    }
+
+    /**
+     * Getter for dueDate.
+     *
+     * @return - due date.
+     */
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    /**
+     * Getter for chargeDays.
+     *
+     * @return - number of charge days.
+     */
+    public int getChargeDays() {
+        return chargeDays;
+    }
+
+    /**
+     * Getter for preDiscountCents.
+     *
+     * @return - charge before the discount in cents.
+     */
+    public long getPreDiscountCents() {
+        return preDiscountCents;
+    }
+
+    /**
+     * Getter for discountCents.
+     *
+     * @return - discount amount in cents.
+     */
+    public long getDiscountCents() {
+        return discountCents;
+    }
+
+    /**
+     * Getter for finalCents.
+     *
+     * @return - final charge in cents.
+     */
+    public long getFinalCents() {
+        return finalCents;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + sequence + " " + toolCode + " " + rentalDays + " days from " + checkoutDate + " to " + dueDate +
+               ", " + finalCents + " cents";
+    }
+}
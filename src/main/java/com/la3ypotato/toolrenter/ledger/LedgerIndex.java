@@ -0,0 +1,710 @@
+package com.la3ypotato.toolrenter.ledger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * This class holds persistent secondary indexes over a rental ledger, so rentals can be found by due date, checkout
+ * date and tool without reading the whole journal. It is opened and kept up to date by {@link RentalLedger}.
+ *
+ * Each index is a set of chains. A hash table of chain heads maps a key (a due day, a checkout day, or a tool, span
+ * class and due block) to the newest entry with that key, and every entry links to the previous entry with the same
+ * key. Adding an entry therefore only writes its own row and swaps three heads, and a query walks only the chains of
+ * the days it asks about, so neither depends on how long the ledger is. Queries collect the journal offsets of the
+ * entries on their chains under the read lock, and read the entries back from the journal after releasing it, so a
+ * query never holds up the commits that are indexing new entries for longer than its walk over memory.
+ *
+ * Open rentals of a tool are found by the length of the rental as well as its due day. A rental whose span, the days
+ * from checkout to due, is at least 2^c and less than 2^(c + 1) is in span class c, and its tool chain is keyed by its
+ * due day divided by 2^c. A rental of class c that is out on a day is due within 2^(c + 1) days of it, which is at
+ * most three blocks of its class, so a query walks at most three chains for each span class the tool has used, however
+ * long its rentals are.
+ *
+ * The index is two memory-mapped files in its directory:
+ *
+ *   rows.idx  - 4 longs per entry, at the entry's sequence: journal offset, then the previous entry with the same
+ *               checkout day, due day, and tool, span class and due block. Row 0 holds the magic number and version,
+ *               the last indexed sequence, the journal offset after it and the number of chain heads.
+ *   heads.idx - an open addressing hash table of (key, value) pairs, doubled when it is half full. Besides the chain
+ *               heads it holds a bitmask of the span classes each tool has used.
+ *
+ * The files are derived data and are not forced to disk on every append. An index that does not match its journal
+ * when it is opened, for example after the journal lost a torn record, is rebuilt from the journal, and it can be
+ * rebuilt on demand with {@link RentalLedger#rebuildIndex()}.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class LedgerIndex {
+    // The ASCII characters 'TRLI' (Tool Renter Ledger Index) and the format version.
+    private static final long MAGIC_VERSION = (0x54524c49L << 32) | 2;
+    private static final String ROWS_FILE = "rows.idx";
+    private static final String HEADS_FILE = "heads.idx";
+    private static final int ROW_LONGS = 4;
+    private static final int CHECKOUT_LINK = 1;
+    private static final int DUE_LINK = 2;
+    private static final int TOOL_DUE_LINK = 3;
+    private static final long INITIAL_HEADS = 1024;
+    // Keys are a 4 bit kind, then for tool keys a 20 bit hash of the tool code, then a 40 bit epoch day or due block.
+    private static final long CHECKOUT_KEY = 1L << 60;
+    private static final long DUE_KEY = 2L << 60;
+    private static final long TOOL_DUE_KEY = 3L << 60;
+    private static final long TOOL_SPAN_CLASSES_KEY = 4L << 60;
+    private static final long DAY_MASK = (1L << 40) - 1;
+    private static final Comparator<LedgerEntry> BY_SEQUENCE = new Comparator<LedgerEntry>() {
+        @Override
+        public int compare(LedgerEntry first, LedgerEntry second) {
+            return Long.compare(first.getSequence(), second.getSequence());
+        }
+    };
+    // Class properties
+    private final Path directory;
+    private final FileChannel journal;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Everything below is guarded by the lock.
+    private MappedLongArray rows;
+    private MappedLongArray heads;
+    private long headCapacity;
+    private long headCount;
+    private long indexedSequence;
+    private boolean stale;
+    private boolean closed;
+
+    /**
+     * Creates an index over opened files.
+     *
+     * @param directory - the directory holding the index files.
+     * @param journal - the ledger journal, opened for reading.
+     * @param rows - the rows file.
+     * @param heads - the heads file.
+     */
+    private LedgerIndex(Path directory, FileChannel journal, MappedLongArray rows, MappedLongArray heads) {
+        this.directory = directory;
+        this.journal = journal;
+        this.rows = rows;
+        this.heads = heads;
+        this.headCapacity = Long.highestOneBit(heads.length() / 2);
+        this.headCount = rows.get(3);
+        this.indexedSequence = rows.get(1);
+    }
+
+    /**
+     * This method opens the index in the passed directory and brings it up to date with the journal. The ledger must
+     * not write to the journal until this returns.
+     *
+     * @param directory - the directory holding the index files.
+     * @param journalFile - the ledger journal.
+     * @param journalEnd - the offset just past the last durable record.
+     * @param lastSequence - the sequence of the last durable record.
+     * @return - the opened index.
+     * @throws IOException - thrown if the index cannot be read or written.
+     */
+    static LedgerIndex open(Path directory, Path journalFile, long journalEnd, long lastSequence) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel journal = FileChannel.open(journalFile, StandardOpenOption.READ);
+        MappedLongArray rows = null;
+        MappedLongArray heads = null;
+        try {
+            rows = MappedLongArray.open(directory.resolve(ROWS_FILE), ROW_LONGS * INITIAL_HEADS);
+            heads = MappedLongArray.open(directory.resolve(HEADS_FILE), 2 * INITIAL_HEADS);
+            LedgerIndex index = new LedgerIndex(directory, journal, rows, heads);
+            index.catchUp(journalEnd, lastSequence);
+
+            return index;
+        } catch (IOException | RuntimeException e) {
+            if (heads != null) {
+                heads.close();
+            }
+            if (rows != null) {
+                rows.close();
+            }
+            journal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * This method finds every rental due on the passed date.
+     *
+     * @param dueDate - the due date.
+     * @return - the rentals, in ledger order.
+     * @throws IllegalStateException - thrown if the index is closed or must be rebuilt.
+     */
+    public List<LedgerEntry> findDueOn(LocalDate dueDate) throws IllegalStateException {
+        ReadContext context = new ReadContext();
+        lock.readLock().lock();
+        try {
+            checkReadable();
+            long day = dueDate.toEpochDay();
+            for (long sequence = getHead(DUE_KEY | (day & DAY_MASK)); sequence != 0;
+                 sequence = rows.get(sequence * ROW_LONGS + DUE_LINK)) {
+                context.collect(sequence);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (LedgerEntry entry : context.readCollected()) {
+            if (entry.getDueDate().equals(dueDate)) {
+                context.found.add(entry);
+            }
+        }
+
+        return context.sorted();
+    }
+
+    /**
+     * This method finds every rental checked out between two dates, including both.
+     *
+     * @param from - the first checkout date.
+     * @param to - the last checkout date.
+     * @return - the rentals, in ledger order.
+     * @throws IllegalArgumentException - thrown if the first date is after the last date.
+     * @throws IllegalStateException - thrown if the index is closed or must be rebuilt.
+     */
+    public List<LedgerEntry> findCheckedOutBetween(LocalDate from, LocalDate to)
+            throws IllegalArgumentException, IllegalStateException {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("The first checkout date must not be after the last checkout date!");
+        }
+        ReadContext context = new ReadContext();
+        lock.readLock().lock();
+        try {
+            checkReadable();
+            long firstDay = from.toEpochDay();
+            long lastDay = to.toEpochDay();
+            for (long day = firstDay; day <= lastDay; day++) {
+                for (long sequence = getHead(CHECKOUT_KEY | (day & DAY_MASK)); sequence != 0;
+                     sequence = rows.get(sequence * ROW_LONGS + CHECKOUT_LINK)) {
+                    context.collect(sequence);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (LedgerEntry entry : context.readCollected()) {
+            if (!entry.getCheckoutDate().isBefore(from) && !entry.getCheckoutDate().isAfter(to)) {
+                context.found.add(entry);
+            }
+        }
+
+        return context.sorted();
+    }
+
+    /**
+     * This method finds every rental of a tool that is out on the passed date, that is checked out on or before the
+     * date and due after it. For each span class the tool has used, only the due blocks that a rental of that class
+     * could be due in are walked, so the cost does not depend on how long the tool's rentals are.
+     *
+     * @param toolCode - the tool code.
+     * @param date - the date.
+     * @return - the rentals, in ledger order.
+     * @throws IllegalStateException - thrown if the index is closed or must be rebuilt.
+     */
+    public List<LedgerEntry> findOpenRentals(String toolCode, LocalDate date) throws IllegalStateException {
+        ReadContext context = new ReadContext();
+        long toolHash = toolHash(toolCode);
+        long day = date.toEpochDay();
+        lock.readLock().lock();
+        try {
+            checkReadable();
+            long spanClasses = getHead(TOOL_SPAN_CLASSES_KEY | toolHash);
+            for (int spanClass = 0; spanClass < Long.SIZE; spanClass++) {
+                if ((spanClasses & (1L << spanClass)) == 0) {
+                    continue;
+                }
+                // A rental of this class that is out on the day is due after it and within 2^(class + 1) days of it.
+                long lastBlock = (day + (2L << spanClass) - 1) >> spanClass;
+                for (long block = (day + 1) >> spanClass; block <= lastBlock; block++) {
+                    for (long sequence = getHead(toolDueKey(toolHash, spanClass, block)); sequence != 0;
+                         sequence = rows.get(sequence * ROW_LONGS + TOOL_DUE_LINK)) {
+                        context.collect(sequence);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (LedgerEntry entry : context.readCollected()) {
+            if (entry.getCheckoutDate().toEpochDay() <= day && entry.getDueDate().toEpochDay() > day &&
+                entry.getToolCode().equals(toolCode)) {
+                context.found.add(entry);
+            }
+        }
+
+        return context.sorted();
+    }
+
+    /**
+     * Getter for the number of indexed entries.
+     *
+     * @return - the sequence of the last indexed entry.
+     */
+    public long getIndexedCount() {
+        lock.readLock().lock();
+        try {
+            return indexedSequence;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * This method checks whether the index missed entries because it failed to update, and must be rebuilt before it
+     * can be queried again.
+     *
+     * @return - true if the index must be rebuilt.
+     */
+    public boolean isStale() {
+        lock.readLock().lock();
+        try {
+            return stale;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * This method indexes a batch of records that was just written to the journal. A failure does not fail the
+     * commits, which are already on disk; it marks the index stale instead.
+     *
+     * @param records - the encoded records, from the position to the limit. The position is moved.
+     * @param offset - the journal offset of the first record.
+     */
+    void indexRecords(ByteBuffer records, long offset) {
+        lock.writeLock().lock();
+        try {
+            if (stale || closed) {
+                return;
+            }
+            ByteBuffer payload = records.duplicate().order(ByteOrder.BIG_ENDIAN);
+            while (records.hasRemaining()) {
+                int recordStart = records.position();
+                int payloadBytes = records.getInt(recordStart);
+                int recordEnd = recordStart + RentalLedger.RECORD_HEADER_BYTES + payloadBytes;
+                payload.limit(recordEnd).position(recordStart + RentalLedger.RECORD_HEADER_BYTES);
+                long recordOffset = offset + recordStart;
+                add(RentalLedger.decode(payload), recordOffset, recordOffset + recordEnd - recordStart);
+                records.position(recordEnd);
+            }
+        } catch (IOException | RuntimeException e) {
+            stale = true;
+            System.err.println("Ledger index is stale and must be rebuilt: " + e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * This method throws the index away and indexes the whole journal again. The ledger must not write to the
+     * journal until this returns.
+     *
+     * @param journalEnd - the offset just past the last durable record.
+     * @param lastSequence - the sequence of the last durable record.
+     * @throws IOException - thrown if the journal cannot be read or the index cannot be written.
+     */
+    void rebuild(long journalEnd, long lastSequence) throws IOException {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            heads.close();
+            Files.delete(directory.resolve(HEADS_FILE));
+            heads = MappedLongArray.open(directory.resolve(HEADS_FILE), 2 * INITIAL_HEADS);
+            headCapacity = INITIAL_HEADS;
+            headCount = 0;
+            indexedSequence = 0;
+            writeHeader(0, RentalLedger.HEADER_BYTES);
+            stale = false;
+            if (scanJournal(RentalLedger.HEADER_BYTES, journalEnd, lastSequence) != journalEnd) {
+                stale = true;
+                throw new IOException("Ledger journal could not be indexed to its end.");
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * This method closes the index files and the journal.
+     *
+     * @throws IOException - thrown if a file fails to close.
+     */
+    void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                heads.close();
+                rows.close();
+            } finally {
+                journal.close();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * This method indexes the records committed since the index was last open, or rebuilds the index if it does not
+     * match the journal.
+     *
+     * @param journalEnd - the offset just past the last durable record.
+     * @param lastSequence - the sequence of the last durable record.
+     * @throws IOException - thrown if the journal cannot be read or the index cannot be written.
+     */
+    private void catchUp(long journalEnd, long lastSequence) throws IOException {
+        long indexedEnd = rows.get(2);
+        if (rows.get(0) == 0 && indexedSequence == 0) {
+            rows.put(0, MAGIC_VERSION);
+            writeHeader(0, RentalLedger.HEADER_BYTES);
+            indexedEnd = RentalLedger.HEADER_BYTES;
+        }
+        boolean matches = rows.get(0) == MAGIC_VERSION && indexedSequence <= lastSequence &&
+                          indexedEnd >= RentalLedger.HEADER_BYTES && indexedEnd <= journalEnd;
+        if (!matches || scanJournal(indexedEnd, journalEnd, lastSequence) != journalEnd) {
+            rows.put(0, MAGIC_VERSION);
+            rebuild(journalEnd, lastSequence);
+        }
+    }
+
+    /**
+     * This method indexes the journal records from a record boundary to the durable end.
+     *
+     * @param offset - the offset of the first record to index, just past the last indexed record.
+     * @param journalEnd - the offset just past the last durable record.
+     * @param lastSequence - the sequence of the last durable record.
+     * @return - the offset just past the last record indexed.
+     * @throws IOException - thrown if the journal cannot be read or the index cannot be written.
+     */
+    private long scanJournal(long offset, final long journalEnd, final long lastSequence) throws IOException {
+        if (offset == journalEnd) {
+            return offset;
+        }
+        final long[] end = {offset};
+        RentalLedger.scan(journal, offset, indexedSequence, new RentalLedger.RecordVisitor() {
+            @Override
+            public void visit(LedgerEntry entry, long recordOffset) throws IOException {
+                if (recordOffset < journalEnd && entry.getSequence() <= lastSequence) {
+                    long recordEnd = recordOffset + RentalLedger.RECORD_HEADER_BYTES +
+                                     RentalLedger.FIXED_PAYLOAD_BYTES + encodedLength(entry.getToolCode());
+                    add(entry, recordOffset, recordEnd);
+                    end[0] = recordEnd;
+                }
+            }
+        });
+
+        return end[0];
+    }
+
+    /**
+     * This method adds one entry to every index. The write lock must be held by the caller.
+     *
+     * @param entry - the entry, which must follow the last indexed entry.
+     * @param offset - the journal offset of its record.
+     * @param end - the journal offset just past its record.
+     * @throws IOException - thrown if an index file cannot be grown.
+     */
+    private void add(LedgerEntry entry, long offset, long end) throws IOException {
+        long sequence = entry.getSequence();
+        if (sequence != indexedSequence + 1) {
+            throw new IOException("Ledger entry " + sequence + " does not follow indexed entry " + indexedSequence);
+        }
+        long toolHash = toolHash(entry.getToolCode());
+        long checkoutDay = entry.getCheckoutDate().toEpochDay();
+        long dueDay = entry.getDueDate().toEpochDay();
+        // Make room for the three chain heads and the tool's span classes before writing anything.
+        if ((headCount + 4) * 2 > headCapacity) {
+            growHeads();
+        }
+        rows.ensureLength((sequence + 1) * ROW_LONGS);
+        long row = sequence * ROW_LONGS;
+        rows.put(row, offset);
+        rows.put(row + CHECKOUT_LINK, swapHead(CHECKOUT_KEY | (checkoutDay & DAY_MASK), sequence));
+        rows.put(row + DUE_LINK, swapHead(DUE_KEY | (dueDay & DAY_MASK), sequence));
+        int spanClass = spanClass(dueDay - checkoutDay);
+        rows.put(row + TOOL_DUE_LINK, swapHead(toolDueKey(toolHash, spanClass, dueDay >> spanClass), sequence));
+        // Tools whose hashes collide share their span classes, which only adds chains to their open rental queries.
+        long classesSlot = findSlot(TOOL_SPAN_CLASSES_KEY | toolHash);
+        if (heads.get(classesSlot) == 0) {
+            heads.put(classesSlot, TOOL_SPAN_CLASSES_KEY | toolHash);
+            headCount++;
+        }
+        heads.put(classesSlot + 1, heads.get(classesSlot + 1) | (1L << spanClass));
+        indexedSequence = sequence;
+        writeHeader(sequence, end);
+    }
+
+    /**
+     * This method points a chain at a new head. The write lock must be held by the caller.
+     *
+     * @param key - the chain key.
+     * @param sequence - the new head.
+     * @return - the previous head, or 0 if the chain was empty.
+     */
+    private long swapHead(long key, long sequence) {
+        long slot = findSlot(key);
+        long previous = 0;
+        if (heads.get(slot) == 0) {
+            heads.put(slot, key);
+            headCount++;
+        } else {
+            previous = heads.get(slot + 1);
+        }
+        heads.put(slot + 1, sequence);
+
+        return previous;
+    }
+
+    /**
+     * This method reads the head of a chain.
+     *
+     * @param key - the chain key.
+     * @return - the newest entry in the chain, or 0 if it is empty.
+     */
+    private long getHead(long key) {
+        long slot = findSlot(key);
+
+        return heads.get(slot) == 0 ? 0 : heads.get(slot + 1);
+    }
+
+    /**
+     * This method finds the slot of a key in the heads table by linear probing.
+     *
+     * @param key - the key, which is never 0.
+     * @return - the index of the slot's key, which holds either the key or 0 if the key is absent.
+     */
+    private long findSlot(long key) {
+        long mask = headCapacity - 1;
+        long slot = (key * 0x9e3779b97f4a7c15L >>> 20) & mask;
+        while (true) {
+            long slotKey = heads.get(slot * 2);
+            if (slotKey == key || slotKey == 0) {
+                return slot * 2;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * This method doubles the heads table into a new file and replaces the old one with it. The write lock must be
+     * held by the caller.
+     *
+     * @throws IOException - thrown if the new table cannot be written.
+     */
+    private void growHeads() throws IOException {
+        Path grownFile = directory.resolve(HEADS_FILE + ".tmp");
+        Files.deleteIfExists(grownFile);
+        MappedLongArray old = heads;
+        long oldCapacity = headCapacity;
+        heads = MappedLongArray.open(grownFile, oldCapacity * 4);
+        headCapacity = oldCapacity * 2;
+        try {
+            for (long slot = 0; slot < oldCapacity * 2; slot += 2) {
+                long key = old.get(slot);
+                if (key != 0) {
+                    long grownSlot = findSlot(key);
+                    heads.put(grownSlot, key);
+                    heads.put(grownSlot + 1, old.get(slot + 1));
+                }
+            }
+            old.close();
+            heads.close();
+            Files.move(grownFile, directory.resolve(HEADS_FILE), StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+            heads = MappedLongArray.open(directory.resolve(HEADS_FILE), headCapacity * 2);
+        } catch (IOException | RuntimeException e) {
+            stale = true;
+            throw e;
+        }
+    }
+
+    /**
+     * This method records how far the journal is indexed. The write lock must be held by the caller.
+     *
+     * @param sequence - the last indexed sequence.
+     * @param end - the journal offset just past its record.
+     */
+    private void writeHeader(long sequence, long end) {
+        rows.put(1, sequence);
+        rows.put(2, end);
+        rows.put(3, headCount);
+    }
+
+    /**
+     * This method checks that the index is open.
+     *
+     * @throws IllegalStateException - thrown if the index is closed.
+     */
+    private void checkOpen() throws IllegalStateException {
+        if (closed) {
+            throw new IllegalStateException("Ledger index is closed.");
+        }
+    }
+
+    /**
+     * This method checks that the index can be queried.
+     *
+     * @throws IllegalStateException - thrown if the index is closed or must be rebuilt.
+     */
+    private void checkReadable() throws IllegalStateException {
+        checkOpen();
+        if (stale) {
+            throw new IllegalStateException("Ledger index is stale and must be rebuilt.");
+        }
+    }
+
+    /**
+     * This method builds the key of a tool, span class and due block chain. The class is the number of trailing zeros
+     * below the block, so the blocks of every class fit in the 40 bits of a day. Tools whose hashes collide, and the
+     * blocks of the longest classes, share chains, so entries read from them are checked against the tool and dates.
+     *
+     * @param toolHash - the hash of the tool code.
+     * @param spanClass - the span class.
+     * @param block - the due day divided by 2^spanClass, rounded down.
+     * @return - the key.
+     */
+    private static long toolDueKey(long toolHash, int spanClass, long block) {
+        return TOOL_DUE_KEY | ((toolHash & 0xfffffL) << 40) |
+               (((block << (spanClass + 1)) | (1L << spanClass)) & DAY_MASK);
+    }
+
+    /**
+     * This method finds the span class of a rental, the position of the highest set bit of its span. A rental that is
+     * not out on any day is put in class 0.
+     *
+     * @param span - the days from checkout to due.
+     * @return - the span class.
+     */
+    private static int spanClass(long span) {
+        return span <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(span);
+    }
+
+    /**
+     * This method hashes a tool code.
+     *
+     * @param toolCode - the tool code.
+     * @return - the hash.
+     */
+    private static long toolHash(String toolCode) {
+        return toolCode.hashCode() & 0xffffffffL;
+    }
+
+    /**
+     * This method counts the UTF-8 bytes of a tool code as it is recorded in the journal.
+     *
+     * @param toolCode - the tool code.
+     * @return - the number of bytes.
+     */
+    private static int encodedLength(String toolCode) {
+        return toolCode.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * A read context holds the buffer and results of one query, so queries can run at the same time.
+     */
+    private class ReadContext {
+        // Class properties
+        private final ByteBuffer record = ByteBuffer.allocate(RentalLedger.RECORD_HEADER_BYTES +
+                                                              RentalLedger.FIXED_PAYLOAD_BYTES +
+                                                              RentalLedger.MAX_TOOL_CODE_BYTES);
+        private final List<LedgerEntry> found = new ArrayList<>();
+        // The sequence and journal offset of each entry on the walked chains, collected under the read lock.
+        private long[] collected = new long[64];
+        private int collectedCount;
+
+        /**
+         * This method notes an entry on a walked chain, to be read once the lock is released. The read lock must be
+         * held by the caller.
+         *
+         * @param sequence - the sequence of the entry.
+         */
+        private void collect(long sequence) {
+            if (collectedCount * 2 == collected.length) {
+                collected = Arrays.copyOf(collected, collected.length * 2);
+            }
+            collected[collectedCount * 2] = sequence;
+            collected[collectedCount * 2 + 1] = rows.get(sequence * ROW_LONGS);
+            collectedCount++;
+        }
+
+        /**
+         * This method reads the collected entries back from the journal. Records are never changed once written, so
+         * the lock is not needed.
+         *
+         * @return - the entries, in the order they were collected.
+         * @throws IllegalStateException - thrown if the index was closed or the journal cannot be read.
+         */
+        private List<LedgerEntry> readCollected() throws IllegalStateException {
+            List<LedgerEntry> entries = new ArrayList<>(collectedCount);
+            for (int i = 0; i < collectedCount; i++) {
+                entries.add(read(collected[i * 2], collected[i * 2 + 1]));
+            }
+
+            return entries;
+        }
+
+        /**
+         * This method reads an indexed entry back from the journal.
+         *
+         * @param sequence - the sequence of the entry.
+         * @param offset - the journal offset of its record.
+         * @return - the entry.
+         * @throws IllegalStateException - thrown if the index was closed or the journal cannot be read at the offset.
+         */
+        private LedgerEntry read(long sequence, long offset) throws IllegalStateException {
+            record.clear();
+            try {
+                while (record.hasRemaining()) {
+                    if (journal.read(record, offset + record.position()) < 0) {
+                        break;
+                    }
+                }
+            } catch (ClosedChannelException e) {
+                throw new IllegalStateException("Ledger index is closed.", e);
+            } catch (IOException e) {
+                throw new IllegalStateException("Ledger journal cannot be read: " + e.getMessage(), e);
+            }
+            record.flip();
+            int payloadBytes = record.getInt(0);
+            if (record.limit() < RentalLedger.RECORD_HEADER_BYTES + payloadBytes) {
+                throw new IllegalStateException("Ledger index points past the end of the journal.");
+            }
+            record.limit(RentalLedger.RECORD_HEADER_BYTES + payloadBytes).position(RentalLedger.RECORD_HEADER_BYTES);
+            LedgerEntry entry = RentalLedger.decode(record);
+            if (entry == null || entry.getSequence() != sequence) {
+                throw new IllegalStateException("Ledger index does not match the journal.");
+            }
+
+            return entry;
+        }
+
+        /**
+         * This method sorts the results in ledger order.
+         *
+         * @return - the results.
+         */
+        private List<LedgerEntry> sorted() {
+            Collections.sort(found, BY_SEQUENCE);
+
+            return found;
+        }
+    }
+}
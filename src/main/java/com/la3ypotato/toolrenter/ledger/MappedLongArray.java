@@ -0,0 +1,137 @@
+package com.la3ypotato.toolrenter.ledger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * This class is a growable array of longs backed by a memory-mapped file. A single mapping cannot be larger than 2 GB,
+ * so the file is mapped in 1 GB segments and an index is split into a segment and an offset within it.
+ *
+ * The array is not thread safe; the ledger index guards it with its own lock.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+final class MappedLongArray implements Closeable {
+    private static final int SEGMENT_SHIFT = 27;
+    private static final long LONGS_PER_SEGMENT = 1L << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = LONGS_PER_SEGMENT - 1;
+    // Class properties
+    private final FileChannel channel;
+    private MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    private long length;
+
+    /**
+     * Creates an array over an opened file.
+     *
+     * @param channel - the backing file.
+     */
+    private MappedLongArray(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * This method opens the backing file, creating it if it does not exist, and maps at least the passed number of
+     * longs. Longs past the end of an existing file read as 0.
+     *
+     * @param file - the backing file.
+     * @param minLength - the minimum number of longs.
+     * @return - the mapped array.
+     * @throws IOException - thrown if the file cannot be opened or mapped.
+     */
+    static MappedLongArray open(Path file, long minLength) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                               StandardOpenOption.WRITE);
+        MappedLongArray array = new MappedLongArray(channel);
+        try {
+            array.ensureLength(Math.max(minLength, channel.size() / 8));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+
+        return array;
+    }
+
+    /**
+     * This method reads a long.
+     *
+     * @param index - the index of the long.
+     * @return - the value.
+     */
+    long get(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].getLong((int) (index & SEGMENT_MASK) << 3);
+    }
+
+    /**
+     * This method writes a long.
+     *
+     * @param index - the index of the long.
+     * @param value - the value.
+     */
+    void put(long index, long value) {
+        segments[(int) (index >>> SEGMENT_SHIFT)].putLong((int) (index & SEGMENT_MASK) << 3, value);
+    }
+
+    /**
+     * Getter for the number of mapped longs.
+     *
+     * @return - the number of longs that can be read and written.
+     */
+    long length() {
+        return length;
+    }
+
+    /**
+     * This method grows the file, if needed, so that at least the passed number of longs are mapped. The file at
+     * least doubles each time it grows, so appending one long at a time remaps rarely.
+     *
+     * @param minLength - the minimum number of longs.
+     * @throws IOException - thrown if the file cannot be grown or mapped.
+     */
+    void ensureLength(long minLength) throws IOException {
+        if (minLength <= length && segments.length > 0) {
+            return;
+        }
+        long newLength = Math.max(minLength, Math.max(length * 2, 1024));
+        int segmentCount = (int) ((newLength + LONGS_PER_SEGMENT - 1) >>> SEGMENT_SHIFT);
+        MappedByteBuffer[] grown = Arrays.copyOf(segments, segmentCount);
+        // Only the last existing segment and the new ones change size; the full segments stay mapped.
+        for (int i = Math.max(0, segments.length - 1); i < segmentCount; i++) {
+            long start = i * LONGS_PER_SEGMENT;
+            long longs = Math.min(LONGS_PER_SEGMENT, newLength - start);
+            grown[i] = channel.map(FileChannel.MapMode.READ_WRITE, start * 8, longs * 8);
+            grown[i].order(ByteOrder.nativeOrder());
+        }
+        segments = grown;
+        length = newLength;
+    }
+
+    /**
+     * This method asks the operating system to write the mapped pages to disk.
+     */
+    void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    /**
+     * This method closes the backing file. The mappings are released when they are garbage collected.
+     *
+     * @throws IOException - thrown if the file fails to close.
+     */
+    @Override
+    public void close() throws IOException {
+        segments = new MappedByteBuffer[0];
+        length = 0;
+        channel.close();
+    }
+}
@@ -0,0 +1,583 @@
+package com.la3ypotato.toolrenter.ledger;
+
+import com.la3ypotato.toolrenter.pricing.Quote;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * This class is a durable, append-only ledger of finalized rentals. Every commit is appended to a journal file and
+ * forced to disk before the commit returns, so a committed rental survives a crash.
+ *
+ * Forcing a file to disk is slow, so concurrent commits are batched (group commit). A commit appends its record to a
+ * shared buffer and waits. If no batch is being written, the committing thread writes everything buffered so far with a
+ * single write and a single force, then wakes every commit in that batch. Commits that arrive during a force are
+ * buffered for the next batch. One force therefore covers as many commits as arrived while the previous one ran.
+ *
+ * The journal starts with an 8 byte header (the magic number 'TRLG' and the format version) followed by the records,
+ * with every number in big-endian order:
+ *
+ *   0 - payload length
+ *   4 - CRC32 of the payload
+ *   8 - payload: sequence, rental days, discount, checkout day, due day (epoch days), charge days, pre-discount,
+ *       discount and final cents, then the tool code as a length-prefixed UTF-8 string
+ *
+ * When a ledger is opened, the journal is read from the start and every intact record is replayed. A record that was
+ * only partly written when the process died, or that fails its checksum, ends the journal; it and anything after it
+ * are truncated so new commits follow the last intact record.
+ *
+ * A ledger can also keep a {@link LedgerIndex} of its entries by due date, checkout date and tool. Once opened, the
+ * index is updated by the thread that writes each batch, after the batch is on disk, so it only ever holds durable
+ * entries.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class RentalLedger implements Closeable {
+    // The ASCII characters 'TRLG' (Tool Renter LedGer).
+    public static final int MAGIC = 0x54524c47;
+    public static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    static final int RECORD_HEADER_BYTES = 8;
+    static final int FIXED_PAYLOAD_BYTES = 8 + 4 + 4 + 8 + 8 + 4 + 8 + 8 + 8 + 2;
+    static final int MAX_TOOL_CODE_BYTES = 1024;
+    private static final int INITIAL_BATCH_BYTES = 64 * 1024;
+    // Class properties
+    private final Path journal;
+    private final FileChannel channel;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchWritten = lock.newCondition();
+    private final CRC32 crc = new CRC32();
+    // Everything below is guarded by the lock.
+    private ByteBuffer pendingBatch = newBatchBuffer(INITIAL_BATCH_BYTES);
+    private ByteBuffer spareBatch = newBatchBuffer(INITIAL_BATCH_BYTES);
+    private boolean writingBatch;
+    private long lastSequence;
+    private long durableSequence;
+    private long durableOffset;
+    private long syncCount;
+    private LedgerIndex index;
+    private IOException failure;
+    private boolean closed;
+
+    /**
+     * Creates a ledger over an opened and recovered journal.
+     *
+     * @param journal - the journal file.
+     * @param channel - the journal, positioned after the last intact record.
+     * @param lastSequence - the sequence of the last intact record, or 0 if there are none.
+     */
+    private RentalLedger(Path journal, FileChannel channel, long lastSequence) throws IOException {
+        this.journal = journal;
+        this.channel = channel;
+        this.lastSequence = lastSequence;
+        this.durableSequence = lastSequence;
+        this.durableOffset = channel.position();
+    }
+
+    /**
+     * This method opens the ledger journal, creating it if it does not exist.
+     *
+     * @param journal - the journal file.
+     * @return - the opened ledger.
+     * @throws IOException - thrown if the journal cannot be read or written.
+     * @throws IllegalArgumentException - thrown if the file is not a ledger journal.
+     */
+    public static RentalLedger open(Path journal) throws IOException, IllegalArgumentException {
+        return open(journal, null);
+    }
+
+    /**
+     * This method opens the ledger journal, creating it if it does not exist, and replays every committed entry in
+     * order before any new commit can be made.
+     *
+     * @param journal - the journal file.
+     * @param replay - receives every committed entry, or null to skip the replay.
+     * @return - the opened ledger.
+     * @throws IOException - thrown if the journal cannot be read or written.
+     * @throws IllegalArgumentException - thrown if the file is not a ledger journal.
+     */
+    public static RentalLedger open(Path journal, Consumer<LedgerEntry> replay)
+            throws IOException, IllegalArgumentException {
+        FileChannel channel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                               StandardOpenOption.WRITE);
+        try {
+            long lastSequence = 0;
+            if (channel.size() < HEADER_BYTES) {
+                // A new journal, or one that died before its header was written.
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(FORMAT_VERSION);
+                header.flip();
+                channel.truncate(0);
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                channel.force(true);
+                channel.position(HEADER_BYTES);
+            } else {
+                lastSequence = recover(channel, replay);
+            }
+
+            return new RentalLedger(journal, channel, lastSequence);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * This method appends a finalized rental to the ledger and waits until it is on disk.
+     *
+     * @param quote - the finalized rental.
+     * @return - the committed entry.
+     * @throws IOException - thrown if the entry could not be written, or an earlier write failed.
+     * @throws IllegalArgumentException - thrown if the tool code is too long to record; then nothing is committed.
+     * @throws IllegalStateException - thrown if the ledger is closed.
+     */
+    public LedgerEntry commit(Quote quote) throws IOException, IllegalArgumentException, IllegalStateException {
+        byte[] toolCode = quote.getTool().getToolCode().getBytes(StandardCharsets.UTF_8);
+        // Rejected before a sequence is taken, as a gap in the sequences ends the journal when it is recovered.
+        if (toolCode.length > MAX_TOOL_CODE_BYTES) {
+            throw new IllegalArgumentException("Tool code is too long for the ledger: " +
+                                               quote.getTool().getToolCode());
+        }
+        long sequence;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Ledger is closed.");
+            } else if (failure != null) {
+                throw new IOException("Ledger is unusable after a failed write.", failure);
+            }
+            // The sequence is only used up once its record is in the batch.
+            appendRecord(lastSequence + 1, quote, toolCode);
+            sequence = ++lastSequence;
+            awaitDurable(sequence);
+        } finally {
+            lock.unlock();
+        }
+
+        return new LedgerEntry(sequence, quote);
+    }
+
+    /**
+     * This method appends several finalized rentals to the ledger together and waits until they are all on disk, so
+     * they share one force. The rentals get consecutive sequences in the order given.
+     *
+     * @param quotes - the finalized rentals.
+     * @return - the committed entries.
+     * @throws IOException - thrown if the entries could not be written, or an earlier write failed.
+     * @throws IllegalArgumentException - thrown if a tool code is too long to record; then nothing is committed.
+     * @throws IllegalStateException - thrown if the ledger is closed.
+     */
+    public List<LedgerEntry> commitAll(List<Quote> quotes)
+            throws IOException, IllegalArgumentException, IllegalStateException {
+        byte[][] toolCodes = new byte[quotes.size()][];
+        for (int i = 0; i < toolCodes.length; i++) {
+            toolCodes[i] = quotes.get(i).getTool().getToolCode().getBytes(StandardCharsets.UTF_8);
+            if (toolCodes[i].length > MAX_TOOL_CODE_BYTES) {
+                throw new IllegalArgumentException("Tool code is too long for the ledger: " +
+                                                   quotes.get(i).getTool().getToolCode());
+            }
+        }
+        long firstSequence;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Ledger is closed.");
+            } else if (failure != null) {
+                throw new IOException("Ledger is unusable after a failed write.", failure);
+            }
+            firstSequence = lastSequence + 1;
+            for (int i = 0; i < toolCodes.length; i++) {
+                appendRecord(lastSequence + 1, quotes.get(i), toolCodes[i]);
+                lastSequence++;
+            }
+            awaitDurable(lastSequence);
+        } finally {
+            lock.unlock();
+        }
+
+        List<LedgerEntry> entries = new ArrayList<>(quotes.size());
+        for (int i = 0; i < toolCodes.length; i++) {
+            entries.add(new LedgerEntry(firstSequence + i, quotes.get(i)));
+        }
+
+        return entries;
+    }
+
+    /**
+     * This method opens the index of this ledger in the passed directory, creating it if it does not exist. An index
+     * left behind by an earlier run is brought up to date with the entries committed since, or rebuilt if it no
+     * longer matches the journal. From then on every commit is added to the index, and the index is closed with the
+     * ledger.
+     *
+     * @param directory - the directory holding the index files.
+     * @return - the opened index.
+     * @throws IOException - thrown if the index cannot be read or written.
+     * @throws IllegalStateException - thrown if the ledger is closed or its index is already open.
+     */
+    public LedgerIndex openIndex(Path directory) throws IOException, IllegalStateException {
+        lock.lock();
+        try {
+            awaitIdle();
+            if (index != null) {
+                throw new IllegalStateException("Ledger index is already open.");
+            }
+            index = LedgerIndex.open(directory, journal, durableOffset, durableSequence);
+
+            return index;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * This method rebuilds the index of this ledger from the journal. Commits wait until the rebuild is done.
+     *
+     * @throws IOException - thrown if the journal cannot be read or the index cannot be written.
+     * @throws IllegalStateException - thrown if the ledger is closed or has no open index.
+     */
+    public void rebuildIndex() throws IOException, IllegalStateException {
+        lock.lock();
+        try {
+            awaitIdle();
+            if (index == null) {
+                throw new IllegalStateException("Ledger index is not open.");
+            }
+            index.rebuild(durableOffset, durableSequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * This method writes everything committed so far and closes the journal and the index.
+     *
+     * @throws IOException - thrown if the last batch cannot be written or the journal fails to close.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (failure == null) {
+                awaitDurable(lastSequence);
+            }
+        } finally {
+            lock.unlock();
+            try {
+                if (index != null) {
+                    index.close();
+                }
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Getter for the number of committed entries.
+     *
+     * @return - the sequence of the last entry on disk.
+     */
+    public long getCommittedCount() {
+        lock.lock();
+        try {
+            return durableSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Getter for the number of times the journal has been forced to disk since it was opened. Comparing this with
+     * the number of commits shows how many commits each force covered.
+     *
+     * @return - the number of forces.
+     */
+    public long getSyncCount() {
+        lock.lock();
+        try {
+            return syncCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * This method waits until every entry up to the passed sequence is on disk, writing the pending batch itself
+     * whenever no other thread is. The lock must be held by the caller.
+     *
+     * @param sequence - the sequence to wait for.
+     * @throws IOException - thrown if the batch holding the sequence could not be written.
+     */
+    private void awaitDurable(long sequence) throws IOException {
+        while (durableSequence < sequence) {
+            if (failure != null) {
+                throw new IOException("Ledger write failed.", failure);
+            } else if (writingBatch) {
+                batchWritten.awaitUninterruptibly();
+                continue;
+            }
+
+            // Take everything buffered so far as one batch, and let the next commits buffer into the spare.
+            writingBatch = true;
+            ByteBuffer batch = pendingBatch;
+            long batchSequence = lastSequence;
+            long batchOffset = durableOffset;
+            LedgerIndex batchIndex = index;
+            pendingBatch = spareBatch;
+            spareBatch = null;
+            IOException error = null;
+            lock.unlock();
+            try {
+                batch.flip();
+                while (batch.hasRemaining()) {
+                    channel.write(batch);
+                }
+                channel.force(false);
+                if (batchIndex != null) {
+                    // Only this thread writes batches, so the index sees them in journal order.
+                    batch.rewind();
+                    batchIndex.indexRecords(batch, batchOffset);
+                }
+            } catch (IOException e) {
+                error = e;
+            } finally {
+                lock.lock();
+            }
+            long batchBytes = batch.limit();
+            batch.clear();
+            spareBatch = batch;
+            writingBatch = false;
+            if (error == null) {
+                durableSequence = batchSequence;
+                durableOffset = batchOffset + batchBytes;
+                syncCount++;
+            } else {
+                failure = error;
+            }
+            batchWritten.signalAll();
+        }
+    }
+
+    /**
+     * This method waits until no batch is being written, so the journal on disk ends at the durable offset. The lock
+     * must be held by the caller.
+     *
+     * @throws IllegalStateException - thrown if the ledger is closed.
+     */
+    private void awaitIdle() throws IllegalStateException {
+        if (closed) {
+            throw new IllegalStateException("Ledger is closed.");
+        }
+        while (writingBatch) {
+            batchWritten.awaitUninterruptibly();
+        }
+    }
+
+    /**
+     * This method encodes a record into the pending batch. The lock must be held by the caller.
+     *
+     * @param sequence - the sequence of the record.
+     * @param quote - the finalized rental.
+     * @param toolCode - the UTF-8 tool code.
+     * @throws IllegalArgumentException - thrown if the tool code is too long to record.
+     */
+    private void appendRecord(long sequence, Quote quote, byte[] toolCode) throws IllegalArgumentException {
+        if (toolCode.length > MAX_TOOL_CODE_BYTES) {
+            throw new IllegalArgumentException("Tool code is too long for the ledger: " +
+                                               quote.getTool().getToolCode());
+        }
+        int payloadBytes = FIXED_PAYLOAD_BYTES + toolCode.length;
+        if (pendingBatch.remaining() < RECORD_HEADER_BYTES + payloadBytes) {
+            ByteBuffer grown = newBatchBuffer(Math.max(pendingBatch.capacity() * 2,
+                                                       pendingBatch.position() + RECORD_HEADER_BYTES + payloadBytes));
+            pendingBatch.flip();
+            pendingBatch = grown.put(pendingBatch);
+        }
+        int recordStart = pendingBatch.position();
+        pendingBatch.putInt(payloadBytes)
+                    .putInt(0)
+                    .putLong(sequence)
+                    .putInt(quote.getRentalDays())
+                    .putInt(quote.getDiscount())
+                    .putLong(quote.getCheckoutDate().toEpochDay())
+                    .putLong(quote.getDueDate().toEpochDay())
+                    .putInt(quote.getChargeDays())
+                    .putLong(quote.getPreDiscountCents())
+                    .putLong(quote.getDiscountCents())
+                    .putLong(quote.getFinalCents())
+                    .putShort((short) toolCode.length)
+                    .put(toolCode);
+        ByteBuffer payload = pendingBatch.duplicate();
+        payload.position(recordStart + RECORD_HEADER_BYTES).limit(pendingBatch.position());
+        crc.reset();
+        crc.update(payload);
+        pendingBatch.putInt(recordStart + 4, (int) crc.getValue());
+    }
+
+    /**
+     * This method reads the journal, replays every intact record and truncates anything after the last one.
+     *
+     * @param channel - the journal.
+     * @param replay - receives every intact entry, or null.
+     * @return - the sequence of the last intact record, or 0 if there are none.
+     * @throws IOException - thrown if the journal cannot be read or truncated.
+     * @throws IllegalArgumentException - thrown if the file is not a ledger journal.
+     */
+    private static long recover(FileChannel channel, final Consumer<LedgerEntry> replay)
+            throws IOException, IllegalArgumentException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // Keep reading until the header is full.
+        }
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IllegalArgumentException("File is not a rental ledger journal!");
+        }
+        int version = header.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported rental ledger version: " + version);
+        }
+
+        final long[] lastSequence = {0};
+        long validEnd = scan(channel, HEADER_BYTES, 0, new RecordVisitor() {
+            @Override
+            public void visit(LedgerEntry entry, long offset) {
+                if (replay != null) {
+                    replay.accept(entry);
+                }
+                lastSequence[0] = entry.getSequence();
+            }
+        });
+        if (channel.size() > validEnd) {
+            channel.truncate(validEnd);
+            channel.force(true);
+        }
+        channel.position(validEnd);
+
+        return lastSequence[0];
+    }
+
+    /**
+     * This method reads the journal from a record boundary and passes every intact record to the visitor, stopping at
+     * the end of the file, a torn or corrupt record, or a record out of sequence.
+     *
+     * @param channel - the journal. Its position is moved.
+     * @param offset - the offset of the first record to read.
+     * @param previousSequence - the sequence of the record before the offset, or 0 at the start of the journal.
+     * @param visitor - receives every intact record.
+     * @return - the offset just past the last intact record.
+     * @throws IOException - thrown if the journal cannot be read, or by the visitor.
+     */
+    static long scan(FileChannel channel, long offset, long previousSequence, RecordVisitor visitor)
+            throws IOException {
+        channel.position(offset);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+        long validEnd = offset;
+        long lastSequence = previousSequence;
+        byte[] payload = new byte[FIXED_PAYLOAD_BYTES + MAX_TOOL_CODE_BYTES];
+        ByteBuffer record = ByteBuffer.wrap(payload).order(ByteOrder.BIG_ENDIAN);
+        CRC32 crc = new CRC32();
+        try {
+            while (true) {
+                int payloadBytes = in.readInt();
+                int checksum = in.readInt();
+                if (payloadBytes < FIXED_PAYLOAD_BYTES || payloadBytes > payload.length) {
+                    break;
+                }
+                in.readFully(payload, 0, payloadBytes);
+                crc.reset();
+                crc.update(payload, 0, payloadBytes);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                record.clear().limit(payloadBytes);
+                LedgerEntry entry = decode(record);
+                if (entry == null || entry.getSequence() != lastSequence + 1) {
+                    break;
+                }
+                visitor.visit(entry, validEnd);
+                lastSequence = entry.getSequence();
+                validEnd += RECORD_HEADER_BYTES + payloadBytes;
+            }
+        } catch (EOFException e) {
+            // The last record was only partly written.
+        }
+
+        return validEnd;
+    }
+
+    /**
+     * This method decodes a record payload.
+     *
+     * @param record - the payload, from its position to its limit. Its position is moved to the limit.
+     * @return - the entry, or null if the tool code length does not match the payload.
+     */
+    static LedgerEntry decode(ByteBuffer record) {
+        long sequence = record.getLong();
+        int rentalDays = record.getInt();
+        int discount = record.getInt();
+        LocalDate checkoutDate = LocalDate.ofEpochDay(record.getLong());
+        LocalDate dueDate = LocalDate.ofEpochDay(record.getLong());
+        int chargeDays = record.getInt();
+        long preDiscountCents = record.getLong();
+        long discountCents = record.getLong();
+        long finalCents = record.getLong();
+        int toolCodeBytes = record.getShort();
+        if (toolCodeBytes != record.remaining()) {
+            return null;
+        }
+        byte[] toolCode = new byte[toolCodeBytes];
+        record.get(toolCode);
+
+        return new LedgerEntry(sequence, new String(toolCode, StandardCharsets.UTF_8), rentalDays, discount,
+                               checkoutDate, dueDate, chargeDays, preDiscountCents, discountCents, finalCents);
+    }
+
+    /**
+     * This method allocates a batch buffer.
+     *
+     * @param capacity - the capacity in bytes.
+     * @return - the buffer.
+     */
+    private static ByteBuffer newBatchBuffer(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * A record visitor receives the intact records found by a journal scan.
+     */
+    interface RecordVisitor {
+        /**
+         * This method receives one intact record.
+         *
+         * @param entry - the decoded entry.
+         * @param offset - the journal offset the record starts at.
+         * @throws IOException - thrown if the record cannot be handled.
+         */
+        void visit(LedgerEntry entry, long offset) throws IOException;
+    }
+}
@@ -0,0 +1,179 @@
+package com.la3ypotato.toolrenter.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is a lock-free histogram of latencies in nanoseconds, with the same log-linear buckets as an HDR
+ * histogram. Every power of two is split into 32 equal buckets, so a bucket is never wider than about 3% of the values
+ * in it, and 1,888 buckets cover every positive long. Recording a latency finds its bucket with a few shifts and
+ * increments one atomic counter, so threads never wait on each other.
+ *
+ * Percentiles are read from a pass over the buckets and report the highest value of the bucket they land in. The
+ * buckets are not read atomically together, so a percentile read while latencies are being recorded may be off by
+ * the latencies recorded during the pass.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class LatencyHistogram implements LatencyHistogramMBean {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    // Class properties
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Creates an empty histogram.
+     *
+     * @param name - the name the histogram is published under (ex: finalize-1-7-days).
+     */
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * This method records one latency. Negative latencies, which a clock adjustment can produce, are recorded as 0.
+     *
+     * @param nanos - the latency in nanoseconds.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        count.increment();
+        totalNanos.add(value);
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * This method finds the latency that the passed share of recorded latencies are at or below.
+     *
+     * @param percentile - the percentile within (0,100] (ex: 99.9).
+     * @return - the highest value of the bucket holding the percentile, or 0 if nothing was recorded.
+     * @throws IllegalArgumentException - thrown if the percentile is not within (0,100].
+     */
+    public long getPercentileNanos(double percentile) throws IllegalArgumentException {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile is not within bounds (0,100]: " + percentile);
+        }
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), maxNanos.get());
+            }
+        }
+
+        return maxNanos.get();
+    }
+
+    /**
+     * Getter for name.
+     *
+     * @return - the name the histogram is published under.
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getMeanNanos() {
+        long recorded = count.sum();
+        return recorded == 0 ? 0 : totalNanos.sum() / (double) recorded;
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return getPercentileNanos(50);
+    }
+
+    @Override
+    public long getP90Nanos() {
+        return getPercentileNanos(90);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return getPercentileNanos(99);
+    }
+
+    @Override
+    public long getP999Nanos() {
+        return getPercentileNanos(99.9);
+    }
+
+    /**
+     * This method appends a one line summary of the histogram, with latencies in microseconds.
+     *
+     * @param sb - the StringBuilder to append to.
+     * @return - the passed StringBuilder.
+     */
+    public StringBuilder writeTo(StringBuilder sb) {
+        sb.append(String.format("  %-22s %10d %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f%n", name, getCount(),
+                                getMeanNanos() / 1e3, getP50Nanos() / 1e3, getP90Nanos() / 1e3,
+                                getP99Nanos() / 1e3, getP999Nanos() / 1e3, getMaxNanos() / 1e3));
+        return sb;
+    }
+
+    /**
+     * This method finds the bucket of a value. Values below 32 each have their own bucket; above that, the position of
+     * the highest set bit picks the power of two and the next 5 bits pick the bucket within it.
+     *
+     * @param value - the non-negative value.
+     * @return - the bucket index.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * This method finds the highest value that falls in a bucket.
+     *
+     * @param bucket - the bucket index.
+     * @return - the highest value of the bucket.
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,60 @@
+package com.la3ypotato.toolrenter.metrics;
+
+/**
+ * This interface is the JMX view of a latency histogram. Every latency is in nanoseconds.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public interface LatencyHistogramMBean {
+
+    /**
+     * Getter for the number of recorded latencies.
+     *
+     * @return - the count.
+     */
+    long getCount();
+
+    /**
+     * Getter for the mean latency.
+     *
+     * @return - the mean in nanoseconds, or 0 if nothing was recorded.
+     */
+    double getMeanNanos();
+
+    /**
+     * Getter for the highest recorded latency.
+     *
+     * @return - the maximum in nanoseconds.
+     */
+    long getMaxNanos();
+
+    /**
+     * Getter for the median latency.
+     *
+     * @return - the 50th percentile in nanoseconds.
+     */
+    long getP50Nanos();
+
+    /**
+     * Getter for the 90th percentile latency.
+     *
+     * @return - the 90th percentile in nanoseconds.
+     */
+    long getP90Nanos();
+
+    /**
+     * Getter for the 99th percentile latency.
+     *
+     * @return - the 99th percentile in nanoseconds.
+     */
+    long getP99Nanos();
+
+    /**
+     * Getter for the 99.9th percentile latency.
+     *
+     * @return - the 99.9th percentile in nanoseconds.
+     */
+    long getP999Nanos();
+}
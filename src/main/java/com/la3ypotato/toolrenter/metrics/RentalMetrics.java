@@ -0,0 +1,221 @@
+package com.la3ypotato.toolrenter.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class holds the production counters and latency histograms of the rental hot paths: finalized quotes,
+ * validation failures by field, finalizeRentalAgreement latency by rental length, and catalog load time.
+ *
+ * Counters are LongAdders, which spread concurrent increments over separate cells, and the histograms are lock-free,
+ * so recording never makes a request thread wait. The default instance is published to the platform MBean server when
+ * it is first used, under the com.la3ypotato.toolrenter domain, and every value can also be dumped as text.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class RentalMetrics implements RentalMetricsMBean {
+    public static final String JMX_DOMAIN = "com.la3ypotato.toolrenter";
+    // The longest rental, in days, of each finalize latency bucket but the last, which holds everything longer.
+    private static final int[] RENTAL_LENGTH_LIMITS = {7, 30, 365};
+    private static final String[] RENTAL_LENGTH_NAMES = {"finalize-1-7-days", "finalize-8-30-days",
+                                                         "finalize-31-365-days", "finalize-over-365-days"};
+    // Class properties
+    private final LongAdder quotes = new LongAdder();
+    private final LongAdder[] validationFailures = new LongAdder[ValidationField.values().length];
+    private final LatencyHistogram[] finalizeLatencies = new LatencyHistogram[RENTAL_LENGTH_NAMES.length];
+    private final LatencyHistogram catalogLoadLatency = new LatencyHistogram("catalog-load");
+    private volatile long lastCatalogLoadNanos;
+
+    /**
+     * Lazily creates and publishes the default metrics the first time they are used.
+     */
+    private static class DefaultMetricsHolder {
+        private static final RentalMetrics INSTANCE = new RentalMetrics();
+        static {
+            try {
+                INSTANCE.register(ManagementFactory.getPlatformMBeanServer());
+            } catch (JMException | SecurityException e) {
+                // Metrics are still recorded and can be dumped as text.
+                System.err.println("Unable to publish rental metrics over JMX: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Creates a set of zeroed metrics. Most callers should use the shared instance from getInstance.
+     */
+    public RentalMetrics() {
+        for (int i = 0; i < validationFailures.length; i++) {
+            validationFailures[i] = new LongAdder();
+        }
+        for (int i = 0; i < finalizeLatencies.length; i++) {
+            finalizeLatencies[i] = new LatencyHistogram(RENTAL_LENGTH_NAMES[i]);
+        }
+    }
+
+    /**
+     * This method returns the metrics recorded by the application and published over JMX.
+     *
+     * @return - the default RentalMetrics instance.
+     */
+    public static RentalMetrics getInstance() {
+        return DefaultMetricsHolder.INSTANCE;
+    }
+
+    /**
+     * This method publishes the counters and every histogram as MBeans.
+     *
+     * @param mBeanServer - the server to register with.
+     * @throws JMException - thrown if an MBean cannot be registered, for example because the names are taken.
+     */
+    public void register(MBeanServer mBeanServer) throws JMException {
+        mBeanServer.registerMBean(this, new ObjectName(JMX_DOMAIN + ":type=RentalMetrics"));
+        for (LatencyHistogram histogram : finalizeLatencies) {
+            registerHistogram(mBeanServer, histogram);
+        }
+        registerHistogram(mBeanServer, catalogLoadLatency);
+    }
+
+    /**
+     * This method records a finalized rental agreement.
+     *
+     * @param rentalDays - the number of rental days, which picks the latency bucket.
+     * @param nanos - how long finalizing took.
+     */
+    public void recordQuote(int rentalDays, long nanos) {
+        quotes.increment();
+        getFinalizeLatency(rentalDays).record(nanos);
+    }
+
+    /**
+     * This method records a rejected rental input.
+     *
+     * @param field - the field that failed validation.
+     */
+    public void recordValidationFailure(ValidationField field) {
+        validationFailures[field.ordinal()].increment();
+    }
+
+    /**
+     * This method records a catalog load or reload.
+     *
+     * @param nanos - how long the load took.
+     */
+    public void recordCatalogLoad(long nanos) {
+        catalogLoadLatency.record(nanos);
+        lastCatalogLoadNanos = nanos;
+    }
+
+    /**
+     * Getter for the validation failures of a field.
+     *
+     * @param field - the field.
+     * @return - the number of times the field was rejected.
+     */
+    public long getValidationFailures(ValidationField field) {
+        return validationFailures[field.ordinal()].sum();
+    }
+
+    /**
+     * Getter for the finalizeRentalAgreement latency histogram of a rental length.
+     *
+     * @param rentalDays - the number of rental days.
+     * @return - the histogram of the bucket holding the rental length.
+     */
+    public LatencyHistogram getFinalizeLatency(int rentalDays) {
+        int bucket = 0;
+        while (bucket < RENTAL_LENGTH_LIMITS.length && rentalDays > RENTAL_LENGTH_LIMITS[bucket]) {
+            bucket++;
+        }
+
+        return finalizeLatencies[bucket];
+    }
+
+    /**
+     * Getter for catalogLoadLatency.
+     *
+     * @return - the histogram of catalog load times.
+     */
+    public LatencyHistogram getCatalogLoadLatency() {
+        return catalogLoadLatency;
+    }
+
+    @Override
+    public long getQuoteCount() {
+        return quotes.sum();
+    }
+
+    @Override
+    public long getToolCodeFailures() {
+        return getValidationFailures(ValidationField.TOOL_CODE);
+    }
+
+    @Override
+    public long getRentalDaysFailures() {
+        return getValidationFailures(ValidationField.RENTAL_DAYS);
+    }
+
+    @Override
+    public long getDiscountFailures() {
+        return getValidationFailures(ValidationField.DISCOUNT);
+    }
+
+    @Override
+    public long getCheckoutDateFailures() {
+        return getValidationFailures(ValidationField.CHECKOUT_DATE);
+    }
+
+    @Override
+    public long getCatalogLoadCount() {
+        return catalogLoadLatency.getCount();
+    }
+
+    @Override
+    public long getLastCatalogLoadNanos() {
+        return lastCatalogLoadNanos;
+    }
+
+    @Override
+    public String dump() {
+        return writeTo(new StringBuilder(1024)).toString();
+    }
+
+    /**
+     * This method appends every counter and histogram as text, with latencies in microseconds.
+     *
+     * @param sb - the StringBuilder to append to.
+     * @return - the passed StringBuilder.
+     */
+    public StringBuilder writeTo(StringBuilder sb) {
+        sb.append(String.format("%-24s %10d%n", "quotes", getQuoteCount()));
+        sb.append("validation failures\n");
+        for (ValidationField field : ValidationField.values()) {
+            sb.append(String.format("  %-22s %10d%n", field.getFieldName(), getValidationFailures(field)));
+        }
+        sb.append(String.format("%-24s %10s %10s %10s %10s %10s %10s %10s%n", "latency (us)", "count", "mean",
+                                "p50", "p90", "p99", "p99.9", "max"));
+        for (LatencyHistogram histogram : finalizeLatencies) {
+            histogram.writeTo(sb);
+        }
+        catalogLoadLatency.writeTo(sb);
+
+        return sb;
+    }
+
+    /**
+     * This method publishes a histogram as an MBean named after it.
+     *
+     * @param mBeanServer - the server to register with.
+     * @param histogram - the histogram.
+     * @throws JMException - thrown if the MBean cannot be registered.
+     */
+    private static void registerHistogram(MBeanServer mBeanServer, LatencyHistogram histogram) throws JMException {
+        mBeanServer.registerMBean(histogram, new ObjectName(JMX_DOMAIN + ":type=LatencyHistogram,name=" +
+                                                            histogram.getName()));
+    }
+}
@@ -0,0 +1,67 @@
+package com.la3ypotato.toolrenter.metrics;
+
+/**
+ * This interface is the JMX view of the rental counters. The latency histograms are published as their own MBeans.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public interface RentalMetricsMBean {
+
+    /**
+     * Getter for the number of finalized rental agreements.
+     *
+     * @return - the quote count.
+     */
+    long getQuoteCount();
+
+    /**
+     * Getter for the number of rejected tool codes.
+     *
+     * @return - the failure count.
+     */
+    long getToolCodeFailures();
+
+    /**
+     * Getter for the number of rejected rental days.
+     *
+     * @return - the failure count.
+     */
+    long getRentalDaysFailures();
+
+    /**
+     * Getter for the number of rejected discount percents.
+     *
+     * @return - the failure count.
+     */
+    long getDiscountFailures();
+
+    /**
+     * Getter for the number of rejected checkout dates.
+     *
+     * @return - the failure count.
+     */
+    long getCheckoutDateFailures();
+
+    /**
+     * Getter for the number of catalog loads and reloads.
+     *
+     * @return - the load count.
+     */
+    long getCatalogLoadCount();
+
+    /**
+     * Getter for how long the last catalog load took.
+     *
+     * @return - the time in nanoseconds, or 0 if no catalog has been loaded.
+     */
+    long getLastCatalogLoadNanos();
+
+    /**
+     * This method formats every counter and histogram as text.
+     *
+     * @return - the text dump.
+     */
+    String dump();
+}
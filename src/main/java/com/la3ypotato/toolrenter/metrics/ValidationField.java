@@ -0,0 +1,36 @@
+package com.la3ypotato.toolrenter.metrics;
+
+/**
+ * This enum names the rental inputs whose validation failures are counted.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public enum ValidationField {
+    TOOL_CODE("toolCode"),
+    RENTAL_DAYS("rentalDays"),
+    DISCOUNT("discount"),
+    CHECKOUT_DATE("checkoutDate");
+
+    // Class properties
+    private final String fieldName;
+
+    /**
+     * Creates a validation field.
+     *
+     * @param fieldName - the name of the field in requests and error messages.
+     */
+    ValidationField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * Getter for fieldName.
+     *
+     * @return - the name of the field in requests and error messages (ex: rentalDays).
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+}
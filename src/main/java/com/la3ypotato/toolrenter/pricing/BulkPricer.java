@@ -0,0 +1,152 @@
+package com.la3ypotato.toolrenter.pricing;
+
+import com.la3ypotato.toolrenter.tool.Tool;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class prices large numbers of rental requests in parallel on a work-stealing fork-join pool. The request array
+ * is split in half recursively until the slices are small enough to price directly, and each result is written to the
+ * same index as its request, so the output order always matches the input order.
+ *
+ * Requests are priced by a PricingEngine, which holds no per-quote state, and every Quote it returns is immutable. A
+ * single BulkPricer can therefore be used by many threads at once.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class BulkPricer {
+    // Smallest slice of requests that is worth splitting across workers.
+    private static final int MIN_SLICE_SIZE = 256;
+    // Number of slices per worker, so idle workers have something to steal when some slices price slower than others.
+    private static final int SLICES_PER_WORKER = 8;
+    // Class properties
+    private final PricingEngine pricingEngine;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a bulk pricer for the default engine that runs on the common fork-join pool, which is sized to the number
+     * of available cores.
+     */
+    public BulkPricer() {
+        this(PricingEngine.getInstance(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a bulk pricer that runs on the passed pool.
+     *
+     * @param pricingEngine - the engine used to price each request.
+     * @param pool - the fork-join pool to price on.
+     */
+    public BulkPricer(PricingEngine pricingEngine, ForkJoinPool pool) {
+        this.pricingEngine = pricingEngine;
+        this.pool = pool;
+    }
+
+    /**
+     * This method prices every passed request in parallel.
+     *
+     * @param requests - the requests to price.
+     * @return - the results, in the same order as the requests.
+     */
+    public List<BulkPricingResult> price(List<RentalRequest> requests) {
+        return Arrays.asList(price(requests.toArray(new RentalRequest[requests.size()])));
+    }
+
+    /**
+     * This method prices every passed request in parallel.
+     *
+     * @param requests - the requests to price.
+     * @return - the results, where results[i] belongs to requests[i].
+     */
+    public BulkPricingResult[] price(RentalRequest[] requests) {
+        BulkPricingResult[] results = new BulkPricingResult[requests.length];
+        if (requests.length == 0) {
+            return results;
+        }
+        int sliceSize = Math.max(MIN_SLICE_SIZE, requests.length / (pool.getParallelism() * SLICES_PER_WORKER));
+        pool.invoke(new PricingTask(pricingEngine, requests, results, 0, requests.length, sliceSize));
+        return results;
+    }
+
+    /**
+     * This method prices a single request.
+     *
+     * @param request - the request to price.
+     * @return - the quote, or the reason the request was rejected.
+     */
+    public BulkPricingResult price(RentalRequest request) {
+        return price(pricingEngine, request);
+    }
+
+    /**
+     * This method prices a single request with the passed engine.
+     *
+     * @param pricingEngine - the engine used to price the request.
+     * @param request - the request to price.
+     * @return - the quote, or the reason the request was rejected.
+     */
+    private static BulkPricingResult price(PricingEngine pricingEngine, RentalRequest request) {
+        if (request == null) {
+            return BulkPricingResult.failed(null, "Passed rental request cannot be null!");
+        }
+        // Invalid requests are rejected before pricing, so that they do not each cost an exception.
+        Tool tool = pricingEngine.getCatalog().findTool(request.getToolCode());
+        String rejection = PricingEngine.UNKNOWN_TOOL_MESSAGE;
+        if (tool != null) {
+            rejection = pricingEngine.checkRental(tool, request.getRentalDays(), request.getDiscount(),
+                                                  request.getCheckoutDate());
+        }
+        if (rejection != null) {
+            return BulkPricingResult.failed(request, rejection);
+        }
+        try {
+            Quote quote = pricingEngine.quote(tool, request.getRentalDays(), request.getDiscount(),
+                                              request.getCheckoutDate());
+            return BulkPricingResult.priced(request, quote);
+        } catch (IllegalArgumentException e) {
+            // Only a charge too large to calculate is left to reject here.
+            return BulkPricingResult.failed(request, e.getMessage());
+        }
+    }
+
+    /**
+     * Prices the requests in [from, to), splitting the range in half until it is no larger than the slice size.
+     */
+    private static class PricingTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final PricingEngine pricingEngine;
+        private final RentalRequest[] requests;
+        private final BulkPricingResult[] results;
+        private final int from;
+        private final int to;
+        private final int sliceSize;
+
+        private PricingTask(PricingEngine pricingEngine, RentalRequest[] requests, BulkPricingResult[] results,
+                            int from, int to, int sliceSize) {
+            this.pricingEngine = pricingEngine;
+            this.requests = requests;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.sliceSize = sliceSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= sliceSize) {
+                for (int i = from; i < to; i++) {
+                    results[i] = price(pricingEngine, requests[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new PricingTask(pricingEngine, requests, results, from, middle, sliceSize),
+                      new PricingTask(pricingEngine, requests, results, middle, to, sliceSize));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.la3ypotato.toolrenter.pricing;
+
+/**
+ * This class holds the outcome of pricing a single request in a bulk run. Exactly one of the quote or the error
+ * message is set.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class BulkPricingResult {
+    // Class properties
+    private final RentalRequest request;
+    private final Quote quote;
+    private final String error;
+
+    /**
+     * Creates a bulk pricing result.
+     *
+     * @param request - the priced request.
+     * @param quote - the priced rental, or null if the request failed.
+     * @param error - the validation error, or null if the request was priced.
+     */
+    private BulkPricingResult(RentalRequest request, Quote quote, String error) {
+        this.request = request;
+        this.quote = quote;
+        this.error = error;
+    }
+
+    /**
+     * Creates a result for a request that was priced.
+     *
+     * @param request - the priced request.
+     * @param quote - the priced rental.
+     * @return - the successful result.
+     */
+    public static BulkPricingResult priced(RentalRequest request, Quote quote) {
+        return new BulkPricingResult(request, quote, null);
+    }
+
+    /**
+     * Creates a result for a request that failed validation.
+     *
+     * @param request - the rejected request.
+     * @param error - the validation error.
+     * @return - the failed result.
+     */
+    public static BulkPricingResult failed(RentalRequest request, String error) {
+        return new BulkPricingResult(request, null, error);
+    }
+
+    /**
+     * This method checks if the request was priced.
+     *
+     * @return - true if the quote is available.
+     */
+    public boolean isPriced() {
+        return quote != null;
+    }
+
+    /**
+     * Getter for request.
+     *
+     * @return - the request this result belongs to.
+     */
+    public RentalRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Getter for quote.
+     *
+     * @return - the priced rental, or null if the request failed.
+     */
+    public Quote getQuote() {
+        return quote;
+    }
+
+    /**
+     * Getter for error.
+     *
+     * @return - the validation error, or null if the request was priced.
+     */
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,130 @@
+package com.la3ypotato.toolrenter.pricing;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class holds a priced cart: several tools rented together for the same period and discount. Each line item is a
+ * Quote of its own, priced from the shared ChargePeriod, and the cart totals are the sums of the line items. Like a
+ * Quote, a cart quote is immutable.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class CartQuote {
+    // Class properties
+    private final ChargePeriod period;
+    private final int discount;
+    private final List<Quote> lines;
+    private final long preDiscountCents;
+    private final long discountCents;
+    private final long finalCents;
+
+    /**
+     * Creates a cart quote. Cart quotes are created by the PricingEngine once every line item has been priced.
+     *
+     * @param period - the shared rental period.
+     * @param discount - discount percent applied to every line item.
+     * @param lines - the priced line items, in the order the tools were added.
+     */
+    CartQuote(ChargePeriod period, int discount, List<Quote> lines) {
+        this.period = period;
+        this.discount = discount;
+        this.lines = Collections.unmodifiableList(new ArrayList<>(lines));
+        long preDiscountTotal = 0;
+        long discountTotal = 0;
+        long finalTotal = 0;
+        for (Quote line : lines) {
+            preDiscountTotal += line.getPreDiscountCents();
+            discountTotal += line.getDiscountCents();
+            finalTotal += line.getFinalCents();
+        }
+        this.preDiscountCents = preDiscountTotal;
+        this.discountCents = discountTotal;
+        this.finalCents = finalTotal;
+    }
+
+    /**
+     * Getter for lines.
+     *
+     * @return - the unmodifiable list of priced line items.
+     */
+    public List<Quote> getLines() {
+        return lines;
+    }
+
+    /**
+     * Getter for period.
+     *
+     * @return - the rental period shared by every line item.
+     */
+    public ChargePeriod getPeriod() {
+        return period;
+    }
+
+    /**
+     * Getter for rentalDays.
+     *
+     * @return - the number of rental days.
+     */
+    public int getRentalDays() {
+        return period.getRentalDays();
+    }
+
+    /**
+     * Getter for checkoutDate.
+     *
+     * @return - the checkout date.
+     */
+    public LocalDate getCheckoutDate() {
+        return period.getCheckoutDate();
+    }
+
+    /**
+     * Getter for dueDate.
+     *
+     * @return - the due date.
+     */
+    public LocalDate getDueDate() {
+        return period.getDueDate();
+    }
+
+    /**
+     * Getter for discount.
+     *
+     * @return - the discount percent.
+     */
+    public int getDiscount() {
+        return discount;
+    }
+
+    /**
+     * Getter for preDiscountCents.
+     *
+     * @return - the total charge before the discount in cents.
+     */
+    public long getPreDiscountCents() {
+        return preDiscountCents;
+    }
+
+    /**
+     * Getter for discountCents.
+     *
+     * @return - the total discount amount in cents.
+     */
+    public long getDiscountCents() {
+        return discountCents;
+    }
+
+    /**
+     * Getter for finalCents.
+     *
+     * @return - the total final charge in cents.
+     */
+    public long getFinalCents() {
+        return finalCents;
+    }
+}
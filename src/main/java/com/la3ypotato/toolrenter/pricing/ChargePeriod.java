@@ -0,0 +1,122 @@
+package com.la3ypotato.toolrenter.pricing;
+
+import com.la3ypotato.toolrenter.tool.Tool;
+
+import java.time.LocalDate;
+
+/**
+ * This class holds the day-of-week breakdown of a rental period: its due date and how many of its charge days are
+ * weekdays, weekend days and weekday holidays. The breakdown depends only on the checkout date and rental days, so it
+ * is calculated once and each tool's weekday, weekend and holiday charge settings are then applied to it. A cart of
+ * tools rented for the same period shares a single ChargePeriod.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class ChargePeriod {
+    // Class properties
+    private final LocalDate checkoutDate;
+    private final int rentalDays;
+    private final LocalDate dueDate;
+    private final long weekdays;
+    private final long weekendDays;
+    private final long weekdayHolidays;
+
+    /**
+     * Creates a charge period. Periods are created by the PricingEngine, which counts the days against its calendar.
+     *
+     * @param checkoutDate - checkout date.
+     * @param rentalDays - number of rental days.
+     * @param dueDate - calculated due date.
+     * @param weekdays - weekdays from the day after checkout through the due date, including holidays.
+     * @param weekendDays - weekend days from the day after checkout through the due date.
+     * @param weekdayHolidays - observed holidays that land on one of the weekdays.
+     */
+    ChargePeriod(LocalDate checkoutDate, int rentalDays, LocalDate dueDate, long weekdays, long weekendDays,
+                 long weekdayHolidays) {
+        this.checkoutDate = checkoutDate;
+        this.rentalDays = rentalDays;
+        this.dueDate = dueDate;
+        this.weekdays = weekdays;
+        this.weekendDays = weekendDays;
+        this.weekdayHolidays = weekdayHolidays;
+    }
+
+    /**
+     * This method applies the charge settings of a tool to the period.
+     *
+     * @param tool - the tool being rented.
+     * @return - the number of charge days of the tool.
+     * @throws IllegalArgumentException - thrown if the tool is null.
+     */
+    public int getChargeDays(Tool tool) throws IllegalArgumentException {
+        if (tool == null) {
+            throw new IllegalArgumentException(PricingEngine.NULL_TOOL_MESSAGE);
+        }
+        int chargeDays = 0;
+        // Filter out holidays that land on weekdays. Deduct from the weekday charges if the holiday charge is set to
+        // false.
+        long chargedWeekdays = tool.isHolidayCharge() ? weekdays : weekdays - weekdayHolidays;
+
+        // Tally up all of the remaining charge days based on the tool settings.
+        chargeDays = tool.isWeekdayCharge() ? (int) (chargeDays + chargedWeekdays) : chargeDays;
+        chargeDays = tool.isWeekendCharge() ? (int) (chargeDays + weekendDays) : chargeDays;
+
+        return chargeDays;
+    }
+
+    /**
+     * Getter for checkoutDate.
+     *
+     * @return - the checkout date.
+     */
+    public LocalDate getCheckoutDate() {
+        return checkoutDate;
+    }
+
+    /**
+     * Getter for rentalDays.
+     *
+     * @return - the number of rental days.
+     */
+    public int getRentalDays() {
+        return rentalDays;
+    }
+
+    /**
+     * Getter for dueDate.
+     *
+     * @return - the due date.
+     */
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    /**
+     * Getter for weekdays.
+     *
+     * @return - the weekdays of the period, including weekday holidays.
+     */
+    public long getWeekdays() {
+        return weekdays;
+    }
+
+    /**
+     * Getter for weekendDays.
+     *
+     * @return - the weekend days of the period.
+     */
+    public long getWeekendDays() {
+        return weekendDays;
+    }
+
+    /**
+     * Getter for weekdayHolidays.
+     *
+     * @return - the observed holidays that land on a weekday of the period.
+     */
+    public long getWeekdayHolidays() {
+        return weekdayHolidays;
+    }
+}
@@ -0,0 +1,493 @@
+package com.la3ypotato.toolrenter.pricing;
+
+import com.la3ypotato.toolrenter.calendar.HolidayCalendar;
+import com.la3ypotato.toolrenter.jfr.ChargeAmountEvent;
+import com.la3ypotato.toolrenter.jfr.ChargeDaysEvent;
+import com.la3ypotato.toolrenter.tool.Tool;
+import com.la3ypotato.toolrenter.tool.ToolCatalog;
+import com.la3ypotato.toolrenter.tool.ToolCatalogSource;
+import com.la3ypotato.toolrenter.tool.Tools;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class prices rentals. Given the four rental inputs (tool code, rental days, discount percent, and checkout date)
+ * it calculates the due date, charge days, pre-discount charge, discount amount, and final charge and returns them as
+ * an immutable Quote.
+ *
+ * The engine holds no per-quote state; its only fields are the source of the tool catalog and the holiday calendar it
+ * prices against. Catalog snapshots are immutable and are swapped rather than modified when the catalog reloads. A
+ * single engine can therefore be shared by any number of threads without locking.
+ *
+ * An engine can also be given a {@link QuoteCache}, so rentals quoted again and again (ex: at the counter) are priced
+ * once per catalog version. The default engine caches when the toolrenter.quote.cache.size system property is set.
+ *
+ * Several tools rented together for the same period can be priced as a cart with quoteCart. The day-of-week breakdown
+ * of the period is then worked out once, as a ChargePeriod, and each tool's charge settings are applied to it.
+ *
+ * Counting charge days and calculating the charge are timed by Java Flight Recorder events. Quotes served from the
+ * cache skip both stages and record neither.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class PricingEngine {
+    public static final String QUOTE_CACHE_SIZE_PROPERTY = "toolrenter.quote.cache.size";
+    // For currency values, the rounding precision will always be up to 2 decimal places.
+    private static final int ROUNDING_PRECISION = 2;
+    private static final long RATE_UNITS_PER_CENT = Tool.RATE_UNITS_PER_DOLLAR / 100;
+    // Above this many cents the discount is calculated with BigDecimal. See calculateDiscountCents.
+    private static final long MAX_EXACT_CENTS = 10_000_000_000_000L;
+    // How the double discount multiplier (discount * 0.01) compares to the exact percentage, per discount percent.
+    private static final int[] DISCOUNT_MULTIPLIER_ERROR = new int[101];
+    static {
+        for (int discount = 0; discount <= 100; discount++) {
+            BigDecimal multiplier = BigDecimal.valueOf(discount * 0.01);
+            DISCOUNT_MULTIPLIER_ERROR[discount] = multiplier.compareTo(BigDecimal.valueOf(discount, 2));
+        }
+    }
+    // Reasons a rental is rejected, shared by the throwing and the checking paths.
+    static final String UNKNOWN_TOOL_MESSAGE = "Tool does not exist in availableTools HashMap!";
+    static final String NULL_TOOL_MESSAGE = "The passed target tool cannot be null!";
+    private static final String DISCOUNT_MESSAGE = "Discount argument is not within bounds [0,100]";
+    private static final String NULL_DATE_MESSAGE = "Passed checkout date cannot be null!";
+    private static final String RENTAL_DAYS_MESSAGE = "Passed number of rental days must be greater than zero!";
+    // Class properties
+    private final ToolCatalogSource catalogSource;
+    private final HolidayCalendar holidayCalendar;
+    private final QuoteCache quoteCache;
+
+    /**
+     * Lazily creates the default engine the first time it is requested. The JVM guarantees the holder class is
+     * initialized exactly once, so no locking is required on the read path.
+     */
+    private static class DefaultEngineHolder {
+        private static final PricingEngine INSTANCE =
+                new PricingEngine(Tools.getInstance(), HolidayCalendar.getInstance(),
+                                  Integer.getInteger(QUOTE_CACHE_SIZE_PROPERTY, 0));
+    }
+
+    /**
+     * Creates a pricing engine that always prices against the current catalog of the passed source.
+     *
+     * @param catalogSource - source of the tools available for rent.
+     * @param holidayCalendar - the observed holidays.
+     */
+    public PricingEngine(ToolCatalogSource catalogSource, HolidayCalendar holidayCalendar) {
+        this(catalogSource, holidayCalendar, 0);
+    }
+
+    /**
+     * Creates a pricing engine that always prices against the current catalog of the passed source, and caches up to
+     * the passed number of quotes.
+     *
+     * @param catalogSource - source of the tools available for rent.
+     * @param holidayCalendar - the observed holidays.
+     * @param quoteCacheSize - the most quotes to cache, or 0 to price every quote.
+     * @throws IllegalArgumentException - thrown if the cache size is negative.
+     */
+    public PricingEngine(ToolCatalogSource catalogSource, HolidayCalendar holidayCalendar, int quoteCacheSize)
+            throws IllegalArgumentException {
+        if (quoteCacheSize < 0) {
+            throw new IllegalArgumentException("Quote cache size cannot be negative!");
+        }
+        this.catalogSource = catalogSource;
+        this.holidayCalendar = holidayCalendar;
+        this.quoteCache = quoteCacheSize == 0 ? null : new QuoteCache(quoteCacheSize);
+    }
+
+    /**
+     * Creates a pricing engine for a fixed set of tools.
+     *
+     * @param availableTools - Map of upper case tool codes to the tools available for rent.
+     * @param holidayCalendar - the observed holidays.
+     */
+    public PricingEngine(Map<String, Tool> availableTools, HolidayCalendar holidayCalendar) {
+        this(new ToolCatalog(availableTools, 0, "fixed"), holidayCalendar);
+    }
+
+    /**
+     * This method returns the engine for the tools loaded from the CSV file and the default holiday calendar.
+     *
+     * @return - the default PricingEngine instance.
+     */
+    public static PricingEngine getInstance() {
+        return DefaultEngineHolder.INSTANCE;
+    }
+
+    /**
+     * This method looks up the tool for the passed tool code. The lookup ignores case.
+     *
+     * @param toolCode - tool code for the target tool to rent.
+     * @return - the tool for the code.
+     * @throws IllegalArgumentException - thrown if the tool code does not exist in the catalog.
+     */
+    public Tool findTool(String toolCode) throws IllegalArgumentException {
+        Tool tool = catalogSource.getCatalog().findTool(toolCode);
+        if (tool == null) {
+            throw new IllegalArgumentException(UNKNOWN_TOOL_MESSAGE);
+        }
+
+        return tool;
+    }
+
+    /**
+     * This method prices a rental for the passed tool code.
+     *
+     * @param toolCode - tool code for the target tool to rent.
+     * @param rentalDays - number of rental days (must be at least 1).
+     * @param discount - discount percent within [0,100] (i.e. 10 = 10%).
+     * @param checkoutDate - checkout date.
+     * @return - the priced rental.
+     * @throws IllegalArgumentException - thrown if the tool code does not exist or any other input is invalid.
+     */
+    public Quote quote(String toolCode, int rentalDays, int discount, LocalDate checkoutDate)
+            throws IllegalArgumentException {
+        return quote(findTool(toolCode), rentalDays, discount, checkoutDate);
+    }
+
+    /**
+     * This method prices a rental for a tool that has already been looked up. This allows a caller to hold on to the
+     * tool (and its rates) that a rental was started with.
+     *
+     * @param tool - the tool to rent.
+     * @param rentalDays - number of rental days (must be at least 1).
+     * @param discount - discount percent within [0,100] (i.e. 10 = 10%).
+     * @param checkoutDate - checkout date.
+     * @return - the priced rental.
+     * @throws IllegalArgumentException - thrown if any input is invalid.
+     */
+    public Quote quote(Tool tool, int rentalDays, int discount, LocalDate checkoutDate)
+            throws IllegalArgumentException {
+        if (quoteCache != null && tool != null && checkoutDate != null) {
+            // A tool held from an older catalog is priced without the cache, as its rates may have changed since.
+            ToolCatalog catalog = catalogSource.getCatalog();
+            if (catalog.isCurrentTool(tool)) {
+                return quoteCache.get(this, catalog.getVersion(), tool, rentalDays, discount, checkoutDate);
+            }
+        }
+
+        return calculateQuote(tool, rentalDays, discount, checkoutDate);
+    }
+
+    /**
+     * This method prices a rental without consulting the quote cache.
+     *
+     * @param tool - the tool to rent.
+     * @param rentalDays - number of rental days (must be at least 1).
+     * @param discount - discount percent within [0,100] (i.e. 10 = 10%).
+     * @param checkoutDate - checkout date.
+     * @return - the priced rental.
+     * @throws IllegalArgumentException - thrown if any input is invalid.
+     */
+    Quote calculateQuote(Tool tool, int rentalDays, int discount, LocalDate checkoutDate)
+            throws IllegalArgumentException {
+        String rejection = checkRental(tool, rentalDays, discount, checkoutDate);
+        if (rejection != null) {
+            throw new IllegalArgumentException(rejection);
+        }
+        // Perform the rental agreement calculations per the specification.
+        ChargeDaysEvent chargeDaysEvent = new ChargeDaysEvent();
+        chargeDaysEvent.begin();
+        ChargePeriod period = analyzePeriod(checkoutDate, rentalDays);
+        int chargeDays = period.getChargeDays(tool);
+        chargeDaysEvent.complete(tool.getToolCode(), rentalDays, chargeDays);
+
+        return price(tool, discount, period, chargeDays);
+    }
+
+    /**
+     * This method checks the inputs of a rental in the same order as calculateQuote, but returns the reason the rental
+     * would be rejected rather than throwing it.
+     *
+     * @param tool - the tool to rent.
+     * @param rentalDays - number of rental days (must be at least 1).
+     * @param discount - discount percent within [0,100] (i.e. 10 = 10%).
+     * @param checkoutDate - checkout date.
+     * @return - the reason the rental would be rejected, or null if every input is valid.
+     */
+    String checkRental(Tool tool, int rentalDays, int discount, LocalDate checkoutDate) {
+        if (tool == null) {
+            return NULL_TOOL_MESSAGE;
+        } else if (discount < 0 || discount > 100) {
+            return DISCOUNT_MESSAGE;
+        } else if (checkoutDate == null) {
+            return NULL_DATE_MESSAGE;
+        } else if (rentalDays <= 0) {
+            return RENTAL_DAYS_MESSAGE;
+        }
+
+        return null;
+    }
+
+    /**
+     * This method prices several tools rented together for the same period with the same discount. The period is
+     * analyzed once and shared by every line item, and each line is priced the same as a single quote of its tool.
+     * Carts are always priced without the quote cache.
+     *
+     * @param tools - the tools to rent, one per line item. A tool may appear more than once.
+     * @param rentalDays - number of rental days (must be at least 1).
+     * @param discount - discount percent within [0,100] (i.e. 10 = 10%), applied to every line item.
+     * @param checkoutDate - checkout date.
+     * @return - the priced cart, with its line items in the order of the passed tools.
+     * @throws IllegalArgumentException - thrown if the cart is empty, holds a null tool, or any other input is invalid.
+     */
+    public CartQuote quoteCart(List<Tool> tools, int rentalDays, int discount, LocalDate checkoutDate)
+            throws IllegalArgumentException {
+        if (tools == null || tools.isEmpty()) {
+            throw new IllegalArgumentException("A cart must hold at least one tool!");
+        } else if (tools.contains(null)) {
+            throw new IllegalArgumentException(NULL_TOOL_MESSAGE);
+        } else if (discount < 0 || discount > 100) {
+            throw new IllegalArgumentException(DISCOUNT_MESSAGE);
+        }
+        ChargePeriod period = analyzePeriod(checkoutDate, rentalDays);
+        List<Quote> lines = new ArrayList<>(tools.size());
+        for (Tool tool : tools) {
+            lines.add(price(tool, discount, period, period.getChargeDays(tool)));
+        }
+
+        return new CartQuote(period, discount, lines);
+    }
+
+    /**
+     * This method works out the due date and the day-of-week breakdown of a rental period against the engine's holiday
+     * calendar.
+     *
+     * @param checkoutDate - checkout date.
+     * @param rentalDays - number of rental days (must be at least 1).
+     * @return - the analyzed period.
+     * @throws IllegalArgumentException - thrown if the checkout date is null or the rental days are less than 1.
+     */
+    public ChargePeriod analyzePeriod(LocalDate checkoutDate, int rentalDays) throws IllegalArgumentException {
+        LocalDate dueDate = calculateDueDate(checkoutDate, rentalDays);
+        // Adding one day to exclude the checkout day as specified in the requirements. The due date itself is a valid
+        // charge day, so the charge period is the inclusive range [checkoutDate + 1, dueDate].
+        long firstChargeDay = checkoutDate.toEpochDay() + 1;
+        long lastChargeDay = dueDate.toEpochDay();
+        if (lastChargeDay < firstChargeDay) {
+            return new ChargePeriod(checkoutDate, rentalDays, dueDate, 0, 0, 0);
+        }
+
+        // Derive the weekday and weekend counts arithmetically rather than walking the range a day at a time.
+        long totalDays = lastChargeDay - firstChargeDay + 1;
+        long weekdays = countWeekdaysBefore(lastChargeDay + 1) - countWeekdaysBefore(firstChargeDay);
+        long weekendDays = totalDays - weekdays;
+        // Holidays that land on a weekend are already covered by the weekend charge, so only weekday holidays matter.
+        long holidays = holidayCalendar.countWeekdayHolidays(checkoutDate.plusDays(1), dueDate);
+
+        return new ChargePeriod(checkoutDate, rentalDays, dueDate, weekdays, weekendDays, holidays);
+    }
+
+    /**
+     * This method calculates the charges of one tool over an analyzed period.
+     *
+     * @param tool - the tool to rent.
+     * @param discount - discount percent within [0,100].
+     * @param period - the analyzed rental period.
+     * @param chargeDays - the charge days of the tool over the period.
+     * @return - the priced rental.
+     * @throws IllegalArgumentException - thrown if a charge is too large to hold in cents.
+     */
+    private Quote price(Tool tool, int discount, ChargePeriod period, int chargeDays) throws IllegalArgumentException {
+        ChargeAmountEvent chargeAmountEvent = new ChargeAmountEvent();
+        chargeAmountEvent.begin();
+        long preDiscountCents = calculatePreDiscountCents(chargeDays, tool);
+        long discountCents;
+        long finalCents;
+        boolean exact = preDiscountCents >= 0 && preDiscountCents < MAX_EXACT_CENTS;
+        if (exact) {
+            discountCents = calculateDiscountCents(discount, preDiscountCents);
+            finalCents = preDiscountCents - discountCents;
+        } else {
+            // Charges this large (or negative) keep the original BigDecimal calculation over the double amounts.
+            BigDecimal preDiscountCharge = BigDecimal.valueOf(Quote.toDollars(preDiscountCents));
+            discountCents = discount == 0 ? 0 : toCents(calculateDiscountAmount(discount, preDiscountCharge));
+            finalCents = toCents(preDiscountCharge.subtract(BigDecimal.valueOf(Quote.toDollars(discountCents)))
+                                                  .setScale(ROUNDING_PRECISION, RoundingMode.HALF_UP));
+        }
+        chargeAmountEvent.complete(tool.getToolCode(), chargeDays, discount, finalCents, exact);
+        return new Quote(tool, period.getRentalDays(), discount, period.getCheckoutDate(), period.getDueDate(),
+                         chargeDays, preDiscountCents, discountCents, finalCents);
+    }
+
+    /**
+     * Getter for quoteCache.
+     *
+     * @return - the quote cache, or null if the engine prices every quote.
+     */
+    public QuoteCache getQuoteCache() {
+        return quoteCache;
+    }
+
+    /**
+     * This method returns the catalog snapshot the engine is currently pricing against.
+     *
+     * @return - the current ToolCatalog.
+     */
+    public ToolCatalog getCatalog() {
+        return catalogSource.getCatalog();
+    }
+
+    /**
+     * Getter for availableTools.
+     *
+     * @return - This is the map that contains the available tools for rent in the current catalog.
+     */
+    public Map<String, Tool> getAvailableTools() {
+        return catalogSource.getCatalog().getTools();
+    }
+
+    /**
+     * This method calculates the tool rental due date by adding the user defined rental days with the user defined
+     * checkout date.
+     *
+     * @param checkoutDate - checkout date for the target tool to rent.
+     * @param rentalDays - number of rental days that the target tool wil be checked out for.
+     * @return - the expected return date (or due date) for the targe tool for rent.
+     * @throws IllegalArgumentException - thrown if the rental days is <= 0 and if the checkout date is null.
+     */
+    private static LocalDate calculateDueDate(LocalDate checkoutDate, int rentalDays) throws IllegalArgumentException {
+        if (checkoutDate == null) {
+            throw new IllegalArgumentException(NULL_DATE_MESSAGE);
+        } else if (rentalDays <= 0) {
+            throw new IllegalArgumentException(RENTAL_DAYS_MESSAGE);
+        }
+        // Perform the calculation if the above checks clear.
+        return checkoutDate.plusDays(rentalDays);
+    }
+
+    /**
+     * This method counts the number of weekdays (Monday through Friday) that occur before the passed epoch day. The
+     * count is relative to Monday 12/29/1969 (epoch day -3), so it is only meaningful when subtracted from another
+     * count to find the weekdays within a range. Floor division keeps the result correct for dates before the epoch.
+     *
+     * @param epochDay - the exclusive upper bound epoch day.
+     * @return - the number of weekdays between Monday 12/29/1969 and the passed epoch day.
+     */
+    private static long countWeekdaysBefore(long epochDay) {
+        // 1/1/1970 (epoch day 0) is a Thursday, so shift the day count so that zero lands on a Monday.
+        long daysSinceMonday = epochDay + 3;
+        long fullWeeks = Math.floorDiv(daysSinceMonday, 7);
+        long remainingDays = Math.floorMod(daysSinceMonday, 7);
+        // Every full week holds five weekdays and the partial week starts on a Monday.
+        return fullWeeks * 5 + Math.min(remainingDays, 5);
+    }
+
+    /**
+     * This method calculates the pre-discount charge in cents by multiplying the passed charge days with the daily
+     * rate of the tool. Note, the result will be rounded up.
+     *
+     * The whole number calculation gives the same result as multiplying the daily charge with BigDecimal. Rates with
+     * more than four decimal places, and charges too large for a long, still use BigDecimal.
+     *
+     * @param chargeDays - previously calculated number of valid charge days.
+     * @param tool - the tool being rented.
+     * @return - the pre-discount charge in cents.
+     */
+    private static long calculatePreDiscountCents(int chargeDays, Tool tool) {
+        long dailyRate = tool.getDailyRate();
+        if (dailyRate != Tool.INEXACT_RATE && dailyRate >= 0) {
+            try {
+                return roundHalfUp(Math.multiplyExact(dailyRate, (long) chargeDays), RATE_UNITS_PER_CENT);
+            } catch (ArithmeticException e) {
+                // Fall through to BigDecimal.
+            }
+        }
+
+        return toCents(calculatePreDiscountCharge(chargeDays, tool.getDailyCharge()));
+    }
+
+    /**
+     * This method calculates the discount amount in cents. Note, the result will be rounded up.
+     *
+     * The specification multiplies the pre-discount charge by (discount * 0.01), and that double is not always exactly
+     * the discount percentage (ex: 57 * 0.01 = 0.5700000000000001). The error is far smaller than a hundredth of a cent
+     * for any realistic charge, so it only matters when the exact discount lands on half a cent: it decides whether the
+     * half rounds up or down. That is looked up per percent, keeping the result the same as the BigDecimal calculation.
+     *
+     * @param discount - discount amount (Assumed passed value is of percent format i.e. 10 = 10% & 10 != 0.1)
+     * @param preDiscountCents - the previously calculated pre-discount charge in cents, from zero up to
+     *                           MAX_EXACT_CENTS.
+     * @return - the discount amount in cents.
+     */
+    private static long calculateDiscountCents(int discount, long preDiscountCents) {
+        // No need to calculate the discount if there isn't one.
+        if (discount == 0) {
+            return 0;
+        }
+        // The exact discount in hundredths of a cent.
+        long exactDiscount = preDiscountCents * discount;
+        long cents = exactDiscount / 100;
+        long remainder = exactDiscount % 100;
+        if (remainder > 50 || (remainder == 50 && DISCOUNT_MULTIPLIER_ERROR[discount] >= 0)) {
+            cents++;
+        }
+
+        return cents;
+    }
+
+    /**
+     * This method divides the passed non-negative value, rounding halves up.
+     *
+     * @param value - the value to divide.
+     * @param divisor - the divisor.
+     * @return - the rounded quotient.
+     */
+    private static long roundHalfUp(long value, long divisor) {
+        long quotient = value / divisor;
+        return value % divisor * 2 >= divisor ? quotient + 1 : quotient;
+    }
+
+    /**
+     * This method converts a rounded currency amount to cents.
+     *
+     * @param amount - the currency amount, rounded to two decimal places.
+     * @return - the amount in cents.
+     * @throws IllegalArgumentException - thrown if the amount is too large to hold in cents.
+     */
+    private static long toCents(BigDecimal amount) throws IllegalArgumentException {
+        try {
+            return amount.movePointRight(ROUNDING_PRECISION).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Calculated charge is too large: " + amount);
+        }
+    }
+
+    /**
+     * This method calculates the pre-discount charge by multiplying the passed charge days with the daily charge. Values
+     * are converted to BigDecimal to handle larger decimal values to prevent further issues. Note, the result will be
+     * rounded up.
+     *
+     * @param chargeDays - previously calculated number of valid charge days.
+     * @param dailyCharge - the daily charge of the tool.
+     * @return - the pre-discount charge rounded to two decimal places.
+     */
+    private static BigDecimal calculatePreDiscountCharge(int chargeDays, double dailyCharge) {
+        BigDecimal cd = BigDecimal.valueOf(chargeDays);
+        BigDecimal dc = BigDecimal.valueOf(dailyCharge);
+        // Rounding the currency up as defined in the specification.
+        return cd.multiply(dc).setScale(ROUNDING_PRECISION, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * This method calculates the discount amount by multiplying the user defined discount by 0.01 and then multiplying
+     * that result with the pre-discount charge. This will result in the discount amount and prevents any need for
+     * division. Note, the result will be rounded up.
+     *
+     * @param discount - discount amount (Assumed passed value is of percent format i.e. 10 = 10% & 10 != 0.1)
+     * @param preDiscountCharge - the previously calculated pre-discount charge.
+     * @return - the discount amount rounded to two decimal places.
+     */
+    private static BigDecimal calculateDiscountAmount(int discount, BigDecimal preDiscountCharge) {
+        BigDecimal d = BigDecimal.valueOf(discount * 0.01);
+        // discount_price = (original_price * (discount * 0.01)). Rounding up as defined in specification.
+        return preDiscountCharge.multiply(d).setScale(ROUNDING_PRECISION, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,182 @@
+package com.la3ypotato.toolrenter.pricing;
+
+import com.la3ypotato.toolrenter.tool.Tool;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * This class holds a priced rental: the four inputs the rental was quoted with and every value calculated from them.
+ * Quotes are immutable so they can be cached, shared between threads, and handed out without copying.
+ *
+ * Charges are held as whole cents. The double getters return the same values the charges had before they were held
+ * in cents.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class Quote {
+    // Largest number of cents that is an exact double.
+    private static final long MAX_EXACT_CENTS = 1L << 53;
+    // Input properties
+    private final Tool tool;
+    private final int rentalDays;
+    private final int discount;
+    private final LocalDate checkoutDate;
+    // Calculated properties
+    private final LocalDate dueDate;
+    private final int chargeDays;
+    private final long preDiscountCents;
+    private final long discountCents;
+    private final long finalCents;
+
+    /**
+     * Creates a quote. Quotes are created by the PricingEngine once every value has been calculated.
+     *
+     * @param tool - the tool being rented.
+     * @param rentalDays - number of rental days.
+     * @param discount - discount percent.
+     * @param checkoutDate - checkout date.
+     * @param dueDate - calculated due date.
+     * @param chargeDays - calculated number of charge days.
+     * @param preDiscountCents - calculated charge before the discount in cents.
+     * @param discountCents - calculated discount amount in cents.
+     * @param finalCents - calculated final charge in cents.
+     */
+    Quote(Tool tool, int rentalDays, int discount, LocalDate checkoutDate, LocalDate dueDate, int chargeDays,
+          long preDiscountCents, long discountCents, long finalCents) {
+        this.tool = tool;
+        this.rentalDays = rentalDays;
+        this.discount = discount;
+        this.checkoutDate = checkoutDate;
+        this.dueDate = dueDate;
+        this.chargeDays = chargeDays;
+        this.preDiscountCents = preDiscountCents;
+        this.discountCents = discountCents;
+        this.finalCents = finalCents;
+    }
+
+    /**
+     * Getter for tool.
+     *
+     * @return - the tool being rented.
+     */
+    public Tool getTool() {
+        return tool;
+    }
+
+    /**
+     * Getter for rentalDays.
+     *
+     * @return - int rental days
+     */
+    public int getRentalDays() {
+        return rentalDays;
+    }
+
+    /**
+     * Getter for discount.
+     *
+     * @return - int discount percent
+     */
+    public int getDiscount() {
+        return discount;
+    }
+
+    /**
+     * Getter for checkoutDate.
+     *
+     * @return - LocalDate checkout date
+     */
+    public LocalDate getCheckoutDate() {
+        return checkoutDate;
+    }
+
+    /**
+     * Getter for dueDate.
+     *
+     * @return - LocalDate due date
+     */
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    /**
+     * Getter for chargeDays.
+     *
+     * @return - int charge days
+     */
+    public int getChargeDays() {
+        return chargeDays;
+    }
+
+    /**
+     * Getter for preDiscountCents.
+     *
+     * @return - long pre-discount charge in cents.
+     */
+    public long getPreDiscountCents() {
+        return preDiscountCents;
+    }
+
+    /**
+     * Getter for discountCents.
+     *
+     * @return - long discount amount in cents.
+     */
+    public long getDiscountCents() {
+        return discountCents;
+    }
+
+    /**
+     * Getter for finalCents.
+     *
+     * @return - long final charge in cents.
+     */
+    public long getFinalCents() {
+        return finalCents;
+    }
+
+    /**
+     * Getter for preDiscountCharge.
+     *
+     * @return - double pre-discount charge.
+     */
+    public double getPreDiscountCharge() {
+        return toDollars(preDiscountCents);
+    }
+
+    /**
+     * Getter for discountAmount.
+     *
+     * @return - double discount amount.
+     */
+    public double getDiscountAmount() {
+        return toDollars(discountCents);
+    }
+
+    /**
+     * Getter for finalCharge.
+     *
+     * @return - double final charge.
+     */
+    public double getFinalCharge() {
+        return toDollars(finalCents);
+    }
+
+    /**
+     * This method converts cents to dollars. Below 2^53 cents both values are exact doubles, so the single division
+     * is correctly rounded.
+     *
+     * @param cents - the amount in cents.
+     * @return - the amount in dollars.
+     */
+    static double toDollars(long cents) {
+        if (Math.abs(cents) < MAX_EXACT_CENTS) {
+            return cents / 100.0;
+        }
+
+        return BigDecimal.valueOf(cents, 2).doubleValue();
+    }
+}
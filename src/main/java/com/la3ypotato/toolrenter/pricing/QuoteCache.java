@@ -0,0 +1,347 @@
+package com.la3ypotato.toolrenter.pricing;
+
+import com.la3ypotato.toolrenter.tool.Tool;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is a bounded cache of priced rentals, keyed by tool code, rental days, discount percent, checkout date
+ * and catalog version. It is attached to a {@link PricingEngine}, which only consults it for tools of the catalog it is
+ * currently pricing against.
+ *
+ * The cache is split into stripes by key hash, each with its own lock, so threads quoting different rentals rarely
+ * wait on each other. Each stripe evicts with a segmented LRU: a new quote enters a probation segment and is promoted
+ * to a protected segment (80% of the stripe) when it is hit again. Only probation quotes are evicted, and quotes
+ * demoted from the protected segment get a second chance in probation, so a burst of one-off quotes (ex: a batch file)
+ * cannot push out the combinations the counter re-quotes all day.
+ *
+ * The catalog version is part of every key, so a quote priced against an older catalog is never returned. The first
+ * lookup for a newer version drops every cached quote, so the old quotes do not use up the cache either.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class QuoteCache {
+    private static final int MAX_STRIPES = 16;
+    private static final int PROTECTED_PERCENT = 80;
+    // Class properties
+    private final int maximumSize;
+    private final Stripe[] stripes;
+    private final AtomicLong newestCatalogVersion = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maximumSize - the most quotes the cache holds.
+     * @throws IllegalArgumentException - thrown if the maximum size is less than 1.
+     */
+    public QuoteCache(int maximumSize) throws IllegalArgumentException {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Quote cache size must be at least 1!");
+        }
+        this.maximumSize = maximumSize;
+        int stripeCount = Integer.highestOneBit(Math.min(MAX_STRIPES, maximumSize));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            // Spread the remainder over the first stripes so the capacities add up to the maximum size.
+            stripes[i] = new Stripe(maximumSize / stripeCount + (i < maximumSize % stripeCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * This method returns the cached quote for a rental, pricing and caching it with the passed engine on a miss.
+     * Invalid rentals are not cached; their exception is thrown on every attempt.
+     *
+     * @param engine - the engine that prices a missing quote.
+     * @param catalogVersion - the version of the catalog the tool belongs to.
+     * @param tool - the tool to rent.
+     * @param rentalDays - number of rental days.
+     * @param discount - discount percent.
+     * @param checkoutDate - checkout date.
+     * @return - the priced rental.
+     * @throws IllegalArgumentException - thrown if any input is invalid.
+     */
+    Quote get(PricingEngine engine, long catalogVersion, Tool tool, int rentalDays, int discount,
+              LocalDate checkoutDate) throws IllegalArgumentException {
+        long newestVersion = newestCatalogVersion.get();
+        if (catalogVersion > newestVersion && newestCatalogVersion.compareAndSet(newestVersion, catalogVersion)) {
+            clear();
+        }
+        Key key = new Key(catalogVersion, tool.getToolCode(), rentalDays, discount, checkoutDate.toEpochDay());
+        Stripe stripe = stripes[key.hash & (stripes.length - 1)];
+        Quote quote = stripe.get(key);
+        if (quote != null) {
+            hits.increment();
+            return quote;
+        }
+        misses.increment();
+        quote = engine.calculateQuote(tool, rentalDays, discount, checkoutDate);
+        int evicted = stripe.put(key, quote);
+        if (evicted > 0) {
+            evictions.add(evicted);
+        }
+
+        return quote;
+    }
+
+    /**
+     * This method drops every cached quote. The statistics are kept.
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    /**
+     * Getter for maximumSize.
+     *
+     * @return - the most quotes the cache holds.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * This method counts the cached quotes.
+     *
+     * @return - the number of quotes in the cache.
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * Getter for the number of lookups answered from the cache.
+     *
+     * @return - the hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Getter for the number of lookups that had to be priced.
+     *
+     * @return - the miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Getter for the number of quotes evicted to make room for others.
+     *
+     * @return - the eviction count.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * This method calculates the share of lookups answered from the cache.
+     *
+     * @return - the hit rate within [0,1], or 0 if there have been no lookups.
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+
+        return lookups == 0 ? 0 : hitCount / (double) lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "QuoteCache[size=" + size() + "/" + maximumSize + ", hits=" + getHitCount() + ", misses=" +
+               getMissCount() + ", evictions=" + getEvictionCount() + "]";
+    }
+
+    /**
+     * A key is the normalized inputs of one rental: the catalog's upper case tool code and the checkout date as an
+     * epoch day.
+     */
+    private static final class Key {
+        // Class properties
+        private final long catalogVersion;
+        private final String toolCode;
+        private final int rentalDays;
+        private final int discount;
+        private final long checkoutDay;
+        private final int hash;
+
+        /**
+         * Creates a key.
+         *
+         * @param catalogVersion - the version of the catalog the tool belongs to.
+         * @param toolCode - the tool code.
+         * @param rentalDays - number of rental days.
+         * @param discount - discount percent.
+         * @param checkoutDay - checkout date as an epoch day.
+         */
+        private Key(long catalogVersion, String toolCode, int rentalDays, int discount, long checkoutDay) {
+            this.catalogVersion = catalogVersion;
+            this.toolCode = toolCode;
+            this.rentalDays = rentalDays;
+            this.discount = discount;
+            this.checkoutDay = checkoutDay;
+            int h = toolCode.hashCode();
+            h = h * 31 + rentalDays;
+            h = h * 31 + discount;
+            h = h * 31 + Long.hashCode(checkoutDay);
+            h = h * 31 + Long.hashCode(catalogVersion);
+            // Mix the high bits down, since the stripe is picked from the low bits.
+            this.hash = h ^ (h >>> 16);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            } else if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+
+            return catalogVersion == key.catalogVersion && rentalDays == key.rentalDays &&
+                   discount == key.discount && checkoutDay == key.checkoutDay && toolCode.equals(key.toolCode);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A stripe is one independently locked part of the cache, holding the probation and protected segments.
+     */
+    private static final class Stripe {
+        // Class properties
+        private final int capacity;
+        private final int protectedCapacity;
+        // Both segments are in access order, so their first entry is the least recently used.
+        private final LinkedHashMap<Key, Quote> probation = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<Key, Quote> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+        private long catalogVersion;
+
+        /**
+         * Creates an empty stripe.
+         *
+         * @param capacity - the most quotes the stripe holds.
+         */
+        private Stripe(int capacity) {
+            this.capacity = capacity;
+            this.protectedCapacity = capacity * PROTECTED_PERCENT / 100;
+        }
+
+        /**
+         * This method looks up a quote and promotes it to the protected segment.
+         *
+         * @param key - the key.
+         * @return - the quote, or null if it is not cached.
+         */
+        private synchronized Quote get(Key key) {
+            if (!checkVersion(key)) {
+                return null;
+            }
+            Quote quote = protectedSegment.get(key);
+            if (quote != null || protectedCapacity == 0) {
+                return quote != null ? quote : probation.get(key);
+            }
+            quote = probation.remove(key);
+            if (quote != null) {
+                protectedSegment.put(key, quote);
+                if (protectedSegment.size() > protectedCapacity) {
+                    // Demote the least recently used protected quote to the most recent end of probation.
+                    Map.Entry<Key, Quote> demoted = removeEldest(protectedSegment);
+                    probation.put(demoted.getKey(), demoted.getValue());
+                }
+            }
+
+            return quote;
+        }
+
+        /**
+         * This method adds a quote to the probation segment, evicting the least recently used probation quotes if the
+         * stripe is full.
+         *
+         * @param key - the key.
+         * @param quote - the quote.
+         * @return - the number of evicted quotes.
+         */
+        private synchronized int put(Key key, Quote quote) {
+            if (!checkVersion(key) || protectedSegment.containsKey(key) || probation.containsKey(key)) {
+                // Another thread cached it first, or the catalog changed while it was priced.
+                return 0;
+            }
+            probation.put(key, quote);
+            int evicted = 0;
+            while (probation.size() + protectedSegment.size() > capacity) {
+                removeEldest(probation.isEmpty() ? protectedSegment : probation);
+                evicted++;
+            }
+
+            return evicted;
+        }
+
+        /**
+         * This method drops every quote in the stripe.
+         */
+        private synchronized void clear() {
+            probation.clear();
+            protectedSegment.clear();
+        }
+
+        /**
+         * This method counts the quotes in the stripe.
+         *
+         * @return - the number of quotes.
+         */
+        private synchronized int size() {
+            return probation.size() + protectedSegment.size();
+        }
+
+        /**
+         * This method drops the stripe's quotes when a key from a newer catalog arrives. The lock must be held.
+         *
+         * @param key - the key.
+         * @return - false if the key is from an older catalog than the stripe holds, so it must not be cached.
+         */
+        private boolean checkVersion(Key key) {
+            if (key.catalogVersion > catalogVersion) {
+                clear();
+                catalogVersion = key.catalogVersion;
+            }
+
+            return key.catalogVersion == catalogVersion;
+        }
+
+        /**
+         * This method removes the least recently used entry of a segment.
+         *
+         * @param segment - the segment, which must not be empty.
+         * @return - the removed entry.
+         */
+        private static Map.Entry<Key, Quote> removeEldest(LinkedHashMap<Key, Quote> segment) {
+            Iterator<Map.Entry<Key, Quote>> iterator = segment.entrySet().iterator();
+            Map.Entry<Key, Quote> eldest = iterator.next();
+            iterator.remove();
+
+            return eldest;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.la3ypotato.toolrenter.pricing;
+
+import java.time.LocalDate;
+
+/**
+ * This class holds the four inputs needed to price a rental: the tool code, the number of rental days, the discount
+ * percent, and the checkout date. Requests are immutable so they can be shared between pricing threads.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class RentalRequest {
+    // Class properties
+    private final String toolCode;
+    private final int rentalDays;
+    private final int discount;
+    private final LocalDate checkoutDate;
+
+    /**
+     * Creates a rental request. The values are validated when the request is priced, not here.
+     *
+     * @param toolCode - tool code for the target tool to rent.
+     * @param rentalDays - number of rental days.
+     * @param discount - discount percent (i.e. 10 = 10%).
+     * @param checkoutDate - checkout date.
+     */
+    public RentalRequest(String toolCode, int rentalDays, int discount, LocalDate checkoutDate) {
+        this.toolCode = toolCode;
+        this.rentalDays = rentalDays;
+        this.discount = discount;
+        this.checkoutDate = checkoutDate;
+    }
+
+    /**
+     * Getter for toolCode.
+     *
+     * @return - tool code for the target tool to rent.
+     */
+    public String getToolCode() {
+        return toolCode;
+    }
+
+    /**
+     * Getter for rentalDays.
+     *
+     * @return - number of rental days.
+     */
+    public int getRentalDays() {
+        return rentalDays;
+    }
+
+    /**
+     * Getter for discount.
+     *
+     * @return - discount percent.
+     */
+    public int getDiscount() {
+        return discount;
+    }
+
+    /**
+     * Getter for checkoutDate.
+     *
+     * @return - checkout date.
+     */
+    public LocalDate getCheckoutDate() {
+        return checkoutDate;
+    }
+
+    /**
+     * This method returns a printable format of the request.
+     *
+     * @return - String with the request values.
+     */
+    public String toString() {
+        return toolCode + " " + rentalDays + " " + discount + " " + checkoutDate;
+    }
+}
@@ -0,0 +1,17 @@
+package com.la3ypotato.toolrenter.receipt;
+
+/**
+ * The layouts a priced rental can be rendered in.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public enum ReceiptFormat {
+    // The labelled, one field per line layout printed at the counter.
+    TEXT,
+    // One comma separated record per rental, without currency symbols or grouping.
+    CSV,
+    // One flat JSON object per rental.
+    JSON
+}
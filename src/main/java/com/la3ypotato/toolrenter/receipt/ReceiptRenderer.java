@@ -0,0 +1,559 @@
+package com.la3ypotato.toolrenter.receipt;
+
+import com.la3ypotato.toolrenter.pricing.CartQuote;
+import com.la3ypotato.toolrenter.pricing.Quote;
+import com.la3ypotato.toolrenter.tool.Tool;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * This class renders priced rentals as text receipts, CSV records or JSON objects. Receipts are appended directly to a
+ * caller supplied StringBuilder or Writer, so rendering many rentals can reuse a single buffer.
+ *
+ * A cart of tools rented together is rendered as one combined agreement: the shared rental period once, each line item,
+ * and the cart totals. As CSV, a cart is one record per line item.
+ *
+ * Dates and currency amounts are formatted by hand from the whole number values of the quote. The output is the same as
+ * the en-US DateTimeFormatter and NumberFormat output the receipt layout is specified with. The only formatters used
+ * are shared constants or per-thread copies, so a renderer holds no mutable state and can be shared between threads.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class ReceiptRenderer {
+    // Header row for the CSV format.
+    public static final String CSV_HEADER = "toolCode,toolType,brand,rentalDays,checkoutDate,dueDate,dailyCharge," +
+                                            "chargeDays,preDiscountCharge,discountPercent,discountAmount,finalCharge";
+    // Specification requests that the receipt date is formatted with a 2 digit year code.
+    private static final DateTimeFormatter TEXT_DATE_FORMATTER = DateTimeFormatter.ofPattern("MM/dd/yy");
+    // CSV and JSON dates use the same format that is accepted on input.
+    private static final DateTimeFormatter RECORD_DATE_FORMATTER = DateTimeFormatter.ofPattern("M/d/yyyy");
+    // NumberFormat is not thread-safe, so each thread gets its own copy for the rates that cannot be formatted by hand.
+    private static final ThreadLocal<NumberFormat> CURRENCY_FORMAT = new ThreadLocal<NumberFormat>() {
+        @Override
+        protected NumberFormat initialValue() {
+            // This application assumes the locale is always en-US.
+            return NumberFormat.getCurrencyInstance(new Locale("en", "US"));
+        }
+    };
+    private static final long RATE_UNITS_PER_CENT = Tool.RATE_UNITS_PER_DOLLAR / 100;
+    // Class properties
+    private final ReceiptFormat format;
+
+    /**
+     * Creates a renderer for the passed format.
+     *
+     * @param format - the layout to render rentals in.
+     */
+    public ReceiptRenderer(ReceiptFormat format) {
+        if (format == null) {
+            throw new IllegalArgumentException("The passed receipt format cannot be null!");
+        }
+        this.format = format;
+    }
+
+    /**
+     * Getter for format.
+     *
+     * @return - the layout rentals are rendered in.
+     */
+    public ReceiptFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * This method renders the passed quote into a new String.
+     *
+     * @param quote - the priced rental.
+     * @return - the rendered receipt.
+     */
+    public String render(Quote quote) {
+        return render(quote, new StringBuilder(512)).toString();
+    }
+
+    /**
+     * This method appends the passed quote to the passed builder. Nothing is appended after the last field, so the
+     * caller decides how receipts are separated.
+     *
+     * @param quote - the priced rental.
+     * @param sb - the builder to append to.
+     * @return - the passed builder.
+     */
+    public StringBuilder render(Quote quote, StringBuilder sb) {
+        try {
+            render(quote, (Appendable) sb);
+        } catch (IOException e) {
+            // StringBuilder never throws.
+            throw new IllegalStateException(e);
+        }
+
+        return sb;
+    }
+
+    /**
+     * This method appends the passed quote to the passed output (ex: a Writer). Nothing is appended after the last
+     * field, so the caller decides how receipts are separated.
+     *
+     * @param quote - the priced rental.
+     * @param out - the output to append to.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    public void render(Quote quote, Appendable out) throws IOException {
+        if (quote == null) {
+            throw new IllegalArgumentException("The passed quote cannot be null!");
+        }
+        if (format == ReceiptFormat.TEXT) {
+            renderText(quote, out);
+        } else if (format == ReceiptFormat.CSV) {
+            renderCsv(quote, out);
+        } else {
+            renderJson(quote, out);
+        }
+    }
+
+    /**
+     * This method renders the passed cart into a new String.
+     *
+     * @param cartQuote - the priced cart.
+     * @return - the rendered agreement.
+     */
+    public String render(CartQuote cartQuote) {
+        StringBuilder sb = new StringBuilder(256 + cartQuote.getLines().size() * 256);
+        try {
+            render(cartQuote, sb);
+        } catch (IOException e) {
+            // StringBuilder never throws.
+            throw new IllegalStateException(e);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * This method appends the passed cart to the passed output as one combined agreement. Nothing is appended after the
+     * last field, so the caller decides how agreements are separated.
+     *
+     * @param cartQuote - the priced cart.
+     * @param out - the output to append to.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    public void render(CartQuote cartQuote, Appendable out) throws IOException {
+        if (cartQuote == null) {
+            throw new IllegalArgumentException("The passed cart quote cannot be null!");
+        }
+        if (format == ReceiptFormat.TEXT) {
+            renderCartText(cartQuote, out);
+        } else if (format == ReceiptFormat.CSV) {
+            for (int i = 0; i < cartQuote.getLines().size(); i++) {
+                if (i > 0) {
+                    out.append('\n');
+                }
+                renderCsv(cartQuote.getLines().get(i), out);
+            }
+        } else {
+            renderCartJson(cartQuote, out);
+        }
+    }
+
+    /**
+     * This method renders the cart as the shared rental period, then each line item, then the totals, with a blank
+     * line between each section:
+     *
+     * Rental Days, Checkout Date, Due Date and Discount Percent
+     * Tool Code, Tool Type, Tool Brand, Daily Rental Charge, Charge Days, Pre-discount Charge, Discount Amount and
+     * Final Charge of each line item
+     * Total Pre-discount Charge, Total Discount Amount and Total Final Charge
+     *
+     * @param cartQuote - the priced cart.
+     * @param out - the output to append to.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private void renderCartText(CartQuote cartQuote, Appendable out) throws IOException {
+        out.append("Rental Days: ");
+        appendLong(out, cartQuote.getRentalDays()).append('\n');
+        out.append("Checkout Date: ");
+        appendShortDate(out, cartQuote.getCheckoutDate()).append('\n');
+        out.append("Due Date: ");
+        appendShortDate(out, cartQuote.getDueDate()).append('\n');
+        out.append("Discount Percent: ");
+        appendLong(out, cartQuote.getDiscount()).append("%\n");
+        for (Quote line : cartQuote.getLines()) {
+            Tool tool = line.getTool();
+            out.append("\nTool Code: ").append(tool.getToolCode()).append('\n');
+            out.append("Tool Type: ").append(tool.getToolType()).append('\n');
+            out.append("Tool Brand: ").append(tool.getBrand()).append('\n');
+            out.append("Daily Rental Charge: ");
+            appendDailyCharge(out, tool).append('\n');
+            out.append("Charge Days: ");
+            appendLong(out, line.getChargeDays()).append('\n');
+            out.append("Pre-discount Charge: ");
+            appendCurrency(out, line.getPreDiscountCents()).append('\n');
+            out.append("Discount Amount: ");
+            appendCurrency(out, line.getDiscountCents()).append('\n');
+            out.append("Final Charge: ");
+            appendCurrency(out, line.getFinalCents()).append('\n');
+        }
+        out.append("\nTotal Pre-discount Charge: ");
+        appendCurrency(out, cartQuote.getPreDiscountCents()).append('\n');
+        out.append("Total Discount Amount: ");
+        appendCurrency(out, cartQuote.getDiscountCents()).append('\n');
+        out.append("Total Final Charge: ");
+        appendCurrency(out, cartQuote.getFinalCents());
+    }
+
+    /**
+     * This method renders the cart as a JSON object holding the shared period, a lines array with one object per line
+     * item in the single quote format, and the totals.
+     *
+     * @param cartQuote - the priced cart.
+     * @param out - the output to append to.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private void renderCartJson(CartQuote cartQuote, Appendable out) throws IOException {
+        out.append("{\"rentalDays\":");
+        appendLong(out, cartQuote.getRentalDays());
+        out.append(",\"checkoutDate\":\"");
+        appendRecordDate(out, cartQuote.getCheckoutDate());
+        out.append("\",\"dueDate\":\"");
+        appendRecordDate(out, cartQuote.getDueDate());
+        out.append("\",\"discountPercent\":");
+        appendLong(out, cartQuote.getDiscount());
+        out.append(",\"lines\":[");
+        for (int i = 0; i < cartQuote.getLines().size(); i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            renderJson(cartQuote.getLines().get(i), out);
+        }
+        out.append("],\"preDiscountCharge\":");
+        appendAmount(out, cartQuote.getPreDiscountCents());
+        out.append(",\"discountAmount\":");
+        appendAmount(out, cartQuote.getDiscountCents());
+        out.append(",\"finalCharge\":");
+        appendAmount(out, cartQuote.getFinalCents());
+        out.append('}');
+    }
+
+    /**
+     * This method renders the receipt in the following order, one labelled field per line:
+     *
+     * Tool Code
+     * Tool Type
+     * Tool Brand
+     * Rental Days
+     * Checkout Date
+     * Due Date
+     * Daily Rental Charge
+     * Charge Days
+     * Pre-discount Charge
+     * Discount Percent
+     * Discount Amount
+     * Final Charge
+     *
+     * @param quote - the priced rental.
+     * @param out - the output to append to.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private void renderText(Quote quote, Appendable out) throws IOException {
+        Tool tool = quote.getTool();
+        out.append("Tool Code: ").append(tool.getToolCode()).append('\n');
+        out.append("Tool Type: ").append(tool.getToolType()).append('\n');
+        out.append("Tool Brand: ").append(tool.getBrand()).append('\n');
+        out.append("Rental Days: ");
+        appendLong(out, quote.getRentalDays()).append('\n');
+        out.append("Checkout Date: ");
+        appendShortDate(out, quote.getCheckoutDate()).append('\n');
+        out.append("Due Date: ");
+        appendShortDate(out, quote.getDueDate()).append('\n');
+        out.append("Daily Rental Charge: ");
+        appendDailyCharge(out, tool).append('\n');
+        out.append("Charge Days: ");
+        appendLong(out, quote.getChargeDays()).append('\n');
+        out.append("Pre-discount Charge: ");
+        appendCurrency(out, quote.getPreDiscountCents()).append('\n');
+        out.append("Discount Percent: ");
+        appendLong(out, quote.getDiscount()).append("%\n");
+        out.append("Discount Amount: ");
+        appendCurrency(out, quote.getDiscountCents()).append('\n');
+        out.append("Final Charge: ");
+        appendCurrency(out, quote.getFinalCents());
+    }
+
+    /**
+     * This method renders the quote as a CSV record with the columns of CSV_HEADER.
+     *
+     * @param quote - the priced rental.
+     * @param out - the output to append to.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private void renderCsv(Quote quote, Appendable out) throws IOException {
+        Tool tool = quote.getTool();
+        out.append(tool.getToolCode()).append(',')
+           .append(tool.getToolType()).append(',')
+           .append(tool.getBrand()).append(',');
+        appendLong(out, quote.getRentalDays()).append(',');
+        appendRecordDate(out, quote.getCheckoutDate()).append(',');
+        appendRecordDate(out, quote.getDueDate()).append(',');
+        appendRecordDailyCharge(out, tool).append(',');
+        appendLong(out, quote.getChargeDays()).append(',');
+        appendAmount(out, quote.getPreDiscountCents()).append(',');
+        appendLong(out, quote.getDiscount()).append(',');
+        appendAmount(out, quote.getDiscountCents()).append(',');
+        appendAmount(out, quote.getFinalCents());
+    }
+
+    /**
+     * This method renders the quote as a flat JSON object with the field names of CSV_HEADER.
+     *
+     * @param quote - the priced rental.
+     * @param out - the output to append to.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private void renderJson(Quote quote, Appendable out) throws IOException {
+        Tool tool = quote.getTool();
+        out.append("{\"toolCode\":");
+        appendJsonString(out, tool.getToolCode());
+        out.append(",\"toolType\":");
+        appendJsonString(out, tool.getToolType());
+        out.append(",\"brand\":");
+        appendJsonString(out, tool.getBrand());
+        out.append(",\"rentalDays\":");
+        appendLong(out, quote.getRentalDays());
+        out.append(",\"checkoutDate\":\"");
+        appendRecordDate(out, quote.getCheckoutDate());
+        out.append("\",\"dueDate\":\"");
+        appendRecordDate(out, quote.getDueDate());
+        out.append("\",\"dailyCharge\":");
+        appendRecordDailyCharge(out, tool);
+        out.append(",\"chargeDays\":");
+        appendLong(out, quote.getChargeDays());
+        out.append(",\"preDiscountCharge\":");
+        appendAmount(out, quote.getPreDiscountCents());
+        out.append(",\"discountPercent\":");
+        appendLong(out, quote.getDiscount());
+        out.append(",\"discountAmount\":");
+        appendAmount(out, quote.getDiscountCents());
+        out.append(",\"finalCharge\":");
+        appendAmount(out, quote.getFinalCents());
+        out.append('}');
+    }
+
+    /**
+     * This method appends a date as MM/dd/yy. Years outside of [1,9999] are handed to the DateTimeFormatter, which
+     * prints the year of the era, so year 0 (1 BC) is printed as 01.
+     *
+     * @param out - the output to append to.
+     * @param date - the date.
+     * @return - the passed output.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private static Appendable appendShortDate(Appendable out, LocalDate date) throws IOException {
+        int year = date.getYear();
+        if (year <= 0 || year > 9999) {
+            TEXT_DATE_FORMATTER.formatTo(date, out);
+            return out;
+        }
+        appendTwoDigits(out, date.getMonthValue()).append('/');
+        appendTwoDigits(out, date.getDayOfMonth()).append('/');
+        return appendTwoDigits(out, year % 100);
+    }
+
+    /**
+     * This method appends a date as M/d/yyyy. Years outside of [1,9999] are handed to the DateTimeFormatter, which
+     * prints the year of the era.
+     *
+     * @param out - the output to append to.
+     * @param date - the date.
+     * @return - the passed output.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private static Appendable appendRecordDate(Appendable out, LocalDate date) throws IOException {
+        int year = date.getYear();
+        if (year <= 0 || year > 9999) {
+            RECORD_DATE_FORMATTER.formatTo(date, out);
+            return out;
+        }
+        appendLong(out, date.getMonthValue()).append('/');
+        appendLong(out, date.getDayOfMonth()).append('/');
+        appendTwoDigits(out, year / 100);
+        return appendTwoDigits(out, year % 100);
+    }
+
+    /**
+     * This method appends a value from 0 to 99 as two digits.
+     *
+     * @param out - the output to append to.
+     * @param value - the value.
+     * @return - the passed output.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private static Appendable appendTwoDigits(Appendable out, int value) throws IOException {
+        return out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    /**
+     * This method appends the daily charge of the tool as currency. Rates with a fraction of a cent are rounded by
+     * NumberFormat, which rounds the binary value of the double, so they are handed to it directly.
+     *
+     * @param out - the output to append to.
+     * @param tool - the tool.
+     * @return - the passed output.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private static Appendable appendDailyCharge(Appendable out, Tool tool) throws IOException {
+        long dailyRate = tool.getDailyRate();
+        if (dailyRate > 0 && dailyRate % RATE_UNITS_PER_CENT == 0) {
+            return appendCurrency(out, dailyRate / RATE_UNITS_PER_CENT);
+        }
+
+        return out.append(CURRENCY_FORMAT.get().format(tool.getDailyCharge()));
+    }
+
+    /**
+     * This method appends the daily charge of the tool as a CSV or JSON amount. Rates with a fraction of a cent are
+     * rounded half-even from the binary value of the double, the same as NumberFormat rounds them on the text receipt.
+     *
+     * @param out - the output to append to.
+     * @param tool - the tool.
+     * @return - the passed output.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private static Appendable appendRecordDailyCharge(Appendable out, Tool tool) throws IOException {
+        long dailyRate = tool.getDailyRate();
+        if (dailyRate > 0 && dailyRate % RATE_UNITS_PER_CENT == 0) {
+            return appendAmount(out, dailyRate / RATE_UNITS_PER_CENT);
+        }
+
+        return out.append(new BigDecimal(tool.getDailyCharge()).setScale(2, RoundingMode.HALF_EVEN).toPlainString());
+    }
+
+    /**
+     * This method appends an amount in cents as en-US currency (ex: $1,234.56 or -$1.50).
+     *
+     * @param out - the output to append to.
+     * @param cents - the amount in cents.
+     * @return - the passed output.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private static Appendable appendCurrency(Appendable out, long cents) throws IOException {
+        if (cents < 0) {
+            out.append('-');
+        }
+        out.append('$');
+        // Work with the negative value so Long.MIN_VALUE does not overflow.
+        long negativeCents = cents < 0 ? cents : -cents;
+        appendGrouped(out, -(negativeCents / 100), true);
+        return appendCents(out, (int) -(negativeCents % 100));
+    }
+
+    /**
+     * This method appends an amount in cents with exactly two decimal places and no currency symbol or grouping.
+     *
+     * @param out - the output to append to.
+     * @param cents - the amount in cents.
+     * @return - the passed output.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private static Appendable appendAmount(Appendable out, long cents) throws IOException {
+        if (cents < 0) {
+            out.append('-');
+        }
+        long negativeCents = cents < 0 ? cents : -cents;
+        appendGrouped(out, -(negativeCents / 100), false);
+        return appendCents(out, (int) -(negativeCents % 100));
+    }
+
+    /**
+     * This method appends the decimal point and two digits of cents.
+     *
+     * @param out - the output to append to.
+     * @param cents - the cents, from 0 to 99.
+     * @return - the passed output.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private static Appendable appendCents(Appendable out, int cents) throws IOException {
+        out.append('.');
+        return appendTwoDigits(out, cents);
+    }
+
+    /**
+     * This method appends a non-negative whole number of dollars, optionally with comma grouping.
+     *
+     * @param out - the output to append to.
+     * @param dollars - the dollars.
+     * @param grouped - whether every three digits are separated by a comma.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private static void appendGrouped(Appendable out, long dollars, boolean grouped) throws IOException {
+        if (dollars < 1000 || !grouped) {
+            appendLong(out, dollars);
+            return;
+        }
+        appendGrouped(out, dollars / 1000, true);
+        int group = (int) (dollars % 1000);
+        out.append(',')
+           .append((char) ('0' + group / 100))
+           .append((char) ('0' + group / 10 % 10))
+           .append((char) ('0' + group % 10));
+    }
+
+    /**
+     * This method appends a whole number without creating a String.
+     *
+     * @param out - the output to append to.
+     * @param value - the value.
+     * @return - the passed output.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private static Appendable appendLong(Appendable out, long value) throws IOException {
+        if (out instanceof StringBuilder) {
+            return ((StringBuilder) out).append(value);
+        } else if (value == Long.MIN_VALUE) {
+            return out.append(Long.toString(value));
+        } else if (value < 0) {
+            out.append('-');
+            value = -value;
+        }
+        if (value >= 10) {
+            appendLong(out, value / 10);
+        }
+
+        return out.append((char) ('0' + value % 10));
+    }
+
+    /**
+     * This method appends a quoted and escaped JSON string.
+     *
+     * @param out - the output to append to.
+     * @param value - the string value.
+     * @throws IOException - thrown if appending to the output fails.
+     */
+    private static void appendJsonString(Appendable out, String value) throws IOException {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c == '\n') {
+                out.append("\\n");
+            } else if (c == '\r') {
+                out.append("\\r");
+            } else if (c == '\t') {
+                out.append("\\t");
+            } else if (c < 0x20) {
+                out.append("\\u00");
+                out.append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+}
@@ -1,19 +1,24 @@
 package com.la3ypotato.toolrenter.rentalagreement;
 
+import com.la3ypotato.toolrenter.jfr.FinalizeEvent;
+import com.la3ypotato.toolrenter.jfr.RenderEvent;
+import com.la3ypotato.toolrenter.jfr.RentalInputEvent;
+import com.la3ypotato.toolrenter.metrics.RentalMetrics;
+import com.la3ypotato.toolrenter.metrics.ValidationField;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.pricing.Quote;
+import com.la3ypotato.toolrenter.receipt.ReceiptFormat;
+import com.la3ypotato.toolrenter.receipt.ReceiptRenderer;
 import com.la3ypotato.toolrenter.tool.Tool;
-import com.la3ypotato.toolrenter.tool.Tools;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.text.NumberFormat;
-import java.time.DayOfWeek;
+import java.text.ParsePosition;
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -21,351 +26,485 @@ import java.util.Map;
  * provides various validators for the four key requested inputs (tool code, rental days, discount percent, and checkout
  * date) to verify that is input by the user is parsed correctly.
  *
+ * The pricing itself is done by the PricingEngine. Once the agreement is finalized, the calculated values are read from
+ * the resulting Quote.
+ *
+ * Each input can be set with a setter that throws an IllegalArgumentException when the input is invalid, or with a
+ * trySet method that returns a ValidationError instead. validateRequest sets all four inputs at once and collects
+ * every error without throwing, which is how the console, batch, HTTP and terminal front ends validate requests.
+ *
+ * Parsing each input, finalizing and rendering are timed by Java Flight Recorder events, which cost next to nothing
+ * unless a recording has them enabled.
+ *
  * @author Logan Stanfield
  * @version 1.0
  * @since 02/23/2022
  */
 public class RentalAgreement {
     // Constants
-    private final String INPUT_DATE_FORMAT = "M/d/yyyy";
-    // Specification requests that the date is formatted with a 2 digit year code.
-    private final String OUTPUT_DATE_FORMAT = "MM/dd/yy";
-    // For currency values, the rounding precision will always be up to 2 decimal places.
-    private final int ROUNDING_PRECISION = 2;
-    // This application assumes the locale is always en-US.
-    private final Locale locale = new Locale("en", "US");
+    private static final String INPUT_DATE_FORMAT = "M/d/yyyy";
+    // Formatters are immutable, so the input date formatter is built once rather than on every parse.
+    private static final DateTimeFormatter INPUT_DATE_FORMATTER = DateTimeFormatter.ofPattern(INPUT_DATE_FORMAT);
+    // Renderers hold no state, so one is shared by every agreement.
+    private static final ReceiptRenderer TEXT_RENDERER = new ReceiptRenderer(ReceiptFormat.TEXT);
+    // Quotes, validation failures and finalize latency are counted for every agreement.
+    private static final RentalMetrics METRICS = RentalMetrics.getInstance();
+    // Returned by parseWholeNumber for text that is not a whole number within the int range.
+    static final long NOT_A_NUMBER = Long.MIN_VALUE;
+    // Validation errors are immutable, so each is created once and shared by every agreement.
+    private static final ValidationError UNKNOWN_TOOL_ERROR = new ValidationError(
+            ValidationField.TOOL_CODE, ValidationCode.UNKNOWN_TOOL, "Tool does not exist in availableTools HashMap!");
+    private static final ValidationError RENTAL_DAYS_NOT_A_NUMBER_ERROR = new ValidationError(
+            ValidationField.RENTAL_DAYS, ValidationCode.NOT_A_NUMBER, "Unable to parse rentalDaysStr argument.");
+    private static final ValidationError RENTAL_DAYS_OUT_OF_RANGE_ERROR = new ValidationError(
+            ValidationField.RENTAL_DAYS, ValidationCode.OUT_OF_RANGE,
+            "Passed rental day argument must be greater than 0.");
+    private static final ValidationError DISCOUNT_NOT_A_NUMBER_ERROR = new ValidationError(
+            ValidationField.DISCOUNT, ValidationCode.NOT_A_NUMBER, "Unable to parse discount argument");
+    private static final ValidationError DISCOUNT_OUT_OF_RANGE_ERROR = new ValidationError(
+            ValidationField.DISCOUNT, ValidationCode.OUT_OF_RANGE, "Discount argument is not within bounds [0,100]");
+    private static final ValidationError INVALID_DATE_ERROR = new ValidationError(
+            ValidationField.CHECKOUT_DATE, ValidationCode.INVALID_DATE, "Unable to parse date argument");
+    private static final ValidationError NULL_DATE_ERROR = new ValidationError(
+            ValidationField.CHECKOUT_DATE, ValidationCode.MISSING, "Passed checkout date cannot be null!");
     // Must have class properties
-    private Map<String, Tool> availableToolsForRent;
+    private PricingEngine pricingEngine;
     private Tool targetTool = new Tool();
     private int rentalDays;
     private int discount;
     private LocalDate checkoutDate;
-    // Calculated class properties
-    private LocalDate dueDate;
-    private int chargeDays;
-    private double preDiscountAmount;
-    private double discountAmount;
-    private double finalCharge;
+    // Calculated when the agreement is finalized.
+    private Quote quote;
 
     /**
      * Rental agreement constructor that starts the draft of a customer/merchant tool rental agreement.
      */
     public RentalAgreement() {
-        Tools toolsInstance = Tools.getInstance();
-        this.availableToolsForRent = toolsInstance.getAvailableTools();
+        this(PricingEngine.getInstance());
     }
 
     /**
-     * This method calculates the tool rental due date by adding the user defined rental days with the user defined
-     * checkout date.
+     * Rental agreement constructor that starts a draft priced by the passed engine.
      *
-     * @param checkoutDate - checkout date for the target tool to rent.
-     * @param rentalDays - number of rental days that the target tool wil be checked out for.
-     * @return - the expected return date (or due date) for the targe tool for rent.
-     * @throws IllegalArgumentException - thrown if the rental days is <= 0 and if the checkout date is null.
+     * @param pricingEngine - the engine used to price the agreement.
      */
-    private LocalDate calculateDueDate(LocalDate checkoutDate, int rentalDays) throws IllegalArgumentException {
-        if (checkoutDate == null) {
-            throw new IllegalArgumentException("Passed checkout date cannot be null!");
-        } else if (rentalDays <= 0) {
-            throw new IllegalArgumentException("Passed number of rental days must be greater than zero!");
-        }
-        // Perform the calculation if the above checks clear.
-        return checkoutDate.plusDays(rentalDays);
+    public RentalAgreement(PricingEngine pricingEngine) {
+        this.pricingEngine = pricingEngine;
+    }
+
+    // CLASS SETTERS
+
+    /**
+     * This method validates if the tool code exists in the Map for tools that are available for rent.
+     *
+     * @param toolCode - tool code for the target tool to rent.
+     * @throws IllegalArgumentException - thrown if the passed tool code does not exist in the availableTools Map.
+     */
+    public void setTargetTool(String toolCode) throws IllegalArgumentException {
+        throwIfRejected(trySetTargetTool(toolCode));
     }
 
     /**
-     * This method calculates the number valid rental charge days based on the setting defined by the target tool.
+     * This method validates the tool code the same as setTargetTool, but returns the error rather than throwing it.
      *
-     * @param checkoutDate - The user defined checkout date
-     * @param dueDate - The previously calculated due date.
-     * @param targetTool - The user defined target tool for rent.
-     * @return - returns the number of valid charge days based on the options defined for the target tool.
+     * @param toolCode - tool code for the target tool to rent.
+     * @return - the error if the tool code does not exist in the availableTools Map, or null if the tool was set.
      */
-    private int calculateChargeDays(LocalDate checkoutDate, LocalDate dueDate, Tool targetTool) throws IllegalArgumentException {
-        // Purposefully not checking if the due date is before the checkout date. If the incorrect dates will result in
-        // charge days defined as zero.
-        if (checkoutDate == null) {
-            throw new IllegalArgumentException("The passed checkout date cannot be null!");
-        } else if (dueDate == null) {
-            throw new IllegalArgumentException("The passed due date cannot be null!");
-        } else if (targetTool == null) {
-            throw new IllegalArgumentException("The passed target tool cannot be null!");
+    public ValidationError trySetTargetTool(String toolCode) {
+        RentalInputEvent event = new RentalInputEvent();
+        event.begin();
+        // The catalog returns null rather than throwing when the tool code is not found.
+        Tool tool = pricingEngine.getCatalog().findTool(toolCode);
+        ValidationError error = null;
+        if (tool != null) {
+            targetTool = tool;
+        } else {
+            METRICS.recordValidationFailure(ValidationField.TOOL_CODE);
+            error = UNKNOWN_TOOL_ERROR;
         }
+        event.complete(ValidationField.TOOL_CODE, toolCode, error == null);
 
-        int weekdays = 0;
-        int weekendDays = 0;
-        int chargeDays = 0;
-        int holidays = 0;
-        List<LocalDate> holidayList = getHolidays(checkoutDate.getYear(), dueDate.getYear());
-
-        // Adding one day to exclude the checkout day as specified in the requirements.
-        LocalDate date = checkoutDate.plusDays(1);
-        // Checking the checkout date falls on the due date as that is a valid charge day, but excluding the checkout
-        // day.
-        while(date.isBefore(dueDate) || date.isEqual(dueDate)) {
-            DayOfWeek dayOfWeek = date.getDayOfWeek();
-            // Find the number of weekdays and weekend days.
-            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY) {
-                weekdays++;
-            } else {
-                weekendDays++;
-            }
-            // Find the number of holidays if any fall on the holiday list.
-            if (holidayList.contains(date)) {
-                holidays++;
-            }
+        return error;
+    }
 
-            date = date.plusDays(1);
-        }
+    /**
+     * This method validates the passed number of rental days per the rental agreement specification such that the value
+     * cannot be less than 0. Note, there is an upper bound here such that if the user enters a number that is greater
+     * than 2147483647 (which is the maximum int size in Java) then the value cannot be parsed.
+     *
+     * @param rentalDaysStr
+     * @throws IllegalArgumentException - thrown if number of days is less than 0 or greater than 2147483647
+     */
+    public void setRentalDays(String rentalDaysStr) throws IllegalArgumentException {
+        throwIfRejected(trySetRentalDays(rentalDaysStr));
+    }
 
-        // Filter out holidays that land on weekdays. Note, for this application all of the observed holidays (labor day
-        // and 4th of july) land on a weekday. So, deduct from the weekday charges if the holiday charge is set to false.
-        if (!targetTool.holidayCharge) {
-            weekdays = weekdays - holidays;
+    /**
+     * This method validates the number of rental days the same as setRentalDays, but returns the error rather than
+     * throwing it.
+     *
+     * @param rentalDaysStr - number of rental days.
+     * @return - the error if the value is not a whole number of at least 1, or null if the rental days were set.
+     */
+    public ValidationError trySetRentalDays(String rentalDaysStr) {
+        RentalInputEvent event = new RentalInputEvent();
+        event.begin();
+        long rentalDays = parseWholeNumber(rentalDaysStr);
+        ValidationError error;
+        if (rentalDays == NOT_A_NUMBER) {
+            METRICS.recordValidationFailure(ValidationField.RENTAL_DAYS);
+            error = RENTAL_DAYS_NOT_A_NUMBER_ERROR;
+        } else {
+            error = trySetRentalDays((int) rentalDays);
         }
+        event.complete(ValidationField.RENTAL_DAYS, rentalDaysStr, error == null);
 
-        // Tally up all of the remaining charge days based on the targetTool settings.
-        chargeDays = targetTool.weekdayCharge == true ? chargeDays + weekdays : chargeDays;
-        chargeDays = targetTool.weekendCharge == true ? chargeDays + weekendDays : chargeDays;
-
-        return chargeDays;
+        return error;
     }
 
     /**
-     * This method calculates the pre-discount charge by multiplying the passed charge days with the daily charge. Values
-     * are converted to BigDecimal to handle larger decimal values to prevent further issues. Note, the result will be
-     * rounded up.
+     * This method validates the passed number of rental days per the rental agreement specification such that the value
+     * cannot be less than 1.
      *
-     * @param chargeDays - previously calculated number of valid charge days.
-     * @param dailyCharge -
-     * @return
+     * @param rentalDays - number of rental days.
+     * @throws IllegalArgumentException - thrown if number of days is less than 1.
      */
-    private double calculatePreDiscountCharge(int chargeDays, double dailyCharge) {
-        BigDecimal result = new BigDecimal(0);
-        BigDecimal cd = BigDecimal.valueOf(chargeDays);
-        BigDecimal dc = BigDecimal.valueOf(dailyCharge);
-        // Rounding the currency up as defined in the specification.
-        result = cd.multiply(dc).setScale(ROUNDING_PRECISION, RoundingMode.HALF_UP);
-        return result.doubleValue();
+    public void setRentalDays(int rentalDays) throws IllegalArgumentException {
+        throwIfRejected(trySetRentalDays(rentalDays));
     }
 
     /**
-     * This method calculates the discount amount by multiplying the user defined discount by 0.01 and then multiplying
-     * that result with the pre-discount charge. This will result in the discount amount and prevents any need for
-     * division. Note, the result will be rounded up.
+     * This method validates the number of rental days the same as setRentalDays, but returns the error rather than
+     * throwing it.
      *
-     * @param discount - discount amount (Assumed passed value is of percent format i.e. 10 = 10% & 10 != 0.1)
-     * @param preDiscountCharge
-     * @return
+     * @param rentalDays - number of rental days.
+     * @return - the error if the number of days is less than 1, or null if the rental days were set.
      */
-    private double calculateDiscountAmount(double discount, double preDiscountCharge) {
-        // No need to calculate the discount if there isn't one.
-        if (discount == 0) {
-            return discount;
+    public ValidationError trySetRentalDays(int rentalDays) {
+        // Check if the rental days are within the requirement.
+        if (rentalDays >= 1) {
+            this.rentalDays = rentalDays;
+            return null;
         }
+        METRICS.recordValidationFailure(ValidationField.RENTAL_DAYS);
 
-        BigDecimal result = new BigDecimal(0);
-        discount = discount * 0.01;
-        BigDecimal d = BigDecimal.valueOf(discount);
-        BigDecimal pdc = BigDecimal.valueOf(preDiscountCharge);
-        // discount_price = (original_price * (discount * 0.01)). Rounding up as defined in specification.
-        result = pdc.multiply(d).setScale(ROUNDING_PRECISION, RoundingMode.HALF_UP);
-        return result.doubleValue();
+        return RENTAL_DAYS_OUT_OF_RANGE_ERROR;
     }
 
     /**
-     * This method calculates the final charge by subtracting the pre-discount amount by the discount amount. Note, the
-     * result will be rounded up.
+     * This method validates the passed discount string is within the bounds of the rental agreement specification such
+     * that the discount is between 0 and 100. The passed discount format must be in a percentage format
+     * (i.e. 10 = 10% & 10 != 0.1)
      *
-     * @param preDiscountCharge - the previously calculated pre-discount charge.
-     * @param discountAmount - the previously calculated discount amount.
-     * @return - the result for the final charge.
+     * @param discountStr - user defined discount percent.
+     * @throws IllegalArgumentException - thrown if value is less than 0 or greater tha 100.
      */
-    private double calculateFinalCharge(double preDiscountCharge, double discountAmount) {
-        BigDecimal pdc = BigDecimal.valueOf(preDiscountCharge);
-        BigDecimal da = BigDecimal.valueOf(discountAmount);
-        BigDecimal result = pdc.subtract(da).setScale(ROUNDING_PRECISION, RoundingMode.HALF_UP);
-        return result.doubleValue();
+    public void setDiscount(String discountStr) throws IllegalArgumentException {
+        throwIfRejected(trySetDiscount(discountStr));
     }
 
     /**
-     * This method will attempt to retrieve all of the observed holidays within the passed range of years.
+     * This method validates the discount percent the same as setDiscount, but returns the error rather than throwing
+     * it.
      *
-     * @param startYear - the starting year.
-     * @param endYear - the endging year.
-     * @return - a List of holidays in the range of passed years.
+     * @param discountStr - user defined discount percent.
+     * @return - the error if the value is not a whole number within [0,100], or null if the discount was set.
      */
-    private List<LocalDate> getHolidays(int startYear, int endYear) {
-        List<LocalDate> holidays = new ArrayList<>();
-        // There can be multiple holidays across multiple years, so gather a list of all possible holidays in the
-        // range of years. Note, there are currently only two observed holidays: 4th of July and Labor day.
-        while (startYear <= endYear) {
-            holidays.add(getLaborDay(startYear));
-            holidays.add(getIndependenceDay(startYear));
-            startYear++;
+    public ValidationError trySetDiscount(String discountStr) {
+        RentalInputEvent event = new RentalInputEvent();
+        event.begin();
+        long discount = parseWholeNumber(discountStr);
+        ValidationError error;
+        if (discount == NOT_A_NUMBER) {
+            METRICS.recordValidationFailure(ValidationField.DISCOUNT);
+            error = DISCOUNT_NOT_A_NUMBER_ERROR;
+        } else {
+            error = trySetDiscount((int) discount);
         }
+        event.complete(ValidationField.DISCOUNT, discountStr, error == null);
 
-        return holidays;
+        return error;
     }
 
     /**
-     * This method will attempt to fetch a LocalDate object for labor day. Labor day occurs on the first Monday of
-     * September.
+     * This method validates the passed discount percent is between 0 and 100.
      *
-     * @param year - The calendar year to search for the holiday.
-     * @return - LocalDate object containing the observed holiday.
+     * @param discount - discount percent (i.e. 10 = 10%).
+     * @throws IllegalArgumentException - thrown if value is less than 0 or greater tha 100.
      */
-    private LocalDate getLaborDay(int year) {
-        LocalDate firstOfSept = LocalDate.of(year, 9, 1);
-        return firstOfSept.with(TemporalAdjusters.firstInMonth(DayOfWeek.MONDAY));
+    public void setDiscount(int discount) throws IllegalArgumentException {
+        throwIfRejected(trySetDiscount(discount));
     }
 
     /**
-     * This method attempts to fetch a LocalDate object for Independence Day such that if the holiday lands on a Saturday
-     * the holiday is observed on Friday. The inverse is true if the holiday lands on a Sunday, the holiday is observed
-     * on Monday.
+     * This method validates the discount percent the same as setDiscount, but returns the error rather than throwing
+     * it.
      *
-     * @param year - The calendar year to search for the holiday.
-     * @return - LocalDate object containing the observed holiday.
+     * @param discount - discount percent (i.e. 10 = 10%).
+     * @return - the error if the value is less than 0 or greater than 100, or null if the discount was set.
      */
-    private LocalDate getIndependenceDay(int year) {
-        LocalDate julyFourth = LocalDate.of(year, 7, 4);
-        // Check
-        // If July 4th falls on a Saturday, set the day back to Friday.
-        if (julyFourth.getDayOfWeek() == DayOfWeek.SATURDAY) {
-            return julyFourth.minusDays(1);
-        // If July 4th falls on a Sunday, set the day forward to Monday.
-        } else if (julyFourth.getDayOfWeek() == DayOfWeek.SUNDAY) {
-            return julyFourth.plusDays(1);
+    public ValidationError trySetDiscount(int discount) {
+        if (discount >= 0 && discount <= 100) {
+            this.discount = discount;
+            return null;
         }
+        METRICS.recordValidationFailure(ValidationField.DISCOUNT);
 
-        return julyFourth;
+        return DISCOUNT_OUT_OF_RANGE_ERROR;
     }
 
-    // CLASS SETTERS
+    /**
+     * This method checks that the passed date string is parsable based on the defined date input specification. It was
+     * decided to force the user to enter four digit year codes as the ambiguity of two digit year codes.
+     *
+     * @param checkoutDateStr - user defined checkout date.
+     * @throws IllegalArgumentException - thrown if the date cannot be parsed per expected format.
+     */
+    public void setCheckoutDate(String checkoutDateStr) throws IllegalArgumentException {
+        throwIfRejected(trySetCheckoutDate(checkoutDateStr));
+    }
 
     /**
-     * This method validates if the tool code exists in the Map for tools that are available for rent.
+     * This method validates the checkout date the same as setCheckoutDate, but returns the error rather than throwing
+     * it.
      *
-     * @param toolCode - tool code for the target tool to rent.
-     * @throws IllegalArgumentException - thrown if the passed tool code does not exist in the availableTools Map.
+     * @param checkoutDateStr - user defined checkout date.
+     * @return - the error if the date cannot be parsed per expected format, or null if the checkout date was set.
      */
-    public void setTargetTool(String toolCode) throws IllegalArgumentException {
-        // If the target tool for rent does not exist in the loaded
-        // availableTools HashMap, throw am IllegalArgumentException.
-        String key = toolCode.toUpperCase();
-        if (availableToolsForRent.containsKey(key)) {
-            targetTool = availableToolsForRent.get(key);
+    public ValidationError trySetCheckoutDate(String checkoutDateStr) {
+        RentalInputEvent event = new RentalInputEvent();
+        event.begin();
+        LocalDate checkoutDate = parseCheckoutDate(checkoutDateStr);
+        ValidationError error = null;
+        if (checkoutDate != null) {
+            this.checkoutDate = checkoutDate;
         } else {
-            throw new IllegalArgumentException("Tool does not exist in availableTools HashMap!");
+            METRICS.recordValidationFailure(ValidationField.CHECKOUT_DATE);
+            error = INVALID_DATE_ERROR;
         }
+        event.complete(ValidationField.CHECKOUT_DATE, checkoutDateStr, error == null);
+
+        return error;
     }
 
     /**
-     * This method validates the passed number of rental days per the rental agreement specification such that the value
-     * cannot be less than 0. Note, there is an upper bound here such that if the user enters a number that is greater
-     * than 2147483647 (which is the maximum int size in Java) then a NumberFormatException will be thrown when
-     * attempting to parse the primitive integer.
+     * Setter for checkoutDate when the date has already been parsed.
      *
-     * @param rentalDaysStr
-     * @throws IllegalArgumentException - thrown if number of days is less than 0 or greater than 2147483647
+     * @param checkoutDate - checkout date.
+     * @throws IllegalArgumentException - thrown if the date is null.
      */
-    public void setRentalDays(String rentalDaysStr) throws IllegalArgumentException {
-        int rentalDays = 0;
-        try {
-            rentalDays = Integer.parseInt(rentalDaysStr);
-            // Check if the rental days are within the requirement.
-            if (rentalDays >= 1) {
-                this.rentalDays = rentalDays;
-            } else {
-                throw new IllegalArgumentException("Passed rental day argument must be greater than 0.");
-            }
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Unable to parse rentalDaysStr argument.");
+    public void setCheckoutDate(LocalDate checkoutDate) throws IllegalArgumentException {
+        throwIfRejected(trySetCheckoutDate(checkoutDate));
+    }
+
+    /**
+     * This method sets the parsed checkout date the same as setCheckoutDate, but returns the error rather than throwing
+     * it.
+     *
+     * @param checkoutDate - checkout date.
+     * @return - the error if the date is null, or null if the checkout date was set.
+     */
+    public ValidationError trySetCheckoutDate(LocalDate checkoutDate) {
+        if (checkoutDate == null) {
+            METRICS.recordValidationFailure(ValidationField.CHECKOUT_DATE);
+            return NULL_DATE_ERROR;
         }
+        this.checkoutDate = checkoutDate;
+
+        return null;
     }
 
     /**
-     * This method validates the passed discount string is within the bounds of the rental agreement specification such
-     * that the discount is between 0 and 100. The passed discount format must be in a percentage format
-     * (i.e. 10 = 10% & 10 != 0.1)
+     * This method sets the four rental inputs from their text values, the way they are received from the console, a
+     * batch file or an HTTP request. An empty discount is treated as no discount. The message of any validation error
+     * is prefixed with the name of the field that failed (ex: "rentalDays: ...").
      *
-     * @param discountStr - user defined discount percent.
-     * @throws IllegalArgumentException - thrown if value is less than 0 or greater tha 100.
+     * @param toolCode - the tool code of the tool to rent.
+     * @param rentalDays - the number of rental days.
+     * @param discount - the discount percent, or an empty String for no discount.
+     * @param checkoutDate - the checkout date (ex: 7/2/2015).
+     * @throws IllegalArgumentException - thrown if any of the inputs is invalid, with the message of every error.
      */
-    public void setDiscount(String discountStr) throws IllegalArgumentException {
-        try {
-            int discount = Integer.parseInt(discountStr);
-            if (discount >= 0 && discount <= 100) {
-                this.discount = discount;
-            } else {
-                throw new IllegalArgumentException("Discount argument is not within bounds [0,100]");
-            }
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Unable to parse discount argument");
+    public void setRequest(String toolCode, String rentalDays, String discount, String checkoutDate)
+            throws IllegalArgumentException {
+        ValidationResult result = validateRequest(toolCode, rentalDays, discount, checkoutDate);
+        if (!result.isValid()) {
+            throw new IllegalArgumentException(result.getMessage());
         }
     }
 
     /**
-     * This method checks that the passed date string is parsable based on the defined date input specification. It was
-     * decided to force the user to enter four digit year codes as the ambiguity of two digit year codes.
+     * This method sets the four rental inputs when the numbers and date have already been parsed. Validation errors are
+     * prefixed with the field name the same as setRequest(String, String, String, String).
      *
-     * @param checkoutDateStr - user defined checkout date.
-     * @throws IllegalArgumentException - thrown if the date cannot be parsed per expected format.
+     * @param toolCode - the tool code of the tool to rent.
+     * @param rentalDays - the number of rental days.
+     * @param discount - the discount percent.
+     * @param checkoutDate - the checkout date.
+     * @throws IllegalArgumentException - thrown if any of the inputs is invalid, with the message of every error.
      */
-    public void setCheckoutDate(String checkoutDateStr) throws IllegalArgumentException {
-        try {
-            DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(INPUT_DATE_FORMAT);
-            checkoutDate = LocalDate.parse(checkoutDateStr, dateFormatter);
-        } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("Unable to parse date argument");
+    public void setRequest(String toolCode, int rentalDays, int discount, LocalDate checkoutDate)
+            throws IllegalArgumentException {
+        ValidationResult result = validateRequest(toolCode, rentalDays, discount, checkoutDate);
+        if (!result.isValid()) {
+            throw new IllegalArgumentException(result.getMessage());
         }
     }
 
     /**
-     * Setter for dueDate.
+     * This method sets the four rental inputs from their text values the same as setRequest, but validates every input
+     * and returns all of the errors rather than throwing the first. Each accepted input is set even when another is
+     * rejected. A null tool code, rental days or checkout date is reported as missing, and a null or empty discount is
+     * treated as no discount.
      *
-     * @param dueDate - LocalDate due date.
+     * Nothing is thrown for invalid input, so this is the path for front ends that expect many rejected requests, such
+     * as batch imports.
+     *
+     * @param toolCode - the tool code of the tool to rent.
+     * @param rentalDays - the number of rental days.
+     * @param discount - the discount percent, or an empty String for no discount.
+     * @param checkoutDate - the checkout date (ex: 7/2/2015).
+     * @return - the result holding an error for each rejected input.
      */
-    public void setDueDate(LocalDate dueDate) {
-        this.dueDate = dueDate;
+    public ValidationResult validateRequest(String toolCode, String rentalDays, String discount,
+                                            String checkoutDate) {
+        List<ValidationError> errors = null;
+        errors = collect(errors, toolCode == null ? missing(ValidationField.TOOL_CODE) : trySetTargetTool(toolCode));
+        errors = collect(errors, rentalDays == null ? missing(ValidationField.RENTAL_DAYS)
+                                                    : trySetRentalDays(rentalDays));
+        // Like the console, an empty discount is treated as no discount.
+        errors = collect(errors, trySetDiscount(discount == null || discount.isEmpty() ? "0" : discount));
+        errors = collect(errors, checkoutDate == null ? missing(ValidationField.CHECKOUT_DATE)
+                                                      : trySetCheckoutDate(checkoutDate));
+
+        return errors == null ? ValidationResult.VALID : new ValidationResult(errors);
     }
 
     /**
-     * Setter for chargeDays.
+     * This method sets the four rental inputs when the numbers and date have already been parsed, validating every
+     * input the same as validateRequest(String, String, String, String).
      *
-     * @param chargeDays - int charge days
+     * @param toolCode - the tool code of the tool to rent.
+     * @param rentalDays - the number of rental days.
+     * @param discount - the discount percent.
+     * @param checkoutDate - the checkout date.
+     * @return - the result holding an error for each rejected input.
      */
-    public void setChargeDays(int chargeDays) {
-        this.chargeDays = chargeDays;
+    public ValidationResult validateRequest(String toolCode, int rentalDays, int discount, LocalDate checkoutDate) {
+        List<ValidationError> errors = null;
+        errors = collect(errors, toolCode == null ? missing(ValidationField.TOOL_CODE) : trySetTargetTool(toolCode));
+        errors = collect(errors, trySetRentalDays(rentalDays));
+        errors = collect(errors, trySetDiscount(discount));
+        errors = collect(errors, trySetCheckoutDate(checkoutDate));
+
+        return errors == null ? ValidationResult.VALID : new ValidationResult(errors);
     }
 
     /**
-     * Setter for preDiscountAmount.
+     * This method adds the passed error, if there is one, to the errors of a request. The list is only created once
+     * there is an error, so a valid request allocates nothing.
      *
-     * @param preDiscountAmount - double pre-discount amount
+     * @param errors - the errors so far, or null if there are none.
+     * @param error - the error of the next input, or null if it was accepted.
+     * @return - the errors including the passed error, or null if there are none.
      */
-    public void setPreDiscountCharge(double preDiscountAmount) {
-        this.preDiscountAmount = preDiscountAmount;
+    private static List<ValidationError> collect(List<ValidationError> errors, ValidationError error) {
+        if (error == null) {
+            return errors;
+        }
+        List<ValidationError> collected = errors == null ? new ArrayList<ValidationError>(4) : errors;
+        collected.add(error);
+
+        return collected;
     }
 
     /**
-     * Setter for discountAmount.
+     * This method reports an input that was not given.
      *
-     * @param discountAmount - double discount amount
+     * @param field - the missing input.
+     * @return - the missing field error.
      */
-    public void setDiscountAmount(double discountAmount) {
-        this.discountAmount = discountAmount;
+    private static ValidationError missing(ValidationField field) {
+        METRICS.recordValidationFailure(field);
+
+        return new ValidationError(field, ValidationCode.MISSING, "field is missing");
     }
 
     /**
-     * Setter for finalCharge.
+     * This method throws the passed error for the setters that report errors as exceptions.
      *
-     * @param finalCharge - double final charge amount
+     * @param error - the error of the input, or null if it was accepted.
+     * @throws IllegalArgumentException - thrown if there is an error.
      */
-    public void setFinalCharge(double finalCharge) {
-        this.finalCharge = finalCharge;
+    private static void throwIfRejected(ValidationError error) throws IllegalArgumentException {
+        if (error != null) {
+            throw new IllegalArgumentException(error.getMessage());
+        }
+    }
+
+    /**
+     * This method parses a whole number the same as Integer.parseInt, which accepts an optional sign and any Unicode
+     * decimal digits, but reports a value that cannot be parsed rather than throwing a NumberFormatException.
+     *
+     * @param value - the text to parse.
+     * @return - the parsed int value, or NOT_A_NUMBER if the text is not a whole number within the int range.
+     */
+    static long parseWholeNumber(String value) {
+        if (value == null || value.isEmpty()) {
+            return NOT_A_NUMBER;
+        }
+        int i = 0;
+        boolean negative = false;
+        char first = value.charAt(0);
+        if (first == '-' || first == '+') {
+            if (value.length() == 1) {
+                return NOT_A_NUMBER;
+            }
+            negative = first == '-';
+            i++;
+        }
+        long number = 0;
+        for (; i < value.length(); i++) {
+            int digit = Character.digit(value.charAt(i), 10);
+            // Any more digits than this cannot fit in an int.
+            if (digit < 0 || number > Integer.MAX_VALUE) {
+                return NOT_A_NUMBER;
+            }
+            number = number * 10 + digit;
+        }
+        number = negative ? -number : number;
+
+        return number < Integer.MIN_VALUE || number > Integer.MAX_VALUE ? NOT_A_NUMBER : number;
+    }
+
+    /**
+     * This method parses a checkout date the same as LocalDate.parse with the input date formatter, but reports a date
+     * that cannot be parsed rather than throwing a DateTimeParseException. The text is read by the formatter without
+     * resolving it, which never throws, and the fields are then resolved the way its smart resolver style does: the
+     * year is a year of the current era, and a day past the end of a shorter month moves back to its last day
+     * (ex: 2/30/2015 is 2/28/2015).
+     *
+     * @param checkoutDateStr - the text to parse.
+     * @return - the parsed date, or null if the text is not a valid date.
+     */
+    static LocalDate parseCheckoutDate(String checkoutDateStr) {
+        if (checkoutDateStr == null) {
+            return null;
+        }
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor parsed = INPUT_DATE_FORMATTER.parseUnresolved(checkoutDateStr, position);
+        if (parsed == null || position.getIndex() != checkoutDateStr.length()) {
+            return null;
+        }
+        long year = parsed.getLong(ChronoField.YEAR_OF_ERA);
+        long month = parsed.getLong(ChronoField.MONTH_OF_YEAR);
+        long day = parsed.getLong(ChronoField.DAY_OF_MONTH);
+        if (year < 1 || year > Year.MAX_VALUE || month < 1 || month > 12 || day < 1 || day > 31) {
+            return null;
+        }
+        LocalDate firstOfMonth = LocalDate.of((int) year, (int) month, 1);
+
+        return firstOfMonth.withDayOfMonth(Math.min((int) day, firstOfMonth.lengthOfMonth()));
     }
 
     // CLASS GETTERS
@@ -376,7 +515,43 @@ public class RentalAgreement {
      * @return - This is the map that contains the available tools for rent.
      */
     public Map<String, Tool> getAvailableToolsForRent() {
-        return availableToolsForRent;
+        return pricingEngine.getAvailableTools();
+    }
+
+    /**
+     * Getter for targetTool.
+     *
+     * @return - the tool being rented.
+     */
+    public Tool getTargetTool() {
+        return targetTool;
+    }
+
+    /**
+     * Getter for rentalDays.
+     *
+     * @return - int rental days
+     */
+    public int getRentalDays() {
+        return rentalDays;
+    }
+
+    /**
+     * Getter for discount.
+     *
+     * @return - int discount percent
+     */
+    public int getDiscount() {
+        return discount;
+    }
+
+    /**
+     * Getter for checkoutDate.
+     *
+     * @return - LocalDate checkout date
+     */
+    public LocalDate getCheckoutDate() {
+        return checkoutDate;
     }
 
     /**
@@ -385,7 +560,7 @@ public class RentalAgreement {
      * @return - LocalDate due date
      */
     public LocalDate getDueDate() {
-        return dueDate;
+        return quote == null ? null : quote.getDueDate();
     }
 
     /**
@@ -394,7 +569,34 @@ public class RentalAgreement {
      * @return - int charge days
      */
     public int getChargeDays() {
-        return chargeDays;
+        return quote == null ? 0 : quote.getChargeDays();
+    }
+
+    /**
+     * Getter for preDiscountCents.
+     *
+     * @return - long pre-discount charge in cents, or zero if the agreement has not been finalized.
+     */
+    public long getPreDiscountCents() {
+        return quote == null ? 0 : quote.getPreDiscountCents();
+    }
+
+    /**
+     * Getter for discountCents.
+     *
+     * @return - long discount amount in cents, or zero if the agreement has not been finalized.
+     */
+    public long getDiscountCents() {
+        return quote == null ? 0 : quote.getDiscountCents();
+    }
+
+    /**
+     * Getter for finalCents.
+     *
+     * @return - long final charge in cents, or zero if the agreement has not been finalized.
+     */
+    public long getFinalCents() {
+        return quote == null ? 0 : quote.getFinalCents();
     }
 
     /**
@@ -403,7 +605,7 @@ public class RentalAgreement {
      * @return - double pre-discount amount.
      */
     public double getPreDiscountAmount() {
-        return preDiscountAmount;
+        return quote == null ? 0 : quote.getPreDiscountCharge();
     }
 
     /**
@@ -412,7 +614,7 @@ public class RentalAgreement {
      * @return double discount amount.
      */
     public double getDiscountAmount() {
-        return discountAmount;
+        return quote == null ? 0 : quote.getDiscountAmount();
     }
 
     /**
@@ -421,7 +623,7 @@ public class RentalAgreement {
      * @return double final charge.
      */
     public double getFinalCharge() {
-        return finalCharge;
+        return quote == null ? 0 : quote.getFinalCharge();
     }
 
     /**
@@ -462,16 +664,21 @@ public class RentalAgreement {
             throw new IllegalStateException("Rental Agreement is not complete!");
         }
         // Perform the rental agreement calculations per the specification.
-        LocalDate dueDate = calculateDueDate(checkoutDate, rentalDays);
-        setDueDate(dueDate);
-        int chargeDays = calculateChargeDays(checkoutDate, dueDate, targetTool);
-        setChargeDays(chargeDays);
-        double preDiscountCharge = calculatePreDiscountCharge(chargeDays, targetTool.dailyCharge);
-        setPreDiscountCharge(preDiscountCharge);
-        double discountAmount = calculateDiscountAmount(discount, preDiscountCharge);
-        setDiscountAmount(discountAmount);
-        double finalCharge = calculateFinalCharge(preDiscountCharge, discountAmount);
-        setFinalCharge(finalCharge);
+        FinalizeEvent event = new FinalizeEvent();
+        event.begin();
+        long start = System.nanoTime();
+        quote = pricingEngine.quote(targetTool, rentalDays, discount, checkoutDate);
+        METRICS.recordQuote(rentalDays, System.nanoTime() - start);
+        event.complete(targetTool.getToolCode(), rentalDays, quote.getChargeDays(), quote.getFinalCents());
+    }
+
+    /**
+     * Getter for quote.
+     *
+     * @return - the priced rental, or null if the agreement has not been finalized.
+     */
+    public Quote getQuote() {
+        return quote;
     }
 
     /**
@@ -491,30 +698,16 @@ public class RentalAgreement {
      * Discount Amount
      * Final Charge
      *
+     * The layout is rendered by the shared text ReceiptRenderer.
+     *
      * @return - String with a pritable format of the rental agreement.
      */
     public String toString() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(OUTPUT_DATE_FORMAT);
-        NumberFormat numFormatter = NumberFormat.getCurrencyInstance(locale);
-        String checkoutDateStr = checkoutDate.format(formatter);
-        String dueDateStr = dueDate.format(formatter);
-        String dailyChargeStr = numFormatter.format(targetTool.dailyCharge);
-        String preDiscountAmountStr = numFormatter.format(preDiscountAmount);
-        String discountAmountStr = numFormatter.format(discountAmount);
-        String finalChargeStr = numFormatter.format(finalCharge);
-
-        String retString = "Tool Code: " + targetTool.toolCode + "\n" +
-                           "Tool Type: " + targetTool.toolType + "\n" +
-                           "Tool Brand: " + targetTool.brand + "\n" +
-                           "Rental Days: " + rentalDays + "\n" +
-                           "Checkout Date: " + checkoutDateStr + "\n" +
-                           "Due Date: " + dueDateStr + "\n" +
-                           "Daily Rental Charge: " + dailyChargeStr + "\n" +
-                           "Charge Days: " + chargeDays + "\n" +
-                           "Pre-discount Charge: " + preDiscountAmountStr + "\n" +
-                           "Discount Percent: " + discount + "%\n" +
-                           "Discount Amount: " + discountAmountStr + "\n" +
-                           "Final Charge: " + finalChargeStr;
-        return retString;
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        String rendered = TEXT_RENDERER.render(quote);
+        event.complete(targetTool.getToolCode(), rentalDays, getChargeDays(), rendered.length());
+
+        return rendered;
     }
 }
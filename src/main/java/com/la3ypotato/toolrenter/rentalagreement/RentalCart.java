@@ -0,0 +1,210 @@
+package com.la3ypotato.toolrenter.rentalagreement;
+
+import com.la3ypotato.toolrenter.metrics.RentalMetrics;
+import com.la3ypotato.toolrenter.pricing.CartQuote;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.receipt.ReceiptFormat;
+import com.la3ypotato.toolrenter.receipt.ReceiptRenderer;
+import com.la3ypotato.toolrenter.tool.Tool;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class defines a multi-line rental agreement: several tools rented together for the same rental days, discount
+ * percent and checkout date. Inputs are validated exactly as they are for a single RentalAgreement, which the cart
+ * keeps as a draft, so validation failures are counted and traced the same way.
+ *
+ * Finalizing the cart prices every line item in one pass with PricingEngine.quoteCart, which works out the day-of-week
+ * breakdown of the rental period once rather than once per tool. The cart is rendered as one combined agreement.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class RentalCart {
+    // Renderers hold no state, so one is shared by every cart.
+    private static final ReceiptRenderer TEXT_RENDERER = new ReceiptRenderer(ReceiptFormat.TEXT);
+    private static final RentalMetrics METRICS = RentalMetrics.getInstance();
+    // Class properties
+    private final PricingEngine pricingEngine;
+    // Validates the inputs shared by every line item.
+    private final RentalAgreement draft;
+    private final List<Tool> tools = new ArrayList<>();
+    // Calculated when the cart is finalized.
+    private CartQuote cartQuote;
+
+    /**
+     * Rental cart constructor that starts an empty cart priced by the shared engine.
+     */
+    public RentalCart() {
+        this(PricingEngine.getInstance());
+    }
+
+    /**
+     * Rental cart constructor that starts an empty cart priced by the passed engine.
+     *
+     * @param pricingEngine - the engine used to price the cart.
+     */
+    public RentalCart(PricingEngine pricingEngine) {
+        this.pricingEngine = pricingEngine;
+        this.draft = new RentalAgreement(pricingEngine);
+    }
+
+    // CLASS SETTERS
+
+    /**
+     * This method validates the tool code and adds the tool to the cart as a new line item. The same tool may be added
+     * more than once.
+     *
+     * @param toolCode - tool code for the tool to rent.
+     * @throws IllegalArgumentException - thrown if the passed tool code does not exist in the available tools.
+     */
+    public void addTool(String toolCode) throws IllegalArgumentException {
+        draft.setTargetTool(toolCode);
+        tools.add(draft.getTargetTool());
+    }
+
+    /**
+     * This method validates and sets the number of rental days shared by every line item.
+     *
+     * @param rentalDaysStr - number of rental days.
+     * @throws IllegalArgumentException - thrown if the number of days is not a whole number of at least 1.
+     */
+    public void setRentalDays(String rentalDaysStr) throws IllegalArgumentException {
+        draft.setRentalDays(rentalDaysStr);
+    }
+
+    /**
+     * This method validates and sets the number of rental days shared by every line item.
+     *
+     * @param rentalDays - number of rental days.
+     * @throws IllegalArgumentException - thrown if the number of days is less than 1.
+     */
+    public void setRentalDays(int rentalDays) throws IllegalArgumentException {
+        draft.setRentalDays(rentalDays);
+    }
+
+    /**
+     * This method validates and sets the discount percent applied to every line item.
+     *
+     * @param discountStr - discount percent.
+     * @throws IllegalArgumentException - thrown if the discount is not a whole number in the range [0,100].
+     */
+    public void setDiscount(String discountStr) throws IllegalArgumentException {
+        draft.setDiscount(discountStr);
+    }
+
+    /**
+     * This method validates and sets the discount percent applied to every line item.
+     *
+     * @param discount - discount percent.
+     * @throws IllegalArgumentException - thrown if the discount is not in the range [0,100].
+     */
+    public void setDiscount(int discount) throws IllegalArgumentException {
+        draft.setDiscount(discount);
+    }
+
+    /**
+     * This method validates and sets the checkout date shared by every line item.
+     *
+     * @param checkoutDateStr - checkout date in the M/d/yyyy format.
+     * @throws IllegalArgumentException - thrown if the checkout date cannot be parsed.
+     */
+    public void setCheckoutDate(String checkoutDateStr) throws IllegalArgumentException {
+        draft.setCheckoutDate(checkoutDateStr);
+    }
+
+    /**
+     * This method validates and sets the checkout date shared by every line item.
+     *
+     * @param checkoutDate - checkout date.
+     * @throws IllegalArgumentException - thrown if the checkout date is null.
+     */
+    public void setCheckoutDate(LocalDate checkoutDate) throws IllegalArgumentException {
+        draft.setCheckoutDate(checkoutDate);
+    }
+
+    // CLASS GETTERS
+
+    /**
+     * Getter for tools.
+     *
+     * @return - the unmodifiable list of tools in the cart, in the order they were added.
+     */
+    public List<Tool> getTools() {
+        return Collections.unmodifiableList(tools);
+    }
+
+    /**
+     * Getter for rentalDays.
+     *
+     * @return - the number of rental days.
+     */
+    public int getRentalDays() {
+        return draft.getRentalDays();
+    }
+
+    /**
+     * Getter for discount.
+     *
+     * @return - the discount percent.
+     */
+    public int getDiscount() {
+        return draft.getDiscount();
+    }
+
+    /**
+     * Getter for checkoutDate.
+     *
+     * @return - the checkout date.
+     */
+    public LocalDate getCheckoutDate() {
+        return draft.getCheckoutDate();
+    }
+
+    /**
+     * Getter for cartQuote.
+     *
+     * @return - the priced cart, or null if the cart has not been finalized.
+     */
+    public CartQuote getCartQuote() {
+        return cartQuote;
+    }
+
+    /**
+     * Getter for finalCents.
+     *
+     * @return - the total final charge of the cart in cents.
+     */
+    public long getFinalCents() {
+        return cartQuote.getFinalCents();
+    }
+
+    /**
+     * This method finalizes the cart by pricing every line item against the shared rental period.
+     *
+     * @throws IllegalStateException - thrown if the cart is empty or its rental days or checkout date are not set.
+     */
+    public void finalizeCart() throws IllegalStateException {
+        if (tools.isEmpty() || draft.getRentalDays() == 0 || draft.getCheckoutDate() == null) {
+            throw new IllegalStateException("Rental Cart is not complete!");
+        }
+        long start = System.nanoTime();
+        cartQuote = pricingEngine.quoteCart(tools, draft.getRentalDays(), draft.getDiscount(),
+                                            draft.getCheckoutDate());
+        METRICS.recordQuote(draft.getRentalDays(), System.nanoTime() - start);
+    }
+
+    /**
+     * This method returns a printable format of the cart as one combined agreement: the shared rental period, each line
+     * item and the cart totals. The layout is rendered by the shared text ReceiptRenderer.
+     *
+     * @return - String with a printable format of the cart.
+     */
+    public String toString() {
+        return TEXT_RENDERER.render(cartQuote);
+    }
+}
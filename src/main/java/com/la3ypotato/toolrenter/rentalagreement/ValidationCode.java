@@ -0,0 +1,22 @@
+package com.la3ypotato.toolrenter.rentalagreement;
+
+/**
+ * This enum names why a rental input was rejected, so callers can react to a validation error without parsing its
+ * message.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public enum ValidationCode {
+    // The input was not given.
+    MISSING,
+    // The tool code is not in the catalog.
+    UNKNOWN_TOOL,
+    // The rental days or discount is not a whole number.
+    NOT_A_NUMBER,
+    // The rental days or discount is a whole number outside its bounds.
+    OUT_OF_RANGE,
+    // The checkout date is not a date in the M/d/yyyy format.
+    INVALID_DATE
+}
@@ -0,0 +1,67 @@
+package com.la3ypotato.toolrenter.rentalagreement;
+
+import com.la3ypotato.toolrenter.metrics.ValidationField;
+
+/**
+ * This class describes a rejected rental input: the field, the reason it was rejected, and the message the throwing
+ * setters report for it. Validation errors are immutable, so the common errors are created once and shared.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class ValidationError {
+    // Class properties
+    private final ValidationField field;
+    private final ValidationCode code;
+    private final String message;
+
+    /**
+     * Creates a validation error.
+     *
+     * @param field - the rejected input.
+     * @param code - the reason the input was rejected.
+     * @param message - the description of the error.
+     */
+    public ValidationError(ValidationField field, ValidationCode code, String message) {
+        this.field = field;
+        this.code = code;
+        this.message = message;
+    }
+
+    /**
+     * Getter for field.
+     *
+     * @return - the rejected input.
+     */
+    public ValidationField getField() {
+        return field;
+    }
+
+    /**
+     * Getter for code.
+     *
+     * @return - the reason the input was rejected.
+     */
+    public ValidationCode getCode() {
+        return code;
+    }
+
+    /**
+     * Getter for message.
+     *
+     * @return - the description of the error.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * This method returns the message prefixed with the name of the field (ex: "rentalDays: ...").
+     *
+     * @return - String with the field name and message.
+     */
+    public String toString() {
+        return field.getFieldName() + ": " + message;
+    }
+}
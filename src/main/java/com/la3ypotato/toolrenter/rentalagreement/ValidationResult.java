@@ -0,0 +1,96 @@
+package com.la3ypotato.toolrenter.rentalagreement;
+
+import com.la3ypotato.toolrenter.metrics.ValidationField;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class holds the outcome of validating every input of a rental request: either no errors, or one error for each
+ * rejected field in the order tool code, rental days, discount and checkout date. Results are immutable, and every
+ * valid request shares the same result.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class ValidationResult {
+    // The result of every request without errors.
+    public static final ValidationResult VALID = new ValidationResult(Collections.<ValidationError>emptyList());
+    // Class properties
+    private final List<ValidationError> errors;
+
+    /**
+     * Creates a validation result.
+     *
+     * @param errors - the errors of the rejected fields.
+     */
+    ValidationResult(List<ValidationError> errors) {
+        this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
+    }
+
+    /**
+     * This method checks whether every input was accepted.
+     *
+     * @return - true if there are no errors.
+     */
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * Getter for errors.
+     *
+     * @return - the unmodifiable list of errors, empty if every input was accepted.
+     */
+    public List<ValidationError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * This method finds the error of the passed field.
+     *
+     * @param field - the input to check.
+     * @return - the error of the field, or null if the field was accepted.
+     */
+    public ValidationError getError(ValidationField field) {
+        for (ValidationError error : errors) {
+            if (error.getField() == field) {
+                return error;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * This method joins the errors, each prefixed with its field name, into one message
+     * (ex: "rentalDays: ...; discount: ...").
+     *
+     * @return - the joined errors, or an empty String if every input was accepted.
+     */
+    public String getMessage() {
+        if (errors.size() == 1) {
+            return errors.get(0).toString();
+        }
+        StringBuilder sb = new StringBuilder();
+        for (ValidationError error : errors) {
+            if (sb.length() > 0) {
+                sb.append("; ");
+            }
+            sb.append(error);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * This method returns a printable format of the result.
+     *
+     * @return - String with the joined errors.
+     */
+    public String toString() {
+        return getMessage();
+    }
+}
@@ -0,0 +1,149 @@
+package com.la3ypotato.toolrenter.terminal;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class is a simple blocking client for the terminal line protocol, used to test the TerminalServer over the
+ * loopback interface. Requests can be sent one at a time, or pipelined the way the store terminals send them.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class TerminalClient implements Closeable {
+    // Default number of requests sent ahead of their responses when pipelining.
+    public static final int DEFAULT_PIPELINE_DEPTH = 128;
+    // Class properties
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final Writer writer;
+
+    /**
+     * Creates a client connected to the passed server address.
+     *
+     * @param address - the address of the terminal server.
+     * @throws IOException - thrown if the connection cannot be made.
+     */
+    public TerminalClient(InetSocketAddress address) throws IOException {
+        this.socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.connect(address);
+        this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * This method sends a request line and waits for its response.
+     *
+     * @param request - the request line, without a line terminator (ex: "CHNS 5 10 7/2/2015").
+     * @return - the response line, without the line terminator.
+     * @throws IOException - thrown if the request cannot be sent or the connection closes before the response.
+     */
+    public String request(String request) throws IOException {
+        send(request);
+        flush();
+        return receive();
+    }
+
+    /**
+     * This method sends every request without waiting for the responses in between, keeping at most the default
+     * pipeline depth of requests unanswered.
+     *
+     * @param requests - the request lines.
+     * @return - the response lines, in request order.
+     * @throws IOException - thrown if a request cannot be sent or the connection closes before every response.
+     */
+    public List<String> pipeline(List<String> requests) throws IOException {
+        return pipeline(requests, DEFAULT_PIPELINE_DEPTH);
+    }
+
+    /**
+     * This method sends every request without waiting for the responses in between. The number of unanswered requests
+     * is bounded so that the client never stops reading for long enough to stall the server.
+     *
+     * @param requests - the request lines.
+     * @param depth - the maximum number of unanswered requests.
+     * @return - the response lines, in request order.
+     * @throws IOException - thrown if a request cannot be sent or the connection closes before every response.
+     * @throws IllegalArgumentException - thrown if the depth is less than 1.
+     */
+    public List<String> pipeline(List<String> requests, int depth) throws IOException, IllegalArgumentException {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Pipeline depth must be greater than 0.");
+        }
+        List<String> responses = new ArrayList<>(requests.size());
+        int unanswered = 0;
+        for (String request : requests) {
+            if (unanswered == depth) {
+                flush();
+                responses.add(receive());
+                unanswered--;
+            }
+            send(request);
+            unanswered++;
+        }
+        flush();
+        while (unanswered-- > 0) {
+            responses.add(receive());
+        }
+
+        return responses;
+    }
+
+    /**
+     * This method buffers a request line to be sent on the next flush.
+     *
+     * @param request - the request line, without a line terminator.
+     * @throws IOException - thrown if the request cannot be written.
+     */
+    public void send(String request) throws IOException {
+        writer.write(request);
+        writer.write('\n');
+    }
+
+    /**
+     * This method sends every buffered request.
+     *
+     * @throws IOException - thrown if the requests cannot be written.
+     */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * This method waits for the next response line.
+     *
+     * @return - the response line, without the line terminator.
+     * @throws IOException - thrown if the connection closes before a response is received.
+     */
+    public String receive() throws IOException {
+        String response = reader.readLine();
+        if (response == null) {
+            throw new EOFException("Terminal server closed the connection.");
+        }
+
+        return response;
+    }
+
+    /**
+     * This method closes the connection.
+     *
+     * @throws IOException - thrown if the socket fails to close.
+     */
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
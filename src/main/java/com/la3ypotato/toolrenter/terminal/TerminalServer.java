@@ -0,0 +1,613 @@
+package com.la3ypotato.toolrenter.terminal;
+
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.receipt.ReceiptFormat;
+import com.la3ypotato.toolrenter.receipt.ReceiptRenderer;
+import com.la3ypotato.toolrenter.rentalagreement.RentalAgreement;
+import com.la3ypotato.toolrenter.rentalagreement.ValidationResult;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class serves the line protocol spoken by the store terminals over TCP. Each request is one line holding the
+ * four rental inputs separated by spaces:
+ *
+ *   CHNS 5 10 7/2/2015
+ *
+ * and is answered with one line, either "OK " followed by the priced rental as a CSV record (the columns of
+ * ReceiptRenderer.CSV_HEADER), or "ERR " followed by the validation error. Terminals may send any number of requests
+ * without waiting, and the responses on a connection are always written in the order the requests were received.
+ *
+ * The server uses non-blocking channels. One thread accepts connections and hands them out round robin to a small
+ * number of worker threads, each of which runs a selector over its share of the connections. Request lines are
+ * tokenized straight from the read buffer and validated through a RentalAgreement, the same as the other front ends.
+ * When a terminal stops reading its responses, the server stops reading its requests until the responses drain.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class TerminalServer {
+    // Response prefixes.
+    public static final String OK_PREFIX = "OK ";
+    public static final String ERROR_PREFIX = "ERR ";
+    // Longest request line accepted. Longer lines are answered with an error and skipped.
+    public static final int MAX_LINE_BYTES = 1024;
+    private static final String USAGE_ERROR = "expected <toolCode> <rentalDays> <discount> <checkoutDate>";
+    private static final String LINE_TOO_LONG_RESPONSE =
+            ERROR_PREFIX + "request line is longer than " + MAX_LINE_BYTES + " bytes\n";
+    private static final int READ_BUFFER_BYTES = 8192;
+    private static final int INITIAL_WRITE_BUFFER_BYTES = 4096;
+    // Requests are not read from a connection while it has more than this many response bytes waiting to be written.
+    private static final int MAX_PENDING_RESPONSE_BYTES = 64 * 1024;
+    private static final int FIELD_COUNT = 4;
+    // Class properties
+    private final PricingEngine pricingEngine;
+    private final ServerSocketChannel serverChannel;
+    private final Worker[] workers;
+    private final Thread acceptThread;
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private volatile boolean running;
+
+    /**
+     * Creates a server bound to the passed address. The server does not accept connections until it is started.
+     *
+     * @param address - the address to listen on. Port 0 picks a free port.
+     * @param pricingEngine - the engine rentals are priced with.
+     * @param workerCount - the number of selector threads serving connections.
+     * @throws IOException - thrown if the address cannot be bound.
+     * @throws IllegalArgumentException - thrown if the worker count is less than 1.
+     */
+    public TerminalServer(InetSocketAddress address, PricingEngine pricingEngine, int workerCount)
+            throws IOException, IllegalArgumentException {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("Worker count must be greater than 0.");
+        }
+        this.pricingEngine = pricingEngine;
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+        serverChannel.bind(address, 0);
+        this.workers = new Worker[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Worker(Selector.open(), "terminal-worker-" + i);
+        }
+        this.acceptThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                acceptLoop();
+            }
+        }, "terminal-accept");
+        acceptThread.setDaemon(true);
+    }
+
+    /**
+     * This method starts the worker threads and starts accepting connections.
+     */
+    public void start() {
+        running = true;
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+        acceptThread.start();
+    }
+
+    /**
+     * This method stops accepting connections, closes every open connection and waits for the threads to finish.
+     */
+    public void stop() {
+        running = false;
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            // Nothing more can be done with a channel that fails to close.
+        }
+        for (Worker worker : workers) {
+            worker.selector.wakeup();
+        }
+        try {
+            acceptThread.join();
+            for (Worker worker : workers) {
+                worker.thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Getter for the bound port.
+     *
+     * @return - the port the server is listening on.
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Getter for the number of open connections.
+     *
+     * @return - the number of connected terminals.
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * This method accepts connections and hands them to the workers round robin.
+     */
+    private void acceptLoop() {
+        int nextWorker = 0;
+        while (running) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (IOException e) {
+                // The server channel was closed by stop(), or the accept failed; either way try again while running.
+                continue;
+            }
+            try {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            } catch (IOException e) {
+                closeQuietly(channel);
+                continue;
+            }
+            connectionCount.incrementAndGet();
+            workers[nextWorker].register(channel);
+            nextWorker = (nextWorker + 1) % workers.length;
+        }
+    }
+
+    /**
+     * This method closes a channel, ignoring any error.
+     *
+     * @param channel - the channel to close.
+     */
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Nothing more can be done with a channel that fails to close.
+        }
+    }
+
+    /**
+     * A worker owns a selector and every connection registered with it. The rental agreement, renderer and response
+     * builder are reused for every request the worker handles, since requests are handled one at a time.
+     */
+    private class Worker implements Runnable {
+        private final Selector selector;
+        private final Thread thread;
+        private final Queue<SocketChannel> pendingChannels = new ConcurrentLinkedQueue<>();
+        private final RentalAgreement rentalAgreement = new RentalAgreement(pricingEngine);
+        private final ReceiptRenderer csvRenderer = new ReceiptRenderer(ReceiptFormat.CSV);
+        private final StringBuilder response = new StringBuilder(256);
+        // Start and end offsets of the fields of the request line being handled.
+        private final int[] fieldStarts = new int[FIELD_COUNT];
+        private final int[] fieldEnds = new int[FIELD_COUNT];
+
+        private Worker(Selector selector, String name) {
+            this.selector = selector;
+            this.thread = new Thread(this, name);
+            thread.setDaemon(true);
+        }
+
+        /**
+         * This method queues a newly accepted channel to be registered by the worker thread.
+         *
+         * @param channel - the accepted channel.
+         */
+        private void register(SocketChannel channel) {
+            pendingChannels.add(channel);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    selector.select();
+                    registerPendingChannels();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            if (key.isValid() && key.isWritable()) {
+                                connection.write();
+                            }
+                            if (key.isValid() && key.isReadable()) {
+                                connection.read();
+                            }
+                        } catch (IOException e) {
+                            connection.close();
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    ((Connection) key.attachment()).close();
+                }
+                SocketChannel channel;
+                while ((channel = pendingChannels.poll()) != null) {
+                    closeQuietly(channel);
+                    connectionCount.decrementAndGet();
+                }
+                try {
+                    selector.close();
+                } catch (IOException e) {
+                    // Nothing more can be done with a selector that fails to close.
+                }
+            }
+        }
+
+        /**
+         * This method registers the channels handed over by the accept thread.
+         */
+        private void registerPendingChannels() {
+            SocketChannel channel;
+            while ((channel = pendingChannels.poll()) != null) {
+                Connection connection = new Connection(this, channel);
+                try {
+                    connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+                } catch (ClosedChannelException e) {
+                    connection.close();
+                }
+            }
+        }
+
+        /**
+         * This method handles one request line and appends its response line to the response builder.
+         *
+         * @param line - the buffer holding the line.
+         * @param start - the offset of the first byte of the line.
+         * @param end - the offset after the last byte of the line, not counting the line terminator.
+         * @return - the response builder holding the response line.
+         */
+        private StringBuilder handle(byte[] line, int start, int end) {
+            response.setLength(0);
+            int fields = 0;
+            int i = start;
+            while (i < end) {
+                while (i < end && isSpace(line[i])) {
+                    i++;
+                }
+                if (i == end) {
+                    break;
+                } else if (fields == FIELD_COUNT) {
+                    return response.append(ERROR_PREFIX).append(USAGE_ERROR).append('\n');
+                }
+                fieldStarts[fields] = i;
+                while (i < end && !isSpace(line[i])) {
+                    i++;
+                }
+                fieldEnds[fields++] = i;
+            }
+            if (fields != FIELD_COUNT) {
+                return response.append(ERROR_PREFIX).append(USAGE_ERROR).append('\n');
+            }
+
+            String toolCode = field(line, 0);
+            int rentalDays = parseSmallInt(line, fieldStarts[1], fieldEnds[1]);
+            int discount = parseSmallInt(line, fieldStarts[2], fieldEnds[2]);
+            LocalDate checkoutDate = parseDate(line, fieldStarts[3], fieldEnds[3]);
+            ValidationResult result;
+            if (rentalDays < 0 || discount < 0 || checkoutDate == null) {
+                // Anything the fast paths do not handle is validated from the text, so that unusual input is accepted
+                // or rejected exactly as it is by the console and the other front ends.
+                result = rentalAgreement.validateRequest(toolCode, field(line, 1), field(line, 2), field(line, 3));
+            } else {
+                result = rentalAgreement.validateRequest(toolCode, rentalDays, discount, checkoutDate);
+            }
+            if (!result.isValid()) {
+                response.append(ERROR_PREFIX).append(result.getMessage());
+                return response.append('\n');
+            }
+            try {
+                rentalAgreement.finalizeRentalAgreement();
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                response.append(ERROR_PREFIX).append(e.getMessage());
+                return response.append('\n');
+            }
+
+            response.append(OK_PREFIX);
+            csvRenderer.render(rentalAgreement.getQuote(), response);
+            return response.append('\n');
+        }
+
+        /**
+         * This method decodes a field of the current request line.
+         *
+         * @param line - the buffer holding the line.
+         * @param field - the index of the field.
+         * @return - the field text.
+         */
+        private String field(byte[] line, int field) {
+            return new String(line, fieldStarts[field], fieldEnds[field] - fieldStarts[field], StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * A connection holds the buffered requests and responses of one terminal.
+     */
+    private class Connection {
+        private final Worker worker;
+        private final SocketChannel channel;
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_BYTES);
+        private ByteBuffer writeBuffer = ByteBuffer.allocate(INITIAL_WRITE_BUFFER_BYTES);
+        private SelectionKey key;
+        // Set while the rest of an overlong line is being skipped.
+        private boolean skippingLine;
+        private boolean closed;
+
+        private Connection(Worker worker, SocketChannel channel) {
+            this.worker = worker;
+            this.channel = channel;
+        }
+
+        /**
+         * This method reads whatever the terminal has sent and handles every complete request line.
+         *
+         * @throws IOException - thrown if the channel cannot be read or written.
+         */
+        private void read() throws IOException {
+            int read = channel.read(readBuffer);
+            if (read < 0) {
+                close();
+                return;
+            }
+            handleLines();
+        }
+
+        /**
+         * This method handles the complete request lines in the read buffer, in order, until the buffer is empty or
+         * too many responses are waiting to be written. Read interest is dropped in the latter case and restored by
+         * write() once the responses have drained.
+         *
+         * @throws IOException - thrown if the channel cannot be written.
+         */
+        private void handleLines() throws IOException {
+            byte[] bytes = readBuffer.array();
+            int limit = readBuffer.position();
+            int lineStart = 0;
+            int i = 0;
+            while (i < limit && writeBuffer.position() < MAX_PENDING_RESPONSE_BYTES) {
+                if (bytes[i] != '\n') {
+                    i++;
+                    continue;
+                }
+                if (skippingLine) {
+                    skippingLine = false;
+                } else {
+                    int lineEnd = i > lineStart && bytes[i - 1] == '\r' ? i - 1 : i;
+                    if (lineEnd - lineStart > MAX_LINE_BYTES) {
+                        appendResponse(LINE_TOO_LONG_RESPONSE);
+                    } else if (lineEnd > lineStart) {
+                        appendResponse(worker.handle(bytes, lineStart, lineEnd));
+                    }
+                }
+                lineStart = ++i;
+            }
+            if (i == limit && limit - lineStart > MAX_LINE_BYTES + 1) {
+                // The unfinished line is already too long. Answer it now and drop the rest of it as it arrives.
+                if (!skippingLine) {
+                    appendResponse(LINE_TOO_LONG_RESPONSE);
+                    skippingLine = true;
+                }
+                lineStart = limit;
+            } else if (skippingLine) {
+                lineStart = i;
+            }
+            readBuffer.position(lineStart);
+            readBuffer.limit(limit);
+            readBuffer.compact();
+
+            flush();
+            boolean backlogged = writeBuffer.position() >= MAX_PENDING_RESPONSE_BYTES;
+            updateInterest(backlogged);
+        }
+
+        /**
+         * This method writes as many of the waiting responses as the channel accepts and, once they have drained,
+         * resumes handling the request lines that were held back.
+         *
+         * @throws IOException - thrown if the channel cannot be written.
+         */
+        private void write() throws IOException {
+            flush();
+            if (writeBuffer.position() < MAX_PENDING_RESPONSE_BYTES && readBuffer.position() > 0) {
+                handleLines();
+            } else {
+                updateInterest(writeBuffer.position() >= MAX_PENDING_RESPONSE_BYTES);
+            }
+        }
+
+        /**
+         * This method writes the waiting responses without blocking.
+         *
+         * @throws IOException - thrown if the channel cannot be written.
+         */
+        private void flush() throws IOException {
+            if (writeBuffer.position() == 0) {
+                return;
+            }
+            writeBuffer.flip();
+            channel.write(writeBuffer);
+            writeBuffer.compact();
+        }
+
+        /**
+         * This method selects for writes while responses are waiting, and for reads unless the connection is
+         * backlogged.
+         *
+         * @param backlogged - whether too many responses are waiting to read more requests.
+         */
+        private void updateInterest(boolean backlogged) {
+            if (closed) {
+                return;
+            }
+            int ops = (backlogged ? 0 : SelectionKey.OP_READ) |
+                      (writeBuffer.position() > 0 ? SelectionKey.OP_WRITE : 0);
+            if (key.interestOps() != ops) {
+                key.interestOps(ops);
+            }
+        }
+
+        /**
+         * This method encodes a response line into the write buffer. Responses are almost always ASCII, which is
+         * copied byte for byte; anything else is encoded as UTF-8.
+         *
+         * @param line - the response line.
+         */
+        private void appendResponse(CharSequence line) {
+            int length = line.length();
+            ensureWriteCapacity(length);
+            int start = writeBuffer.position();
+            for (int i = 0; i < length; i++) {
+                char c = line.charAt(i);
+                if (c >= 0x80) {
+                    writeBuffer.position(start);
+                    byte[] encoded = line.toString().getBytes(StandardCharsets.UTF_8);
+                    ensureWriteCapacity(encoded.length);
+                    writeBuffer.put(encoded);
+                    return;
+                }
+                writeBuffer.put((byte) c);
+            }
+        }
+
+        /**
+         * This method grows the write buffer so that it has room for the passed number of bytes.
+         *
+         * @param bytes - the number of bytes about to be written.
+         */
+        private void ensureWriteCapacity(int bytes) {
+            if (writeBuffer.remaining() >= bytes) {
+                return;
+            }
+            int capacity = writeBuffer.capacity();
+            while (capacity - writeBuffer.position() < bytes) {
+                capacity *= 2;
+            }
+            ByteBuffer grown = ByteBuffer.allocate(capacity);
+            writeBuffer.flip();
+            grown.put(writeBuffer);
+            writeBuffer = grown;
+        }
+
+        /**
+         * This method closes the connection.
+         */
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (key != null) {
+                key.cancel();
+            }
+            closeQuietly(channel);
+            connectionCount.decrementAndGet();
+        }
+    }
+
+    // PARSING HELPERS //
+
+    /**
+     * This method checks for a field separator.
+     *
+     * @param b - the byte to check.
+     * @return - true if the byte is a space or tab.
+     */
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    /**
+     * This method parses a field of one to nine ASCII digits.
+     *
+     * @param line - the buffer holding the field.
+     * @param start - the offset of the first byte of the field.
+     * @param end - the offset after the last byte of the field.
+     * @return - the parsed value, or -1 if the field is not one to nine digits.
+     */
+    static int parseSmallInt(byte[] line, int start, int end) {
+        if (end <= start || end - start > 9) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+
+        return value;
+    }
+
+    /**
+     * This method parses a valid M/d/yyyy date, with a one or two digit month and day and a four digit year.
+     *
+     * @param line - the buffer holding the field.
+     * @param start - the offset of the first byte of the field.
+     * @param end - the offset after the last byte of the field.
+     * @return - the parsed date, or null if the field is not a valid date in that exact form.
+     */
+    static LocalDate parseDate(byte[] line, int start, int end) {
+        int firstSlash = indexOf(line, start, end, (byte) '/');
+        int secondSlash = firstSlash < 0 ? -1 : indexOf(line, firstSlash + 1, end, (byte) '/');
+        if (secondSlash < 0 || firstSlash - start > 2 || secondSlash - firstSlash - 1 > 2 || end - secondSlash != 5) {
+            return null;
+        }
+        int month = parseSmallInt(line, start, firstSlash);
+        int day = parseSmallInt(line, firstSlash + 1, secondSlash);
+        int year = parseSmallInt(line, secondSlash + 1, end);
+        if (month < 1 || month > 12 || day < 1 || year < 1) {
+            return null;
+        }
+        LocalDate firstOfMonth = LocalDate.of(year, month, 1);
+        if (day > firstOfMonth.lengthOfMonth()) {
+            return null;
+        }
+
+        return firstOfMonth.withDayOfMonth(day);
+    }
+
+    /**
+     * This method finds a byte within a range of a buffer.
+     *
+     * @param line - the buffer to search.
+     * @param start - the offset to start searching at.
+     * @param end - the offset to stop searching at.
+     * @param b - the byte to find.
+     * @return - the offset of the byte, or -1 if it is not in the range.
+     */
+    private static int indexOf(byte[] line, int start, int end, byte b) {
+        for (int i = start; i < end; i++) {
+            if (line[i] == b) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
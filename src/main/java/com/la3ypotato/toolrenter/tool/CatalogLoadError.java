@@ -0,0 +1,52 @@
+package com.la3ypotato.toolrenter.tool;
+
+/**
+ * This class describes a catalog line that could not be turned into a tool.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class CatalogLoadError {
+    // Class properties
+    private final long lineNumber;
+    private final String message;
+
+    /**
+     * Creates a catalog load error.
+     *
+     * @param lineNumber - the 1-based line number of the malformed line.
+     * @param message - the reason the line was rejected.
+     */
+    public CatalogLoadError(long lineNumber, String message) {
+        this.lineNumber = lineNumber;
+        this.message = message;
+    }
+
+    /**
+     * Getter for lineNumber.
+     *
+     * @return - the 1-based line number of the malformed line.
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Getter for message.
+     *
+     * @return - the reason the line was rejected.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * This method returns a printable format of the error.
+     *
+     * @return - String with the line number and reason.
+     */
+    public String toString() {
+        return "Line " + lineNumber + ": " + message;
+    }
+}
@@ -0,0 +1,59 @@
+package com.la3ypotato.toolrenter.tool;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class holds the outcome of loading a catalog file: the tools that were loaded and the lines that were rejected.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class CatalogLoadResult {
+    // Class properties
+    private final Map<String, Tool> tools;
+    private final List<CatalogLoadError> errors;
+    private final long lineCount;
+
+    /**
+     * Creates a catalog load result.
+     *
+     * @param tools - Map of tool codes to the loaded tools.
+     * @param errors - the rejected lines, in line order.
+     * @param lineCount - the number of lines read.
+     */
+    public CatalogLoadResult(Map<String, Tool> tools, List<CatalogLoadError> errors, long lineCount) {
+        this.tools = Collections.unmodifiableMap(tools);
+        this.errors = Collections.unmodifiableList(errors);
+        this.lineCount = lineCount;
+    }
+
+    /**
+     * Getter for tools.
+     *
+     * @return - the unmodifiable Map of tool codes to the loaded tools.
+     */
+    public Map<String, Tool> getTools() {
+        return tools;
+    }
+
+    /**
+     * Getter for errors.
+     *
+     * @return - the rejected lines, in line order.
+     */
+    public List<CatalogLoadError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Getter for lineCount.
+     *
+     * @return - the number of lines read.
+     */
+    public long getLineCount() {
+        return lineCount;
+    }
+}
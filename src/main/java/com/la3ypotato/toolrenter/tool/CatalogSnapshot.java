@@ -0,0 +1,320 @@
+package com.la3ypotato.toolrenter.tool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * This class reads and writes the binary catalog snapshot format. A snapshot is written once from the CSV catalog and
+ * can then be memory-mapped and loaded at startup without parsing any text.
+ *
+ * The file is laid out as follows, with every number in big-endian order:
+ *
+ * Header (32 bytes)
+ *   0 - magic number 'TRCS'
+ *   4 - format version
+ *   8 - number of tools
+ *  12 - number of strings in the string table
+ *  16 - number of bytes of string data
+ *  20 - reserved (0)
+ *  24 - CRC32 of every byte after the header
+ *
+ * Tool records (24 bytes each, sorted by tool code)
+ *   0 - string index of the tool code
+ *   4 - string index of the tool type
+ *   8 - string index of the brand
+ *  12 - charge flags (1 = weekday, 2 = weekend, 4 = holiday)
+ *  16 - daily charge
+ *
+ * String table
+ *   one offset per string plus a final end offset, relative to the start of the string data
+ *   the UTF-8 string data
+ *
+ * Repeated types and brands are stored once in the string table.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public final class CatalogSnapshot {
+    // The ASCII characters 'TRCS' (Tool Renter Catalog Snapshot).
+    public static final int MAGIC = 0x54524353;
+    public static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int RECORD_BYTES = 24;
+    private static final int CHECKSUM_OFFSET = 24;
+    private static final int WEEKDAY_FLAG = CompactToolCatalog.WEEKDAY_FLAG;
+    private static final int WEEKEND_FLAG = CompactToolCatalog.WEEKEND_FLAG;
+    private static final int HOLIDAY_FLAG = CompactToolCatalog.HOLIDAY_FLAG;
+
+    // Static helper class.
+    private CatalogSnapshot() {
+
+    }
+
+    /**
+     * This method writes the passed tools to a snapshot file. The snapshot is written to a temporary file next to the
+     * target and then moved into place, so a reader never sees a partially written snapshot.
+     *
+     * @param tools - Map of tool codes to tools.
+     * @param snapshotFile - the snapshot file to write.
+     * @throws IOException - thrown if the file cannot be written.
+     */
+    public static void write(Map<String, Tool> tools, Path snapshotFile) throws IOException {
+        ByteBuffer snapshot = encode(tools);
+        Path parent = snapshotFile.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(parent, snapshotFile.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE,
+                                                        StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (snapshot.hasRemaining()) {
+                    channel.write(snapshot);
+                }
+                channel.force(true);
+            }
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * This method memory-maps the passed snapshot file, verifies its checksum and loads every tool in it.
+     *
+     * @param snapshotFile - the snapshot file to read.
+     * @return - Map of tool codes to the loaded tools.
+     * @throws IOException - thrown if the file cannot be read.
+     * @throws IllegalArgumentException - thrown if the file is not a snapshot, is an unsupported version or is corrupt.
+     */
+    public static Map<String, Tool> read(Path snapshotFile) throws IOException, IllegalArgumentException {
+        return decode(map(snapshotFile));
+    }
+
+    /**
+     * This method memory-maps the passed snapshot file, verifies its checksum and loads it as a compact catalog. No
+     * Tool is created, and each type and brand is held once however many tools share it.
+     *
+     * @param snapshotFile - the snapshot file to read.
+     * @return - the compact catalog, with tool IDs in tool code order.
+     * @throws IOException - thrown if the file cannot be read.
+     * @throws IllegalArgumentException - thrown if the file is not a snapshot, is an unsupported version or is corrupt.
+     */
+    public static CompactToolCatalog readCompact(Path snapshotFile) throws IOException, IllegalArgumentException {
+        ByteBuffer snapshot = map(snapshotFile);
+        String[] strings = decodeStrings(snapshot);
+        int toolCount = snapshot.getInt(8);
+        String[] toolCodes = new String[toolCount];
+        String[] toolTypes = new String[toolCount];
+        String[] brands = new String[toolCount];
+        double[] dailyCharges = new double[toolCount];
+        byte[] chargeFlags = new byte[toolCount];
+        for (int i = 0; i < toolCount; i++) {
+            int record = HEADER_BYTES + i * RECORD_BYTES;
+            toolCodes[i] = lookup(strings, snapshot.getInt(record));
+            toolTypes[i] = lookup(strings, snapshot.getInt(record + 4));
+            brands[i] = lookup(strings, snapshot.getInt(record + 8));
+            chargeFlags[i] = (byte) (snapshot.getInt(record + 12) & (WEEKDAY_FLAG | WEEKEND_FLAG | HOLIDAY_FLAG));
+            dailyCharges[i] = snapshot.getDouble(record + 16);
+        }
+
+        return CompactToolCatalog.fromColumns(toolCodes, toolTypes, brands, dailyCharges, chargeFlags);
+    }
+
+    /**
+     * This method memory-maps the passed snapshot file.
+     *
+     * @param snapshotFile - the snapshot file to map.
+     * @return - the mapped snapshot.
+     * @throws IOException - thrown if the file cannot be read.
+     * @throws IllegalArgumentException - thrown if the file is too small or too large to be a snapshot.
+     */
+    private static ByteBuffer map(Path snapshotFile) throws IOException, IllegalArgumentException {
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Catalog snapshot has an invalid size: " + size);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * This method encodes the passed tools in the snapshot format.
+     *
+     * @param tools - Map of tool codes to tools.
+     * @return - the encoded snapshot, ready to be written.
+     */
+    private static ByteBuffer encode(Map<String, Tool> tools) {
+        // Sort by tool code so the same catalog always produces the same file.
+        Map<String, Tool> sortedTools = new TreeMap<>(tools);
+        Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        int stringBytes = 0;
+        int[] records = new int[sortedTools.size() * 3];
+        int recordIndex = 0;
+        for (Tool tool : sortedTools.values()) {
+            for (String value : new String[] {tool.getToolCode(), tool.getToolType(), tool.getBrand()}) {
+                Integer stringIndex = stringIndexes.get(value);
+                if (stringIndex == null) {
+                    stringIndex = strings.size();
+                    stringIndexes.put(value, stringIndex);
+                    byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                    strings.add(encoded);
+                    stringBytes += encoded.length;
+                }
+                records[recordIndex++] = stringIndex;
+            }
+        }
+
+        int size = HEADER_BYTES + sortedTools.size() * RECORD_BYTES + (strings.size() + 1) * 4 + stringBytes;
+        ByteBuffer snapshot = ByteBuffer.allocate(size).order(ByteOrder.BIG_ENDIAN);
+        snapshot.putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(sortedTools.size())
+                .putInt(strings.size())
+                .putInt(stringBytes)
+                .putInt(0)
+                .putLong(0);
+        recordIndex = 0;
+        for (Tool tool : sortedTools.values()) {
+            int flags = (tool.isWeekdayCharge() ? WEEKDAY_FLAG : 0) |
+                        (tool.isWeekendCharge() ? WEEKEND_FLAG : 0) |
+                        (tool.isHolidayCharge() ? HOLIDAY_FLAG : 0);
+            snapshot.putInt(records[recordIndex++])
+                    .putInt(records[recordIndex++])
+                    .putInt(records[recordIndex++])
+                    .putInt(flags)
+                    .putDouble(tool.getDailyCharge());
+        }
+        int offset = 0;
+        for (byte[] encoded : strings) {
+            snapshot.putInt(offset);
+            offset += encoded.length;
+        }
+        snapshot.putInt(offset);
+        for (byte[] encoded : strings) {
+            snapshot.put(encoded);
+        }
+
+        snapshot.putLong(CHECKSUM_OFFSET, checksum(snapshot));
+        snapshot.flip();
+        return snapshot;
+    }
+
+    /**
+     * This method decodes a snapshot after checking its header, layout and checksum.
+     *
+     * @param snapshot - the snapshot bytes.
+     * @return - Map of tool codes to the loaded tools.
+     * @throws IllegalArgumentException - thrown if the snapshot is an unsupported version or is corrupt.
+     */
+    private static Map<String, Tool> decode(ByteBuffer snapshot) throws IllegalArgumentException {
+        String[] strings = decodeStrings(snapshot);
+        int toolCount = snapshot.getInt(8);
+        Map<String, Tool> tools = new HashMap<>(Math.max(16, (int) (toolCount / 0.75f) + 1));
+        for (int i = 0; i < toolCount; i++) {
+            int record = HEADER_BYTES + i * RECORD_BYTES;
+            int flags = snapshot.getInt(record + 12);
+            Tool tool = new Tool(lookup(strings, snapshot.getInt(record)),
+                                 lookup(strings, snapshot.getInt(record + 4)),
+                                 lookup(strings, snapshot.getInt(record + 8)),
+                                 snapshot.getDouble(record + 16),
+                                 (flags & WEEKDAY_FLAG) != 0,
+                                 (flags & WEEKEND_FLAG) != 0,
+                                 (flags & HOLIDAY_FLAG) != 0);
+            tools.put(tool.getToolCode(), tool);
+        }
+
+        return tools;
+    }
+
+    /**
+     * This method checks the header, layout and checksum of a snapshot and decodes its string table.
+     *
+     * @param snapshot - the snapshot bytes.
+     * @return - the string table, which tool records refer to by index.
+     * @throws IllegalArgumentException - thrown if the snapshot is an unsupported version or is corrupt.
+     */
+    private static String[] decodeStrings(ByteBuffer snapshot) throws IllegalArgumentException {
+        snapshot.order(ByteOrder.BIG_ENDIAN);
+        if (snapshot.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("File is not a catalog snapshot!");
+        } else if (snapshot.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported catalog snapshot version: " + snapshot.getInt(4));
+        }
+        int toolCount = snapshot.getInt(8);
+        int stringCount = snapshot.getInt(12);
+        int stringBytes = snapshot.getInt(16);
+        long expectedSize = HEADER_BYTES + (long) toolCount * RECORD_BYTES + ((long) stringCount + 1) * 4 + stringBytes;
+        if (toolCount < 0 || stringCount < 0 || stringBytes < 0 || expectedSize != snapshot.limit()) {
+            throw new IllegalArgumentException("Catalog snapshot is truncated or corrupt!");
+        } else if (snapshot.getLong(CHECKSUM_OFFSET) != checksum(snapshot)) {
+            throw new IllegalArgumentException("Catalog snapshot checksum does not match!");
+        }
+
+        // Decode the string table once; records refer to strings by index.
+        int offsetsStart = HEADER_BYTES + toolCount * RECORD_BYTES;
+        int dataStart = offsetsStart + (stringCount + 1) * 4;
+        String[] strings = new String[stringCount];
+        byte[] scratch = new byte[0];
+        for (int i = 0; i < stringCount; i++) {
+            int start = snapshot.getInt(offsetsStart + i * 4);
+            int end = snapshot.getInt(offsetsStart + (i + 1) * 4);
+            if (start < 0 || end < start || end > stringBytes) {
+                throw new IllegalArgumentException("Catalog snapshot string table is corrupt!");
+            }
+            if (scratch.length < end - start) {
+                scratch = new byte[end - start];
+            }
+            for (int b = start; b < end; b++) {
+                scratch[b - start] = snapshot.get(dataStart + b);
+            }
+            strings[i] = new String(scratch, 0, end - start, StandardCharsets.UTF_8);
+        }
+
+        return strings;
+    }
+
+    /**
+     * This method looks up a string table entry.
+     *
+     * @param strings - the decoded string table.
+     * @param index - the string index from a tool record.
+     * @return - the string.
+     * @throws IllegalArgumentException - thrown if the index is out of range.
+     */
+    private static String lookup(String[] strings, int index) throws IllegalArgumentException {
+        if (index < 0 || index >= strings.length) {
+            throw new IllegalArgumentException("Catalog snapshot record refers to a missing string: " + index);
+        }
+
+        return strings[index];
+    }
+
+    /**
+     * This method calculates the CRC32 of every byte after the header.
+     *
+     * @param snapshot - the snapshot bytes, with the limit at the end of the snapshot.
+     * @return - the checksum.
+     */
+    private static long checksum(ByteBuffer snapshot) {
+        ByteBuffer body = snapshot.duplicate();
+        body.position(HEADER_BYTES);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return crc.getValue();
+    }
+}
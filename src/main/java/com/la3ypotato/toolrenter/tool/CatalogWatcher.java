@@ -0,0 +1,113 @@
+package com.la3ypotato.toolrenter.tool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * This class watches an external catalog file and asks Tools to reload it whenever the file is created or modified.
+ * The reload is parsed on the watcher's own daemon thread, so request threads never wait on it; they keep reading the
+ * previous snapshot until the new one is swapped in.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class CatalogWatcher implements Runnable, Closeable {
+    // Wait for a burst of file events to settle before reloading, so a file that is still being written is not read.
+    private static final long SETTLE_MILLIS = 200;
+    private static final String THREAD_NAME = "tool-catalog-watcher";
+    // Class properties
+    private final Tools tools;
+    private final Path catalogFile;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /**
+     * Creates a watcher for the passed catalog file. Call start to begin watching.
+     *
+     * @param tools - the catalog to reload.
+     * @param catalogFile - the external catalog file.
+     * @throws IOException - thrown if the directory of the file cannot be watched.
+     */
+    public CatalogWatcher(Tools tools, Path catalogFile) throws IOException {
+        this.tools = tools;
+        this.catalogFile = catalogFile.toAbsolutePath();
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.catalogFile.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                              StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this, THREAD_NAME);
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * This method starts the watcher thread.
+     */
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * This method waits for changes to the catalog file and reloads it. A file that fails to parse is reported and the
+     * current snapshot is kept. The loop ends when the watcher is closed.
+     */
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean catalogChanged = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Object context = event.context();
+                    if (context instanceof Path && catalogFile.getFileName().equals(context)) {
+                        catalogChanged = true;
+                    }
+                }
+                key.reset();
+                if (!catalogChanged) {
+                    continue;
+                }
+                // Drain any further events for the same write before reading the file.
+                Thread.sleep(SETTLE_MILLIS);
+                WatchKey pending;
+                while ((pending = watchService.poll()) != null) {
+                    pending.pollEvents();
+                    pending.reset();
+                }
+                try {
+                    tools.reload(catalogFile);
+                } catch (IOException | IllegalArgumentException e) {
+                    System.err.println("Keeping the current tool catalog, unable to reload " + catalogFile + ": " +
+                                       e.getMessage());
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // The watcher was closed.
+        }
+    }
+
+    /**
+     * This method stops watching the catalog file and waits for the watcher thread to end, so no reload starts after it
+     * returns.
+     *
+     * @throws IOException - thrown if the watch service fails to close.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,488 @@
+package com.la3ypotato.toolrenter.tool;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * This class holds a tool catalog as parallel arrays rather than as a Map of Tool objects, for catalogs with millions
+ * of tools. Each tool is given a dense int ID, in tool code order, and every property of the tool is read from the
+ * same index of a primitive array:
+ *
+ * Tool codes - the characters of every code in one char[], with the start of each code in an int[]
+ * Tool types and brands - an int[] index each into a table that holds every distinct type and brand once
+ * Daily charges - a double[]
+ * Charge flags - a byte[] bitmask (1 = weekday, 2 = weekend, 4 = holiday)
+ *
+ * Tool codes are found through an open-addressing table of IDs that is hashed and compared one character at a time
+ * with case folded, so a lookup never allocates, whatever the case of the code it is given. Two tool codes that
+ * differ only in case cannot both be held.
+ *
+ * A compact catalog is immutable, so it can be read by any number of threads without locking. It can back a
+ * ToolCatalog, in which case lookups return a Tool built from the arrays. The most recently built Tools are kept in a
+ * small direct-mapped cache by ID, so the tools that are rented over and over are found without allocating, and the
+ * catalog can tell them apart from a stale Tool by identity rather than by comparing every property.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public final class CompactToolCatalog {
+    public static final byte WEEKDAY_FLAG = 1;
+    public static final byte WEEKEND_FLAG = 2;
+    public static final byte HOLIDAY_FLAG = 4;
+    // Most Tools kept by the cache, which bounds its heap for catalogs of millions of tools.
+    private static final int MAX_CACHED_TOOLS = 1 << 16;
+    // Class properties
+    private final char[] codeChars;
+    private final int[] codeOffsets;
+    private final int[] typeIndexes;
+    private final int[] brandIndexes;
+    private final String[] strings;
+    private final double[] dailyCharges;
+    private final byte[] chargeFlags;
+    // Holds ID + 1 for each tool code, or 0 for an empty slot.
+    private final int[] slots;
+    // Built Tools, at index ID & (length - 1). Tool is immutable, so a Tool can be shared without locking.
+    private final Tool[] toolCache;
+    private final Map<String, Tool> mapView = new ToolMapView();
+
+    /**
+     * Creates a compact catalog from columns of tool properties, where index i of every array belongs to the same
+     * tool. The arrays are owned by the catalog from then on.
+     *
+     * @param toolCodes - the tool codes.
+     * @param toolTypes - the tool types.
+     * @param brands - the brands.
+     * @param dailyCharges - the daily charges.
+     * @param chargeFlags - the charge flags of each tool.
+     * @throws IllegalArgumentException - thrown if a tool code is null or two tool codes differ only in case.
+     */
+    private CompactToolCatalog(String[] toolCodes, String[] toolTypes, String[] brands, double[] dailyCharges,
+                               byte[] chargeFlags) throws IllegalArgumentException {
+        int size = toolCodes.length;
+        long totalCodeChars = 0;
+        for (String toolCode : toolCodes) {
+            if (toolCode == null) {
+                throw new IllegalArgumentException("A compact catalog cannot hold a null tool code!");
+            }
+            totalCodeChars += toolCode.length();
+        }
+        if (totalCodeChars > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tool codes are too long to hold in a compact catalog!");
+        }
+        codeChars = new char[(int) totalCodeChars];
+        codeOffsets = new int[size + 1];
+        for (int id = 0; id < size; id++) {
+            toolCodes[id].getChars(0, toolCodes[id].length(), codeChars, codeOffsets[id]);
+            codeOffsets[id + 1] = codeOffsets[id] + toolCodes[id].length();
+        }
+
+        // Types and brands repeat across many tools, so each distinct value is held once.
+        Map<String, Integer> stringIndexes = new HashMap<>();
+        List<String> distinctStrings = new ArrayList<>();
+        typeIndexes = new int[size];
+        brandIndexes = new int[size];
+        for (int id = 0; id < size; id++) {
+            typeIndexes[id] = indexString(toolTypes[id], stringIndexes, distinctStrings);
+            brandIndexes[id] = indexString(brands[id], stringIndexes, distinctStrings);
+        }
+        strings = distinctStrings.toArray(new String[0]);
+        this.dailyCharges = dailyCharges;
+        this.chargeFlags = chargeFlags;
+
+        // At most half full, so probes stay short and there is always an empty slot to end on.
+        slots = new int[Math.max(2, Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1)];
+        for (int id = 0; id < size; id++) {
+            int slot = hash(toolCodes[id]) & (slots.length - 1);
+            while (slots[slot] != 0) {
+                if (codeMatches(slots[slot] - 1, toolCodes[id])) {
+                    throw new IllegalArgumentException("Tool codes differ only in case: " +
+                                                       getToolCode(slots[slot] - 1) + " and " + toolCodes[id]);
+                }
+                slot = (slot + 1) & (slots.length - 1);
+            }
+            slots[slot] = id + 1;
+        }
+        toolCache = new Tool[size >= MAX_CACHED_TOOLS ? MAX_CACHED_TOOLS
+                                                      : Integer.highestOneBit(Math.max(1, size) * 2 - 1)];
+    }
+
+    /**
+     * This method builds a compact catalog from the passed tools. IDs are given in tool code order.
+     *
+     * @param tools - Map of tool codes to tools.
+     * @return - the compact catalog.
+     * @throws IllegalArgumentException - thrown if two tool codes differ only in case.
+     */
+    public static CompactToolCatalog of(Map<String, Tool> tools) throws IllegalArgumentException {
+        Map<String, Tool> sortedTools = new TreeMap<>();
+        for (Tool tool : tools.values()) {
+            sortedTools.put(tool.getToolCode(), tool);
+        }
+        int size = sortedTools.size();
+        String[] toolCodes = new String[size];
+        String[] toolTypes = new String[size];
+        String[] brands = new String[size];
+        double[] dailyCharges = new double[size];
+        byte[] chargeFlags = new byte[size];
+        int id = 0;
+        for (Tool tool : sortedTools.values()) {
+            toolCodes[id] = tool.getToolCode();
+            toolTypes[id] = tool.getToolType();
+            brands[id] = tool.getBrand();
+            dailyCharges[id] = tool.getDailyCharge();
+            chargeFlags[id] = chargeFlagsOf(tool);
+            id++;
+        }
+
+        return new CompactToolCatalog(toolCodes, toolTypes, brands, dailyCharges, chargeFlags);
+    }
+
+    /**
+     * This method builds a compact catalog from columns of tool properties without creating a Tool for each row. IDs
+     * are given in the order of the columns.
+     *
+     * @param toolCodes - the tool codes.
+     * @param toolTypes - the tool types.
+     * @param brands - the brands.
+     * @param dailyCharges - the daily charges, which are owned by the catalog from then on.
+     * @param chargeFlags - the charge flags of each tool, which are owned by the catalog from then on.
+     * @return - the compact catalog.
+     * @throws IllegalArgumentException - thrown if two tool codes differ only in case.
+     */
+    static CompactToolCatalog fromColumns(String[] toolCodes, String[] toolTypes, String[] brands,
+                                          double[] dailyCharges, byte[] chargeFlags) throws IllegalArgumentException {
+        return new CompactToolCatalog(toolCodes, toolTypes, brands, dailyCharges, chargeFlags);
+    }
+
+    /**
+     * This method finds the ID of a tool code. The lookup ignores case and does not allocate.
+     *
+     * @param toolCode - the tool code.
+     * @return - the ID of the tool, or -1 if the code is not in the catalog.
+     */
+    public int indexOf(CharSequence toolCode) {
+        if (toolCode == null) {
+            return -1;
+        }
+        int slot = hash(toolCode) & (slots.length - 1);
+        while (slots[slot] != 0) {
+            if (codeMatches(slots[slot] - 1, toolCode)) {
+                return slots[slot] - 1;
+            }
+            slot = (slot + 1) & (slots.length - 1);
+        }
+
+        return -1;
+    }
+
+    /**
+     * Getter for the number of tools.
+     *
+     * @return - the number of tools, which is one more than the highest ID.
+     */
+    public int size() {
+        return dailyCharges.length;
+    }
+
+    /**
+     * Getter for the number of distinct tool types and brands.
+     *
+     * @return - the size of the type and brand table.
+     */
+    public int getDistinctStringCount() {
+        return strings.length;
+    }
+
+    /**
+     * Getter for the tool code of a tool.
+     *
+     * @param id - the tool ID.
+     * @return - the tool code.
+     */
+    public String getToolCode(int id) {
+        return new String(codeChars, codeOffsets[id], codeOffsets[id + 1] - codeOffsets[id]);
+    }
+
+    /**
+     * Getter for the tool type of a tool.
+     *
+     * @param id - the tool ID.
+     * @return - the type of tool.
+     */
+    public String getToolType(int id) {
+        return strings[typeIndexes[id]];
+    }
+
+    /**
+     * Getter for the brand of a tool.
+     *
+     * @param id - the tool ID.
+     * @return - the brand of the tool.
+     */
+    public String getBrand(int id) {
+        return strings[brandIndexes[id]];
+    }
+
+    /**
+     * Getter for the daily charge of a tool.
+     *
+     * @param id - the tool ID.
+     * @return - the charge for each chargeable rental day.
+     */
+    public double getDailyCharge(int id) {
+        return dailyCharges[id];
+    }
+
+    /**
+     * Getter for the charge flags of a tool.
+     *
+     * @param id - the tool ID.
+     * @return - the WEEKDAY_FLAG, WEEKEND_FLAG and HOLIDAY_FLAG bits of the tool.
+     */
+    public byte getChargeFlags(int id) {
+        return chargeFlags[id];
+    }
+
+    /**
+     * This method returns the Tool for a tool ID, building it from the tool's properties unless it is still cached.
+     *
+     * @param id - the tool ID.
+     * @return - a Tool with the tool's properties.
+     */
+    public Tool getTool(int id) {
+        int cacheIndex = id & (toolCache.length - 1);
+        Tool tool = toolCache[cacheIndex];
+        // Tool codes are unique, so a cached Tool with the ID's code is the ID's Tool.
+        if (tool == null || !codeEquals(id, tool.getToolCode())) {
+            tool = buildTool(id);
+            toolCache[cacheIndex] = tool;
+        }
+
+        return tool;
+    }
+
+    /**
+     * This method checks whether the passed tool has the same code and properties as the catalog's tool for that code.
+     * A Tool this catalog built and still caches is recognized without comparing its properties.
+     *
+     * @param tool - the tool.
+     * @return - true if the catalog holds the same tool.
+     */
+    public boolean holds(Tool tool) {
+        int id = tool == null ? -1 : indexOf(tool.getToolCode());
+        if (id >= 0 && toolCache[id & (toolCache.length - 1)] == tool) {
+            return true;
+        }
+
+        return id >= 0 &&
+               codeEquals(id, tool.getToolCode()) &&
+               getToolType(id).equals(tool.getToolType()) &&
+               getBrand(id).equals(tool.getBrand()) &&
+               Double.compare(dailyCharges[id], tool.getDailyCharge()) == 0 &&
+               chargeFlags[id] == chargeFlagsOf(tool);
+    }
+
+    /**
+     * This method returns an unmodifiable Map view of the catalog, keyed by tool code. Iterating the view builds a new
+     * Tool for each entry without touching the cache, so the view is meant for code that needs a Map rather than for
+     * lookups on the request path.
+     *
+     * @return - the Map view.
+     */
+    public Map<String, Tool> asMap() {
+        return mapView;
+    }
+
+    /**
+     * This method builds a new Tool from the properties of a tool ID.
+     *
+     * @param id - the tool ID.
+     * @return - a new Tool with the tool's properties.
+     */
+    private Tool buildTool(int id) {
+        byte flags = chargeFlags[id];
+        return new Tool(getToolCode(id), getToolType(id), getBrand(id), dailyCharges[id],
+                        (flags & WEEKDAY_FLAG) != 0, (flags & WEEKEND_FLAG) != 0, (flags & HOLIDAY_FLAG) != 0);
+    }
+
+    /**
+     * This method packs the charge settings of a tool into flag bits.
+     *
+     * @param tool - the tool.
+     * @return - the WEEKDAY_FLAG, WEEKEND_FLAG and HOLIDAY_FLAG bits of the tool.
+     */
+    static byte chargeFlagsOf(Tool tool) {
+        return (byte) ((tool.isWeekdayCharge() ? WEEKDAY_FLAG : 0) |
+                       (tool.isWeekendCharge() ? WEEKEND_FLAG : 0) |
+                       (tool.isHolidayCharge() ? HOLIDAY_FLAG : 0));
+    }
+
+    /**
+     * This method adds a string to the table of distinct strings if it is not there yet.
+     *
+     * @param value - the string.
+     * @param stringIndexes - the index of each string already in the table.
+     * @param distinctStrings - the table.
+     * @return - the index of the string in the table.
+     */
+    private static int indexString(String value, Map<String, Integer> stringIndexes, List<String> distinctStrings) {
+        Integer index = stringIndexes.get(value);
+        if (index == null) {
+            index = distinctStrings.size();
+            stringIndexes.put(value, index);
+            distinctStrings.add(value);
+        }
+
+        return index;
+    }
+
+    /**
+     * This method folds the case of a character the same way String.CASE_INSENSITIVE_ORDER compares characters.
+     *
+     * @param c - the character.
+     * @return - the folded character.
+     */
+    private static char fold(char c) {
+        if (c < 128) {
+            return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+        }
+
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * This method hashes a tool code with its case folded.
+     *
+     * @param toolCode - the tool code.
+     * @return - the hash, with its bits mixed so the low bits can pick the slot.
+     */
+    private static int hash(CharSequence toolCode) {
+        // Multiplying each step by the golden ratio spreads codes far better than String.hashCode, whose factor of 31
+        // maps many short alphanumeric codes (ex: "T0" and "SO") to the same value.
+        int h = 0;
+        for (int i = 0; i < toolCode.length(); i++) {
+            h = (h + fold(toolCode.charAt(i))) * 0x9E3779B1;
+        }
+
+        return h ^ (h >>> 15);
+    }
+
+    /**
+     * This method compares the tool code of an ID to the passed code, ignoring case.
+     *
+     * @param id - the tool ID.
+     * @param toolCode - the tool code.
+     * @return - true if the codes match.
+     */
+    private boolean codeMatches(int id, CharSequence toolCode) {
+        int start = codeOffsets[id];
+        int length = codeOffsets[id + 1] - start;
+        if (length != toolCode.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (fold(codeChars[start + i]) != fold(toolCode.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * This method compares the tool code of an ID to the passed code, including case.
+     *
+     * @param id - the tool ID.
+     * @param toolCode - the tool code.
+     * @return - true if the codes are equal.
+     */
+    private boolean codeEquals(int id, String toolCode) {
+        int start = codeOffsets[id];
+        if (codeOffsets[id + 1] - start != toolCode.length()) {
+            return false;
+        }
+        for (int i = 0; i < toolCode.length(); i++) {
+            if (codeChars[start + i] != toolCode.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * An unmodifiable Map view of the catalog. Keys must match a tool code exactly, the same as any other Map.
+     */
+    private class ToolMapView extends AbstractMap<String, Tool> {
+
+        @Override
+        public Tool get(Object key) {
+            int id = idOf(key);
+            return id < 0 ? null : getTool(id);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return idOf(key) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return CompactToolCatalog.this.size();
+        }
+
+        @Override
+        public Set<Entry<String, Tool>> entrySet() {
+            return new AbstractSet<Entry<String, Tool>>() {
+                @Override
+                public Iterator<Entry<String, Tool>> iterator() {
+                    return new Iterator<Entry<String, Tool>>() {
+                        private int id = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return id < size();
+                        }
+
+                        @Override
+                        public Entry<String, Tool> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Tool tool = buildTool(id++);
+                            return new SimpleImmutableEntry<>(tool.getToolCode(), tool);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return CompactToolCatalog.this.size();
+                }
+            };
+        }
+
+        /**
+         * This method finds the ID of a key that matches a tool code exactly.
+         *
+         * @param key - the key.
+         * @return - the ID, or -1 if the key is not a tool code in the catalog.
+         */
+        private int idOf(Object key) {
+            if (!(key instanceof String)) {
+                return -1;
+            }
+            int id = indexOf((String) key);
+            return id >= 0 && codeEquals(id, (String) key) ? id : -1;
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package com.la3ypotato.toolrenter.tool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * This class loads very large CSV catalogs by memory-mapping the file and parsing the fields straight out of the mapped
+ * bytes. No String is created for the line itself; only the tool code, type and brand become Strings, and repeated
+ * types and brands share a single String. Daily charges are parsed from the digits without an intermediate String.
+ *
+ * The file can optionally be split into chunks on line boundaries that are parsed in parallel. The chunks are merged
+ * in file order, so a duplicate tool code overrides the earlier line exactly as it does when loading sequentially.
+ *
+ * Malformed lines do not stop the load. Each one is reported with its line number in the CatalogLoadResult.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class MappedCatalogLoader {
+    // Expected number of fields for each tool line.
+    private static final int EXPECTED_TOOL_ARGS = 7;
+    private static final byte FIELD_DELIMITER = ',';
+    // Chunks smaller than this are not worth handing to another thread.
+    private static final long MIN_CHUNK_BYTES = 1 << 20;
+    // A single mapping is limited to 2GB, so larger files are always split.
+    private static final long MAX_CHUNK_BYTES = 1L << 29;
+    // Number of chunks per thread when parsing in parallel, so faster threads can pick up more of the work.
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int BOUNDARY_SCAN_BYTES = 4096;
+    // Powers of ten that are exactly representable as a double.
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+                                                   1e13, 1e14, 1e15, 1e16, 1e17, 1e18};
+    // Largest mantissa that converts to a double without rounding.
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    // Class properties
+    private final ExecutorService executor;
+    private final int parallelism;
+
+    /**
+     * Creates a loader that parses the whole file on the calling thread.
+     */
+    public MappedCatalogLoader() {
+        this(null, 1);
+    }
+
+    /**
+     * Creates a loader that parses chunks of the file in parallel on the passed executor.
+     *
+     * @param executor - the executor to parse chunks on, or null to parse on the calling thread.
+     * @param parallelism - the number of threads the executor can run at once.
+     */
+    public MappedCatalogLoader(ExecutorService executor, int parallelism) {
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * This method loads every tool in the passed CSV catalog file. See Tools.createTool for the expected field order.
+     * Lines, fields and daily charges follow the same rules as Tools.loadTools: lines end with a line feed, a carriage
+     * return or both, lines of only whitespace are skipped, empty trailing fields are counted, and the daily charge is
+     * parsed by Tools.parseDailyCharge.
+     *
+     * @param catalogFile - the CSV catalog file.
+     * @return - the loaded tools and any malformed lines.
+     * @throws IOException - thrown if the file cannot be read.
+     */
+    public CatalogLoadResult load(Path catalogFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(catalogFile, StandardOpenOption.READ)) {
+            long[] bounds = splitIntoChunks(channel);
+            List<ChunkResult> chunkResults = parseChunks(channel, bounds);
+            return merge(chunkResults);
+        }
+    }
+
+    /**
+     * This method splits the file into chunks that each start at the beginning of a line.
+     *
+     * @param channel - the open catalog file.
+     * @return - the chunk boundaries, where chunk i covers [bounds[i], bounds[i + 1]).
+     * @throws IOException - thrown if the file cannot be read.
+     */
+    private long[] splitIntoChunks(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long chunkCount = (size + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES;
+        if (executor != null) {
+            chunkCount = Math.max(chunkCount, Math.min((long) parallelism * CHUNKS_PER_THREAD, size / MIN_CHUNK_BYTES));
+        }
+        chunkCount = Math.max(1, chunkCount);
+
+        long[] bounds = new long[(int) chunkCount + 1];
+        bounds[(int) chunkCount] = size;
+        for (int i = 1; i < chunkCount; i++) {
+            long target = Math.max(size / chunkCount * i, bounds[i - 1]);
+            bounds[i] = findNextLineStart(channel, target, size);
+        }
+
+        return bounds;
+    }
+
+    /**
+     * This method finds the start of the first line that begins at or after the passed position.
+     *
+     * @param channel - the open catalog file.
+     * @param position - the position to search from.
+     * @param size - the size of the file.
+     * @return - the position just after the next line feed, or the file size if there is none.
+     * @throws IOException - thrown if the file cannot be read.
+     */
+    private long findNextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_BYTES);
+        while (position < size) {
+            scan.clear();
+            int read = channel.read(scan, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+
+        return size;
+    }
+
+    /**
+     * This method parses each chunk, in parallel when an executor is available.
+     *
+     * @param channel - the open catalog file.
+     * @param bounds - the chunk boundaries.
+     * @return - the chunk results, in file order.
+     * @throws IOException - thrown if the file cannot be read.
+     */
+    private List<ChunkResult> parseChunks(final FileChannel channel, long[] bounds) throws IOException {
+        int chunkCount = bounds.length - 1;
+        List<ChunkResult> chunkResults = new ArrayList<>(chunkCount);
+        if (executor == null || chunkCount == 1) {
+            for (int i = 0; i < chunkCount; i++) {
+                chunkResults.add(parseChunk(channel, bounds[i], bounds[i + 1]));
+            }
+            return chunkResults;
+        }
+
+        List<Future<ChunkResult>> futures = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            final long start = bounds[i];
+            final long end = bounds[i + 1];
+            futures.add(executor.submit(new Callable<ChunkResult>() {
+                @Override
+                public ChunkResult call() throws IOException {
+                    return parseChunk(channel, start, end);
+                }
+            }));
+        }
+        try {
+            for (Future<ChunkResult> future : futures) {
+                chunkResults.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading the catalog", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Unable to load the catalog", e.getCause());
+        }
+
+        return chunkResults;
+    }
+
+    /**
+     * This method combines the chunk results in file order. Line numbers in each chunk are offset by the number of
+     * lines in the chunks before it.
+     *
+     * @param chunkResults - the chunk results, in file order.
+     * @return - the combined result.
+     */
+    private CatalogLoadResult merge(List<ChunkResult> chunkResults) {
+        int toolCount = 0;
+        for (ChunkResult chunkResult : chunkResults) {
+            toolCount += chunkResult.tools.size();
+        }
+        Map<String, Tool> tools = new HashMap<>(Math.max(16, (int) (toolCount / 0.75f) + 1));
+        List<CatalogLoadError> errors = new ArrayList<>();
+        long linesBefore = 0;
+        for (ChunkResult chunkResult : chunkResults) {
+            for (Tool tool : chunkResult.tools) {
+                tools.put(tool.getToolCode(), tool);
+            }
+            for (CatalogLoadError error : chunkResult.errors) {
+                errors.add(new CatalogLoadError(linesBefore + error.getLineNumber(), error.getMessage()));
+            }
+            linesBefore += chunkResult.lineCount;
+        }
+
+        return new CatalogLoadResult(tools, errors, linesBefore);
+    }
+
+    /**
+     * This method maps and parses a single chunk of the file.
+     *
+     * @param channel - the open catalog file.
+     * @param start - the first byte of the chunk.
+     * @param end - the byte after the last byte of the chunk.
+     * @return - the tools and errors in the chunk, with line numbers relative to the chunk.
+     * @throws IOException - thrown if the chunk cannot be mapped.
+     */
+    private static ChunkResult parseChunk(FileChannel channel, long start, long end) throws IOException {
+        ChunkResult chunkResult = new ChunkResult();
+        if (end <= start) {
+            return chunkResult;
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        FieldReader reader = new FieldReader(buffer);
+        int[] fieldStarts = new int[EXPECTED_TOOL_ARGS];
+        int[] fieldEnds = new int[EXPECTED_TOOL_ARGS];
+        int limit = buffer.limit();
+        int pos = 0;
+        while (pos < limit) {
+            chunkResult.lineCount++;
+            int lineStart = pos;
+            int lineEnd = pos;
+            // Blank lines are skipped the same as String.trim would skip them.
+            boolean blank = true;
+            byte b;
+            while (lineEnd < limit && (b = buffer.get(lineEnd)) != '\n' && b != '\r') {
+                blank &= (b & 0xFF) <= ' ';
+                lineEnd++;
+            }
+            pos = lineEnd + 1;
+            if (lineEnd < limit && buffer.get(lineEnd) == '\r' && pos < limit && buffer.get(pos) == '\n') {
+                pos++;
+            }
+            if (blank) {
+                continue;
+            }
+
+            // Record where each field starts and ends without copying the line.
+            int fieldCount = 0;
+            int fieldStart = lineStart;
+            for (int i = lineStart; i <= lineEnd; i++) {
+                if (i == lineEnd || buffer.get(i) == FIELD_DELIMITER) {
+                    if (fieldCount < EXPECTED_TOOL_ARGS) {
+                        fieldStarts[fieldCount] = fieldStart;
+                        fieldEnds[fieldCount] = i;
+                    }
+                    fieldCount++;
+                    fieldStart = i + 1;
+                }
+            }
+            if (fieldCount != EXPECTED_TOOL_ARGS) {
+                chunkResult.errors.add(new CatalogLoadError(chunkResult.lineCount,
+                        "Incorrect number of tool parameters! Expected: " + EXPECTED_TOOL_ARGS + " Received: " +
+                        fieldCount));
+                continue;
+            }
+            double dailyCharge = reader.parseDecimal(fieldStarts[3], fieldEnds[3]);
+            if (Double.isNaN(dailyCharge)) {
+                chunkResult.errors.add(new CatalogLoadError(chunkResult.lineCount,
+                        "Unable to parse daily charge: " + reader.decode(fieldStarts[3], fieldEnds[3])));
+                continue;
+            }
+            chunkResult.tools.add(new Tool(reader.decode(fieldStarts[0], fieldEnds[0]),
+                                           reader.intern(fieldStarts[1], fieldEnds[1]),
+                                           reader.intern(fieldStarts[2], fieldEnds[2]),
+                                           dailyCharge,
+                                           reader.isYes(fieldStarts[4], fieldEnds[4]),
+                                           reader.isYes(fieldStarts[5], fieldEnds[5]),
+                                           reader.isYes(fieldStarts[6], fieldEnds[6])));
+        }
+
+        return chunkResult;
+    }
+
+    /**
+     * The tools, errors and line count of a single chunk.
+     */
+    private static class ChunkResult {
+        private final List<Tool> tools = new ArrayList<>();
+        private final List<CatalogLoadError> errors = new ArrayList<>();
+        private long lineCount;
+    }
+
+    /**
+     * Reads field values out of a mapped chunk. Each chunk gets its own reader, so the scratch buffer and the String
+     * pool are only ever used by one thread.
+     */
+    private static class FieldReader {
+        private final ByteBuffer buffer;
+        private byte[] scratch = new byte[64];
+        private String[] pool = new String[64];
+        private int[] poolHashes = new int[64];
+        private int poolSize;
+
+        private FieldReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * This method decodes the field as UTF-8.
+         *
+         * @param start - first byte of the field.
+         * @param end - byte after the last byte of the field.
+         * @return - the field value.
+         */
+        private String decode(int start, int end) {
+            int length = end - start;
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                scratch[i] = buffer.get(start + i);
+            }
+
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * This method returns the pooled String for the field, decoding it only the first time the value is seen.
+         * Values containing non-ASCII bytes are decoded every time.
+         *
+         * @param start - first byte of the field.
+         * @param end - byte after the last byte of the field.
+         * @return - the field value.
+         */
+        private String intern(int start, int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                byte b = buffer.get(i);
+                if (b < 0) {
+                    return decode(start, end);
+                }
+                hash = 31 * hash + b;
+            }
+            int mask = pool.length - 1;
+            int index = (hash ^ (hash >>> 16)) & mask;
+            while (pool[index] != null) {
+                if (poolHashes[index] == hash && matches(pool[index], start, end)) {
+                    return pool[index];
+                }
+                index = (index + 1) & mask;
+            }
+            String value = decode(start, end);
+            pool[index] = value;
+            poolHashes[index] = hash;
+            if (++poolSize * 2 > pool.length) {
+                growPool();
+            }
+
+            return value;
+        }
+
+        /**
+         * This method checks if the pooled ASCII String equals the field bytes.
+         *
+         * @param value - the pooled value.
+         * @param start - first byte of the field.
+         * @param end - byte after the last byte of the field.
+         * @return - true if the value matches the field.
+         */
+        private boolean matches(String value, int start, int end) {
+            if (value.length() != end - start) {
+                return false;
+            }
+            for (int i = start; i < end; i++) {
+                if (value.charAt(i - start) != buffer.get(i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * This method doubles the size of the String pool.
+         */
+        private void growPool() {
+            String[] oldPool = pool;
+            int[] oldHashes = poolHashes;
+            pool = new String[oldPool.length * 2];
+            poolHashes = new int[oldPool.length * 2];
+            int mask = pool.length - 1;
+            for (int i = 0; i < oldPool.length; i++) {
+                if (oldPool[i] != null) {
+                    int hash = oldHashes[i];
+                    int index = (hash ^ (hash >>> 16)) & mask;
+                    while (pool[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    pool[index] = oldPool[i];
+                    poolHashes[index] = hash;
+                }
+            }
+        }
+
+        /**
+         * This method checks if the field is 'yes', ignoring case, the same as Tools.createTool.
+         *
+         * @param start - first byte of the field.
+         * @param end - byte after the last byte of the field.
+         * @return - true if the field is 'yes'.
+         */
+        private boolean isYes(int start, int end) {
+            return end - start == 3 &&
+                   (buffer.get(start) | 0x20) == 'y' &&
+                   (buffer.get(start + 1) | 0x20) == 'e' &&
+                   (buffer.get(start + 2) | 0x20) == 's';
+        }
+
+        /**
+         * This method parses a plain decimal (ex: 1.49) directly from the field bytes. The digits are accumulated as a
+         * whole number and divided by a power of ten; both values are exact doubles, so the single division gives the
+         * same correctly rounded result as Double.valueOf. Anything else (signs, exponents, very long values) is handed
+         * to Tools.parseDailyCharge.
+         *
+         * @param start - first byte of the field.
+         * @param end - byte after the last byte of the field.
+         * @return - the parsed value, or NaN if the field is not a number.
+         */
+        private double parseDecimal(int start, int end) {
+            long mantissa = 0;
+            int scale = -1;
+            int digits = 0;
+            for (int i = start; i < end; i++) {
+                byte b = buffer.get(i);
+                if (b >= '0' && b <= '9') {
+                    mantissa = mantissa * 10 + (b - '0');
+                    digits++;
+                    if (scale >= 0) {
+                        scale++;
+                    }
+                } else if (b == '.' && scale < 0) {
+                    scale = 0;
+                } else {
+                    return parseSlow(start, end);
+                }
+                if (digits >= POWERS_OF_TEN.length) {
+                    return parseSlow(start, end);
+                }
+            }
+            if (digits == 0 || mantissa >= MAX_EXACT_MANTISSA) {
+                return parseSlow(start, end);
+            }
+
+            return scale <= 0 ? mantissa : mantissa / POWERS_OF_TEN[scale];
+        }
+
+        /**
+         * This method parses the field with Tools.parseDailyCharge, which rejects NaN, so NaN is free to mark a field
+         * that is not a valid daily charge.
+         *
+         * @param start - first byte of the field.
+         * @param end - byte after the last byte of the field.
+         * @return - the parsed value, or NaN if the field is not a valid daily charge.
+         */
+        private double parseSlow(int start, int end) {
+            try {
+                return Tools.parseDailyCharge(decode(start, end));
+            } catch (IllegalArgumentException e) {
+                return Double.NaN;
+            }
+        }
+    }
+}
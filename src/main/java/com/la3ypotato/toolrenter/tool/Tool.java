@@ -1,13 +1,14 @@
 package com.la3ypotato.toolrenter.tool;
 
 /**
- * This class serves as the Tool object structure for a rentable tool.
+ * This class serves as the Tool object structure for a rentable tool. Tools are immutable once created so the same
+ * instance can be read by any number of threads without synchronization.
  *
  * @author Logan Stanfield
  * @version 1.0
  * @since 02/23/2022
  */
-public class Tool {;
+public class Tool {
     // Default values if not specified.
     public static final String DEFAULT_TOOL_CODE = "DEFAULT";
     public static final String DEFAULT_TOOL_TYPE = "DEFAULT";
@@ -16,44 +17,151 @@ public class Tool {;
     public static final boolean DEFAULT_WEEKDAY_CHARGE = true;
     public static final boolean DEFAULT_WEEKEND_CHARGE = false;
     public static final boolean DEFAULT_HOLIDAY_CHARGE = false;
+    // Daily rates are held as a whole number of ten-thousandths of a dollar (ex: 1.49 = 14900).
+    public static final long RATE_UNITS_PER_DOLLAR = 10000;
+    // Returned by getDailyRate when the daily charge has more than four decimal places or is too large.
+    public static final long INEXACT_RATE = Long.MIN_VALUE;
+    // Largest daily charge that is converted to rate units. Any real rate is far below this.
+    private static final double MAX_EXACT_DAILY_CHARGE = 1e11;
     // Class properties.
-    public String toolCode;
-    public String toolType;
-    public String brand;
-    public double dailyCharge;
-    public boolean weekdayCharge;
-    public boolean weekendCharge;
-    public boolean holidayCharge;
+    private final String toolCode;
+    private final String toolType;
+    private final String brand;
+    private final double dailyCharge;
+    private final long dailyRate;
+    private final boolean weekdayCharge;
+    private final boolean weekendCharge;
+    private final boolean holidayCharge;
 
     /**
      * No argument constructor that initializes the tool object with default values.
      */
     public Tool() {
-        this.toolCode = DEFAULT_TOOL_CODE;
-        this.toolType = DEFAULT_TOOL_TYPE;
-        this.brand = DEFAULT_BRAND;
-        this.dailyCharge = DEFAULT_DAILY_CHARGE;
-        this.weekdayCharge = DEFAULT_WEEKDAY_CHARGE;
-        this.weekendCharge = DEFAULT_WEEKEND_CHARGE;
-        this.holidayCharge = DEFAULT_HOLIDAY_CHARGE;
+        this(DEFAULT_TOOL_CODE, DEFAULT_TOOL_TYPE, DEFAULT_BRAND);
     }
 
     /**
-     * This provides a starting structure of the tool object based on the three passed params. The daily
-     * charge, weekday charge, weekend charge, and holiday charge values will have to be overridden after
-     * the object has been initialized. This is to shorten the constructor parameter length.
+     * This provides a tool based on the three passed params with the default daily charge, weekday charge, weekend
+     * charge, and holiday charge values.
      *
      * @param toolCode - 4 digit (preferred, but not enforced) tool identifier code.
      * @param toolType - The type of tool (ex: chainsaw, ladder, jackhammer, etc.)
      * @param brand - The brand of the tool (ex: Stihl, DeWalt, Werner, etc.)
      */
     public Tool(String toolCode, String toolType, String brand) {
+        this(toolCode, toolType, brand, DEFAULT_DAILY_CHARGE, DEFAULT_WEEKDAY_CHARGE, DEFAULT_WEEKEND_CHARGE,
+             DEFAULT_HOLIDAY_CHARGE);
+    }
+
+    /**
+     * This provides a fully defined tool.
+     *
+     * @param toolCode - 4 digit (preferred, but not enforced) tool identifier code.
+     * @param toolType - The type of tool (ex: chainsaw, ladder, jackhammer, etc.)
+     * @param brand - The brand of the tool (ex: Stihl, DeWalt, Werner, etc.)
+     * @param dailyCharge - The charge for each chargeable rental day.
+     * @param weekdayCharge - Whether weekdays are charged.
+     * @param weekendCharge - Whether weekend days are charged.
+     * @param holidayCharge - Whether holidays are charged.
+     */
+    public Tool(String toolCode, String toolType, String brand, double dailyCharge, boolean weekdayCharge,
+                boolean weekendCharge, boolean holidayCharge) {
         this.toolCode = toolCode;
         this.toolType = toolType;
         this.brand = brand;
-        this.dailyCharge = DEFAULT_DAILY_CHARGE;
-        this.weekdayCharge = DEFAULT_WEEKDAY_CHARGE;
-        this.weekendCharge = DEFAULT_WEEKEND_CHARGE;
-        this.holidayCharge = DEFAULT_HOLIDAY_CHARGE;
+        this.dailyCharge = dailyCharge;
+        this.dailyRate = toDailyRate(dailyCharge);
+        this.weekdayCharge = weekdayCharge;
+        this.weekendCharge = weekendCharge;
+        this.holidayCharge = holidayCharge;
+    }
+
+    /**
+     * Getter for toolCode.
+     *
+     * @return - the tool identifier code.
+     */
+    public String getToolCode() {
+        return toolCode;
+    }
+
+    /**
+     * Getter for toolType.
+     *
+     * @return - the type of tool.
+     */
+    public String getToolType() {
+        return toolType;
+    }
+
+    /**
+     * Getter for brand.
+     *
+     * @return - the brand of the tool.
+     */
+    public String getBrand() {
+        return brand;
+    }
+
+    /**
+     * Getter for dailyCharge.
+     *
+     * @return - the charge for each chargeable rental day.
+     */
+    public double getDailyCharge() {
+        return dailyCharge;
+    }
+
+    /**
+     * Getter for dailyRate. The rate is the exact decimal value of the daily charge (the value Double.toString
+     * prints) in ten-thousandths of a dollar, so prices can be calculated with whole numbers.
+     *
+     * @return - the daily charge in rate units, or INEXACT_RATE if it cannot be held exactly.
+     */
+    public long getDailyRate() {
+        return dailyRate;
+    }
+
+    /**
+     * Getter for weekdayCharge.
+     *
+     * @return - whether weekdays are charged.
+     */
+    public boolean isWeekdayCharge() {
+        return weekdayCharge;
+    }
+
+    /**
+     * Getter for weekendCharge.
+     *
+     * @return - whether weekend days are charged.
+     */
+    public boolean isWeekendCharge() {
+        return weekendCharge;
+    }
+
+    /**
+     * Getter for holidayCharge.
+     *
+     * @return - whether holidays are charged.
+     */
+    public boolean isHolidayCharge() {
+        return holidayCharge;
+    }
+
+    /**
+     * This method converts the daily charge to rate units. The conversion is only accepted if converting the units
+     * back gives the same double, which means the daily charge has at most four decimal places.
+     *
+     * @param dailyCharge - The charge for each chargeable rental day.
+     * @return - the daily charge in rate units, or INEXACT_RATE if it cannot be held exactly.
+     */
+    private static long toDailyRate(double dailyCharge) {
+        // Also rejects NaN.
+        if (!(Math.abs(dailyCharge) < MAX_EXACT_DAILY_CHARGE)) {
+            return INEXACT_RATE;
+        }
+        long rate = Math.round(dailyCharge * RATE_UNITS_PER_DOLLAR);
+        return rate / (double) RATE_UNITS_PER_DOLLAR == dailyCharge ? rate : INEXACT_RATE;
     }
 }
@@ -0,0 +1,135 @@
+package com.la3ypotato.toolrenter.tool;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class is an immutable snapshot of the tools available for rent. Each time the catalog is loaded or reloaded a
+ * new snapshot is created with a higher version number, and the old snapshot is left untouched for anyone still
+ * reading it.
+ *
+ * A catalog holds its tools either in a Map or, for very large catalogs, in a CompactToolCatalog. Either way tools are
+ * found through findTool, which ignores case.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class ToolCatalog implements ToolCatalogSource {
+    // Class properties
+    private final Map<String, Tool> tools;
+    private final CompactToolCatalog compactTools;
+    private final long version;
+    private final String source;
+
+    /**
+     * Creates a catalog snapshot. The passed Map is copied, so later changes to it do not affect the snapshot.
+     *
+     * @param tools - Map of tool codes to tools.
+     * @param version - the version of the catalog. Higher versions are newer.
+     * @param source - description of where the catalog was loaded from (ex: a file path).
+     */
+    public ToolCatalog(Map<String, Tool> tools, long version, String source) {
+        this.tools = Collections.unmodifiableMap(new HashMap<>(tools));
+        this.compactTools = null;
+        this.version = version;
+        this.source = source;
+    }
+
+    /**
+     * Creates a catalog snapshot that holds its tools in the passed compact catalog.
+     *
+     * @param compactTools - the tools, laid out as parallel arrays.
+     * @param version - the version of the catalog. Higher versions are newer.
+     * @param source - description of where the catalog was loaded from (ex: a file path).
+     */
+    public ToolCatalog(CompactToolCatalog compactTools, long version, String source) {
+        this.tools = compactTools.asMap();
+        this.compactTools = compactTools;
+        this.version = version;
+        this.source = source;
+    }
+
+    /**
+     * This method looks up the tool for the passed tool code. The lookup ignores case, and for a compact catalog only
+     * allocates when the Tool has to be built because it is no longer cached.
+     *
+     * @param toolCode - tool code of the tool.
+     * @return - the tool, or null if the code is not in the catalog.
+     */
+    public Tool findTool(String toolCode) {
+        if (toolCode == null) {
+            return null;
+        } else if (compactTools != null) {
+            int id = compactTools.indexOf(toolCode);
+            return id < 0 ? null : compactTools.getTool(id);
+        }
+
+        return tools.get(toolCode.toUpperCase());
+    }
+
+    /**
+     * This method checks whether the passed tool is this catalog's tool for its code. A Map catalog checks that it
+     * holds the same instance, and a compact catalog that it caches the same instance or, for a Tool it no longer
+     * caches, that the properties match.
+     *
+     * @param tool - the tool.
+     * @return - true if the tool belongs to this catalog.
+     */
+    public boolean isCurrentTool(Tool tool) {
+        if (tool == null) {
+            return false;
+        } else if (compactTools != null) {
+            return compactTools.holds(tool);
+        }
+
+        return tools.get(tool.getToolCode()) == tool;
+    }
+
+    /**
+     * Getter for tools.
+     *
+     * @return - the unmodifiable Map of tool codes to tools.
+     */
+    public Map<String, Tool> getTools() {
+        return tools;
+    }
+
+    /**
+     * Getter for compactTools.
+     *
+     * @return - the compact catalog holding the tools, or null if they are held in a Map.
+     */
+    public CompactToolCatalog getCompactTools() {
+        return compactTools;
+    }
+
+    /**
+     * Getter for version.
+     *
+     * @return - the version of the catalog.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Getter for source.
+     *
+     * @return - description of where the catalog was loaded from.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * A snapshot is its own source, which allows a fixed catalog to be used wherever a reloadable one is accepted.
+     *
+     * @return - this catalog.
+     */
+    @Override
+    public ToolCatalog getCatalog() {
+        return this;
+    }
+}
@@ -0,0 +1,20 @@
+package com.la3ypotato.toolrenter.tool;
+
+/**
+ * This interface is implemented by anything that can hand out the current tool catalog. Callers should fetch the
+ * catalog once per unit of work (ex: once per quote) and use that snapshot throughout, so a reload part way through
+ * cannot mix rates from two versions of the catalog.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public interface ToolCatalogSource {
+
+    /**
+     * This method returns the current catalog snapshot.
+     *
+     * @return - the current ToolCatalog.
+     */
+    ToolCatalog getCatalog();
+}
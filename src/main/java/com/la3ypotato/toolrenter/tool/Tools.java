@@ -1,79 +1,312 @@
 package com.la3ypotato.toolrenter.tool;
 
+import com.la3ypotato.toolrenter.jfr.CatalogLoadEvent;
+import com.la3ypotato.toolrenter.metrics.RentalMetrics;
+
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class serves as a singleton instance of all the tools available for rent that are loaded from the CSV file. This
  * class is designed to be a singleton instance because there is added risk when reading from a file multiple times, so
  * to reduce that risk the file is only loaded once when this instance is created initially.
  *
+ * The loaded catalog is an immutable ToolCatalog snapshot, and the instance is created through a lazy holder class, so
+ * any number of threads can read the catalog without locking.
+ *
+ * If the toolrenter.catalog system property names an external CSV file, the catalog is loaded from that file instead
+ * of the bundled resource and the file is watched for changes. A changed file is parsed off of the request path and the
+ * new snapshot is swapped in atomically. Readers never block, and agreements that already hold a Tool keep the rates
+ * they started with.
+ *
+ * Startup can skip CSV parsing entirely by pointing the toolrenter.catalog.snapshot system property at a binary
+ * snapshot written by CatalogSnapshotApp. A missing, corrupt or stale snapshot falls back to the CSV catalog.
+ *
+ * Setting the toolrenter.catalog.compact system property to true holds every loaded catalog in a CompactToolCatalog,
+ * which takes a fraction of the heap of a Map of Tool objects for catalogs with millions of tools.
+ *
+ * The time of every load and reload is recorded in RentalMetrics and by a CatalogLoad Java Flight Recorder event.
+ *
  * @author Logan Stanfield
  * @version 1.0
  * @since 02/23/2022
  */
-public class Tools {
-    // Singleton class instance
-    private static Tools toolsInstance;
+public class Tools implements ToolCatalogSource {
+    // System property naming an external, hot-reloadable catalog file.
+    public static final String CATALOG_FILE_PROPERTY = "toolrenter.catalog";
+    // System property naming a binary catalog snapshot to load at startup instead of parsing CSV.
+    public static final String SNAPSHOT_FILE_PROPERTY = "toolrenter.catalog.snapshot";
+    // System property that, when true, holds loaded catalogs as parallel arrays rather than as a Map of tools.
+    public static final String COMPACT_CATALOG_PROPERTY = "toolrenter.catalog.compact";
     // Class properties
     private final int EXPECTED_TOOL_ARGS = 7;
     private final String FILE_DELIMITER= ",";
-    private String resourceCSVFile = "/tools.csv";
-    private Map<String, Tool> availableTools;
+    private final String resourceCSVFile = "/tools.csv";
+    private final AtomicLong catalogVersions = new AtomicLong();
+    private final boolean compactCatalog = Boolean.getBoolean(COMPACT_CATALOG_PROPERTY);
+    private volatile ToolCatalog catalog;
+    private CatalogWatcher catalogWatcher;
+
+    /**
+     * Holds the singleton class instance. The JVM initializes this class exactly once, on the first call to
+     * getInstance, and publishes the fully loaded instance to every thread.
+     */
+    private static class ToolsHolder {
+        private static final Tools INSTANCE = new Tools();
+    }
 
     /**
      * When this singleton instance is initialized begin to load the tools from the CSV file.
      */
     private Tools() {
         // Load the tools when this singleton instance is initialized.
-        availableTools = loadTools();
+        String catalogFile = System.getProperty(CATALOG_FILE_PROPERTY);
+        Path catalogPath = catalogFile != null && !catalogFile.isEmpty() ? Paths.get(catalogFile) : null;
+        String snapshotFile = System.getProperty(SNAPSHOT_FILE_PROPERTY);
+        if (snapshotFile != null && !snapshotFile.isEmpty()) {
+            loadSnapshot(Paths.get(snapshotFile), catalogPath);
+        }
+        if (catalogPath != null) {
+            try {
+                if (catalog == null) {
+                    reload(catalogPath);
+                }
+                watch(catalogPath);
+                return;
+            } catch (IOException | IllegalArgumentException e) {
+                // Fall back to the bundled catalog if the external one cannot be used.
+                e.printStackTrace();
+            }
+        }
+        if (catalog == null) {
+            long start = System.nanoTime();
+            catalog = newCatalog(loadTools(), resourceCSVFile);
+            RentalMetrics.getInstance().recordCatalogLoad(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * This method loads the startup catalog from a binary snapshot. If the snapshot is missing, corrupt or older than
+     * the external CSV catalog it is skipped and the catalog is left unset, so the caller falls back to CSV.
+     *
+     * @param snapshotPath - the binary catalog snapshot.
+     * @param catalogPath - the external CSV catalog file, or null if there is none.
+     */
+    private void loadSnapshot(Path snapshotPath, Path catalogPath) {
+        try {
+            if (catalogPath != null && Files.exists(catalogPath) &&
+                    Files.getLastModifiedTime(catalogPath).compareTo(Files.getLastModifiedTime(snapshotPath)) > 0) {
+                System.err.println("Catalog snapshot " + snapshotPath + " is older than " + catalogPath +
+                                   ", loading the CSV catalog instead.");
+                return;
+            }
+            CatalogLoadEvent event = new CatalogLoadEvent();
+            event.begin();
+            long start = System.nanoTime();
+            // A compact catalog is read straight from the snapshot columns without creating a Tool for each one.
+            catalog = compactCatalog ?
+                      new ToolCatalog(CatalogSnapshot.readCompact(snapshotPath), catalogVersions.incrementAndGet(),
+                                      snapshotPath.toString()) :
+                      newCatalog(CatalogSnapshot.read(snapshotPath), snapshotPath.toString());
+            RentalMetrics.getInstance().recordCatalogLoad(System.nanoTime() - start);
+            event.complete(snapshotPath.toString(), catalog.getTools().size(), 0);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Unable to load catalog snapshot " + snapshotPath + ", loading the CSV catalog " +
+                               "instead: " + e.getMessage());
+        }
     }
 
     /**
-     * This method returns the currents Tools instance if one is already created. If the instance is null, one is
-     * created. This will load the rentable tools from the CSV file.
+     * This method returns the current Tools instance. The instance is created on the first call, which will load the
+     * rentable tools from the CSV file.
      *
      * @return - Current Tools instance.
      */
     public static Tools getInstance() {
-        if (toolsInstance == null) {
-            toolsInstance = new Tools();
+        return ToolsHolder.INSTANCE;
+    }
+
+    /**
+     * This method returns the current catalog snapshot. The snapshot never changes; a reload replaces it with a new
+     * one.
+     *
+     * @return - the current ToolCatalog.
+     */
+    @Override
+    public ToolCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * This method reads the passed CSV catalog file and swaps it in as the current catalog. The file is parsed in full
+     * before the swap, so if any line is malformed the current catalog is kept. Reloads are serialized with each other
+     * but never block readers.
+     *
+     * @param catalogFile - the external CSV catalog file.
+     * @return - the newly loaded catalog.
+     * @throws IOException - thrown if the file cannot be read.
+     * @throws IllegalArgumentException - thrown if a line of the file is malformed.
+     */
+    public synchronized ToolCatalog reload(Path catalogFile) throws IOException, IllegalArgumentException {
+        CatalogLoadEvent event = new CatalogLoadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Map<String, Tool> tools = readCatalogFile(catalogFile);
+        ToolCatalog reloaded = newCatalog(tools, catalogFile.toString());
+        catalog = reloaded;
+        RentalMetrics.getInstance().recordCatalogLoad(System.nanoTime() - start);
+        event.complete(catalogFile.toString(), tools.size(), 0);
+        return reloaded;
+    }
+
+    /**
+     * This method creates the next version of the catalog from the passed tools, laid out as the
+     * toolrenter.catalog.compact system property asks.
+     *
+     * @param tools - Map of tool codes to tools.
+     * @param source - description of where the tools were loaded from.
+     * @return - the new catalog.
+     * @throws IllegalArgumentException - thrown if the catalog is compact and two tool codes differ only in case.
+     */
+    private ToolCatalog newCatalog(Map<String, Tool> tools, String source) throws IllegalArgumentException {
+        long version = catalogVersions.incrementAndGet();
+        return compactCatalog ? new ToolCatalog(CompactToolCatalog.of(tools), version, source) :
+                                new ToolCatalog(tools, version, source);
+    }
+
+    /**
+     * This method starts watching the passed catalog file and reloads it whenever it changes. Only one file can be
+     * watched at a time; watching a new file stops watching the previous one.
+     *
+     * @param catalogFile - the external CSV catalog file.
+     * @throws IOException - thrown if the file's directory cannot be watched.
+     */
+    public void watch(Path catalogFile) throws IOException {
+        CatalogWatcher watcher = new CatalogWatcher(this, catalogFile);
+        CatalogWatcher previous;
+        synchronized (this) {
+            previous = catalogWatcher;
+            catalogWatcher = watcher;
+            watcher.start();
         }
+        // Closed outside of the lock, as closing waits for a reload in progress, which needs the lock.
+        if (previous != null) {
+            previous.close();
+        }
+    }
 
-        return toolsInstance;
+    /**
+     * This method stops watching the catalog file, if one is watched, and waits for a reload in progress to finish.
+     * The current catalog is kept.
+     *
+     * @throws IOException - thrown if the watcher fails to close.
+     */
+    public void unwatch() throws IOException {
+        CatalogWatcher watcher;
+        synchronized (this) {
+            watcher = catalogWatcher;
+            catalogWatcher = null;
+        }
+        if (watcher != null) {
+            watcher.close();
+        }
     }
 
     /**
      * This method when invoked will begin to read the resource CSV file and attempt to build the availableTools Map
      * instance. Note, the tool creation will fail to be created if there is insufficient data in the resource file.
      *
-     * Note, duplicate tool codes will result in overriding the existing tool in the Map.
-     *
      * @return - A Map<String,Tool> instance containing all of the data for the available rental tools.
      */
     private Map<String, Tool> loadTools() {
+        return loadTools(getClass().getResourceAsStream(resourceCSVFile), resourceCSVFile);
+    }
+
+    /**
+     * This method reads every tool from the passed catalog file. The file is memory-mapped and parsed in parallel, so
+     * even very large catalogs load quickly off of the request path. Unlike loadTools, a malformed line fails the whole
+     * read so that a half-written file is never swapped in.
+     *
+     * @param catalogFile - the external CSV catalog file.
+     * @return - A Map<String,Tool> instance containing all of the tools in the file.
+     * @throws IOException - thrown if the file cannot be read.
+     * @throws IllegalArgumentException - thrown if a line of the file is malformed.
+     */
+    private Map<String, Tool> readCatalogFile(Path catalogFile) throws IOException, IllegalArgumentException {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        CatalogLoadResult result = new MappedCatalogLoader(pool, pool.getParallelism()).load(catalogFile);
+        List<CatalogLoadError> errors = result.getErrors();
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(errors.get(0) + (errors.size() > 1 ?
+                                               " (" + errors.size() + " malformed lines)" : ""));
+        }
+
+        return result.getTools();
+    }
+
+    /**
+     * This method reads tools from the passed CSV stream and attempts to build a Map of tool codes to tools. The
+     * stream is closed once it has been read. A malformed line is reported with its line number and skipped; the rest
+     * of the stream is still loaded.
+     *
+     * Note, duplicate tool codes will result in overriding the existing tool in the Map.
+     *
+     * @param in - stream of CSV tool lines.
+     * @return - An unmodifiable Map<String,Tool> instance containing all of the data for the tools in the stream.
+     */
+    public Map<String, Tool> loadTools(InputStream in) {
+        return loadTools(in, "stream");
+    }
+
+    /**
+     * This method reads tools from the passed CSV stream the same as loadTools(InputStream), and names the stream in
+     * the CatalogLoad event that times the read.
+     *
+     * @param in - stream of CSV tool lines.
+     * @param source - the name of the stream (ex: /tools.csv).
+     * @return - An unmodifiable Map<String,Tool> instance containing all of the data for the tools in the stream.
+     */
+    private Map<String, Tool> loadTools(InputStream in, String source) {
+        CatalogLoadEvent event = new CatalogLoadEvent();
+        event.begin();
         Map<String, Tool> retToolMap = new HashMap<>();
-        try {
-            InputStream in = getClass().getResourceAsStream(resourceCSVFile);
-            BufferedReader br = new BufferedReader(new InputStreamReader(in));
-            String line = "";
+        long rejectedLines = 0;
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
             // Read each line of the CSV resource. Each line can be a created tool.
-            while ( (line = br.readLine()) != null ) {
-                String[] toolInfo = line.split(FILE_DELIMITER);
-                Tool createdTool = createTool(toolInfo);
-                retToolMap.put(createdTool.toolCode, createdTool);
+            while ((line = br.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    // Empty trailing fields are kept, so a line with an extra delimiter is rejected.
+                    Tool createdTool = createTool(line.split(FILE_DELIMITER, -1));
+                    retToolMap.put(createdTool.getToolCode(), createdTool);
+                // createTool can throw an IllegalArgumentException if an incorrect
+                // number of fields defined are in the CSV file.
+                } catch (IllegalArgumentException e) {
+                    rejectedLines++;
+                    System.err.println(new CatalogLoadError(lineNumber, e.getMessage()));
+                }
             }
-            // Closing the BufferedReader.
-            br.close();
-        // createTool can throw an IllegalArgumentException if an incorrect
-        // number of fields defined are in the CSV file.
-        } catch (IOException | IllegalArgumentException e) {
+        } catch (IOException e) {
             e.printStackTrace();
         }
+        event.complete(source, retToolMap.size(), rejectedLines);
 
-        return retToolMap;
+        return Collections.unmodifiableMap(retToolMap);
     }
 
     /**
@@ -91,7 +324,8 @@ public class Tools {
      * @param toolInfo - passed String[] array containing the desired info for the tool to be created. Note, the passed
      *                   information needs to be in the order above.
      * @return - the generated tool based on the param data.
-     * @throws IllegalArgumentException - thrown if the toolsInfo array contains insufficient number of fields.
+     * @throws IllegalArgumentException - thrown if the toolsInfo array contains insufficient number of fields, or the
+     *                                    daily charge is not a finite number.
      */
     public Tool createTool(String ...toolInfo) throws IllegalArgumentException {
         // Prevent insufficient data from being provided in the CSV file. This expecting to
@@ -110,24 +344,39 @@ public class Tools {
         String weekdayCharge = toolInfo[4];
         String weekendCharge = toolInfo[5];
         String holidayCharge = toolInfo[6];
-        // Defining the tool.
-        Tool tool = new Tool(toolCode, toolType, brand);
-        // Convert the read in string to a double.
-        tool.dailyCharge = Double.valueOf(dailyCharge);
-        // Convert the 'yes'/'no' strings to a primitive boolean.
-        tool.weekdayCharge = weekdayCharge.toLowerCase().equals("yes") ? true : false;
-        tool.weekendCharge = weekendCharge.toLowerCase().equals("yes") ? true : false;
-        tool.holidayCharge = holidayCharge.toLowerCase().equals("yes") ? true : false;
-        return tool;
+        // Convert the read in string to a double and the 'yes'/'no' strings to primitive booleans.
+        return new Tool(toolCode, toolType, brand,
+                        parseDailyCharge(dailyCharge),
+                        weekdayCharge.toLowerCase().equals("yes"),
+                        weekendCharge.toLowerCase().equals("yes"),
+                        holidayCharge.toLowerCase().equals("yes"));
+    }
+
+    /**
+     * This method parses the daily charge field of a tool line. Every catalog loader parses the field with this method,
+     * so a catalog file loads the same tools whichever loader reads it.
+     *
+     * @param dailyCharge - the daily charge field.
+     * @return - the daily charge.
+     * @throws IllegalArgumentException - thrown if the field is not a number, or is NaN or infinite.
+     */
+    static double parseDailyCharge(String dailyCharge) throws IllegalArgumentException {
+        // NumberFormatException is also an IllegalArgumentException.
+        double charge = Double.parseDouble(dailyCharge);
+        if (Double.isNaN(charge) || Double.isInfinite(charge)) {
+            throw new IllegalArgumentException("Daily charge must be a finite number: " + dailyCharge);
+        }
+
+        return charge;
     }
 
     /**
      * This method obtains the current availableTools Map<String, Tool> where the toolCode is the identifier is the key
      * and the tool directly co
      *
-     * @return - the availableTools Map<String, Tool> instance.
+     * @return - the unmodifiable availableTools Map<String, Tool> instance of the current catalog.
      */
     public Map<String, Tool> getAvailableTools() {
-        return availableTools;
+        return catalog.getTools();
     }
 }
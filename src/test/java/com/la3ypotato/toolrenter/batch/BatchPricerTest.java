@@ -0,0 +1,92 @@
+package com.la3ypotato.toolrenter.batch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This test class validates that the BatchPricer prices valid records and reports invalid records without stopping
+ * the run.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class BatchPricerTest {
+
+    /**
+     * Validates a CSV run containing a header, valid records and invalid records.
+     */
+    @Test
+    public void validateCsvBatch() throws IOException {
+        String input = "toolCode,rentalDays,discount,checkoutDate\n" +
+                       "LADW,3,10,7/2/2020\n" +
+                       "JAKR,5,101,9/3/2015\n" +
+                       "\n" +
+                       "CHNS,5,25,7/2/2015\n";
+        StringWriter out = new StringWriter();
+        StringWriter errors = new StringWriter();
+        BatchSummary summary = new BatchPricer(BatchFormat.CSV, null)
+                .price(new BufferedReader(new StringReader(input)), out, errors);
+
+        Assertions.assertEquals(2, summary.getPricedRecords());
+        Assertions.assertEquals(1, summary.getFailedRecords());
+        String[] lines = out.toString().split("\n");
+        Assertions.assertEquals(3, lines.length);
+        Assertions.assertEquals("LADW,Ladder,Werner,3,7/2/2020,7/5/2020,1.99,2,3.98,10,0.40,3.58", lines[1]);
+        Assertions.assertEquals("CHNS,Chainsaw,Stihl,5,7/2/2015,7/7/2015,1.49,3,4.47,25,1.12,3.35", lines[2]);
+        Assertions.assertTrue(errors.toString().startsWith("line 3: discount:"));
+    }
+
+    /**
+     * Validates an NDJSON run where the discount is omitted from one of the records.
+     */
+    @Test
+    public void validateNdjsonBatch() throws IOException {
+        String input = "{\"toolCode\":\"JAKD\",\"rentalDays\":6,\"discount\":0,\"checkoutDate\":\"9/3/2015\"}\n" +
+                       "{\"toolCode\":\"jakr\", \"rentalDays\":\"4\", \"checkoutDate\":\"7/2/2020\"}\n" +
+                       "{\"toolCode\":\"JAKR\",\"rentalDays\":4}\n";
+        StringWriter out = new StringWriter();
+        StringWriter errors = new StringWriter();
+        BatchSummary summary = new BatchPricer(BatchFormat.NDJSON, null)
+                .price(new BufferedReader(new StringReader(input)), out, errors);
+
+        Assertions.assertEquals(2, summary.getPricedRecords());
+        Assertions.assertEquals(1, summary.getFailedRecords());
+        Assertions.assertTrue(out.toString().contains("\"chargeDays\":3,\"preDiscountCharge\":8.97"));
+        Assertions.assertTrue(out.toString().contains("\"toolCode\":\"JAKR\""));
+        Assertions.assertEquals("line 3: checkoutDate: field is missing\n", errors.toString());
+    }
+
+    /**
+     * Validates that errors and progress reports written to the same stream, the way BatchApp writes both to standard
+     * error, come out in the order they were reported.
+     */
+    @Test
+    public void validateErrorsPrecedeProgress() throws IOException {
+        String input = "LADW,3,10,7/2/2020\n" +
+                       "JAKR,5,101,9/3/2015\n" +
+                       "NONE,5,25,7/2/2015\n" +
+                       "CHNS,5,25,7/2/2015\n";
+        ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+        PrintStream progress = new PrintStream(stderr, true, "UTF-8");
+        Writer errors = new OutputStreamWriter(progress, StandardCharsets.UTF_8);
+        new BatchPricer(BatchFormat.CSV, progress, 2).price(new BufferedReader(new StringReader(input)),
+                                                              new StringWriter(), errors);
+        String[] lines = new String(stderr.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(4, lines.length);
+        Assertions.assertTrue(lines[0].startsWith("line 2: "), lines[0]);
+        Assertions.assertFalse(lines[1].startsWith("line "), lines[1]);
+        Assertions.assertTrue(lines[2].startsWith("line 3: "), lines[2]);
+        Assertions.assertFalse(lines[3].startsWith("line "), lines[3]);
+    }
+}
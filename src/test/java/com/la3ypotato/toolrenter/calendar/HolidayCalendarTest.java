@@ -0,0 +1,196 @@
+package com.la3ypotato.toolrenter.calendar;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This test class validates the observance rules and the compiled bitmap counts for the HolidayCalendar class.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class HolidayCalendarTest {
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that counts the holidays in a range by checking every date individually.
+     *
+     * @param calendar - calendar under test
+     * @param from - first date of the range (inclusive)
+     * @param to - last date of the range (inclusive)
+     * @return - the number of holidays in the range.
+     */
+    public int countHolidaysByWalking(HolidayCalendar calendar, LocalDate from, LocalDate to) {
+        int holidays = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (calendar.isHoliday(date)) {
+                holidays++;
+            }
+        }
+
+        return holidays;
+    }
+
+    /**
+     * Helper method that checks a date against every rule directly, without the compiled bitmaps.
+     *
+     * @param rules - the holiday rules.
+     * @param date - the date to check.
+     * @return - true if any rule is observed on the date in its own, the previous or the next year.
+     */
+    public boolean isObservedByRules(List<HolidayRule> rules, LocalDate date) {
+        for (HolidayRule rule : rules) {
+            for (int year = date.getYear() - 1; year <= date.getYear() + 1; year++) {
+                if (date.equals(rule.getObservedDate(year))) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that the default calendar observes Independence Day and Labor Day including the weekend shifts.
+     */
+    @Test
+    public void validateDefaultCalendar() {
+        HolidayCalendar calendar = HolidayCalendar.getInstance();
+        // July 4th 2015 and 2020 are Saturdays, so the holiday is observed on Friday the 3rd.
+        Assertions.assertTrue(calendar.isHoliday(LocalDate.of(2015, 7, 3)));
+        Assertions.assertFalse(calendar.isHoliday(LocalDate.of(2015, 7, 4)));
+        Assertions.assertTrue(calendar.isHoliday(LocalDate.of(2020, 7, 3)));
+        // July 4th 2021 is a Sunday, so the holiday is observed on Monday the 5th.
+        Assertions.assertTrue(calendar.isHoliday(LocalDate.of(2021, 7, 5)));
+        // Labor Day is the first Monday of September.
+        Assertions.assertTrue(calendar.isHoliday(LocalDate.of(2015, 9, 7)));
+        Assertions.assertTrue(calendar.isHoliday(LocalDate.of(2020, 9, 7)));
+        Assertions.assertEquals(2, calendar.countHolidays(LocalDate.of(2015, 1, 1), LocalDate.of(2015, 12, 31)));
+        Assertions.assertEquals(20, calendar.countHolidays(LocalDate.of(2011, 1, 1), LocalDate.of(2020, 12, 31)));
+        Assertions.assertEquals(0, calendar.countHolidays(LocalDate.of(2015, 7, 4), LocalDate.of(2015, 7, 3)));
+    }
+
+    /**
+     * Validates that an observance shift can move a holiday into the previous year and that weekend holidays without
+     * an observance shift are excluded from the weekday holiday count.
+     */
+    @Test
+    public void validateYearBoundaryAndWeekendHolidays() {
+        HolidayCalendar calendar = new HolidayCalendar(Arrays.asList(
+                HolidayRule.parse("New Year's Day,FIXED,1,1,,NEAREST_WEEKDAY"),
+                HolidayRule.parse("Christmas Eve,FIXED,12,24,,NONE"),
+                new HolidayRule("Last Monday of May", HolidayRule.Type.NTH_WEEKDAY, 5, -1, DayOfWeek.MONDAY,
+                        HolidayRule.Observance.NONE)));
+        // January 1st 2022 is a Saturday, so it is observed on Friday December 31st 2021.
+        Assertions.assertTrue(calendar.isHoliday(LocalDate.of(2021, 12, 31)));
+        Assertions.assertFalse(calendar.isHoliday(LocalDate.of(2022, 1, 1)));
+        Assertions.assertTrue(calendar.isHoliday(LocalDate.of(2021, 5, 31)));
+        // December 24th 2022 is a Saturday and is not shifted.
+        LocalDate from = LocalDate.of(2022, 12, 1);
+        LocalDate to = LocalDate.of(2022, 12, 31);
+        Assertions.assertEquals(1, calendar.countHolidays(from, to));
+        Assertions.assertEquals(0, calendar.countWeekdayHolidays(from, to));
+    }
+
+    /**
+     * Validates the bitmap range counts against a day-by-day walk for ranges that start and end on every word
+     * boundary of the bitmap.
+     */
+    @Test
+    public void validateRangeCountsAgainstDailyWalk() {
+        HolidayCalendar calendar = new HolidayCalendar(Arrays.asList(
+                HolidayRule.parse("Day 64,FIXED,3,5,,NONE"),
+                HolidayRule.parse("Day 128,FIXED,5,8,,NONE"),
+                HolidayRule.parse("Labor Day,NTH_WEEKDAY,9,1,MONDAY,NONE"),
+                HolidayRule.parse("New Year's Eve,FIXED,12,31,,NONE")));
+        LocalDate start = LocalDate.of(2019, 12, 1);
+        for (int offset = 0; offset < 420; offset += 7) {
+            for (int length = 0; length < 800; length += 13) {
+                LocalDate from = start.plusDays(offset);
+                LocalDate to = from.plusDays(length);
+                Assertions.assertEquals(countHolidaysByWalking(calendar, from, to), calendar.countHolidays(from, to),
+                        "Range " + from + " to " + to);
+            }
+        }
+    }
+
+    /**
+     * Validates that years far from the compiled cycle, up to the first and last years LocalDate supports, observe the
+     * same holidays as the rules evaluated directly, and that the extreme dates can be checked and counted.
+     */
+    @Test
+    public void validateDistantYears() {
+        List<HolidayRule> rules = Arrays.asList(
+                HolidayRule.parse("New Year's Day,FIXED,1,1,,NEAREST_WEEKDAY"),
+                HolidayRule.parse("Independence Day,FIXED,7,4,,NEAREST_WEEKDAY"),
+                HolidayRule.parse("Labor Day,NTH_WEEKDAY,9,1,MONDAY,NONE"),
+                HolidayRule.parse("Christmas Day,FIXED,12,25,,NEXT_WEEKDAY"),
+                HolidayRule.parse("New Year's Eve,FIXED,12,31,,NONE"));
+        HolidayCalendar calendar = new HolidayCalendar(rules);
+        int[] years = {Year.MIN_VALUE + 1, -400, -1, 0, 1, 1600, 1900, 2100, 2400, 12345, Year.MAX_VALUE - 1};
+        for (int year : years) {
+            for (LocalDate date = LocalDate.of(year, 1, 1); date.getYear() == year; date = date.plusDays(1)) {
+                Assertions.assertEquals(isObservedByRules(rules, date), calendar.isHoliday(date), "Date " + date);
+            }
+        }
+        // Counting a 3 day rental at the end of the last supported year must not evaluate the rules for the year after.
+        LocalDate lastDecember = LocalDate.of(Year.MAX_VALUE, 12, 1);
+        Assertions.assertEquals(countHolidaysByWalking(calendar, lastDecember, LocalDate.MAX.minusDays(1)) +
+                                (calendar.isHoliday(LocalDate.MAX) ? 1 : 0),
+                                calendar.countHolidays(lastDecember, LocalDate.MAX));
+        LocalDate firstJanuary = LocalDate.of(Year.MIN_VALUE, 1, 31);
+        Assertions.assertEquals(countHolidaysByWalking(calendar, LocalDate.MIN, firstJanuary),
+                                calendar.countHolidays(LocalDate.MIN, firstJanuary));
+    }
+
+    /**
+     * Validates the counts of ranges spanning many years and whole 400 year cycles against a day-by-day walk, and
+     * that the longest rental is counted as the sum of its halves.
+     */
+    @Test
+    public void validateMultiCycleRangeCounts() {
+        HolidayCalendar calendar = new HolidayCalendar(Arrays.asList(
+                HolidayRule.parse("New Year's Day,FIXED,1,1,,NEAREST_WEEKDAY"),
+                HolidayRule.parse("Leap Day,FIXED,2,29,,NONE"),
+                HolidayRule.parse("Labor Day,NTH_WEEKDAY,9,1,MONDAY,NONE")));
+        // Running totals of the holidays and weekday holidays before each day of a 1300 year window.
+        LocalDate start = LocalDate.of(1550, 3, 1);
+        int days = (int) (LocalDate.of(2850, 3, 1).toEpochDay() - start.toEpochDay());
+        int[] holidaysBefore = new int[days + 1];
+        int[] weekdayHolidaysBefore = new int[days + 1];
+        for (int i = 0; i < days; i++) {
+            LocalDate date = start.plusDays(i);
+            boolean holiday = calendar.isHoliday(date);
+            boolean weekend = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+            holidaysBefore[i + 1] = holidaysBefore[i] + (holiday ? 1 : 0);
+            weekdayHolidaysBefore[i + 1] = weekdayHolidaysBefore[i] + (holiday && !weekend ? 1 : 0);
+        }
+        for (int first = 0; first < days; first += 9973) {
+            for (int length = 0; first + length < days; length = length * 3 + 17) {
+                LocalDate from = start.plusDays(first);
+                LocalDate to = from.plusDays(length);
+                Assertions.assertEquals(holidaysBefore[first + length + 1] - holidaysBefore[first],
+                                        calendar.countHolidays(from, to), "Range " + from + " to " + to);
+                Assertions.assertEquals(weekdayHolidaysBefore[first + length + 1] - weekdayHolidaysBefore[first],
+                                        calendar.countWeekdayHolidays(from, to), "Range " + from + " to " + to);
+            }
+        }
+
+        LocalDate from = LocalDate.of(2020, 7, 2);
+        LocalDate middle = from.plusDays(Integer.MAX_VALUE / 2);
+        LocalDate to = from.plusDays(Integer.MAX_VALUE);
+        Assertions.assertEquals(calendar.countWeekdayHolidays(from, middle) +
+                                calendar.countWeekdayHolidays(middle.plusDays(1), to),
+                                calendar.countWeekdayHolidays(from, to));
+    }
+}
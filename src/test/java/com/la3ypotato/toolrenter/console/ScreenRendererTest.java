@@ -0,0 +1,83 @@
+package com.la3ypotato.toolrenter.console;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This test class validates that screens are composed and written in one write, with and without ANSI support.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class ScreenRendererTest {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private int writes;
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that creates a stream counting the writes that reach the terminal.
+     *
+     * @return - the counting stream.
+     */
+    public PrintStream countingStream() {
+        return new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                writes++;
+                bytes.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                writes++;
+                bytes.write(b, off, len);
+            }
+        }, false, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Helper method that draws two screens.
+     *
+     * @param screen - the renderer to draw with.
+     */
+    public void drawTwoScreens(ScreenRenderer screen) {
+        screen.clear();
+        screen.println("Menu").println("1) Check out a Tool").println("2) Exit");
+        screen.flush();
+        screen.clear();
+        screen.println("Agreement");
+        screen.flush();
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that an ANSI screen starts with the clear sequence and reaches the terminal in a single write.
+     */
+    @Test
+    public void validateAnsiFrames() {
+        drawTwoScreens(new ScreenRenderer(countingStream(), true));
+        Assertions.assertEquals(2, writes);
+        Assertions.assertEquals(ScreenRenderer.ANSI_CLEAR_SCREEN + "Menu\n1) Check out a Tool\n2) Exit\n" +
+                                ScreenRenderer.ANSI_CLEAR_SCREEN + "Agreement\n",
+                                bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Validates that a dumb terminal gets no escape sequences, only a blank line between screens.
+     */
+    @Test
+    public void validateDumbTerminalFrames() {
+        drawTwoScreens(new ScreenRenderer(countingStream(), false));
+        Assertions.assertEquals(2, writes);
+        Assertions.assertEquals("Menu\n1) Check out a Tool\n2) Exit\n\nAgreement\n",
+                                bytes.toString(StandardCharsets.UTF_8));
+    }
+}
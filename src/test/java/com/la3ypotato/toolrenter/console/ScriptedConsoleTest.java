@@ -0,0 +1,77 @@
+package com.la3ypotato.toolrenter.console;
+
+import com.la3ypotato.toolrenter.batch.BatchSummary;
+import com.la3ypotato.toolrenter.receipt.ReceiptFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+/**
+ * This test class validates the scripted console against keystroke scripts written for the interactive console.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class ScriptedConsoleTest {
+    private final StringWriter out = new StringWriter();
+    private final StringWriter errors = new StringWriter();
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that runs a keystroke script.
+     *
+     * @param format - the layout agreements are written in.
+     * @param script - the keystrokes, one answer per line.
+     * @return - the summary of the run.
+     */
+    public BatchSummary run(ReceiptFormat format, String script) throws IOException {
+        return new ScriptedConsole(format).run(new BufferedReader(new StringReader(script)), out, errors);
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that invalid answers abandon the checkout the way the interactive console does, and that the
+     * following checkouts are still priced.
+     */
+    @Test
+    public void validateScriptWithErrors() throws IOException {
+        BatchSummary summary = run(ReceiptFormat.CSV,
+                                   "1\nLADW\n3\n10\n7/2/2020\n\n" +   // test 2 of the specification
+                                   "3\n" +                            // invalid menu option
+                                   "1\nJAKR\n5\n101\n" +              // invalid discount, back to the main menu
+                                   "1\nCHNS\n5\n\n7/2/2015\n\n" +     // empty discount is no discount
+                                   "2\n" +
+                                   "1\nJAKD\n1\n0\n1/1/2015\n\n");    // after exit, never read
+        Assertions.assertEquals(2, summary.getPricedRecords());
+        Assertions.assertEquals(1, summary.getFailedRecords());
+        Assertions.assertEquals("toolCode,toolType,brand,rentalDays,checkoutDate,dueDate,dailyCharge,chargeDays," +
+                                "preDiscountCharge,discountPercent,discountAmount,finalCharge\n" +
+                                "LADW,Ladder,Werner,3,7/2/2020,7/5/2020,1.99,2,3.98,10,0.40,3.58\n" +
+                                "CHNS,Chainsaw,Stihl,5,7/2/2015,7/7/2015,1.49,3,4.47,0,0.00,4.47\n",
+                                out.toString());
+        Assertions.assertEquals("line 7: Invalid menu option: 3\n" +
+                                "line 11: discount: Discount argument is not within bounds [0,100]\n",
+                                errors.toString());
+    }
+
+    /**
+     * Validates that text agreements are separated by a blank line and that a script ending part of the way through a
+     * checkout is reported.
+     */
+    @Test
+    public void validateTextAgreementsAndTruncatedScript() throws IOException {
+        BatchSummary summary = run(ReceiptFormat.TEXT, "1\nJAKD\n1\n0\n1/5/2015\n\n1\nJAKD\n1\n0\n1/6/2015\n\n1\nJAKR");
+        Assertions.assertEquals(2, summary.getPricedRecords());
+        Assertions.assertEquals(1, summary.getFailedRecords());
+        Assertions.assertTrue(out.toString().startsWith("Tool Code: JAKD\n"));
+        Assertions.assertTrue(out.toString().contains("Final Charge: $2.99\n\nTool Code: JAKD\n"));
+        Assertions.assertEquals("line 14: Input ended before the checkout was complete\n", errors.toString());
+    }
+}
@@ -0,0 +1,119 @@
+package com.la3ypotato.toolrenter.http;
+
+import com.la3ypotato.toolrenter.inventory.ToolInventory;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * This test class validates the quote and checkout endpoints of the HTTP service.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class QuoteServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private QuoteServer server;
+
+    // HELPER METHODS //
+
+    /**
+     * Starts a server on a free loopback port.
+     */
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = new QuoteServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                                 PricingEngine.getInstance());
+        server.start();
+    }
+
+    /**
+     * Stops the server.
+     */
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    /**
+     * Helper method that builds a request to the server.
+     *
+     * @param pathAndQuery - the path and query string.
+     * @return - the request builder.
+     */
+    public HttpRequest.Builder request(String pathAndQuery) {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + pathAndQuery));
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates a quote from query parameters, matching test 2 of the specification.
+     */
+    @Test
+    public void validateQuote() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                request("/quote?toolCode=LADW&rentalDays=3&discount=10&checkoutDate=7%2F2%2F2020").GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertTrue(response.body().contains("\"chargeDays\":2,\"preDiscountCharge\":3.98"));
+        Assertions.assertTrue(response.body().endsWith("\"finalCharge\":3.58}"));
+    }
+
+    /**
+     * Validates a checkout from a JSON body, and that invalid requests and methods are rejected.
+     */
+    @Test
+    public void validateCheckoutAndErrors() throws IOException, InterruptedException {
+        String body = "{\"toolCode\":\"JAKR\",\"rentalDays\":4,\"discount\":50,\"checkoutDate\":\"7/2/2020\"}";
+        HttpResponse<String> response = client.send(
+                request("/checkout").POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertTrue(response.body().startsWith("Tool Code: JAKR\n"));
+        Assertions.assertTrue(response.body().contains("Final Charge: $1.49\n"));
+
+        response = client.send(request("/quote?toolCode=LADW&rentalDays=0&checkoutDate=7/2/2020").GET().build(),
+                               HttpResponse.BodyHandlers.ofString());
+        Assertions.assertEquals(400, response.statusCode());
+        Assertions.assertTrue(response.body().startsWith("{\"error\":\"rentalDays:"));
+
+        response = client.send(request("/checkout?toolCode=LADW").GET().build(), HttpResponse.BodyHandlers.ofString());
+        Assertions.assertEquals(405, response.statusCode());
+    }
+
+    /**
+     * Validates that a server with an inventory reserves a unit on checkout and rejects overlapping checkouts once
+     * every unit is out.
+     */
+    @Test
+    public void validateCheckoutReservesInventory() throws IOException, InterruptedException {
+        server.stop(0);
+        ToolInventory inventory = new ToolInventory();
+        inventory.addTool("JAKR", 1);
+        server = new QuoteServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                                 PricingEngine.getInstance(), inventory);
+        server.start();
+        String body = "{\"toolCode\":\"JAKR\",\"rentalDays\":4,\"discount\":0,\"checkoutDate\":\"7/2/2020\"}";
+        HttpResponse<String> response = client.send(
+                request("/checkout").POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        Assertions.assertEquals(200, response.statusCode());
+
+        response = client.send(request("/checkout").POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                               HttpResponse.BodyHandlers.ofString());
+        Assertions.assertEquals(409, response.statusCode());
+        Assertions.assertTrue(response.body().startsWith("{\"error\":\"No JAKR units are available"));
+    }
+}
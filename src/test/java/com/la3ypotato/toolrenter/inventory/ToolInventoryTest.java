@@ -0,0 +1,146 @@
+package com.la3ypotato.toolrenter.inventory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This test class validates unit reservations, including a stress test of many clerks checking out the same tools at
+ * once.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class ToolInventoryTest {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2015, 7, 1);
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that checks no two reservations of the same unit overlap.
+     *
+     * @param reservations - every successful reservation.
+     */
+    public void assertNoDoubleBooking(Iterable<Reservation> reservations) {
+        Map<String, List<Reservation>> byUnit = new HashMap<>();
+        for (Reservation reservation : reservations) {
+            String unit = reservation.getToolCode() + "#" + reservation.getUnit();
+            if (!byUnit.containsKey(unit)) {
+                byUnit.put(unit, new ArrayList<Reservation>());
+            }
+            for (Reservation other : byUnit.get(unit)) {
+                boolean overlaps = reservation.getCheckoutDate().isBefore(other.getDueDate()) &&
+                                   other.getCheckoutDate().isBefore(reservation.getDueDate());
+                Assertions.assertFalse(overlaps, reservation + " overlaps " + other);
+            }
+            byUnit.get(unit).add(reservation);
+        }
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates reserving, running out of units and releasing.
+     */
+    @Test
+    public void validateReserveAndRelease() {
+        ToolInventory inventory = new ToolInventory();
+        inventory.addTool("JAKR", 2);
+        Reservation first = inventory.reserve("jakr", FIRST_DAY, FIRST_DAY.plusDays(5));
+        Reservation second = inventory.reserve("JAKR", FIRST_DAY.plusDays(4), FIRST_DAY.plusDays(6));
+        Assertions.assertEquals(0, first.getUnit());
+        Assertions.assertEquals(1, second.getUnit());
+        // The first unit is back on its due date and can go out again that day.
+        Assertions.assertEquals(0, inventory.reserve("JAKR", FIRST_DAY.plusDays(5), FIRST_DAY.plusDays(7)).getUnit());
+        Assertions.assertEquals(0, inventory.getAvailableUnits("JAKR", FIRST_DAY.plusDays(4), FIRST_DAY.plusDays(5)));
+        try {
+            inventory.reserve("JAKR", FIRST_DAY.plusDays(2), FIRST_DAY.plusDays(6));
+            Assertions.fail("Reservation with no free unit was expected to fail");
+        } catch (IllegalStateException e) {
+            Assertions.assertTrue(e.getMessage().startsWith("No JAKR units are available"));
+        }
+
+        Assertions.assertTrue(inventory.release(second));
+        Assertions.assertFalse(inventory.release(second));
+        Assertions.assertEquals(1, inventory.reserve("JAKR", FIRST_DAY.plusDays(2), FIRST_DAY.plusDays(6)).getUnit());
+        try {
+            inventory.reserve("LADW", FIRST_DAY, FIRST_DAY.plusDays(1));
+            Assertions.fail("Reservation of a tool that is not stocked was expected to fail");
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("Tool is not stocked: LADW", e.getMessage());
+        }
+    }
+
+    /**
+     * Validates that many threads reserving and releasing random rentals of a few scarce tools never double book a
+     * unit.
+     */
+    @Test
+    public void validateNoDoubleBookingUnderLoad() throws InterruptedException {
+        final String[] toolCodes = {"CHNS", "LADW", "JAKD", "JAKR"};
+        final int units = 3;
+        final int threads = 16;
+        final int attemptsPerThread = 20000;
+        final ToolInventory inventory = new ToolInventory();
+        for (String toolCode : toolCodes) {
+            inventory.addTool(toolCode, units);
+        }
+        final ConcurrentLinkedQueue<Reservation> reservations = new ConcurrentLinkedQueue<>();
+        final AtomicInteger rejected = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            final Random random = new Random(t);
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        for (int i = 0; i < attemptsPerThread; i++) {
+                            LocalDate checkoutDate = FIRST_DAY.plusDays(random.nextInt(365));
+                            String toolCode = toolCodes[random.nextInt(toolCodes.length)];
+                            try {
+                                LocalDate dueDate = checkoutDate.plusDays(1 + random.nextInt(10));
+                                Reservation reservation = inventory.reserve(toolCode, checkoutDate, dueDate);
+                                reservations.add(reservation);
+                                // Release some of them so units are freed and rebooked while others are reserving.
+                                if (random.nextInt(4) == 0 && inventory.release(reservation)) {
+                                    reservations.remove(reservation);
+                                }
+                            } catch (IllegalStateException e) {
+                                rejected.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }).start();
+        }
+        start.countDown();
+        done.await();
+
+        Assertions.assertTrue(rejected.get() > 0);
+        assertNoDoubleBooking(reservations);
+        // The audit view of the inventory must agree with the reservations that were kept.
+        int bookings = 0;
+        for (String toolCode : toolCodes) {
+            for (int unit = 0; unit < units; unit++) {
+                bookings += inventory.getBookings(toolCode, unit).length / 2;
+            }
+        }
+        Assertions.assertEquals(reservations.size(), bookings);
+    }
+}
@@ -0,0 +1,116 @@
+package com.la3ypotato.toolrenter.jfr;
+
+import com.la3ypotato.toolrenter.rentalagreement.RentalAgreement;
+import com.la3ypotato.toolrenter.tool.Tools;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This test class validates that each stage of a rental agreement and each catalog load is recorded by its Java Flight
+ * Recorder event with the expected fields.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class RentalEventsTest {
+    private static final String EVENT_PREFIX = "com.la3ypotato.toolrenter.";
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that returns the recorded events of one type.
+     *
+     * @param events - every recorded event.
+     * @param name - the event name without the com.la3ypotato.toolrenter prefix (ex: ChargeDays).
+     * @return - the events of that type in the order they were recorded.
+     */
+    public List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> named = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(EVENT_PREFIX + name)) {
+                named.add(event);
+            }
+        }
+
+        return named;
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that setting the inputs, finalizing and rendering an agreement, and loading tools each record their
+     * events while a recording has them enabled.
+     */
+    @Test
+    public void validateRentalAgreementEvents() throws IOException {
+        Path recordingFile = Files.createTempDirectory("toolrenter").resolve("rental.jfr");
+        String rendered;
+        try (Recording recording = new Recording()) {
+            for (String name : new String[] {"RentalInput", "ChargeDays", "ChargeAmount", "Finalize", "Render",
+                                             "CatalogLoad"}) {
+                recording.enable(EVENT_PREFIX + name).withoutThreshold();
+            }
+            recording.start();
+
+            RentalAgreement rentalAgreement = new RentalAgreement();
+            try {
+                rentalAgreement.setCheckoutDate("7/2/20");
+                Assertions.fail("A two digit year was expected to be rejected.");
+            } catch (IllegalArgumentException e) {
+                Assertions.assertNotNull(e.getMessage());
+            }
+            // Test 2 of the specification: 3 days of LADW from 7/2/2020 with a 10% discount.
+            rentalAgreement.setRequest("LADW", "3", "10", "7/2/2020");
+            rentalAgreement.finalizeRentalAgreement();
+            rendered = rentalAgreement.toString();
+            String csv = "LADW,Ladder,Werner,1.99,yes,yes,no\nBAD,Line\n";
+            Tools.getInstance().loadTools(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+
+        List<RecordedEvent> inputs = eventsNamed(events, "RentalInput");
+        Assertions.assertEquals(5, inputs.size());
+        Assertions.assertEquals("checkoutDate", inputs.get(0).getString("field"));
+        Assertions.assertFalse(inputs.get(0).getBoolean("accepted"));
+        Assertions.assertEquals("toolCode", inputs.get(1).getString("field"));
+        Assertions.assertEquals("LADW", inputs.get(1).getString("input"));
+        Assertions.assertTrue(inputs.get(4).getBoolean("accepted"));
+
+        RecordedEvent chargeDays = eventsNamed(events, "ChargeDays").get(0);
+        Assertions.assertEquals("LADW", chargeDays.getString("toolCode"));
+        Assertions.assertEquals(3, chargeDays.getInt("rentalDays"));
+        Assertions.assertEquals(2, chargeDays.getInt("chargeDays"));
+        RecordedEvent chargeAmount = eventsNamed(events, "ChargeAmount").get(0);
+        Assertions.assertEquals(358, chargeAmount.getLong("finalCents"));
+        Assertions.assertTrue(chargeAmount.getBoolean("exact"));
+
+        RecordedEvent finalized = eventsNamed(events, "Finalize").get(0);
+        Assertions.assertEquals(2, finalized.getInt("chargeDays"));
+        Assertions.assertEquals(358, finalized.getLong("finalCents"));
+        Assertions.assertFalse(finalized.getDuration().isNegative());
+        RecordedEvent render = eventsNamed(events, "Render").get(0);
+        Assertions.assertEquals(rendered.length(), render.getInt("characters"));
+
+        // The bundled catalog is also recorded if this test is the first to use it, so the stream is the last load.
+        List<RecordedEvent> catalogLoads = eventsNamed(events, "CatalogLoad");
+        RecordedEvent catalogLoad = catalogLoads.get(catalogLoads.size() - 1);
+        Assertions.assertEquals("stream", catalogLoad.getString("source"));
+        Assertions.assertEquals(1, catalogLoad.getInt("tools"));
+        Assertions.assertEquals(1, catalogLoad.getLong("rejectedLines"));
+    }
+}
@@ -0,0 +1,220 @@
+package com.la3ypotato.toolrenter.ledger;
+
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.pricing.Quote;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * This test class validates the ledger index queries against a full scan of the ledger, and that the index is brought
+ * up to date and rebuilt when it is reopened.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class LedgerIndexTest {
+    private static final String[] TOOL_CODES = {"LADW", "CHNS", "JAKR", "JAKD"};
+    private static final LocalDate FIRST_CHECKOUT = LocalDate.of(2020, 1, 1);
+    private final PricingEngine pricingEngine = PricingEngine.getInstance();
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that commits rentals spread over tools, checkout dates and rental lengths.
+     *
+     * @param ledger - the ledger.
+     * @param first - the number of the first rental, which picks its tool, checkout date and length.
+     * @param count - the number of rentals.
+     */
+    public void commitRentals(RentalLedger ledger, int first, int count) throws IOException {
+        List<Quote> quotes = new ArrayList<>();
+        for (int i = first; i < first + count; i++) {
+            quotes.add(pricingEngine.quote(TOOL_CODES[i % TOOL_CODES.length], 1 + i % 9, i % 50,
+                                           FIRST_CHECKOUT.plusDays(i % 700)));
+        }
+        ledger.commitAll(quotes);
+    }
+
+    /**
+     * Helper method that reads every entry of a journal.
+     *
+     * @param journal - the journal file.
+     * @return - the entries in ledger order.
+     */
+    public List<LedgerEntry> readAll(Path journal) throws IOException {
+        final List<LedgerEntry> entries = new ArrayList<>();
+        RentalLedger.open(journal, new Consumer<LedgerEntry>() {
+            @Override
+            public void accept(LedgerEntry entry) {
+                entries.add(entry);
+            }
+        }).close();
+
+        return entries;
+    }
+
+    /**
+     * Helper method that lists the sequences of entries.
+     *
+     * @param entries - the entries.
+     * @return - their sequences.
+     */
+    public List<Long> sequences(List<LedgerEntry> entries) {
+        List<Long> sequences = new ArrayList<>();
+        for (LedgerEntry entry : entries) {
+            sequences.add(entry.getSequence());
+        }
+
+        return sequences;
+    }
+
+    /**
+     * Helper method that checks every kind of query on a set of dates against a full scan.
+     *
+     * @param index - the index.
+     * @param entries - every entry of the ledger.
+     */
+    public void assertQueriesMatchScan(LedgerIndex index, List<LedgerEntry> entries) {
+        Assertions.assertEquals(entries.size(), index.getIndexedCount());
+        for (int day = 0; day < 720; day += 37) {
+            LocalDate date = FIRST_CHECKOUT.plusDays(day);
+            LocalDate rangeEnd = date.plusDays(day % 20);
+            List<LedgerEntry> due = new ArrayList<>();
+            List<LedgerEntry> checkedOut = new ArrayList<>();
+            List<LedgerEntry> open = new ArrayList<>();
+            for (LedgerEntry entry : entries) {
+                if (entry.getDueDate().equals(date)) {
+                    due.add(entry);
+                }
+                if (!entry.getCheckoutDate().isBefore(date) && !entry.getCheckoutDate().isAfter(rangeEnd)) {
+                    checkedOut.add(entry);
+                }
+                if (entry.getToolCode().equals("CHNS") && !entry.getCheckoutDate().isAfter(date) &&
+                    entry.getDueDate().isAfter(date)) {
+                    open.add(entry);
+                }
+            }
+            Assertions.assertEquals(sequences(due), sequences(index.findDueOn(date)));
+            Assertions.assertEquals(sequences(checkedOut), sequences(index.findCheckedOutBetween(date, rangeEnd)));
+            Assertions.assertEquals(sequences(open), sequences(index.findOpenRentals("CHNS", date)));
+        }
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that an index opened over an existing ledger, and then kept up to date by single and batched commits,
+     * answers every query the same way a full scan does.
+     */
+    @Test
+    public void validateQueriesMatchScan() throws IOException {
+        Path directory = Files.createTempDirectory("toolrenter");
+        Path journal = directory.resolve("rentals.journal");
+        try (RentalLedger ledger = RentalLedger.open(journal)) {
+            commitRentals(ledger, 0, 1500);
+            LedgerIndex index = ledger.openIndex(directory.resolve("index"));
+            Assertions.assertEquals(1500, index.getIndexedCount());
+            commitRentals(ledger, 1500, 2500);
+            // Test 2 of the specification: 3 days of LADW from 7/2/2020, due on 7/5/2020.
+            LedgerEntry entry = ledger.commit(pricingEngine.quote("LADW", 3, 10, LocalDate.of(2020, 7, 2)));
+            Assertions.assertTrue(sequences(index.findDueOn(LocalDate.of(2020, 7, 5))).contains(entry.getSequence()));
+            Assertions.assertTrue(index.findDueOn(LocalDate.of(1999, 1, 1)).isEmpty());
+            Assertions.assertTrue(index.findOpenRentals("NONE", LocalDate.of(2020, 7, 2)).isEmpty());
+            assertQueriesMatchScan(index, readAll(journal));
+            try {
+                index.findCheckedOutBetween(LocalDate.of(2020, 7, 2), LocalDate.of(2020, 7, 1));
+                Assertions.fail("A checkout range that ends before it starts was expected to fail");
+            } catch (IllegalArgumentException e) {
+                Assertions.assertNotNull(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Validates that open rental queries stay fast and correct after a tool is rented for the longest span the
+     * validation accepts, and that rentals of very different lengths are found together.
+     */
+    @Test
+    public void validateLongRentalQueries() throws IOException {
+        Path directory = Files.createTempDirectory("toolrenter");
+        Path journal = directory.resolve("rentals.journal");
+        try (RentalLedger ledger = RentalLedger.open(journal)) {
+            final LedgerIndex index = ledger.openIndex(directory.resolve("index"));
+            commitRentals(ledger, 0, 1000);
+            final LedgerEntry longest = ledger.commit(pricingEngine.quote("CHNS", Integer.MAX_VALUE, 0,
+                                                                          FIRST_CHECKOUT.plusDays(100)));
+            final LedgerEntry longer = ledger.commit(pricingEngine.quote("CHNS", 50_000_000, 0,
+                                                                         FIRST_CHECKOUT.plusDays(300)));
+            commitRentals(ledger, 1000, 500);
+            final List<LedgerEntry> entries = readAll(journal);
+            // Walking a chain for every day of the longest rental would take minutes.
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), new Executable() {
+                @Override
+                public void execute() {
+                    assertQueriesMatchScan(index, entries);
+                    List<Long> expected = new ArrayList<>();
+                    expected.add(longest.getSequence());
+                    expected.add(longer.getSequence());
+                    LocalDate lastDayOut = longer.getDueDate().minusDays(1);
+                    Assertions.assertEquals(expected, sequences(index.findOpenRentals("CHNS", lastDayOut)));
+                    Assertions.assertEquals(expected.subList(0, 1),
+                                            sequences(index.findOpenRentals("CHNS", longer.getDueDate())));
+                    Assertions.assertTrue(index.findOpenRentals("CHNS", longest.getDueDate()).isEmpty());
+                    Assertions.assertTrue(index.findOpenRentals("LADW", longer.getDueDate()).isEmpty());
+                }
+            });
+        }
+    }
+
+    /**
+     * Validates that a reopened index indexes the entries committed while it was closed, that it is rebuilt when the
+     * journal lost a torn record it had indexed, and that it can be rebuilt on demand.
+     */
+    @Test
+    public void validateCatchUpAndRebuild() throws IOException {
+        Path directory = Files.createTempDirectory("toolrenter");
+        Path journal = directory.resolve("rentals.journal");
+        Path indexDirectory = directory.resolve("index");
+        try (RentalLedger ledger = RentalLedger.open(journal)) {
+            ledger.openIndex(indexDirectory);
+            commitRentals(ledger, 0, 1000);
+        }
+        try (RentalLedger ledger = RentalLedger.open(journal)) {
+            commitRentals(ledger, 1000, 500);
+        }
+        try (RentalLedger ledger = RentalLedger.open(journal)) {
+            assertQueriesMatchScan(ledger.openIndex(indexDirectory), readAll(journal));
+        }
+
+        // Cut the last record short, as if the process died part of the way through writing it.
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+        try (RentalLedger ledger = RentalLedger.open(journal)) {
+            LedgerIndex index = ledger.openIndex(indexDirectory);
+            Assertions.assertEquals(1499, index.getIndexedCount());
+            commitRentals(ledger, 1499, 1);
+            ledger.rebuildIndex();
+            assertQueriesMatchScan(index, readAll(journal));
+            try {
+                ledger.openIndex(indexDirectory);
+                Assertions.fail("Opening the index twice was expected to fail");
+            } catch (IllegalStateException e) {
+                Assertions.assertEquals("Ledger index is already open.", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.la3ypotato.toolrenter.ledger;
+
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.pricing.Quote;
+import com.la3ypotato.toolrenter.tool.Tool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * This test class validates group commits to the rental ledger and recovery of its journal.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class RentalLedgerTest {
+    private final PricingEngine pricingEngine = PricingEngine.getInstance();
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that creates a journal path in a new temporary directory.
+     *
+     * @return - the journal path.
+     */
+    public Path newJournal() throws IOException {
+        return Files.createTempDirectory("toolrenter").resolve("rentals.journal");
+    }
+
+    /**
+     * Helper method that opens a ledger and collects every replayed entry.
+     *
+     * @param journal - the journal file.
+     * @param entries - the list replayed entries are added to.
+     * @return - the opened ledger.
+     */
+    public RentalLedger openAndReplay(Path journal, final List<LedgerEntry> entries) throws IOException {
+        return RentalLedger.open(journal, new Consumer<LedgerEntry>() {
+            @Override
+            public void accept(LedgerEntry entry) {
+                entries.add(entry);
+            }
+        });
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that concurrent commits are all durable, in sequence, and replayed with their charges.
+     */
+    @Test
+    public void validateConcurrentCommitsAndReplay() throws IOException, InterruptedException {
+        Path journal = newJournal();
+        final int threads = 8;
+        final int commitsPerThread = 250;
+        final RentalLedger ledger = RentalLedger.open(journal);
+        final CountDownLatch done = new CountDownLatch(threads);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int t = 0; t < threads; t++) {
+            final int rentalDays = t + 1;
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < commitsPerThread; i++) {
+                            ledger.commit(pricingEngine.quote("LADW", rentalDays, 10, LocalDate.of(2020, 7, 2)));
+                        }
+                    } catch (Throwable e) {
+                        failure.set(e);
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }).start();
+        }
+        done.await();
+        Assertions.assertNull(failure.get());
+        Assertions.assertEquals(threads * commitsPerThread, ledger.getCommittedCount());
+        Assertions.assertTrue(ledger.getSyncCount() <= ledger.getCommittedCount());
+        ledger.close();
+
+        List<LedgerEntry> entries = new ArrayList<>();
+        RentalLedger reopened = openAndReplay(journal, entries);
+        Assertions.assertEquals(threads * commitsPerThread, entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            LedgerEntry entry = entries.get(i);
+            Quote quote = pricingEngine.quote("LADW", entry.getRentalDays(), 10, LocalDate.of(2020, 7, 2));
+            Assertions.assertEquals(i + 1, entry.getSequence());
+            Assertions.assertEquals("LADW", entry.getToolCode());
+            Assertions.assertEquals(quote.getDueDate(), entry.getDueDate());
+            Assertions.assertEquals(quote.getFinalCents(), entry.getFinalCents());
+        }
+        // Test 2 of the specification: 3 days of LADW from 7/2/2020 with a 10% discount.
+        Assertions.assertEquals(358, reopened.commit(pricingEngine.quote("LADW", 3, 10, LocalDate.of(2020, 7, 2)))
+                                             .getFinalCents());
+        Assertions.assertEquals(threads * commitsPerThread + 1, reopened.getCommittedCount());
+        reopened.close();
+    }
+
+    /**
+     * Validates that a record torn by a crash is dropped at recovery and that new commits follow the last intact
+     * record.
+     */
+    @Test
+    public void validateTornRecordRecovery() throws IOException {
+        Path journal = newJournal();
+        try (RentalLedger ledger = RentalLedger.open(journal)) {
+            for (int i = 1; i <= 3; i++) {
+                ledger.commit(pricingEngine.quote("JAKR", i, 0, LocalDate.of(2015, 9, 3)));
+            }
+        }
+        // Cut the last record short, as if the process died part of the way through writing it.
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        List<LedgerEntry> entries = new ArrayList<>();
+        try (RentalLedger ledger = openAndReplay(journal, entries)) {
+            Assertions.assertEquals(2, entries.size());
+            Assertions.assertEquals(2, ledger.getCommittedCount());
+            Assertions.assertEquals(3, ledger.commit(pricingEngine.quote("JAKD", 4, 0, LocalDate.of(2015, 9, 3)))
+                                             .getSequence());
+        }
+
+        entries.clear();
+        openAndReplay(journal, entries).close();
+        Assertions.assertEquals(3, entries.size());
+        Assertions.assertEquals("JAKD", entries.get(2).getToolCode());
+        Assertions.assertEquals(4, entries.get(2).getRentalDays());
+    }
+
+    /**
+     * Validates that a commit rejected for its tool code does not use up a sequence, so every acknowledged commit after
+     * it is still replayed.
+     */
+    @Test
+    public void validateRejectedCommitRecovery() throws IOException {
+        Path journal = newJournal();
+        StringBuilder longCode = new StringBuilder();
+        while (longCode.length() <= RentalLedger.MAX_TOOL_CODE_BYTES) {
+            longCode.append('X');
+        }
+        Tool longTool = new Tool(longCode.toString(), "Ladder", "Werner", 1.99, true, true, false);
+        try (RentalLedger ledger = RentalLedger.open(journal)) {
+            ledger.commit(pricingEngine.quote("LADW", 1, 0, LocalDate.of(2020, 7, 2)));
+            try {
+                ledger.commit(pricingEngine.quote(longTool, 2, 0, LocalDate.of(2020, 7, 2)));
+                Assertions.fail("A tool code too long to record was expected to be rejected.");
+            } catch (IllegalArgumentException e) {
+                Assertions.assertNotNull(e.getMessage());
+            }
+            Assertions.assertEquals(2, ledger.commit(pricingEngine.quote("CHNS", 3, 0, LocalDate.of(2020, 7, 2)))
+                                             .getSequence());
+            Assertions.assertEquals(3, ledger.commit(pricingEngine.quote("JAKR", 4, 0, LocalDate.of(2020, 7, 2)))
+                                             .getSequence());
+            Assertions.assertEquals(3, ledger.getCommittedCount());
+        }
+
+        List<LedgerEntry> entries = new ArrayList<>();
+        try (RentalLedger ledger = openAndReplay(journal, entries)) {
+            Assertions.assertEquals(3, entries.size());
+            Assertions.assertEquals(3, ledger.getCommittedCount());
+        }
+        Assertions.assertEquals("LADW", entries.get(0).getToolCode());
+        Assertions.assertEquals("CHNS", entries.get(1).getToolCode());
+        Assertions.assertEquals("JAKR", entries.get(2).getToolCode());
+        Assertions.assertEquals(4, entries.get(2).getRentalDays());
+    }
+}
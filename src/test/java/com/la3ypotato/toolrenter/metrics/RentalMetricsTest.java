@@ -0,0 +1,131 @@
+package com.la3ypotato.toolrenter.metrics;
+
+import com.la3ypotato.toolrenter.rentalagreement.RentalAgreement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * This test class validates the latency histogram and that rental agreements record their metrics, which are
+ * published over JMX.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class RentalMetricsTest {
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that checks that a setter of the rental agreement fails.
+     *
+     * @param setter - the setter to run.
+     */
+    public void assertRejected(Runnable setter) {
+        try {
+            setter.run();
+            Assertions.fail("The rental input was expected to be rejected.");
+        } catch (IllegalArgumentException e) {
+            Assertions.assertNotNull(e.getMessage());
+        }
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that the histogram buckets stay within their precision and that percentiles are read from them.
+     */
+    @Test
+    public void validateHistogramPercentiles() {
+        for (long value : new long[] {0, 1, 31, 32, 33, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            Assertions.assertTrue(LatencyHistogram.highestValueOf(bucket) >= value);
+            Assertions.assertTrue(bucket == 0 || LatencyHistogram.highestValueOf(bucket - 1) < value);
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        Assertions.assertEquals(0, histogram.getP99Nanos());
+        for (long nanos = 1; nanos <= 10_000; nanos++) {
+            histogram.record(nanos);
+        }
+        histogram.record(-5);
+        Assertions.assertEquals(10_001, histogram.getCount());
+        Assertions.assertEquals(10_000, histogram.getMaxNanos());
+        Assertions.assertEquals(5000.0, histogram.getMeanNanos(), 0.5);
+        Assertions.assertEquals(5000, histogram.getP50Nanos(), 5000 * 0.035);
+        Assertions.assertEquals(9900, histogram.getP99Nanos(), 9900 * 0.035);
+        Assertions.assertEquals(10_000, histogram.getPercentileNanos(100));
+        try {
+            histogram.getPercentileNanos(0);
+            Assertions.fail("Percentile 0 was expected to fail.");
+        } catch (IllegalArgumentException e) {
+            Assertions.assertNotNull(e.getMessage());
+        }
+    }
+
+    /**
+     * Validates that rental agreements count quotes, finalize latency by rental length and validation failures by
+     * field, and that the counters can be read over JMX and dumped as text.
+     */
+    @Test
+    public void validateRentalAgreementMetrics() throws JMException {
+        RentalMetrics metrics = RentalMetrics.getInstance();
+        long quotes = metrics.getQuoteCount();
+        long shortRentals = metrics.getFinalizeLatency(3).getCount();
+        long[] failures = new long[ValidationField.values().length];
+        for (ValidationField field : ValidationField.values()) {
+            failures[field.ordinal()] = metrics.getValidationFailures(field);
+        }
+
+        final RentalAgreement rentalAgreement = new RentalAgreement();
+        assertRejected(new Runnable() {
+            @Override
+            public void run() {
+                rentalAgreement.setTargetTool("NONE");
+            }
+        });
+        assertRejected(new Runnable() {
+            @Override
+            public void run() {
+                rentalAgreement.setRentalDays("0");
+            }
+        });
+        assertRejected(new Runnable() {
+            @Override
+            public void run() {
+                rentalAgreement.setDiscount("101");
+            }
+        });
+        assertRejected(new Runnable() {
+            @Override
+            public void run() {
+                rentalAgreement.setCheckoutDate("7/2/20");
+            }
+        });
+        // Test 2 of the specification: 3 days of LADW from 7/2/2020 with a 10% discount.
+        rentalAgreement.setRequest("LADW", "3", "10", "7/2/2020");
+        rentalAgreement.finalizeRentalAgreement();
+        Assertions.assertEquals(358, rentalAgreement.getFinalCents());
+
+        Assertions.assertEquals(quotes + 1, metrics.getQuoteCount());
+        Assertions.assertEquals(shortRentals + 1, metrics.getFinalizeLatency(3).getCount());
+        for (ValidationField field : ValidationField.values()) {
+            Assertions.assertEquals(failures[field.ordinal()] + 1, metrics.getValidationFailures(field));
+        }
+        Assertions.assertTrue(metrics.getCatalogLoadCount() >= 1);
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        Assertions.assertEquals(metrics.getQuoteCount(), mBeanServer.getAttribute(
+                new ObjectName(RentalMetrics.JMX_DOMAIN + ":type=RentalMetrics"), "QuoteCount"));
+        Assertions.assertEquals(metrics.getFinalizeLatency(3).getCount(), mBeanServer.getAttribute(
+                new ObjectName(RentalMetrics.JMX_DOMAIN + ":type=LatencyHistogram,name=finalize-1-7-days"), "Count"));
+        String dump = metrics.dump();
+        Assertions.assertTrue(dump.contains("checkoutDate"));
+        Assertions.assertTrue(dump.contains("finalize-over-365-days"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.la3ypotato.toolrenter.pricing;
+
+import com.la3ypotato.toolrenter.rentalagreement.RentalAgreement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This test class validates that the BulkPricer returns the same results, in the same order, as checking out each
+ * request on its own RentalAgreement.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class BulkPricerTest {
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that checks out the passed request on a new RentalAgreement, the way the console does.
+     *
+     * @param request - the request to check out.
+     * @return - the finalized agreement, or null if the agreement rejected the request.
+     */
+    public RentalAgreement checkOut(RentalRequest request) {
+        RentalAgreement rentalAgreement = new RentalAgreement();
+        try {
+            rentalAgreement.setTargetTool(request.getToolCode());
+            rentalAgreement.setRentalDays(request.getRentalDays());
+            rentalAgreement.setDiscount(request.getDiscount());
+            rentalAgreement.setCheckoutDate(request.getCheckoutDate());
+            rentalAgreement.finalizeRentalAgreement();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        return rentalAgreement;
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates a large bulk run against single rental agreements, including rejected requests.
+     */
+    @Test
+    public void validateBulkMatchesSequential() {
+        String[] toolCodes = {"CHNS", "LADW", "JAKD", "JAKR", "NONE"};
+        RentalRequest[] requests = new RentalRequest[20000];
+        LocalDate start = LocalDate.of(2015, 1, 1);
+        for (int i = 0; i < requests.length; i++) {
+            // Every 97th request has an out of bounds discount.
+            int discount = i % 97 == 0 ? 150 : i % 101;
+            requests[i] = new RentalRequest(toolCodes[i % toolCodes.length], 1 + i % 400, discount,
+                                            start.plusDays(i % 2000));
+        }
+        // Test 2 of the specification: 3 days of LADW from 7/2/2020 with a 10% discount.
+        requests[1] = new RentalRequest("LADW", 3, 10, LocalDate.of(2020, 7, 2));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        BulkPricingResult[] results = new BulkPricer(PricingEngine.getInstance(), pool).price(requests);
+        pool.shutdown();
+
+        Assertions.assertEquals(requests.length, results.length);
+        Assertions.assertEquals(358, results[1].getQuote().getFinalCents());
+        for (int i = 0; i < requests.length; i++) {
+            RentalAgreement expected = checkOut(requests[i]);
+            BulkPricingResult actual = results[i];
+            Assertions.assertSame(requests[i], actual.getRequest());
+            Assertions.assertEquals(expected != null, actual.isPriced(), "Request " + requests[i]);
+            if (expected != null) {
+                Quote quote = actual.getQuote();
+                Assertions.assertEquals(expected.getDueDate(), quote.getDueDate());
+                Assertions.assertEquals(expected.getChargeDays(), quote.getChargeDays());
+                Assertions.assertEquals(expected.getPreDiscountCents(), quote.getPreDiscountCents());
+                Assertions.assertEquals(expected.getDiscountCents(), quote.getDiscountCents());
+                Assertions.assertEquals(expected.getFinalCents(), quote.getFinalCents());
+            } else {
+                Assertions.assertNotNull(actual.getError());
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.la3ypotato.toolrenter.pricing;
+
+import com.la3ypotato.toolrenter.calendar.HolidayCalendar;
+import com.la3ypotato.toolrenter.tool.Tool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Collections;
+
+/**
+ * This test class validates that the whole cent charge calculations give exactly the same doubles as the original
+ * BigDecimal calculations.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class PricingEngineTest {
+    private static final LocalDate CHECKOUT_DATE = LocalDate.of(2015, 7, 2);
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that rounds a currency amount to two decimal places, rounding halves up.
+     *
+     * @param amount - the amount to round.
+     * @return - the rounded amount.
+     */
+    public double round(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    /**
+     * Helper method that prices every discount for the passed daily charge and rental days and compares the charges
+     * with the original BigDecimal calculations.
+     *
+     * @param engine - the pricing engine.
+     * @param dailyCharge - the daily charge of the tool.
+     * @param rentalDays - the number of rental days. Every day is charged.
+     */
+    public void assertMatchesBigDecimal(PricingEngine engine, double dailyCharge, int rentalDays) {
+        Tool tool = new Tool("TEST", "Test", "Test", dailyCharge, true, true, true);
+        double preDiscount = round(BigDecimal.valueOf(rentalDays).multiply(BigDecimal.valueOf(dailyCharge)));
+        for (int discount = 0; discount <= 100; discount++) {
+            double discountAmount = discount == 0 ? 0 :
+                    round(BigDecimal.valueOf(preDiscount).multiply(BigDecimal.valueOf(discount * 0.01)));
+            double finalCharge = round(BigDecimal.valueOf(preDiscount).subtract(BigDecimal.valueOf(discountAmount)));
+
+            Quote quote = engine.quote(tool, rentalDays, discount, CHECKOUT_DATE);
+            String context = dailyCharge + " x " + rentalDays + " days at " + discount + "%";
+            Assertions.assertEquals(Double.doubleToLongBits(preDiscount),
+                                    Double.doubleToLongBits(quote.getPreDiscountCharge()), context);
+            Assertions.assertEquals(Double.doubleToLongBits(discountAmount),
+                                    Double.doubleToLongBits(quote.getDiscountAmount()), context);
+            Assertions.assertEquals(Double.doubleToLongBits(finalCharge),
+                                    Double.doubleToLongBits(quote.getFinalCharge()), context);
+        }
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates a representative grid of daily charges across every discount percent: every rate up to 1.01, rates
+     * spread up to 25.00 with the last cent of each dollar, a set of rates with three and four decimal places, and
+     * rates that still need BigDecimal. The CentsSweepTest of the benchmarks module checks every cent up to 25.00.
+     */
+    @Test
+    public void validateCentsMatchBigDecimal() {
+        PricingEngine engine = new PricingEngine(Collections.<String, Tool>emptyMap(), HolidayCalendar.getInstance());
+        int[] rentalDays = {1, 3, 7, 13, 31, 365, 3650};
+        double[] oddRates = {0.001, 0.005, 0.125, 0.3333, 1.005, 1.115, 2.675, 3.335, 9.9999, 1234.5678, 1e-7,
+                             0.123456, 2.0000001, 1e12, 9.75e9};
+        for (int days : rentalDays) {
+            for (int cents = 0; cents <= 101; cents++) {
+                assertMatchesBigDecimal(engine, cents / 100.0, days);
+            }
+            for (int cents = 199; cents <= 2500; cents += 100) {
+                assertMatchesBigDecimal(engine, cents / 100.0, days);
+                assertMatchesBigDecimal(engine, (cents + 1) / 100.0, days);
+                assertMatchesBigDecimal(engine, (cents - 54) / 100.0, days);
+            }
+            for (double rate : oddRates) {
+                assertMatchesBigDecimal(engine, rate, days);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.la3ypotato.toolrenter.pricing;
+
+import com.la3ypotato.toolrenter.calendar.HolidayCalendar;
+import com.la3ypotato.toolrenter.tool.Tool;
+import com.la3ypotato.toolrenter.tool.ToolCatalog;
+import com.la3ypotato.toolrenter.tool.ToolCatalogSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This test class validates that the quote cache returns the same charges as pricing, is invalidated by a catalog
+ * reload, and keeps frequently quoted rentals through a scan of one-off quotes.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class QuoteCacheTest {
+    private static final LocalDate CHECKOUT_DATE = LocalDate.of(2020, 7, 2);
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that creates a catalog holding only the Werner ladder.
+     *
+     * @param dailyCharge - the daily charge of the ladder.
+     * @param version - the catalog version.
+     * @return - the catalog.
+     */
+    public ToolCatalog ladderCatalog(double dailyCharge, long version) {
+        Tool ladder = new Tool("LADW", "Ladder", "Werner", dailyCharge, true, true, false);
+        return new ToolCatalog(Collections.singletonMap("LADW", ladder), version, "test");
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that a repeated quote is a hit, that tool codes are matched regardless of case, and that a catalog
+     * reload stops the old quotes from being returned.
+     */
+    @Test
+    public void validateHitsAndCatalogInvalidation() {
+        final AtomicReference<ToolCatalog> catalog = new AtomicReference<>(ladderCatalog(1.99, 1));
+        PricingEngine engine = new PricingEngine(new ToolCatalogSource() {
+            @Override
+            public ToolCatalog getCatalog() {
+                return catalog.get();
+            }
+        }, HolidayCalendar.getInstance(), 100);
+        QuoteCache cache = engine.getQuoteCache();
+        Tool oldLadder = engine.findTool("LADW");
+
+        // Test 2 of the specification: 3 days of LADW from 7/2/2020 with a 10% discount.
+        Quote quote = engine.quote("LADW", 3, 10, CHECKOUT_DATE);
+        Assertions.assertEquals(358, quote.getFinalCents());
+        Assertions.assertSame(quote, engine.quote("ladw", 3, 10, CHECKOUT_DATE));
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(0.5, cache.getHitRate());
+        try {
+            engine.quote("LADW", 3, 101, CHECKOUT_DATE);
+            Assertions.fail("Test discount percent (101) was expected to fail.");
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals(1, cache.size());
+        }
+
+        catalog.set(ladderCatalog(2.99, 2));
+        Quote reloaded = engine.quote("LADW", 3, 10, CHECKOUT_DATE);
+        Assertions.assertEquals(2 * 299 - 60, reloaded.getFinalCents());
+        Assertions.assertEquals(1, cache.size());
+        // A rental started before the reload keeps its old rates, and is priced without the cache.
+        Assertions.assertEquals(358, engine.quote(oldLadder, 3, 10, CHECKOUT_DATE).getFinalCents());
+        Assertions.assertEquals(1, cache.getHitCount());
+    }
+
+    /**
+     * Validates that the cache never holds more than its maximum size, and that rentals quoted more than once survive
+     * a scan of many rentals quoted only once.
+     */
+    @Test
+    public void validateBoundedScanResistantEviction() {
+        PricingEngine uncached = PricingEngine.getInstance();
+        PricingEngine engine = new PricingEngine(uncached.getCatalog(), HolidayCalendar.getInstance(), 1000);
+        QuoteCache cache = engine.getQuoteCache();
+        for (int round = 0; round < 2; round++) {
+            for (int days = 1; days <= 10; days++) {
+                engine.quote("CHNS", days, 25, CHECKOUT_DATE);
+            }
+        }
+        for (int i = 0; i < 5000; i++) {
+            Quote quote = engine.quote("JAKR", 1 + i % 50, i % 101, CHECKOUT_DATE.plusDays(i / 50));
+            Quote expected = uncached.quote("JAKR", 1 + i % 50, i % 101, CHECKOUT_DATE.plusDays(i / 50));
+            Assertions.assertEquals(expected.getFinalCents(), quote.getFinalCents());
+            Assertions.assertTrue(cache.size() <= 1000);
+        }
+        Assertions.assertEquals(5010 - 1000, cache.getEvictionCount());
+
+        long hits = cache.getHitCount();
+        for (int days = 1; days <= 10; days++) {
+            engine.quote("CHNS", days, 25, CHECKOUT_DATE);
+        }
+        Assertions.assertEquals(hits + 10, cache.getHitCount());
+    }
+}
@@ -0,0 +1,144 @@
+package com.la3ypotato.toolrenter.receipt;
+
+import com.la3ypotato.toolrenter.calendar.HolidayCalendar;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.pricing.Quote;
+import com.la3ypotato.toolrenter.tool.Tool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.text.NumberFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Locale;
+
+/**
+ * This test class validates that the hand formatted receipts match the layout built with DateTimeFormatter and
+ * NumberFormat.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class ReceiptRendererTest {
+    private final PricingEngine engine = new PricingEngine(Collections.<String, Tool>emptyMap(),
+                                                           HolidayCalendar.getInstance());
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that builds the text receipt with DateTimeFormatter and NumberFormat.
+     *
+     * @param quote - the priced rental.
+     * @return - the expected receipt.
+     */
+    public String formatText(Quote quote) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/dd/yy");
+        NumberFormat numFormatter = NumberFormat.getCurrencyInstance(new Locale("en", "US"));
+        Tool tool = quote.getTool();
+        return "Tool Code: " + tool.getToolCode() + "\n" +
+               "Tool Type: " + tool.getToolType() + "\n" +
+               "Tool Brand: " + tool.getBrand() + "\n" +
+               "Rental Days: " + quote.getRentalDays() + "\n" +
+               "Checkout Date: " + quote.getCheckoutDate().format(formatter) + "\n" +
+               "Due Date: " + quote.getDueDate().format(formatter) + "\n" +
+               "Daily Rental Charge: " + numFormatter.format(tool.getDailyCharge()) + "\n" +
+               "Charge Days: " + quote.getChargeDays() + "\n" +
+               "Pre-discount Charge: " + numFormatter.format(quote.getPreDiscountCharge()) + "\n" +
+               "Discount Percent: " + quote.getDiscount() + "%\n" +
+               "Discount Amount: " + numFormatter.format(quote.getDiscountAmount()) + "\n" +
+               "Final Charge: " + numFormatter.format(quote.getFinalCharge());
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates the text receipt against the formatter built layout for plain, fractional cent and large rates.
+     */
+    @Test
+    public void validateTextMatchesFormatters() throws IOException {
+        ReceiptRenderer renderer = new ReceiptRenderer(ReceiptFormat.TEXT);
+        double[] rates = {0, 0.01, 1.49, 1.99, 2.99, 1.005, 1.015, 0.125, 999.99, 1234.5678, 98765.43};
+        int[] rentalDays = {1, 5, 9, 31, 365, 3650};
+        LocalDate checkoutDate = LocalDate.of(1999, 12, 30);
+        StringBuilder sb = new StringBuilder();
+        for (double rate : rates) {
+            Tool tool = new Tool("T" + rate, "Type \"A\"", "Brand", rate, true, false, false);
+            for (int days : rentalDays) {
+                for (int discount = 0; discount <= 100; discount += 7) {
+                    Quote quote = engine.quote(tool, days, discount, checkoutDate.plusDays(days * 3));
+                    sb.setLength(0);
+                    Assertions.assertEquals(formatText(quote), renderer.render(quote, sb).toString());
+                    StringWriter writer = new StringWriter();
+                    renderer.render(quote, writer);
+                    Assertions.assertEquals(formatText(quote), writer.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Validates the hand formatted record and receipt dates against DateTimeFormatter, including year 0, which the
+     * formatters print as year 1 of the era before Christ.
+     */
+    @Test
+    public void validateRecordDates() {
+        ReceiptRenderer renderer = new ReceiptRenderer(ReceiptFormat.CSV);
+        ReceiptRenderer textRenderer = new ReceiptRenderer(ReceiptFormat.TEXT);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("M/d/yyyy");
+        Tool tool = new Tool("CHNS", "Chainsaw", "Stihl", 1.49, true, false, true);
+        LocalDate[] checkoutDates = {LocalDate.of(1, 1, 1), LocalDate.of(999, 2, 28), LocalDate.of(2015, 12, 25),
+                                     LocalDate.of(9999, 1, 9), LocalDate.of(10000, 10, 10), LocalDate.of(-5, 3, 3),
+                                     LocalDate.of(0, 6, 1), LocalDate.of(-1, 12, 25)};
+        for (LocalDate checkoutDate : checkoutDates) {
+            Quote quote = engine.quote(tool, 10, 0, checkoutDate);
+            String[] fields = renderer.render(quote).split(",");
+            Assertions.assertEquals(checkoutDate.format(formatter), fields[4]);
+            Assertions.assertEquals(quote.getDueDate().format(formatter), fields[5]);
+            Assertions.assertEquals(formatText(quote), textRenderer.render(quote));
+        }
+        Quote quote = engine.quote(tool, 3, 0, LocalDate.of(0, 6, 1));
+        Assertions.assertTrue(textRenderer.render(quote).contains("\nCheckout Date: 06/01/01\n"));
+        Assertions.assertEquals("6/1/0001", renderer.render(quote).split(",")[4]);
+    }
+
+    /**
+     * Validates that the daily charge of the CSV and JSON records is rounded the same as on the text receipt.
+     */
+    @Test
+    public void validateRecordDailyCharge() {
+        ReceiptRenderer textRenderer = new ReceiptRenderer(ReceiptFormat.TEXT);
+        ReceiptRenderer csvRenderer = new ReceiptRenderer(ReceiptFormat.CSV);
+        ReceiptRenderer jsonRenderer = new ReceiptRenderer(ReceiptFormat.JSON);
+        double[] rates = {0, 0.01, 0.125, 0.135, 1.005, 1.015, 1.99, 2.675, 1234.5678, 98765.43};
+        for (double rate : rates) {
+            Tool tool = new Tool("T", "Type", "Brand", rate, true, true, true);
+            Quote quote = engine.quote(tool, 3, 10, LocalDate.of(2020, 7, 2));
+            String text = textRenderer.render(quote);
+            int start = text.indexOf("Daily Rental Charge: $") + "Daily Rental Charge: $".length();
+            String dailyCharge = text.substring(start, text.indexOf('\n', start)).replace(",", "");
+            Assertions.assertEquals(dailyCharge, csvRenderer.render(quote).split(",")[6], "Rate " + rate);
+            Assertions.assertTrue(jsonRenderer.render(quote).contains("\"dailyCharge\":" + dailyCharge + ","),
+                                  "Rate " + rate);
+        }
+    }
+
+    /**
+     * Validates the CSV and JSON records. The observed Independence Day (Friday 7/3/2020) is not charged.
+     */
+    @Test
+    public void validateRecords() {
+        Tool tool = new Tool("LADW", "Ladder \"Tall\"", "Werner", 1.99, true, true, false);
+        Quote quote = engine.quote(tool, 3, 10, LocalDate.of(2020, 7, 2));
+        Assertions.assertEquals("LADW,Ladder \"Tall\",Werner,3,7/2/2020,7/5/2020,1.99,2,3.98,10,0.40,3.58",
+                                new ReceiptRenderer(ReceiptFormat.CSV).render(quote));
+        Assertions.assertEquals("{\"toolCode\":\"LADW\",\"toolType\":\"Ladder \\\"Tall\\\"\",\"brand\":\"Werner\"," +
+                                "\"rentalDays\":3,\"checkoutDate\":\"7/2/2020\",\"dueDate\":\"7/5/2020\"," +
+                                "\"dailyCharge\":1.99,\"chargeDays\":2,\"preDiscountCharge\":3.98," +
+                                "\"discountPercent\":10,\"discountAmount\":0.40,\"finalCharge\":3.58}",
+                                new ReceiptRenderer(ReceiptFormat.JSON).render(quote));
+    }
+}
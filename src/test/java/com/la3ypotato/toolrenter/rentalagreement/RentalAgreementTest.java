@@ -3,7 +3,11 @@ package com.la3ypotato.toolrenter.rentalagreement;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
 
+import com.la3ypotato.toolrenter.tool.Tool;
+
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 
 /**
  * This test class is used to run through the 6 main testing scenarios to validate the logic for the RentalAgreement
@@ -102,6 +106,40 @@ public class RentalAgreementTest {
         }
     }
 
+    /**
+     * Helper method that counts the charge days for a rental by walking every day from the day after checkout through
+     * the due date. This is the reference the calculated charge days are checked against.
+     *
+     * @param checkoutDate - test checkout date
+     * @param dueDate - expected due date
+     * @param tool - tool being rented
+     * @return - the number of charge days for the rental.
+     */
+    public int countChargeDaysByWalking(LocalDate checkoutDate, LocalDate dueDate, Tool tool) {
+        int chargeDays = 0;
+        for (LocalDate date = checkoutDate.plusDays(1); !date.isAfter(dueDate); date = date.plusDays(1)) {
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            boolean weekend = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+            LocalDate laborDay = LocalDate.of(date.getYear(), 9, 1).with(TemporalAdjusters.firstInMonth(DayOfWeek.MONDAY));
+            LocalDate julyFourth = LocalDate.of(date.getYear(), 7, 4);
+            if (julyFourth.getDayOfWeek() == DayOfWeek.SATURDAY) {
+                julyFourth = julyFourth.minusDays(1);
+            } else if (julyFourth.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                julyFourth = julyFourth.plusDays(1);
+            }
+            boolean holiday = date.equals(laborDay) || date.equals(julyFourth);
+            if (weekend) {
+                chargeDays += tool.isWeekendCharge() ? 1 : 0;
+            } else if (holiday) {
+                chargeDays += tool.isWeekdayCharge() && tool.isHolidayCharge() ? 1 : 0;
+            } else {
+                chargeDays += tool.isWeekdayCharge() ? 1 : 0;
+            }
+        }
+
+        return chargeDays;
+    }
+
     // TEST METHODS //
 
     /**
@@ -382,4 +420,31 @@ public class RentalAgreementTest {
         Assertions.assertEquals(expectedDiscountAmount, actualDiscountAmount);
         Assertions.assertEquals(expectedFinalCharge, actualFinalCharge);
     }
+
+    /**
+     * Validates that the calculated charge days match a day-by-day walk of the rental period for every available tool
+     * across short and multi-year rentals, including rentals that span the observed holidays and year boundaries.
+     */
+    @Test
+    public void validateChargeDaysAgainstDailyWalk() {
+        int[] rentalLengths = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 13, 14, 30, 31, 60, 365, 366, 731, 3653};
+        RentalAgreement toolLookup = new RentalAgreement();
+        for (Tool tool : toolLookup.getAvailableToolsForRent().values()) {
+            for (LocalDate checkoutDate = LocalDate.of(2014, 12, 20); checkoutDate.isBefore(LocalDate.of(2021, 1, 10));
+                 checkoutDate = checkoutDate.plusDays(11)) {
+                for (int rentalDays : rentalLengths) {
+                    RentalAgreement rentalAgreement = new RentalAgreement();
+                    rentalAgreement.setTargetTool(tool.getToolCode());
+                    rentalAgreement.setRentalDays(String.valueOf(rentalDays));
+                    rentalAgreement.setDiscount("0");
+                    rentalAgreement.setCheckoutDate(checkoutDate.getMonthValue() + "/" + checkoutDate.getDayOfMonth() +
+                                                    "/" + checkoutDate.getYear());
+                    rentalAgreement.finalizeRentalAgreement();
+                    int expectedChargeDays = countChargeDaysByWalking(checkoutDate, rentalAgreement.getDueDate(), tool);
+                    Assertions.assertEquals(expectedChargeDays, rentalAgreement.getChargeDays(),
+                            tool.getToolCode() + " rented for " + rentalDays + " days on " + checkoutDate);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,147 @@
+package com.la3ypotato.toolrenter.rentalagreement;
+
+import com.la3ypotato.toolrenter.pricing.CartQuote;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.pricing.Quote;
+import com.la3ypotato.toolrenter.receipt.ReceiptFormat;
+import com.la3ypotato.toolrenter.receipt.ReceiptRenderer;
+import com.la3ypotato.toolrenter.tool.Tool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Collections;
+
+/**
+ * This test class validates that a cart prices each line item the same as a single rental agreement, and that it is
+ * totalled and rendered as one combined agreement.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class RentalCartTest {
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that builds a cart of every bundled tool.
+     *
+     * @param rentalDays - number of rental days.
+     * @param discount - discount percent.
+     * @param checkoutDate - checkout date in the M/d/yyyy format.
+     * @return - the finalized cart.
+     */
+    public RentalCart finalizeCart(String rentalDays, String discount, String checkoutDate) {
+        RentalCart rentalCart = new RentalCart();
+        rentalCart.addTool("CHNS");
+        rentalCart.addTool("LADW");
+        rentalCart.addTool("JAKD");
+        rentalCart.addTool("jakr");
+        rentalCart.setRentalDays(rentalDays);
+        rentalCart.setDiscount(discount);
+        rentalCart.setCheckoutDate(checkoutDate);
+        rentalCart.finalizeCart();
+
+        return rentalCart;
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that each line item of a cart matches the quote of the same tool priced on its own, across holidays,
+     * weekends and a full year.
+     */
+    @Test
+    public void validateLinesMatchSingleQuotes() {
+        PricingEngine pricingEngine = PricingEngine.getInstance();
+        String[][] requests = {{"3", "10", "7/2/2020"}, {"5", "25", "7/2/2015"}, {"6", "0", "9/3/2015"},
+                               {"365", "50", "12/20/2019"}, {"1", "100", "7/4/2021"}};
+        for (String[] request : requests) {
+            RentalCart rentalCart = finalizeCart(request[0], request[1], request[2]);
+            CartQuote cartQuote = rentalCart.getCartQuote();
+            Assertions.assertEquals(4, cartQuote.getLines().size());
+            long finalCents = 0;
+            for (Quote line : cartQuote.getLines()) {
+                Quote single = pricingEngine.quote(line.getTool(), cartQuote.getRentalDays(), cartQuote.getDiscount(),
+                                                   cartQuote.getCheckoutDate());
+                Assertions.assertEquals(single.getDueDate(), line.getDueDate());
+                Assertions.assertEquals(single.getChargeDays(), line.getChargeDays());
+                Assertions.assertEquals(single.getPreDiscountCents(), line.getPreDiscountCents());
+                Assertions.assertEquals(single.getDiscountCents(), line.getDiscountCents());
+                Assertions.assertEquals(single.getFinalCents(), line.getFinalCents());
+                finalCents += line.getFinalCents();
+            }
+            Assertions.assertEquals(finalCents, rentalCart.getFinalCents());
+            Assertions.assertEquals(cartQuote.getPreDiscountCents() - cartQuote.getDiscountCents(),
+                                    cartQuote.getFinalCents());
+        }
+
+        // Test 2 of the specification: 3 days of LADW from 7/2/2020 with a 10% discount.
+        Quote ladder = finalizeCart("3", "10", "7/2/2020").getCartQuote().getLines().get(1);
+        Assertions.assertEquals("LADW", ladder.getTool().getToolCode());
+        Assertions.assertEquals(2, ladder.getChargeDays());
+        Assertions.assertEquals(358, ladder.getFinalCents());
+    }
+
+    /**
+     * Validates that the cart is rendered as one agreement holding each line item and the totals.
+     */
+    @Test
+    public void validateCombinedAgreement() {
+        RentalCart rentalCart = finalizeCart("3", "10", "7/2/2020");
+        String text = rentalCart.toString();
+        Assertions.assertTrue(text.startsWith("Rental Days: 3\nCheckout Date: 07/02/20\nDue Date: 07/05/20\n" +
+                                              "Discount Percent: 10%\n"));
+        Assertions.assertTrue(text.contains("\nTool Code: LADW\nTool Type: Ladder\nTool Brand: Werner\n" +
+                                            "Daily Rental Charge: $1.99\nCharge Days: 2\n" +
+                                            "Pre-discount Charge: $3.98\nDiscount Amount: $0.40\n" +
+                                            "Final Charge: $3.58\n"));
+        for (Tool tool : rentalCart.getTools()) {
+            Assertions.assertTrue(text.contains("Tool Code: " + tool.getToolCode() + "\n"));
+        }
+        Assertions.assertTrue(text.endsWith("\nTotal Final Charge: " + String.format("$%.2f",
+                                            rentalCart.getFinalCents() / 100.0)));
+
+        String csv = new ReceiptRenderer(ReceiptFormat.CSV).render(rentalCart.getCartQuote());
+        Assertions.assertEquals(4, csv.split("\n").length);
+        String json = new ReceiptRenderer(ReceiptFormat.JSON).render(rentalCart.getCartQuote());
+        Assertions.assertTrue(json.startsWith("{\"rentalDays\":3,"));
+        Assertions.assertTrue(json.contains("\"lines\":[{"));
+    }
+
+    /**
+     * Validates that incomplete carts and invalid tools are rejected.
+     */
+    @Test
+    public void validateIncompleteCart() {
+        RentalCart rentalCart = new RentalCart();
+        rentalCart.setRentalDays(3);
+        rentalCart.setCheckoutDate(LocalDate.of(2020, 7, 2));
+        try {
+            rentalCart.finalizeCart();
+            Assertions.fail("An empty cart was expected to be rejected.");
+        } catch (IllegalStateException e) {
+            Assertions.assertNotNull(e.getMessage());
+        }
+        try {
+            rentalCart.addTool("NONE");
+            Assertions.fail("An unknown tool code was expected to be rejected.");
+        } catch (IllegalArgumentException e) {
+            Assertions.assertTrue(rentalCart.getTools().isEmpty());
+        }
+        try {
+            PricingEngine.getInstance().quoteCart(Collections.<Tool>emptyList(), 3, 10, LocalDate.of(2020, 7, 2));
+            Assertions.fail("An empty cart was expected to be rejected by the engine.");
+        } catch (IllegalArgumentException e) {
+            Assertions.assertNotNull(e.getMessage());
+        }
+        try {
+            PricingEngine.getInstance().quoteCart(Collections.<Tool>singletonList(null), 3, 10,
+                                                  LocalDate.of(2020, 7, 2));
+            Assertions.fail("A cart holding a null tool was expected to be rejected by the engine.");
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("The passed target tool cannot be null!", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.la3ypotato.toolrenter.rentalagreement;
+
+import com.la3ypotato.toolrenter.metrics.ValidationField;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * This test class validates the exception-free validation path of the RentalAgreement: that every field error of a
+ * request is collected at once, and that its parsers accept and reject exactly what Integer.parseInt and
+ * LocalDate.parse do.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class RentalValidationTest {
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that checks an error has the expected field and code.
+     *
+     * @param error - the error to check.
+     * @param field - the expected field.
+     * @param code - the expected code.
+     */
+    public void assertError(ValidationError error, ValidationField field, ValidationCode code) {
+        Assertions.assertNotNull(error, "Expected a " + code + " error for " + field.getFieldName());
+        Assertions.assertEquals(field, error.getField());
+        Assertions.assertEquals(code, error.getCode());
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that every invalid field of a request is reported at once, in field order, and that valid fields are
+     * still set.
+     */
+    @Test
+    public void validateRequestErrors() {
+        RentalAgreement rentalAgreement = new RentalAgreement();
+        ValidationResult result = rentalAgreement.validateRequest("NONE", "abc", "101", "2/x/2015");
+        Assertions.assertFalse(result.isValid());
+        Assertions.assertEquals(4, result.getErrors().size());
+        assertError(result.getErrors().get(0), ValidationField.TOOL_CODE, ValidationCode.UNKNOWN_TOOL);
+        assertError(result.getErrors().get(1), ValidationField.RENTAL_DAYS, ValidationCode.NOT_A_NUMBER);
+        assertError(result.getErrors().get(2), ValidationField.DISCOUNT, ValidationCode.OUT_OF_RANGE);
+        assertError(result.getErrors().get(3), ValidationField.CHECKOUT_DATE, ValidationCode.INVALID_DATE);
+        Assertions.assertTrue(result.getMessage().startsWith("toolCode: Tool does not exist"));
+        Assertions.assertTrue(result.getMessage().contains("; discount: Discount argument is not within bounds"));
+
+        result = rentalAgreement.validateRequest("ladw", "0", "", null);
+        Assertions.assertEquals(2, result.getErrors().size());
+        Assertions.assertNull(result.getError(ValidationField.TOOL_CODE));
+        assertError(result.getError(ValidationField.RENTAL_DAYS), ValidationField.RENTAL_DAYS,
+                    ValidationCode.OUT_OF_RANGE);
+        assertError(result.getError(ValidationField.CHECKOUT_DATE), ValidationField.CHECKOUT_DATE,
+                    ValidationCode.MISSING);
+        Assertions.assertEquals("LADW", rentalAgreement.getTargetTool().getToolCode());
+        Assertions.assertEquals(0, rentalAgreement.getDiscount());
+
+        // Test 2 of the specification: 3 days of LADW from 7/2/2020 with a 10% discount.
+        result = rentalAgreement.validateRequest("LADW", 3, 10, LocalDate.of(2020, 7, 2));
+        Assertions.assertSame(ValidationResult.VALID, result);
+        Assertions.assertEquals("", result.getMessage());
+        rentalAgreement.finalizeRentalAgreement();
+        Assertions.assertEquals(358, rentalAgreement.getFinalCents());
+
+        assertError(rentalAgreement.trySetCheckoutDate((LocalDate) null), ValidationField.CHECKOUT_DATE,
+                    ValidationCode.MISSING);
+        assertError(rentalAgreement.trySetDiscount(-1), ValidationField.DISCOUNT, ValidationCode.OUT_OF_RANGE);
+        Assertions.assertNull(rentalAgreement.trySetRentalDays("+5"));
+        Assertions.assertEquals(5, rentalAgreement.getRentalDays());
+
+        try {
+            rentalAgreement.setRequest("JAKR", "5", "x", "9/3/2015");
+            Assertions.fail("An invalid discount was expected to be rejected.");
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals("discount: Unable to parse discount argument", e.getMessage());
+        }
+    }
+
+    /**
+     * Validates that the exception-free parsers agree with Integer.parseInt and LocalDate.parse, including the smart
+     * resolving of days past the end of a month.
+     */
+    @Test
+    public void validateParsersMatchJdk() {
+        String[] numbers = {"0", "7", "-7", "+7", "007", "", "-", "+", "1.5", " 5", "5 ", "abc", "2147483647",
+                            "2147483648", "-2147483648", "-2147483649", "99999999999999999999", "\u0665", "1_0",
+                            "++1", "-0"};
+        for (String number : numbers) {
+            long expected;
+            try {
+                expected = Integer.parseInt(number);
+            } catch (NumberFormatException e) {
+                expected = RentalAgreement.NOT_A_NUMBER;
+            }
+            Assertions.assertEquals(expected, RentalAgreement.parseWholeNumber(number), "Parsing \"" + number + "\"");
+        }
+        Assertions.assertEquals(RentalAgreement.NOT_A_NUMBER, RentalAgreement.parseWholeNumber(null));
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("M/d/yyyy");
+        String[] dates = {"7/2/2015", "07/02/2015", "12/31/2019", "2/29/2020", "2/29/2019", "2/30/2015", "4/31/2021",
+                          "2/32/2015", "13/1/2015", "0/1/2015", "1/0/2015", "7/2/15", "7/2/0000", "7/2/20150",
+                          "7/2/+20150", "7/2/-2015", "+7/2/2015", "-7/2/2015", "7-2-2015", "7/2/2015 ", " 7/2/2015",
+                          "007/002/2015", "7/2/2015x", "", "7//2015", "1/1/999999999", "1/1/+1000000000"};
+        for (String date : dates) {
+            LocalDate expected;
+            try {
+                expected = LocalDate.parse(date, formatter);
+            } catch (DateTimeParseException e) {
+                expected = null;
+            }
+            Assertions.assertEquals(expected, RentalAgreement.parseCheckoutDate(date), "Parsing \"" + date + "\"");
+        }
+        Assertions.assertNull(RentalAgreement.parseCheckoutDate(null));
+    }
+}
@@ -0,0 +1,128 @@
+package com.la3ypotato.toolrenter.terminal;
+
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This test class validates the terminal line protocol server through the loopback client.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class TerminalServerTest {
+    private TerminalServer server;
+
+    // HELPER METHODS //
+
+    /**
+     * Starts a server with two workers on a free loopback port.
+     */
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = new TerminalServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                                    PricingEngine.getInstance(), 2);
+        server.start();
+    }
+
+    /**
+     * Stops the server.
+     */
+    @AfterEach
+    public void stopServer() {
+        server.stop();
+    }
+
+    /**
+     * Helper method that connects a client to the server.
+     *
+     * @return - the connected client.
+     */
+    public TerminalClient connect() throws IOException {
+        return new TerminalClient(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort()));
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that pipelined requests are answered in order, with errors in place, matching tests 2 and 3 of the
+     * specification.
+     */
+    @Test
+    public void validatePipelinedResponses() throws IOException {
+        try (TerminalClient client = connect()) {
+            List<String> responses = client.pipeline(Arrays.asList(
+                    "LADW 3 10 7/2/2020",
+                    "JAKR 5 101 9/3/2015",
+                    "CHNS  5\t25 7/2/2015\r",
+                    "JAKR 5 10",
+                    "JAKR 0 10 9/3/2015",
+                    "XXXX 5 10 9/3/2015",
+                    "JAKR 5 10 2/30/2015"));
+            Assertions.assertEquals("OK LADW,Ladder,Werner,3,7/2/2020,7/5/2020,1.99,2,3.98,10,0.40,3.58",
+                                    responses.get(0));
+            Assertions.assertEquals("ERR discount: Discount argument is not within bounds [0,100]", responses.get(1));
+            Assertions.assertEquals("OK CHNS,Chainsaw,Stihl,5,7/2/2015,7/7/2015,1.49,3,4.47,25,1.12,3.35",
+                                    responses.get(2));
+            Assertions.assertTrue(responses.get(3).startsWith("ERR expected"));
+            Assertions.assertEquals("ERR rentalDays: Passed rental day argument must be greater than 0.",
+                                    responses.get(4));
+            Assertions.assertTrue(responses.get(5).startsWith("ERR toolCode: "));
+            // Out of range days are resolved by the same date parser as the console.
+            Assertions.assertTrue(responses.get(6).startsWith("OK JAKR,Jackhammer,Ridgid,5,2/28/2015,"));
+        }
+    }
+
+    /**
+     * Validates that a long burst on many connections is answered in order on each, and that an overlong line is
+     * rejected without affecting the requests around it.
+     */
+    @Test
+    public void validateBurstsOnManyConnections() throws IOException {
+        List<TerminalClient> clients = new ArrayList<>();
+        try {
+            for (int i = 0; i < 50; i++) {
+                clients.add(connect());
+            }
+            List<String> requests = new ArrayList<>();
+            for (int i = 1; i <= 2000; i++) {
+                requests.add("JAKD " + i + " 0 1/1/2015");
+            }
+            for (TerminalClient client : clients) {
+                client.send(new String(new char[TerminalServer.MAX_LINE_BYTES * 3]).replace('\0', 'x'));
+                client.send("JAKD 1 0 1/5/2015");
+                client.flush();
+            }
+            for (TerminalClient client : clients) {
+                Assertions.assertTrue(client.receive().startsWith("ERR request line is longer"));
+                Assertions.assertTrue(client.receive().startsWith("OK JAKD,Jackhammer,DeWalt,1,1/5/2015,1/6/2015,"));
+            }
+
+            // The whole burst is sent before any response is read, so the server has to hold back requests while
+            // the responses are drained.
+            TerminalClient client = clients.get(0);
+            for (String request : requests) {
+                client.send(request);
+            }
+            client.flush();
+            for (int i = 1; i <= requests.size(); i++) {
+                String expected = "OK JAKD,Jackhammer,DeWalt," + i + ",1/1/2015,";
+                Assertions.assertTrue(client.receive().startsWith(expected));
+            }
+        } finally {
+            for (TerminalClient client : clients) {
+                client.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.la3ypotato.toolrenter.tool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * This test class validates the binary catalog snapshot format.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class CatalogSnapshotTest {
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that writes the bundled catalog to a snapshot in a new temporary directory.
+     *
+     * @return - the path of the written snapshot.
+     */
+    public Path writeBundledSnapshot() throws IOException {
+        Path snapshotFile = Files.createTempDirectory("toolrenter").resolve("tools.snapshot");
+        CatalogSnapshot.write(Tools.getInstance().getAvailableTools(), snapshotFile);
+        return snapshotFile;
+    }
+
+    /**
+     * Helper method that checks the passed snapshot is rejected.
+     *
+     * @param snapshotFile - the corrupt snapshot.
+     */
+    public void assertRejected(Path snapshotFile) throws IOException {
+        try {
+            CatalogSnapshot.read(snapshotFile);
+            Assertions.fail("A corrupt snapshot should not be loaded.");
+        } catch (IllegalArgumentException e) {
+            Assertions.assertNotNull(e.getMessage());
+        }
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that every tool survives a round trip through a snapshot.
+     */
+    @Test
+    public void validateRoundTrip() throws IOException {
+        Map<String, Tool> expected = Tools.getInstance().getAvailableTools();
+        Map<String, Tool> loaded = CatalogSnapshot.read(writeBundledSnapshot());
+        Assertions.assertEquals(expected.keySet(), loaded.keySet());
+        for (Tool tool : expected.values()) {
+            Tool loadedTool = loaded.get(tool.getToolCode());
+            Assertions.assertEquals(tool.getToolType(), loadedTool.getToolType());
+            Assertions.assertEquals(tool.getBrand(), loadedTool.getBrand());
+            Assertions.assertEquals(tool.getDailyCharge(), loadedTool.getDailyCharge());
+            Assertions.assertEquals(tool.isWeekdayCharge(), loadedTool.isWeekdayCharge());
+            Assertions.assertEquals(tool.isWeekendCharge(), loadedTool.isWeekendCharge());
+            Assertions.assertEquals(tool.isHolidayCharge(), loadedTool.isHolidayCharge());
+        }
+    }
+
+    /**
+     * Validates that a single flipped byte or a truncated file is detected.
+     */
+    @Test
+    public void validateCorruptionIsDetected() throws IOException {
+        Path snapshotFile = writeBundledSnapshot();
+        byte[] snapshot = Files.readAllBytes(snapshotFile);
+
+        byte[] flipped = snapshot.clone();
+        flipped[flipped.length - 1] ^= 1;
+        Files.write(snapshotFile, flipped);
+        assertRejected(snapshotFile);
+
+        Files.write(snapshotFile, Arrays.copyOf(snapshot, snapshot.length - 8));
+        assertRejected(snapshotFile);
+    }
+}
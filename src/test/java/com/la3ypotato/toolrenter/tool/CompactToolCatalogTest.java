@@ -0,0 +1,163 @@
+package com.la3ypotato.toolrenter.tool;
+
+import com.la3ypotato.toolrenter.calendar.HolidayCalendar;
+import com.la3ypotato.toolrenter.pricing.PricingEngine;
+import com.la3ypotato.toolrenter.pricing.Quote;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This test class validates the compact, array based tool catalog and pricing against it.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class CompactToolCatalogTest {
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that checks a tool of the compact catalog has the same properties as the passed tool.
+     *
+     * @param expected - the tool.
+     * @param compactTools - the compact catalog.
+     * @param id - the ID of the tool in the compact catalog.
+     */
+    public void assertSameTool(Tool expected, CompactToolCatalog compactTools, int id) {
+        Assertions.assertEquals(expected.getToolCode(), compactTools.getToolCode(id));
+        Assertions.assertEquals(expected.getToolType(), compactTools.getToolType(id));
+        Assertions.assertEquals(expected.getBrand(), compactTools.getBrand(id));
+        Assertions.assertEquals(expected.getDailyCharge(), compactTools.getDailyCharge(id));
+        Tool tool = compactTools.getTool(id);
+        Assertions.assertEquals(expected.getDailyRate(), tool.getDailyRate());
+        Assertions.assertEquals(expected.isWeekdayCharge(), tool.isWeekdayCharge());
+        Assertions.assertEquals(expected.isWeekendCharge(), tool.isWeekendCharge());
+        Assertions.assertEquals(expected.isHolidayCharge(), tool.isHolidayCharge());
+        Assertions.assertTrue(compactTools.holds(expected));
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that tools are found ignoring case, keep their properties, share repeated types and brands, and load
+     * the same from a snapshot.
+     */
+    @Test
+    public void validateLookupAndLayout() throws IOException {
+        Map<String, Tool> tools = new HashMap<>(Tools.getInstance().getAvailableTools());
+        String[] profiles = {"Chainsaw,Stihl,1.49,Yes,No,Yes", "Ladder,Werner,1.99,Yes,Yes,No"};
+        for (int i = 0; i < 1000; i++) {
+            Tool tool = Tools.getInstance().createTool(("X" + i + "," + profiles[i % 2]).split(","));
+            tools.put(tool.getToolCode(), tool);
+        }
+        CompactToolCatalog compactTools = CompactToolCatalog.of(tools);
+        Assertions.assertEquals(tools.size(), compactTools.size());
+        // Chainsaw, Ladder, Jackhammer, Stihl, Werner, DeWalt and Ridgid.
+        Assertions.assertEquals(7, compactTools.getDistinctStringCount());
+        for (Tool tool : tools.values()) {
+            int id = compactTools.indexOf(tool.getToolCode());
+            assertSameTool(tool, compactTools, id);
+            Assertions.assertEquals(id, compactTools.indexOf(tool.getToolCode().toLowerCase()));
+            Assertions.assertEquals(id, compactTools.indexOf(new StringBuilder(tool.getToolCode())));
+        }
+        Assertions.assertEquals(-1, compactTools.indexOf("NONE"));
+        Assertions.assertEquals(-1, compactTools.indexOf(null));
+        Assertions.assertFalse(compactTools.holds(new Tool("LADW", "Ladder", "Werner", 2.49, true, true, false)));
+
+        Map<String, Tool> mapView = compactTools.asMap();
+        Assertions.assertEquals(tools.keySet(), mapView.keySet());
+        Assertions.assertEquals("LADW", mapView.get("LADW").getToolCode());
+        Assertions.assertNull(mapView.get("ladw"));
+
+        Path snapshotFile = Files.createTempDirectory("toolrenter").resolve("tools.snapshot");
+        CatalogSnapshot.write(tools, snapshotFile);
+        CompactToolCatalog loaded = CatalogSnapshot.readCompact(snapshotFile);
+        Assertions.assertEquals(7, loaded.getDistinctStringCount());
+        for (Tool tool : tools.values()) {
+            assertSameTool(tool, loaded, loaded.indexOf(tool.getToolCode()));
+        }
+
+        tools.put("ladw", new Tool("ladw", "Ladder", "Werner"));
+        try {
+            CompactToolCatalog.of(tools);
+            Assertions.fail("Tool codes that differ only in case were expected to be rejected.");
+        } catch (IllegalArgumentException e) {
+            Assertions.assertNotNull(e.getMessage());
+        }
+    }
+
+    /**
+     * Validates that an engine prices against a compact catalog the same as against a Map catalog, that its quotes can
+     * be cached, and that looking up a lower case tool code, whether its ID or its cached Tool, does not allocate.
+     */
+    @Test
+    public void validatePricingAgainstCompactCatalog() {
+        CompactToolCatalog compactTools = CompactToolCatalog.of(Tools.getInstance().getAvailableTools());
+        ToolCatalog catalog = new ToolCatalog(compactTools, 1, "compact");
+        PricingEngine pricingEngine = new PricingEngine(catalog, HolidayCalendar.getInstance(), 16);
+
+        // Test 2 of the specification: 3 days of LADW from 7/2/2020 with a 10% discount.
+        Quote quote = pricingEngine.quote("ladw", 3, 10, LocalDate.of(2020, 7, 2));
+        Assertions.assertEquals("LADW", quote.getTool().getToolCode());
+        Assertions.assertEquals(2, quote.getChargeDays());
+        Assertions.assertEquals(358, quote.getFinalCents());
+        pricingEngine.quote("LADW", 3, 10, LocalDate.of(2020, 7, 2));
+        Assertions.assertEquals(1, pricingEngine.getQuoteCache().getHitCount());
+        Assertions.assertNull(catalog.findTool("NONE"));
+        Assertions.assertSame(quote.getTool(), catalog.findTool("Ladw"));
+        Assertions.assertTrue(catalog.isCurrentTool(quote.getTool()));
+
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+            long threadId = Thread.currentThread().getId();
+            int found = 0;
+            long before = allocations.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < 10_000; i++) {
+                found += compactTools.indexOf("ladw") >= 0 ? 1 : 0;
+                found += catalog.findTool("ladw") != null ? 1 : 0;
+            }
+            long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+            Assertions.assertEquals(20_000, found);
+            // Upper casing the code, or building the Tool, would allocate at least 10,000 objects.
+            Assertions.assertTrue(allocated < 10_000, "Lookups allocated " + allocated + " bytes");
+        }
+    }
+
+    /**
+     * Validates that tools whose IDs share a slot of the Tool cache, in a catalog larger than the cache, are always
+     * found with their own properties and are still recognized as current once the other has replaced them.
+     */
+    @Test
+    public void validateToolCacheCollisions() {
+        Map<String, Tool> tools = new HashMap<>();
+        for (int i = 0; i < 70_000; i++) {
+            String toolCode = String.format("C%05d", i);
+            tools.put(toolCode, new Tool(toolCode, "Type", "Brand", i / 100.0, true, i % 2 == 0, false));
+        }
+        ToolCatalog catalog = new ToolCatalog(CompactToolCatalog.of(tools), 1, "compact");
+        // IDs are given in tool code order, and 65,536 apart is the same cache slot.
+        Tool first = catalog.findTool("C00007");
+        Tool second = catalog.findTool("C65543");
+        Assertions.assertEquals(0.07, first.getDailyCharge());
+        Assertions.assertFalse(first.isWeekendCharge());
+        Assertions.assertEquals(655.43, second.getDailyCharge());
+        Assertions.assertTrue(catalog.isCurrentTool(first));
+        Assertions.assertTrue(catalog.isCurrentTool(second));
+        Assertions.assertSame(second, catalog.findTool("c65543"));
+        Tool rebuilt = catalog.findTool("C00007");
+        Assertions.assertNotSame(first, rebuilt);
+        Assertions.assertEquals("C00007", rebuilt.getToolCode());
+        Assertions.assertTrue(catalog.isCurrentTool(second));
+        Assertions.assertFalse(catalog.isCurrentTool(new Tool("C00007", "Type", "Brand", 0.08, true, false, false)));
+    }
+}
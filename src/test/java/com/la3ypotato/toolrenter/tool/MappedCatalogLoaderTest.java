@@ -0,0 +1,137 @@
+package com.la3ypotato.toolrenter.tool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This test class validates that the memory-mapped catalog loader matches the stream loader, including when the file
+ * is split into chunks that are parsed in parallel.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class MappedCatalogLoaderTest {
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that writes a catalog file in a new temporary directory.
+     *
+     * @param contents - the CSV catalog.
+     * @return - the path of the written file.
+     */
+    public Path writeCatalog(String contents) throws IOException {
+        Path catalogFile = Files.createTempDirectory("toolrenter").resolve("tools.csv");
+        Files.write(catalogFile, contents.getBytes(StandardCharsets.UTF_8));
+        return catalogFile;
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that a catalog large enough to be split into several chunks loads the same tools as the stream
+     * loader, and that malformed lines are reported with their line numbers in the whole file.
+     */
+    @Test
+    public void validateParallelLoadMatchesStreamLoad() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        String[] rates = {"1.49", "1.99", "2.99", "0.1", "12", "3.335", "1e2"};
+        int lineCount = 100000;
+        for (int i = 1; i <= lineCount; i++) {
+            if (i == 7 || i == 90000) {
+                csv.append("BAD,Line\r\n");
+            } else if (i == 30000) {
+                csv.append("\n");
+            } else {
+                csv.append('T').append(i % 80000).append(",Type").append(i % 3).append(",Brand").append(i % 5)
+                   .append(',').append(rates[i % rates.length])
+                   .append(i % 2 == 0 ? ",Yes" : ",no").append(i % 3 == 0 ? ",YES" : ",No").append(",No\r\n");
+            }
+        }
+        Path catalogFile = writeCatalog(csv.toString());
+        Map<String, Tool> expected =
+                Tools.getInstance().loadTools(new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // Small chunks would not be split, so the file has to be over a megabyte to exercise the parallel path.
+            Assertions.assertTrue(Files.size(catalogFile) > 2 * (1 << 20));
+            CatalogLoadResult result = new MappedCatalogLoader(pool, 4).load(catalogFile);
+            Assertions.assertEquals(lineCount, result.getLineCount());
+            Assertions.assertEquals(2, result.getErrors().size());
+            Assertions.assertEquals(7, result.getErrors().get(0).getLineNumber());
+            Assertions.assertEquals(90000, result.getErrors().get(1).getLineNumber());
+            Assertions.assertEquals(expected.size(), result.getTools().size());
+            for (Tool tool : expected.values()) {
+                Tool loaded = result.getTools().get(tool.getToolCode());
+                Assertions.assertEquals(tool.getToolType(), loaded.getToolType());
+                Assertions.assertEquals(tool.getBrand(), loaded.getBrand());
+                Assertions.assertEquals(tool.getDailyCharge(), loaded.getDailyCharge());
+                Assertions.assertEquals(tool.isWeekdayCharge(), loaded.isWeekdayCharge());
+                Assertions.assertEquals(tool.isWeekendCharge(), loaded.isWeekendCharge());
+                Assertions.assertEquals(tool.isHolidayCharge(), loaded.isHolidayCharge());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Validates that lines on the edge of the field count, number and line ending rules are accepted or rejected the
+     * same by both loaders, and that accepted lines load the same tools.
+     */
+    @Test
+    public void validateEdgeLinesMatchStreamLoad() throws IOException {
+        String[] dailyCharges = {"1.99", "NaN", "-NaN", "Infinity", "-Infinity", "1e400", "-1.5", " 1.99 ", "1.99d",
+                                 "1.99F", "0x1p3", "1e2", ".5", "5.", "", "+1.25", "1.2.3", "12345678901234567890.5",
+                                 "0.1e-2", "00000000000000000001.25", "1,5"};
+        String[] endings = {"", ",", ",,", ",Extra", ",Yes,"};
+        StringBuilder csv = new StringBuilder();
+        int code = 0;
+        for (String dailyCharge : dailyCharges) {
+            for (String ending : endings) {
+                csv.append('T').append(code++).append(",Ladder,Werner,").append(dailyCharge).append(",Yes,yEs,NO")
+                   .append(ending).append('\n');
+            }
+        }
+        csv.append("T").append(code++).append(",Ladder,Werner,1.99,Yes,Yes,\n")
+           .append("T").append(code++).append(",Ladder,Werner,1.99,Yes,,\n")
+           .append("T").append(code++).append(",,,1.99,,,\n")
+           .append("   \n\t\n \r\n")
+           .append("T").append(code++).append(",Ladder,Werner,1.99,yes,no,YES\r")
+           .append("T").append(code++).append(",Ladder,Werner,2.99,Yes,Yes,Yes\r\n")
+           .append("T").append(code++).append(",Ladder,Werner,3.99,Yes,Yes,Yes\r\r")
+           .append("BAD,Line\n")
+           .append("T").append(code++).append(",Ladder,Werner,4.99,Yes,No,No");
+        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+        Map<String, Tool> expected = Tools.getInstance().loadTools(new ByteArrayInputStream(bytes));
+        CatalogLoadResult result = new MappedCatalogLoader().load(writeCatalog(csv.toString()));
+
+        Assertions.assertEquals(expected.keySet(), result.getTools().keySet());
+        for (Tool tool : expected.values()) {
+            Tool loaded = result.getTools().get(tool.getToolCode());
+            Assertions.assertEquals(tool.getToolType(), loaded.getToolType());
+            Assertions.assertEquals(tool.getBrand(), loaded.getBrand());
+            Assertions.assertEquals(tool.getDailyCharge(), loaded.getDailyCharge(), tool.getToolCode());
+            Assertions.assertEquals(tool.isWeekdayCharge(), loaded.isWeekdayCharge());
+            Assertions.assertEquals(tool.isWeekendCharge(), loaded.isWeekendCharge());
+            Assertions.assertEquals(tool.isHolidayCharge(), loaded.isHolidayCharge());
+        }
+        // Every line is a tool or an error, apart from the three blank lines and the empty line after the lone CR.
+        Assertions.assertEquals(code + 1, expected.size() + result.getErrors().size());
+        Assertions.assertEquals(code + 1 + 4, result.getLineCount());
+        // An empty seventh field is a valid line, an eighth field is not, and a NaN daily charge is rejected.
+        Assertions.assertTrue(expected.containsKey("T" + dailyCharges.length * endings.length));
+        Assertions.assertFalse(expected.containsKey("T1"));
+        Assertions.assertFalse(expected.containsKey("T5"));
+    }
+}
@@ -0,0 +1,136 @@
+package com.la3ypotato.toolrenter.tool;
+
+import com.la3ypotato.toolrenter.rentalagreement.RentalAgreement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * This test class validates that the tool catalog can be reloaded from an external file while agreements are in
+ * flight. The bundled catalog is restored after each test.
+ *
+ * @author Logan Stanfield
+ * @version 1.0
+ * @since 10/17/2026
+ */
+public class ToolsReloadTest {
+
+    // HELPER METHODS //
+
+    /**
+     * Helper method that reads the catalog bundled with the application.
+     *
+     * @return - the bundled CSV catalog, ending with a line break.
+     */
+    public String readBundledCatalog() throws IOException {
+        try (InputStream in = ToolsReloadTest.class.getResourceAsStream("/tools.csv")) {
+            String contents = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            return contents.endsWith("\n") ? contents : contents + "\n";
+        }
+    }
+
+    /**
+     * Helper method that reprices the chainsaw of the bundled catalog.
+     *
+     * @return - the repriced CSV catalog.
+     */
+    public String readRepricedCatalog() throws IOException {
+        return readBundledCatalog().replace("1.49", "2.49");
+    }
+
+    /**
+     * Helper method that writes a catalog file in a new temporary directory.
+     *
+     * @param contents - the CSV catalog.
+     * @return - the path of the written file.
+     */
+    public Path writeCatalog(String contents) throws IOException {
+        Path catalogFile = Files.createTempDirectory("toolrenter").resolve("tools.csv");
+        Files.write(catalogFile, contents.getBytes(StandardCharsets.UTF_8));
+        return catalogFile;
+    }
+
+    /**
+     * Stops watching any catalog file and restores the bundled rates so other tests are not affected.
+     */
+    @AfterEach
+    public void restoreCatalog() throws IOException {
+        Tools.getInstance().unwatch();
+        Tools.getInstance().reload(writeCatalog(readBundledCatalog()));
+    }
+
+    // TEST METHODS //
+
+    /**
+     * Validates that an agreement started before a reload keeps the rates it started with, while a new agreement uses
+     * the reloaded rates.
+     */
+    @Test
+    public void validateInFlightAgreementKeepsRates() throws IOException {
+        RentalAgreement inFlight = new RentalAgreement();
+        inFlight.setTargetTool("CHNS");
+        long versionBefore = Tools.getInstance().getCatalog().getVersion();
+
+        ToolCatalog reloaded = Tools.getInstance().reload(writeCatalog(readRepricedCatalog()));
+        Assertions.assertTrue(reloaded.getVersion() > versionBefore);
+        Assertions.assertSame(reloaded, Tools.getInstance().getCatalog());
+
+        RentalAgreement started = new RentalAgreement();
+        started.setTargetTool("CHNS");
+        for (RentalAgreement rentalAgreement : new RentalAgreement[] {inFlight, started}) {
+            rentalAgreement.setRentalDays("5");
+            rentalAgreement.setDiscount("0");
+            rentalAgreement.setCheckoutDate("7/2/2015");
+            rentalAgreement.finalizeRentalAgreement();
+        }
+        // Three charge days at each rate.
+        Assertions.assertEquals(4.47, inFlight.getFinalCharge());
+        Assertions.assertEquals(7.47, started.getFinalCharge());
+    }
+
+    /**
+     * Validates that a malformed catalog file is rejected and the current catalog is kept.
+     */
+    @Test
+    public void validateMalformedReloadKeepsCatalog() throws IOException {
+        ToolCatalog current = Tools.getInstance().getCatalog();
+        Path catalogFile = writeCatalog(readBundledCatalog() + "BAD,Line\n");
+        try {
+            Tools.getInstance().reload(catalogFile);
+            Assertions.fail("A malformed catalog should not be loaded.");
+        } catch (IllegalArgumentException e) {
+            Assertions.assertTrue(e.getMessage().startsWith("Line 5:"));
+        }
+        Assertions.assertSame(current, Tools.getInstance().getCatalog());
+    }
+
+    /**
+     * Validates that a watched catalog file is reloaded when it is replaced.
+     */
+    @Test
+    public void validateWatchedFileReloads() throws IOException, InterruptedException {
+        Path catalogFile = writeCatalog(readBundledCatalog());
+        Tools tools = Tools.getInstance();
+        tools.reload(catalogFile);
+        long versionBefore = tools.getCatalog().getVersion();
+        tools.watch(catalogFile);
+
+        Path replacement = catalogFile.resolveSibling("tools.csv.tmp");
+        Files.write(replacement, readRepricedCatalog().getBytes(StandardCharsets.UTF_8));
+        Files.move(replacement, catalogFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (tools.getCatalog().getVersion() == versionBefore && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Assertions.assertTrue(tools.getCatalog().getVersion() > versionBefore);
+        Assertions.assertEquals(2.49, tools.getAvailableTools().get("CHNS").getDailyCharge());
+    }
+}